@@ -0,0 +1,71 @@
+package seedu.address.model.candidate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.candidate.CandidateSortOrder.Field;
+import seedu.address.model.candidate.CandidateSortOrder.SortKey;
+
+/**
+ * Compares sorting candidates sequentially against sorting them in parallel.
+ * Run with {@code ./gradlew jmh} on the target machine to choose {@code UserPrefs#getParallelSortThreshold()}: the
+ * threshold should be the smallest size at which {@link #sortInParallel()} beats {@link #sortSequentially()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SortBenchmark {
+
+    private static final List<SortKey> SORT_KEYS = List.of(new SortKey(Field.COURSE, true),
+            new SortKey(Field.SENIORITY, false), new SortKey(Field.NAME, true));
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private List<Candidate> candidates;
+
+    /**
+     * Builds {@code size} distinct candidates in no particular order of their sorted fields.
+     */
+    @Setup
+    public void setUp() {
+        String[] courses = {"Business Analytics", "Computer Engineering", "Computer Science", "Information Security",
+            "Information Systems"};
+        candidates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // spreads the names over the alphabet rather than generating them in sorted order
+            int scrambled = (int) ((i * 2654435761L) % size);
+            candidates.add(new Candidate(new StudentId(String.format("A%07dB", i)),
+                    new Name("Candidate " + scrambled), new Phone(String.format("9%07d", i)),
+                    new Email(String.format("E%07d@u.nus.edu", i)), new Course(courses[i % courses.length]),
+                    new Seniority(String.valueOf(i % 4 + 1)), new ApplicationStatus(ApplicationStatus.PENDING_STATUS),
+                    new InterviewStatus(InterviewStatus.NOT_SCHEDULED), new Availability("1,3,5"), new Remark("")));
+        }
+    }
+
+    /**
+     * Sorts the candidates with a new order, which extracts every collation key up front.
+     */
+    @Benchmark
+    public List<Candidate> sortSequentially() {
+        return new CandidateSortOrder(SORT_KEYS).sort(candidates);
+    }
+
+    /**
+     * Sorts the candidates in parallel with a new order.
+     */
+    @Benchmark
+    public List<Candidate> sortInParallel() {
+        return new CandidateSortOrder(SORT_KEYS).sortInParallel(candidates);
+    }
+}
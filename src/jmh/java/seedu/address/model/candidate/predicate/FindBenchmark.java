@@ -0,0 +1,133 @@
+package seedu.address.model.candidate.predicate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.candidate.ApplicationStatus;
+import seedu.address.model.candidate.Availability;
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.Course;
+import seedu.address.model.candidate.Email;
+import seedu.address.model.candidate.InterviewStatus;
+import seedu.address.model.candidate.Name;
+import seedu.address.model.candidate.Phone;
+import seedu.address.model.candidate.Remark;
+import seedu.address.model.candidate.Seniority;
+import seedu.address.model.candidate.StudentId;
+
+/**
+ * Measures the time and allocation of evaluating {@code find} predicates over a list of candidates.
+ * Every predicate is measured next to a baseline lowercasing the keywords and fields on every test, as the
+ * predicates did before the lowercased values were cached.
+ * Run with {@code ./gradlew jmh}; the {@code gc.alloc.rate.norm} column reports bytes allocated per search.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"1", "20"})
+    private int keywordCount;
+
+    private List<Candidate> candidates;
+    private ContainsKeywordsPredicate allFieldsPredicate;
+    private ContainsKeywordsPredicate namePredicate;
+    private Predicate<Candidate> allFieldsBaselinePredicate;
+    private Predicate<Candidate> nameBaselinePredicate;
+
+    /**
+     * Builds {@code size} distinct candidates and the predicates to search them with.
+     */
+    @Setup
+    public void setUp() {
+        candidates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            candidates.add(new Candidate(new StudentId(String.format("A%07dB", i)), new Name("Candidate " + i),
+                    new Phone(String.format("9%07d", i)), new Email(String.format("E%07d@u.nus.edu", i)),
+                    new Course("Computer Science"), new Seniority(String.valueOf(i % 4 + 1)),
+                    new ApplicationStatus(ApplicationStatus.PENDING_STATUS),
+                    new InterviewStatus(InterviewStatus.NOT_SCHEDULED), new Availability("1,3,5"), new Remark("")));
+        }
+
+        List<String> keywords = new ArrayList<>(keywordCount);
+        for (int i = 0; i < keywordCount; i++) {
+            keywords.add("Keyword" + i);
+        }
+        allFieldsPredicate = new CandidateContainsKeywordsPredicate(keywords);
+        namePredicate = new NameContainsKeywordsPredicate(keywords);
+        allFieldsBaselinePredicate = candidate -> testAllFieldsUncached(keywords, candidate);
+        nameBaselinePredicate = candidate -> keywords.stream()
+                .anyMatch(keyword -> candidate.getName().toString().toLowerCase().contains(keyword.toLowerCase()));
+    }
+
+    @Benchmark
+    public int findAllFields() {
+        return countMatches(allFieldsPredicate);
+    }
+
+    @Benchmark
+    public int findAllFieldsBaseline() {
+        return countMatches(allFieldsBaselinePredicate);
+    }
+
+    @Benchmark
+    public int findName() {
+        return countMatches(namePredicate);
+    }
+
+    @Benchmark
+    public int findNameBaseline() {
+        return countMatches(nameBaselinePredicate);
+    }
+
+    /**
+     * Tests {@code candidate} the way {@link CandidateContainsKeywordsPredicate} did before caching, lowercasing
+     * every keyword and field and building a map of the available days on every call.
+     */
+    private static boolean testAllFieldsUncached(List<String> keywords, Candidate candidate) {
+        String availability = candidate.getAvailability().toString();
+        int[] availArr = Arrays.stream(availability.split(",")).mapToInt((Integer::parseInt)).toArray();
+        HashMap<String, Integer> availMap = new HashMap<>();
+
+        for (Integer i: availArr) {
+            availMap.put(CandidateContainsKeywordsPredicate.DAYS_IN_FULL[i], i);
+        }
+
+        return keywords.stream().anyMatch(keyword ->
+                candidate.getApplicationStatus().toString().toLowerCase().contains(keyword.toLowerCase())
+                        || candidate.getCourse().toString().toLowerCase().contains(keyword.toLowerCase())
+                        || candidate.getEmail().toString().toLowerCase().contains(keyword.toLowerCase())
+                        || candidate.getInterviewStatus().toString().toLowerCase().contains(keyword.toLowerCase())
+                        || candidate.getName().toString().toLowerCase().contains(keyword.toLowerCase())
+                        || candidate.getPhone().toString().toLowerCase().contains(keyword.toLowerCase())
+                        || candidate.getSeniority().toSearchString().toLowerCase().contains(keyword.toLowerCase())
+                        || candidate.getStudentId().toString().toLowerCase().contains(keyword.toLowerCase())
+                        || availMap.containsKey(keyword.toUpperCase()));
+    }
+
+    private int countMatches(Predicate<Candidate> predicate) {
+        int matches = 0;
+        for (Candidate candidate : candidates) {
+            if (predicate.test(candidate)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * An Aho-Corasick automaton that tests whether a text contains any of a fixed set of keywords.
+ * The keywords are compiled once into a deterministic automaton, so that each text is scanned in a single pass
+ * regardless of the number of keywords, without allocating any objects.
+ * Matching is case-sensitive; callers are expected to normalise the keywords and the texts beforehand.
+ */
+public class AhoCorasickAutomaton {
+
+    private static final int ROOT = 0;
+
+    /** Sorted distinct characters of all keywords. Any other character resets the automaton to the root. */
+    private final char[] alphabet;
+    /** {@code transitions[state][i]} is the next state after reading {@code alphabet[i]} in {@code state}. */
+    private final int[][] transitions;
+    /** {@code isMatch[state]} is true if reaching {@code state} means some keyword has been read. */
+    private final boolean[] isMatch;
+
+    /**
+     * Compiles the given {@code keywords} into an automaton.
+     *
+     * @param keywords the keywords to search for, none of which may be null.
+     */
+    public AhoCorasickAutomaton(List<String> keywords) {
+        CollectionUtil.requireAllNonNull(keywords);
+
+        alphabet = toAlphabet(keywords);
+
+        List<int[]> trie = new ArrayList<>();
+        List<Boolean> terminal = new ArrayList<>();
+        trie.add(newState());
+        terminal.add(false);
+        for (String keyword : keywords) {
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                int symbol = Arrays.binarySearch(alphabet, keyword.charAt(i));
+                if (trie.get(state)[symbol] == ROOT) {
+                    trie.get(state)[symbol] = trie.size();
+                    trie.add(newState());
+                    terminal.add(false);
+                }
+                state = trie.get(state)[symbol];
+            }
+            terminal.set(state, true);
+        }
+
+        transitions = trie.toArray(new int[0][]);
+        isMatch = new boolean[transitions.length];
+        for (int state = 0; state < isMatch.length; state++) {
+            isMatch[state] = terminal.get(state);
+        }
+        addFailureTransitions();
+    }
+
+    /**
+     * Returns true if {@code text} contains any of the keywords of this automaton.
+     * An empty keyword is contained in every text.
+     */
+    public boolean containsAnyIn(String text) {
+        requireNonNull(text);
+
+        int state = ROOT;
+        if (isMatch[state]) {
+            return true;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            int symbol = Arrays.binarySearch(alphabet, text.charAt(i));
+            state = symbol < 0 ? ROOT : transitions[state][symbol];
+            if (isMatch[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int[] newState() {
+        return new int[alphabet.length];
+    }
+
+    /**
+     * Replaces every missing trie edge with the transition taken by the longest proper suffix of the state,
+     * turning the trie into a deterministic automaton. States are visited in breadth-first order so that the
+     * transitions of every shorter suffix are already complete.
+     */
+    private void addFailureTransitions() {
+        int[] failure = new int[transitions.length];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < alphabet.length; symbol++) {
+            int child = transitions[ROOT][symbol];
+            if (child != ROOT) {
+                failure[child] = ROOT;
+                queue.add(child);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            isMatch[state] |= isMatch[failure[state]];
+            for (int symbol = 0; symbol < alphabet.length; symbol++) {
+                int child = transitions[state][symbol];
+                if (child == ROOT) {
+                    transitions[state][symbol] = transitions[failure[state]][symbol];
+                } else {
+                    failure[child] = transitions[failure[state]][symbol];
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    private static char[] toAlphabet(List<String> keywords) {
+        StringBuilder characters = new StringBuilder();
+        for (String keyword : keywords) {
+            characters.append(keyword);
+        }
+        char[] sorted = characters.toString().toCharArray();
+        Arrays.sort(sorted);
+
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, distinct);
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A Burkhard-Keller tree of words, which finds all words within a given edit distance of a query word.
+ * Every child of a node is stored under its edit distance from the node, so by the triangle inequality a search
+ * only descends into the children whose distance differs from the query's distance by at most the tolerance,
+ * instead of comparing the query with every word.
+ */
+public class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code word} to the tree.
+     *
+     * @return true if {@code word} was not already in the tree.
+     */
+    public boolean add(String word) {
+        requireNonNull(word);
+
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return true;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = distance(word, node.word);
+            if (distance == 0) {
+                return false;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns all words in the tree within {@code maxDistance} edits of {@code word}.
+     */
+    public List<String> search(String word, int maxDistance) {
+        requireNonNull(word);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        List<String> matches = new ArrayList<>();
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        if (root != null) {
+            nodesToVisit.push(root);
+        }
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = distance(word, node.word);
+            if (distance <= maxDistance) {
+                matches.add(node.word);
+            }
+            for (int childDistance = Math.max(1, distance - maxDistance);
+                    childDistance <= distance + maxDistance; childDistance++) {
+                Node child = node.children.get(childDistance);
+                if (child != null) {
+                    nodesToVisit.push(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static int distance(String first, String second) {
+        return StringUtil.editDistance(first, second, Math.max(first.length(), second.length()));
+    }
+
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
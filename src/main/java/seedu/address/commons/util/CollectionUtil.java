@@ -1,10 +1,17 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.function.ToIntFunction;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +39,45 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns the at most {@code k} items of {@code items} with the highest scores, from highest to lowest.
+     * Items with equal scores keep their relative order in {@code items}.
+     * Only the best {@code k} items seen so far are kept in a bounded heap, so the selection takes
+     * O(n log k) time instead of sorting all n items.
+     *
+     * @param scorer computes the score of an item, called once per item.
+     */
+    public static <T> List<T> selectTopK(List<T> items, ToIntFunction<? super T> scorer, int k) {
+        requireAllNonNull(items, scorer);
+        checkArgument(k >= 0, "k must not be negative");
+
+        if (k == 0) {
+            return new ArrayList<>();
+        }
+
+        // Each entry is {score, position}. The head of the heap is the weakest entry kept, which is the one with
+        // the lowest score and, among equal scores, the latest position.
+        Comparator<int[]> weakestFirst = (first, second) -> first[0] != second[0]
+                ? Integer.compare(first[0], second[0])
+                : Integer.compare(second[1], first[1]);
+        PriorityQueue<int[]> heap = new PriorityQueue<>(Math.min(k, items.size()) + 1, weakestFirst);
+        int position = 0;
+        for (T item : items) {
+            int[] entry = {scorer.applyAsInt(item), position++};
+            if (heap.size() < k) {
+                heap.add(entry);
+            } else if (weakestFirst.compare(entry, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+
+        List<T> selected = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            selected.add(items.get(heap.poll()[1]));
+        }
+        Collections.reverse(selected);
+        return selected;
+    }
 }
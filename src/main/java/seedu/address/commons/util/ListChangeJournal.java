@@ -0,0 +1,146 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Records the changes made to an observable list from the moment the journal is created, so that they can be
+ * listed or undone.
+ * Creating a journal copies nothing, and the list keeps sharing every element the changes do not touch, so a
+ * journal is a constant-time fork of the list. Undoing replays the recorded changes backwards on a plain copy of
+ * the list, and then replaces the contents of the list in a single change.
+ *
+ * @param <T> the type of the elements of the list.
+ */
+public class ListChangeJournal<T> {
+
+    private final ObservableList<T> list;
+    private final ListChangeListener<T> recorder = this::record;
+    private final List<Edit<T>> edits = new ArrayList<>();
+    private boolean isRecording = true;
+
+    /**
+     * Creates a journal recording all later changes to {@code list}, which must be the modifiable list itself.
+     */
+    public ListChangeJournal(ObservableList<T> list) {
+        requireNonNull(list);
+
+        this.list = list;
+        list.addListener(recorder);
+    }
+
+    /**
+     * Returns the elements in the list now but not when the journal was created, in the order they were added.
+     * An element counts as many times as it was added more often than it was removed.
+     */
+    public List<T> getAdded() {
+        return collectNet(true);
+    }
+
+    /**
+     * Returns the elements in the list when the journal was created but not now, in the order they were removed.
+     * An element counts as many times as it was removed more often than it was added.
+     */
+    public List<T> getRemoved() {
+        return collectNet(false);
+    }
+
+    /**
+     * Stops recording, keeping the list as it is.
+     */
+    public void stop() {
+        if (isRecording) {
+            list.removeListener(recorder);
+            isRecording = false;
+        }
+    }
+
+    /**
+     * Stops recording and restores the list to what it was when the journal was created.
+     */
+    public void undo() {
+        stop();
+        if (edits.isEmpty()) {
+            return;
+        }
+
+        List<T> restored = new ArrayList<>(list);
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).undo(restored);
+        }
+        edits.clear();
+        list.setAll(restored);
+    }
+
+    private void record(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            edits.add(new Edit<>(change));
+        }
+    }
+
+    private List<T> collectNet(boolean isAdded) {
+        Map<T, Integer> netCounts = new LinkedHashMap<>();
+        for (Edit<T> edit : edits) {
+            edit.removed.forEach(element -> netCounts.merge(element, -1, Integer::sum));
+            edit.added.forEach(element -> netCounts.merge(element, 1, Integer::sum));
+        }
+
+        List<T> net = new ArrayList<>();
+        netCounts.forEach((element, count) -> {
+            for (int i = 0; i < (isAdded ? count : -count); i++) {
+                net.add(element);
+            }
+        });
+        return net;
+    }
+
+    /**
+     * A single change to the range of the list starting at {@code from}.
+     */
+    private static class Edit<T> {
+        private final int from;
+        private final List<T> removed;
+        private final List<T> added;
+        /** Maps every index in the permuted range to the index its element moved to, or null if not permuted. */
+        private final int[] permutation;
+
+        Edit(ListChangeListener.Change<? extends T> change) {
+            from = change.getFrom();
+            if (change.wasPermutated()) {
+                removed = List.of();
+                added = List.of();
+                permutation = new int[change.getTo() - from];
+                for (int i = 0; i < permutation.length; i++) {
+                    permutation[i] = change.getPermutation(from + i);
+                }
+            } else {
+                removed = new ArrayList<>(change.getRemoved());
+                added = new ArrayList<>(change.getAddedSubList());
+                permutation = null;
+            }
+        }
+
+        /**
+         * Undoes this change on {@code elements}, which are the elements of the list just after the change.
+         */
+        void undo(List<T> elements) {
+            if (permutation != null) {
+                List<T> permuted = new ArrayList<>(elements.subList(from, from + permutation.length));
+                for (int i = 0; i < permutation.length; i++) {
+                    elements.set(from + i, permuted.get(permutation[i] - from));
+                }
+                return;
+            }
+            List<T> range = elements.subList(from, from + added.size());
+            range.clear();
+            range.addAll(removed);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * Utility methods related to listening to changes of observable lists
+ */
+public class ListChangeUtil {
+
+    /**
+     * Returns a listener which passes every element removed by a change of a list to {@code onRemoved}, then every
+     * element added by the change to {@code onAdded}, so that a structure derived from the elements of the list is
+     * kept up to date. Elements which are only reordered are skipped.
+     */
+    public static <T> ListChangeListener<T> forEachRemovedAndAdded(Consumer<? super T> onRemoved,
+            Consumer<? super T> onAdded) {
+        requireAllNonNull(onRemoved, onAdded);
+
+        return change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(onRemoved);
+                change.getAddedSubList().forEach(onAdded);
+            }
+        };
+    }
+
+    /**
+     * Returns a listener like {@link #forEachRemovedAndAdded}, except that the elements removed and added again by
+     * the same change are skipped too, as a filtered list removes and adds all of its elements when it is
+     * refiltered. Elements are matched up by identity, so an element replaced by an equal one is still passed.
+     */
+    public static <T> ListChangeListener<T> forEachLeavingAndEntering(Consumer<? super T> onLeaving,
+            Consumer<? super T> onEntering) {
+        requireAllNonNull(onLeaving, onEntering);
+
+        return change -> {
+            List<T> removed = new ArrayList<>();
+            List<T> added = new ArrayList<>();
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+
+            Set<T> leaving = Collections.newSetFromMap(new IdentityHashMap<>());
+            leaving.addAll(removed);
+            List<T> entering = new ArrayList<>(added.size());
+            for (T element : added) {
+                if (!leaving.remove(element)) {
+                    entering.add(element);
+                }
+            }
+            for (T element : removed) {
+                if (leaving.contains(element)) {
+                    onLeaving.accept(element);
+                }
+            }
+            entering.forEach(onEntering);
+        };
+    }
+}
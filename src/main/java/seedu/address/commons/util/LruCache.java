@@ -0,0 +1,30 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A map holding at most a fixed number of entries, which evicts the least recently used entry when full.
+ * Both {@code get} and {@code put} count as a use of an entry.
+ */
+public class LruCache<K, V> extends LinkedHashMap<K, V> {
+
+    private final int capacity;
+
+    /**
+     * Creates an empty {@code LruCache} that holds at most {@code capacity} entries.
+     */
+    public LruCache(int capacity) {
+        super(16, 0.75f, true);
+        checkArgument(capacity > 0, "Capacity of a cache should be positive");
+
+        this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > capacity;
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A trie of words that finds the words starting with a prefix, ignoring case.
+ * Each word is counted, so that a word added several times is only removed once it has been removed as many times.
+ * Completing a prefix only visits the nodes below the prefix until enough words are found, so its cost is bounded
+ * by the number of completions asked for rather than by the number of words.
+ * All methods are synchronized, so that the trie can be read from another thread while it is being updated.
+ */
+public class PrefixTrie {
+
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * Adds one occurrence of {@code word}. The first occurrence added decides how the word is returned.
+     */
+    public synchronized void add(String word) {
+        requireNonNull(word);
+
+        Node node = root;
+        for (char character : toKey(word).toCharArray()) {
+            node = node.children.computeIfAbsent(character, unused -> new Node());
+        }
+        if (node.count++ == 0) {
+            node.word = word;
+            size++;
+        }
+    }
+
+    /**
+     * Removes one occurrence of {@code word}, ignoring case. Does nothing if {@code word} is absent.
+     */
+    public synchronized void remove(String word) {
+        requireNonNull(word);
+
+        String key = toKey(word);
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        for (char character : key.toCharArray()) {
+            path.push(node);
+            node = node.children.get(character);
+            if (node == null) {
+                return;
+            }
+        }
+        if (node.count == 0 || --node.count > 0) {
+            return;
+        }
+
+        node.word = null;
+        size--;
+        // prunes the nodes which no longer lead to any word
+        for (int i = key.length() - 1; i >= 0 && node.count == 0 && node.children.isEmpty(); i--) {
+            Node parent = path.pop();
+            parent.children.remove(key.charAt(i));
+            node = parent;
+        }
+    }
+
+    /**
+     * Returns the number of distinct words in the trie.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns at most {@code limit} words starting with {@code prefix}, ignoring case, in alphabetical order.
+     */
+    public synchronized List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit >= 0, "limit must not be negative");
+
+        List<String> completions = new ArrayList<>();
+        Node node = root;
+        for (char character : toKey(prefix).toCharArray()) {
+            node = node.children.get(character);
+            if (node == null) {
+                return completions;
+            }
+        }
+        collect(node, limit, completions);
+        return completions;
+    }
+
+    private static void collect(Node node, int limit, List<String> completions) {
+        if (completions.size() >= limit) {
+            return;
+        }
+        if (node.count > 0) {
+            completions.add(node.word);
+        }
+        for (Node child : node.children.values()) {
+            collect(child, limit, completions);
+        }
+    }
+
+    private static String toKey(String word) {
+        return word.toLowerCase();
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        private int count;
+        private String word;
+    }
+}
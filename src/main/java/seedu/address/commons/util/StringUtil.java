@@ -5,6 +5,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.Normalizer;
 import java.util.Arrays;
 
 /**
@@ -12,6 +13,12 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    private static final int SOUNDEX_LENGTH = 4;
+    /** Soundex digit of each letter from A to Z, where vowels are '0'. */
+    private static final String SOUNDEX_DIGITS = "0123012-02245501262301-202";
+    /** Soundex digit of H and W, which are skipped. */
+    private static final char SOUNDEX_IGNORED = '-';
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -63,6 +70,100 @@ public class StringUtil {
         return preppedSentence.contains(preppedString);
     }
 
+    /**
+     * Returns the Levenshtein edit distance between {@code first} and {@code second}, or {@code maxDistance + 1}
+     * if the distance is greater than {@code maxDistance}.
+     * Only the cells of the edit table within {@code maxDistance} of its diagonal are computed, and the computation
+     * stops as soon as every cell of a row exceeds {@code maxDistance}.
+     * @param first cannot be null
+     * @param second cannot be null
+     * @param maxDistance cannot be negative
+     */
+    public static int editDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        int exceeded = maxDistance + 1;
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = Math.min(j, exceeded);
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(second.length(), i + maxDistance);
+            currentRow[0] = Math.min(i, exceeded);
+            if (from > 1) {
+                currentRow[from - 1] = exceeded;
+            }
+
+            int rowMinimum = currentRow[0];
+            for (int j = from; j <= to; j++) {
+                int substitution = previousRow[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                int deletion = previousRow[j] + 1;
+                int insertion = currentRow[j - 1] + 1;
+                currentRow[j] = Math.min(exceeded, Math.min(substitution, Math.min(deletion, insertion)));
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (to < second.length()) {
+                currentRow[to + 1] = exceeded;
+            }
+            if (rowMinimum > maxDistance) {
+                return exceeded;
+            }
+
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+
+    /**
+     * Returns the Soundex code of {@code word}, which is the same for most words that sound alike in English,
+     * e.g. "Robert" and "Rupert" are both "R163".
+     * Accents are ignored and any character other than a letter is skipped. Returns an empty string if
+     * {@code word} has no letters.
+     */
+    public static String soundex(String word) {
+        requireNonNull(word);
+
+        String letters = Normalizer.normalize(word, Normalizer.Form.NFD).toUpperCase();
+        StringBuilder code = new StringBuilder(SOUNDEX_LENGTH);
+        char lastDigit = 0;
+        for (int i = 0; i < letters.length() && code.length() < SOUNDEX_LENGTH; i++) {
+            char letter = letters.charAt(i);
+            if (letter < 'A' || letter > 'Z') {
+                continue;
+            }
+
+            char digit = SOUNDEX_DIGITS.charAt(letter - 'A');
+            if (code.length() == 0) {
+                code.append(letter);
+            } else if (digit != '0' && digit != lastDigit && digit != SOUNDEX_IGNORED) {
+                code.append(digit);
+            }
+            // H and W do not separate letters with the same digit, but vowels do
+            if (digit != SOUNDEX_IGNORED) {
+                lastDigit = digit;
+            }
+        }
+
+        if (code.length() == 0) {
+            return "";
+        }
+        while (code.length() < SOUNDEX_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
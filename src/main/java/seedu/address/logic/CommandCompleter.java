@@ -0,0 +1,168 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.PrefixTrie;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FocusCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RemarkCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.commands.schedule.AddScheduleCommand;
+import seedu.address.logic.commands.schedule.AutoScheduleCommand;
+import seedu.address.logic.commands.schedule.ClearScheduleCommand;
+import seedu.address.logic.commands.schedule.DeleteScheduleCommand;
+import seedu.address.logic.commands.schedule.EditScheduleCommand;
+import seedu.address.logic.commands.schedule.ExportScheduleCommand;
+import seedu.address.logic.commands.schedule.ScheduleCommand;
+import seedu.address.logic.commands.schedule.ShiftScheduleCommand;
+import seedu.address.logic.commands.schedule.SuggestScheduleCommand;
+import seedu.address.logic.commands.search.DeleteSearchCommand;
+import seedu.address.logic.commands.search.ListSearchCommand;
+import seedu.address.logic.commands.search.SaveSearchCommand;
+import seedu.address.logic.commands.search.SearchCommand;
+import seedu.address.logic.commands.search.ShowSearchCommand;
+import seedu.address.logic.commands.simulation.CommitSimulationCommand;
+import seedu.address.logic.commands.simulation.DiffSimulationCommand;
+import seedu.address.logic.commands.simulation.DiscardSimulationCommand;
+import seedu.address.logic.commands.simulation.SimulationCommand;
+import seedu.address.logic.commands.simulation.StartSimulationCommand;
+import seedu.address.logic.parser.CliSyntax;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.candidate.CompletionIndex;
+
+/**
+ * Completes the last word of a partially typed command.
+ * The first word is completed with command words, and the second word of a {@code schedule}, {@code search} or
+ * {@code simulate} command with its subcommands. Any later word is completed with prefixes, or with the student IDs,
+ * name words and emails of candidates, which may follow a prefix.
+ * Completing only looks up prefix tries and returns at most {@link #MAX_COMPLETIONS} completions, so that it stays
+ * fast enough to run on every keystroke. It may be called from any thread.
+ */
+public class CommandCompleter {
+
+    public static final int MAX_COMPLETIONS = 8;
+
+    private static final PrefixTrie COMMAND_WORDS = toTrie(List.of(AddCommand.COMMAND_WORD,
+            ClearCommand.COMMAND_WORD, DeleteCommand.COMMAND_WORD, EditCommand.COMMAND_WORD,
+            ExitCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, FocusCommand.COMMAND_WORD,
+            HelpCommand.COMMAND_WORD, ListCommand.COMMAND_WORD, RemarkCommand.COMMAND_WORD,
+            ScheduleCommand.COMMAND_WORD, SearchCommand.COMMAND_WORD, SimulationCommand.COMMAND_WORD,
+            SortCommand.COMMAND_WORD, ViewCommand.COMMAND_WORD));
+    /** Maps every command word taking a subcommand to the words of its subcommands. */
+    private static final Map<String, PrefixTrie> SUBCOMMAND_WORDS = Map.of(
+            ScheduleCommand.COMMAND_WORD, toTrie(List.of(
+                    toSubcommandWord(AddScheduleCommand.COMMAND_WORD),
+                    toSubcommandWord(AutoScheduleCommand.COMMAND_WORD),
+                    toSubcommandWord(ClearScheduleCommand.COMMAND_WORD),
+                    toSubcommandWord(DeleteScheduleCommand.COMMAND_WORD),
+                    toSubcommandWord(EditScheduleCommand.COMMAND_WORD),
+                    toSubcommandWord(ExportScheduleCommand.COMMAND_WORD),
+                    toSubcommandWord(ShiftScheduleCommand.COMMAND_WORD),
+                    toSubcommandWord(SuggestScheduleCommand.COMMAND_WORD))),
+            SearchCommand.COMMAND_WORD, toTrie(List.of(
+                    toSubcommandWord(DeleteSearchCommand.COMMAND_WORD),
+                    toSubcommandWord(ListSearchCommand.COMMAND_WORD),
+                    toSubcommandWord(SaveSearchCommand.COMMAND_WORD),
+                    toSubcommandWord(ShowSearchCommand.COMMAND_WORD))),
+            SimulationCommand.COMMAND_WORD, toTrie(List.of(
+                    toSubcommandWord(CommitSimulationCommand.COMMAND_WORD),
+                    toSubcommandWord(DiffSimulationCommand.COMMAND_WORD),
+                    toSubcommandWord(DiscardSimulationCommand.COMMAND_WORD),
+                    toSubcommandWord(StartSimulationCommand.COMMAND_WORD))));
+    private static final PrefixTrie PREFIXES = toTrie(CliSyntax.ALL_PREFIXES.stream()
+            .map(Prefix::getPrefix)
+            .collect(Collectors.toList()));
+
+    private final CompletionIndex completionIndex;
+
+    /**
+     * Creates a {@code CommandCompleter} completing candidate details from {@code completionIndex}.
+     */
+    public CommandCompleter(CompletionIndex completionIndex) {
+        requireNonNull(completionIndex);
+
+        this.completionIndex = completionIndex;
+    }
+
+    /**
+     * Returns the ways to complete the last word of {@code commandText}, each as the whole completed command text.
+     * Returns an empty list if {@code commandText} ends with whitespace or its last word cannot be completed.
+     */
+    public List<String> complete(String commandText) {
+        requireNonNull(commandText);
+
+        int wordStart = commandText.length();
+        while (wordStart > 0 && !Character.isWhitespace(commandText.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+        String head = commandText.substring(0, wordStart);
+        String word = commandText.substring(wordStart);
+        if (word.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> completedWords = completeWord(head.trim(), word);
+        List<String> completions = new ArrayList<>();
+        for (String completedWord : completedWords) {
+            if (!completedWord.equals(word) && completions.size() < MAX_COMPLETIONS) {
+                completions.add(head + completedWord);
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the completions of {@code word}, which follows the words in {@code previousWords}.
+     */
+    private List<String> completeWord(String previousWords, String word) {
+        if (previousWords.isEmpty()) {
+            return COMMAND_WORDS.complete(word, MAX_COMPLETIONS);
+        }
+        PrefixTrie subcommandWords = SUBCOMMAND_WORDS.get(previousWords.toLowerCase());
+        if (subcommandWords != null) {
+            return subcommandWords.complete(word, MAX_COMPLETIONS);
+        }
+
+        Optional<Prefix> prefix = CliSyntax.ALL_PREFIXES.stream()
+                .filter(candidatePrefix -> word.startsWith(candidatePrefix.getPrefix()))
+                .findFirst();
+        if (prefix.isPresent()) {
+            String value = word.substring(prefix.get().getPrefix().length());
+            List<String> completedWords = new ArrayList<>();
+            if (!value.isEmpty()) {
+                for (String completedValue : completionIndex.complete(value, MAX_COMPLETIONS)) {
+                    completedWords.add(prefix.get().getPrefix() + completedValue);
+                }
+            }
+            return completedWords;
+        }
+
+        List<String> completedWords = new ArrayList<>(PREFIXES.complete(word, MAX_COMPLETIONS));
+        completedWords.addAll(completionIndex.complete(word, MAX_COMPLETIONS));
+        return completedWords;
+    }
+
+    private static String toSubcommandWord(String commandWord) {
+        return commandWord.substring(commandWord.indexOf(' ')).trim();
+    }
+
+    private static PrefixTrie toTrie(List<String> words) {
+        PrefixTrie trie = new PrefixTrie();
+        words.forEach(trie::add);
+        return trie;
+    }
+}
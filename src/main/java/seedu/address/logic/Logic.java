@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -25,6 +28,36 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the ways to complete the last word of a partially typed command, each as the whole command text.
+     * May be called from any thread.
+     *
+     * @see CommandCompleter#complete(String)
+     */
+    List<String> getCompletions(String commandText);
+
+    /**
+     * Deletes the interviews which have ended by {@code currentDateTime}, marks their candidates as having
+     * completed their interviews, and saves the changed data.
+     * Does nothing while a simulation is running; the interviews ending during it are deleted once it ends.
+     * @throws CommandException If an error occurs while updating or saving the data.
+     */
+    void deleteExpiredInterviews(LocalDateTime currentDateTime) throws CommandException;
+
+    /**
+     * Returns true if a simulation is running.
+     *
+     * @see seedu.address.model.Model#isSimulating()
+     */
+    boolean isSimulating();
+
+    /**
+     * Returns the date time the next interview ends, or an empty optional if no interview is scheduled.
+     *
+     * @see seedu.address.model.Model#getNextInterviewExpiry()
+     */
+    Optional<LocalDateTime> getNextInterviewExpiry();
+
     /**
      * Returns the AddressBook.
      *
@@ -2,6 +2,11 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -11,11 +16,13 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.SearchCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyInterviewSchedule;
 import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.query.Query;
 import seedu.address.model.interview.Interview;
 import seedu.address.storage.Storage;
 
@@ -29,6 +36,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandCompleter commandCompleter;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -37,6 +45,25 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        commandCompleter = new CommandCompleter(model.getSearchIndex().getCompletionIndex());
+        restoreSavedSearches();
+    }
+
+    /**
+     * Materializes the saved searches read from the user prefs. Searches that can no longer be parsed are deleted.
+     */
+    private void restoreSavedSearches() {
+        for (Map.Entry<String, String> savedSearch : new TreeMap<>(model.getSavedSearches()).entrySet()) {
+            String name = savedSearch.getKey();
+            String definition = savedSearch.getValue();
+            try {
+                Query query = SearchCommandParser.parseDefinition(definition);
+                model.addSavedSearch(name, definition, query.plan(model.getSearchIndex()));
+            } catch (ParseException pe) {
+                logger.warning("Deleting saved search " + name + " which cannot be parsed: " + pe.getMessage());
+                model.deleteSavedSearch(name);
+            }
+        }
     }
 
     @Override
@@ -45,7 +72,24 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        boolean wasSimulating = model.isSimulating();
         commandResult = command.execute(model);
+        if (wasSimulating && !model.isSimulating()) {
+            // interviews are not swept during a simulation, so sweep those which ended during it
+            deleteExpiredInterviews(LocalDateTime.now());
+        }
+        // saved searches are not part of a simulation, so they are saved even during one
+        if (command.isUserPrefsChanging()) {
+            try {
+                storage.saveUserPrefs(model.getUserPrefs());
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+        }
+        // changes made during a simulation are only saved once it is committed
+        if (!command.isDataChanging() || model.isSimulating()) {
+            return commandResult;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
@@ -57,6 +101,38 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public List<String> getCompletions(String commandText) {
+        return commandCompleter.complete(commandText);
+    }
+
+    @Override
+    public void deleteExpiredInterviews(LocalDateTime currentDateTime) throws CommandException {
+        if (model.isSimulating()
+                || model.getNextInterviewExpiry().filter(expiry -> !expiry.isAfter(currentDateTime)).isEmpty()) {
+            return;
+        }
+        logger.info("----------------[INTERVIEWS EXPIRED][" + currentDateTime + "]");
+
+        model.deletePastInterviewsForInterviewList(currentDateTime);
+        try {
+            storage.saveAddressBook(model.getAddressBook());
+            storage.saveInterviewSchedule(model.getInterviewSchedule());
+        } catch (IOException ioe) {
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        }
+    }
+
+    @Override
+    public boolean isSimulating() {
+        return model.isSimulating();
+    }
+
+    @Override
+    public Optional<LocalDateTime> getNextInterviewExpiry() {
+        return model.getNextInterviewExpiry();
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -17,4 +17,19 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing the command may change the data that is saved to storage.
+     * Commands that only change what is displayed return false, so that nothing is saved after them.
+     */
+    public boolean isDataChanging() {
+        return true;
+    }
+
+    /**
+     * Returns true if executing the command may change the user prefs, which are then saved at once.
+     */
+    public boolean isUserPrefsChanging() {
+        return false;
+    }
+
 }
@@ -109,7 +109,8 @@ public class EditCommand extends Command {
         for (int i = 0; i < interviewSchedule.size(); i++) {
             if (candidateToEdit.equals(interviewSchedule.get(i).getCandidate())) {
                 Interview interviewToUpdate = interviewSchedule.get(i);
-                Interview updatedInterview = new Interview(editedCandidate, interviewToUpdate.getInterviewDateTime());
+                Interview updatedInterview = new Interview(editedCandidate, interviewToUpdate.getInterviewDateTime(),
+                        interviewToUpdate.getTrack(), interviewToUpdate.getDurationInMinutes());
                 model.updateInterviewCandidate(interviewToUpdate, updatedInterview);
             }
         }
@@ -17,4 +17,9 @@ public class ExitCommand extends Command {
                 false, true, false, -1, false, -1);
     }
 
+    @Override
+    public boolean isDataChanging() {
+        return false;
+    }
+
 }
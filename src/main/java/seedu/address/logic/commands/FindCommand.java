@@ -3,15 +3,24 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FIELD;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_KEYWORD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
+
+import java.util.Objects;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.candidate.RelevanceScorer;
 import seedu.address.model.candidate.predicate.ContainsKeywordsPredicate;
+import seedu.address.model.candidate.query.FieldQuery;
+import seedu.address.model.candidate.query.Query;
 
 /**
  * Finds and lists all candidates in TAlent Assistant™ whose description (in the specified field)
- * contains any of the argument keywords.
+ * contains any of the argument keywords, or who match a boolean search query across fields.
  * Keyword matching is case-insensitive.
+ * A ranked search only lists the most relevant candidates found, from the most to the least relevant.
+ * The candidates found are counted by course, seniority, application status and interview status.
  */
 public class FindCommand extends Command {
 
@@ -19,18 +28,34 @@ public class FindCommand extends Command {
 
     public static final String INVALID_ATTRIBUTE_FIELD = "The provided attribute field to search by is invalid! \n"
             + "Note: Searchable attribute fields include `appstatus`, `avail`, `all`, `course`, `email`, "
-            + "`intstatus`, `name`, `phone`, `remark`, `seniority`, `studentid`.";
+            + "`intstatus`, `name`, `name~`, `phone`, `phonetic`, `remark`, `seniority`, `studentid`.\n"
+            + "`name~` finds names similar to the keywords, tolerating misspellings.\n"
+            + "`phonetic` finds names that sound like the keywords, such as `Mohamed` for `Muhammad`.";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all candidates containing any of "
             + "the specified keywords (case-insensitive) in the specified attribute field.\n"
             + "Parameters: " + PREFIX_KEYWORD + "KEYWORD [" + PREFIX_KEYWORD + "MORE_KEYWORDS]... ["
-            + PREFIX_FIELD + "ATTRIBUTE_FIELD]\n"
+            + PREFIX_FIELD + "ATTRIBUTE_FIELD] [" + PREFIX_TOP + "NUMBER_OF_RESULTS]\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_KEYWORD + "alice " + PREFIX_KEYWORD + "charlie "
             + PREFIX_FIELD + "name\n"
+            + "With " + PREFIX_TOP + ", only the most relevant candidates are listed, ranked by how closely "
+            + "the keywords match their student ID, email, phone, name and other fields.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_KEYWORD + "a0234567 " + PREFIX_TOP + "10\n"
+            + "Alternatively, combine conditions on several fields with AND, OR, NOT and parentheses: "
+            + PREFIX_QUERY + "QUERY\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_QUERY + "course:\"computer science\" AND seniority:2..3 "
+            + "AND NOT appstatus:rejected\n"
             + "Note: Searchable attribute fields include `appstatus`, `avail`, `all`, `course`, `email`, "
-            + "`intstatus`, `name`, `phone`, `remark`, `seniority`, `studentid`.";
+            + "`intstatus`, `name`, `name~`, `phone`, `phonetic`, `remark`, `seniority`, `studentid`.\n"
+            + "`name~` finds names similar to the keywords, tolerating misspellings.\n"
+            + "`phonetic` finds names that sound like the keywords, such as `Mohamed` for `Muhammad`.";
+
+    public static final String MESSAGE_INVALID_TOP = "The number of results to list must be a positive integer.";
 
-    private final ContainsKeywordsPredicate predicate;
+    private final Query query;
+    /** Scores the matching candidates of a ranked search, or null if the search is not ranked. */
+    private final RelevanceScorer scorer;
+    private final int limit;
 
     /**
      * Creates new FindCommand object.
@@ -38,23 +63,67 @@ public class FindCommand extends Command {
      * @param predicate contains the predicate for filtering the candidate list.
      */
     public FindCommand(ContainsKeywordsPredicate predicate) {
-        requireNonNull(predicate);
+        this(new FieldQuery(predicate));
+    }
 
-        this.predicate = predicate;
+    /**
+     * Creates new FindCommand object.
+     *
+     * @param query contains the query for filtering the candidate list.
+     */
+    public FindCommand(Query query) {
+        requireNonNull(query);
+
+        this.query = query;
+        this.scorer = null;
+        this.limit = 0;
+    }
+
+    /**
+     * Creates new FindCommand object for a ranked search.
+     *
+     * @param query contains the query for filtering the candidate list.
+     * @param scorer scores how relevant each matching candidate is.
+     * @param limit the maximum number of candidates to list, which must be positive.
+     */
+    public FindCommand(Query query, RelevanceScorer scorer, int limit) {
+        requireNonNull(query);
+        requireNonNull(scorer);
+
+        this.query = query;
+        this.scorer = scorer;
+        this.limit = limit;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredCandidateList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_CANDIDATES_LISTED_OVERVIEW, model.getFilteredCandidateList().size()));
+        Query plannedQuery = query.plan(model.getSearchIndex());
+        if (scorer == null) {
+            model.updateFilteredCandidateList(plannedQuery);
+        } else {
+            model.updateRankedCandidateList(plannedQuery, scorer, limit);
+        }
+        int candidateCount = model.getFilteredCandidateList().size();
+        String message = String.format(Messages.MESSAGE_CANDIDATES_LISTED_OVERVIEW, candidateCount);
+        if (candidateCount == 0) {
+            return new CommandResult(message);
+        }
+        // the counts follow the filtered list, so they are already up to date with the candidates found
+        return new CommandResult(message + "\n" + model.getFacetCounts());
+    }
+
+    @Override
+    public boolean isDataChanging() {
+        return false;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && query.equals(((FindCommand) other).query)
+                && Objects.equals(scorer, ((FindCommand) other).scorer)
+                && limit == ((FindCommand) other).limit); // state check
     }
 }
@@ -52,6 +52,11 @@ public class FocusCommand extends Command {
                 false, false, true, targetIndex.getZeroBased(), false, -1);
     }
 
+    @Override
+    public boolean isDataChanging() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == null) {
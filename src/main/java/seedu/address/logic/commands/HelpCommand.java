@@ -19,4 +19,9 @@ public class HelpCommand extends Command {
         return new CommandResult(SHOWING_HELP_MESSAGE,
                 true, false, false, -1, false, -1);
     }
+
+    @Override
+    public boolean isDataChanging() {
+        return false;
+    }
 }
@@ -25,4 +25,9 @@ public class ListCommand extends Command {
                 : Messages.MESSAGE_NO_CANDIDATES_IN_SYSTEM;
         return new CommandResult(message);
     }
+
+    @Override
+    public boolean isDataChanging() {
+        return false;
+    }
 }
@@ -10,8 +10,9 @@ import seedu.address.model.Model;
 import seedu.address.model.candidate.Candidate;
 
 /**
- * Reorders all candidates in TAlent Assistant™ based on the sort key provided.
- * The sort key should specify a certain candidate field.
+ * Reorders all candidates in TAlent Assistant™ based on the sort keys provided.
+ * Each sort key should specify a certain candidate field, and candidates are ordered by the first key, then by the
+ * next key for candidates equal in the first, and so on.
  */
 public class SortCommand extends Command {
 
@@ -22,12 +23,17 @@ public class SortCommand extends Command {
             + "`intstatus`, `name`, `seniority`, `studentid`.";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all displayed candidates "
-            + "by the attribute field specified in ascending order (A-Z, 0-9).\n"
-            + "Parameters: " + PREFIX_SORTKEY + "ATTRIBUTE_FIELD \n"
+            + "by the attribute fields specified in ascending order (A-Z, 0-9), or in descending order for fields "
+            + "ending with `-`. Candidates equal in the first field are sorted by the next field, and so on.\n"
+            + "Parameters: " + PREFIX_SORTKEY + "ATTRIBUTE_FIELD [" + PREFIX_SORTKEY + "MORE_ATTRIBUTE_FIELDS]...\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_SORTKEY + "name\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_SORTKEY + "course " + PREFIX_SORTKEY + "seniority- "
+            + PREFIX_SORTKEY + "name\n"
             + "Note: Allowable fields for sorting include `appstatus`, `course`, "
             + "`intstatus`, `name`, `seniority`, `studentid`.";
 
+    public static final String MESSAGE_DUPLICATE_SORT_KEY = "Each attribute field can only be sorted by once.";
+
     private final Comparator<Candidate> sortComparator;
     private final String sortKey;
 
@@ -35,7 +41,7 @@ public class SortCommand extends Command {
      * Creates new SortCommand object.
      *
      * @param sortComparator contains the Comparator for sorting the list of candidates.
-     * @param sortKey contains the valid sort key for equality state check.
+     * @param sortKey contains the valid sort keys for equality state check.
      */
     public SortCommand(Comparator<Candidate> sortComparator, String sortKey) {
         requireNonNull(sortComparator);
@@ -53,6 +59,11 @@ public class SortCommand extends Command {
                 String.format(Messages.MESSAGE_CANDIDATES_SORTED_OVERVIEW, model.getFilteredCandidateList().size()));
     }
 
+    @Override
+    public boolean isDataChanging() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -45,8 +45,13 @@ public class ViewCommand extends Command {
             throw new CommandException(String.format(Messages.MESSAGE_NO_INTERVIEWS_IN_SYSTEM));
         }
 
-        model.updateFilteredInterviewSchedule(predicate);
+        model.showInterviewsWithin(predicate);
         return new CommandResult(String
                 .format(Messages.MESSAGE_INTERVIEWS_LISTED_OVERVIEW, model.getFilteredInterviewSchedule().size()));
     }
+
+    @Override
+    public boolean isDataChanging() {
+        return false;
+    }
 }
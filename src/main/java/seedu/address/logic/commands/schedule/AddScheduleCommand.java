@@ -12,6 +12,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.candidate.Candidate;
 import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Track;
 
 /**
  * Schedules a candidate identified using it's displayed index from the address book for an interview
@@ -23,9 +24,12 @@ public class AddScheduleCommand extends ScheduleCommand {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Schedules the candidate identified by the index number for an interview on given date and time.\n"
-            + "Parameters: candidate/CANDIDATE_INDEX at/DATE_TIME (in dd-MM-yyyy HH:mm format)\n"
-            + "Example: " + COMMAND_WORD + " candidate/1 at/23-09-2022 13:30\n"
-            + "Note: The candidate's index number must be a valid non zero positive integer.";
+            + "Parameters: candidate/CANDIDATE_INDEX at/DATE_TIME (in dd-MM-yyyy HH:mm format) "
+            + "[dur/DURATION_IN_MINUTES] [track/ROOM_OR_INTERVIEWER]\n"
+            + "Example: " + COMMAND_WORD + " candidate/1 at/23-09-2022 13:30 dur/90 track/Room 2\n"
+            + "Note: The candidate's index number must be a valid non zero positive integer. "
+            + "Interviews last " + Interview.DEFAULT_DURATION_IN_MINUTES + " minutes unless specified, and only "
+            + "conflict with interviews in the same room or with the same interviewer.";
 
     public static final String MESSAGE_SCHEDULED_CANDIDATE_SUCCESS =
             "Successfully scheduled interview for %1$s %2$s on %3$s %4$s";
@@ -35,14 +39,35 @@ public class AddScheduleCommand extends ScheduleCommand {
 
     private final Index targetIndex;
     private final LocalDateTime interviewDateTime;
+    private final Track track;
+    private final int durationInMinutes;
 
     /**
      * Creates a AddScheduleCommand to schedule the candidate at specified index for an
-     * interview on {@code LocalDateTime}
+     * interview on {@code LocalDateTime}, on the default track
      */
     public AddScheduleCommand(Index targetIndex, LocalDateTime interviewDateTime) {
+        this(targetIndex, interviewDateTime, Track.DEFAULT);
+    }
+
+    /**
+     * Creates a AddScheduleCommand to schedule the candidate at specified index for an
+     * interview on {@code LocalDateTime}, on {@code track}
+     */
+    public AddScheduleCommand(Index targetIndex, LocalDateTime interviewDateTime, Track track) {
+        this(targetIndex, interviewDateTime, track, Interview.DEFAULT_DURATION_IN_MINUTES);
+    }
+
+    /**
+     * Creates a AddScheduleCommand to schedule the candidate at specified index for an
+     * interview on {@code LocalDateTime} lasting {@code durationInMinutes}, on {@code track}
+     */
+    public AddScheduleCommand(Index targetIndex, LocalDateTime interviewDateTime, Track track,
+            int durationInMinutes) {
         this.targetIndex = targetIndex;
         this.interviewDateTime = interviewDateTime;
+        this.track = track;
+        this.durationInMinutes = durationInMinutes;
     }
 
     @Override
@@ -58,7 +83,7 @@ public class AddScheduleCommand extends ScheduleCommand {
         }
 
         Candidate candidateToInterview = lastShownList.get(targetIndex.getZeroBased());
-        Interview toAdd = new Interview(candidateToInterview, interviewDateTime);
+        Interview toAdd = new Interview(candidateToInterview, interviewDateTime, track, durationInMinutes);
 
         if (candidateToInterview.isCompleted()) {
             throw new CommandException(MESSAGE_CANDIDATE_COMPLETED);
@@ -89,6 +114,8 @@ public class AddScheduleCommand extends ScheduleCommand {
         return other == this // short circuit if same object
                 || (other instanceof AddScheduleCommand // instanceof handles nulls
                 && targetIndex.equals(((AddScheduleCommand) other).targetIndex)
-                && interviewDateTime.equals(((AddScheduleCommand) other).interviewDateTime)); // state check
+                && interviewDateTime.equals(((AddScheduleCommand) other).interviewDateTime)
+                && track.equals(((AddScheduleCommand) other).track)
+                && durationInMinutes == ((AddScheduleCommand) other).durationInMinutes); // state check
     }
 }
@@ -0,0 +1,158 @@
+package seedu.address.logic.commands.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.StudentId;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.InterviewSlot;
+import seedu.address.model.interview.Track;
+
+/**
+ * Schedules an interview for every candidate in the displayed candidate list who has not been scheduled yet, in
+ * free time slots within a date and time range.
+ */
+public class AutoScheduleCommand extends ScheduleCommand {
+
+    public static final String COMMAND_WORD = ScheduleCommand.COMMAND_WORD + " auto";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Schedules an interview for every displayed candidate without one, in the free time slots between "
+            + "the given dates and times, on the days each candidate is available.\n"
+            + "Parameters: from/DATE_TIME to/DATE_TIME (in dd-MM-yyyy HH:mm format) [dur/DURATION_IN_MINUTES] "
+            + "[track/ROOM_OR_INTERVIEWER]...\n"
+            + "Example: " + COMMAND_WORD + " from/23-09-2022 08:00 to/30-09-2022 17:30 dur/60 "
+            + "track/Room 1 track/Room 2\n"
+            + "Note: Interviews may start at any time from the first date and time up to the second, "
+            + "in any of the given rooms or with any of the given interviewers, and last "
+            + Interview.DEFAULT_DURATION_IN_MINUTES + " minutes unless specified.";
+
+    public static final String MESSAGE_INVALID_RANGE = "The start of the range must not be after its end!";
+
+    public static final String MESSAGE_NO_CANDIDATES_TO_SCHEDULE =
+            "All displayed candidates already have an interview or have completed one.";
+
+    public static final String MESSAGE_NO_FREE_SLOTS =
+            "There are no free time slots in the range on the days the candidates are available!";
+
+    public static final String MESSAGE_SCHEDULED_CANDIDATES_SUCCESS =
+            "Successfully scheduled %1$d interviews between %2$s and %3$s.";
+
+    public static final String MESSAGE_UNSCHEDULED_CANDIDATES = "\nNo free time slot left for: %1$s";
+
+    private static final DateTimeFormatter RANGE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm");
+
+    private final LocalDateTime earliestStart;
+    private final LocalDateTime latestStart;
+    private final List<Track> tracks;
+    private final int durationInMinutes;
+
+    /**
+     * Creates an AutoScheduleCommand to schedule interviews on the default track starting between
+     * {@code earliestStart} and {@code latestStart}, inclusive.
+     */
+    public AutoScheduleCommand(LocalDateTime earliestStart, LocalDateTime latestStart) {
+        this(earliestStart, latestStart, List.of(Track.DEFAULT));
+    }
+
+    /**
+     * Creates an AutoScheduleCommand to schedule interviews of the default duration on any of {@code tracks}
+     * starting between {@code earliestStart} and {@code latestStart}, inclusive.
+     */
+    public AutoScheduleCommand(LocalDateTime earliestStart, LocalDateTime latestStart, List<Track> tracks) {
+        this(earliestStart, latestStart, tracks, Interview.DEFAULT_DURATION_IN_MINUTES);
+    }
+
+    /**
+     * Creates an AutoScheduleCommand to schedule interviews lasting {@code durationInMinutes} on any of
+     * {@code tracks} starting between {@code earliestStart} and {@code latestStart}, inclusive.
+     */
+    public AutoScheduleCommand(LocalDateTime earliestStart, LocalDateTime latestStart, List<Track> tracks,
+            int durationInMinutes) {
+        requireAllNonNull(earliestStart, latestStart);
+        requireAllNonNull(tracks);
+        checkArgument(!earliestStart.isAfter(latestStart), MESSAGE_INVALID_RANGE);
+        checkArgument(!tracks.isEmpty(), "There must be at least one track");
+        checkArgument(Interview.isValidDuration(durationInMinutes), Interview.MESSAGE_DURATION_CONSTRAINTS);
+
+        this.earliestStart = earliestStart;
+        this.latestStart = latestStart;
+        this.tracks = List.copyOf(tracks);
+        this.durationInMinutes = durationInMinutes;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Set<StudentId> scheduledStudentIds = new HashSet<>();
+        for (Interview interview : model.getInterviewSchedule().getInterviewList()) {
+            scheduledStudentIds.add(interview.getCandidate().getStudentId());
+        }
+        List<Candidate> candidatesToInterview = new ArrayList<>();
+        for (Candidate candidate : model.getFilteredCandidateList()) {
+            if (!candidate.isCompleted() && !candidate.isScheduled()
+                    && !scheduledStudentIds.contains(candidate.getStudentId())) {
+                candidatesToInterview.add(candidate);
+            }
+        }
+        if (candidatesToInterview.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_CANDIDATES_TO_SCHEDULE);
+        }
+
+        List<Optional<InterviewSlot>> slots =
+                model.assignFreeInterviewSlots(candidatesToInterview, tracks, earliestStart, latestStart,
+                        durationInMinutes);
+        List<Interview> interviews = new ArrayList<>();
+        List<Candidate> scheduledCandidates = new ArrayList<>();
+        List<String> unscheduledNames = new ArrayList<>();
+        for (int i = 0; i < candidatesToInterview.size(); i++) {
+            Candidate candidate = candidatesToInterview.get(i);
+            if (slots.get(i).isPresent()) {
+                InterviewSlot slot = slots.get(i).get();
+                interviews.add(new Interview(candidate, slot.getStart(), slot.getTrack(), durationInMinutes));
+                scheduledCandidates.add(candidate);
+            } else {
+                unscheduledNames.add(candidate.getName().toString());
+            }
+        }
+        if (interviews.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_FREE_SLOTS);
+        }
+
+        model.addInterviews(interviews);
+        List<Candidate> editedCandidates = new ArrayList<>(scheduledCandidates.size());
+        scheduledCandidates.forEach(candidate -> editedCandidates.add(candidate.triggerInterviewStatusScheduled()));
+        model.setCandidates(scheduledCandidates, editedCandidates);
+
+        String message = String.format(MESSAGE_SCHEDULED_CANDIDATES_SUCCESS, interviews.size(),
+                earliestStart.format(RANGE_FORMATTER), latestStart.format(RANGE_FORMATTER));
+        if (!unscheduledNames.isEmpty()) {
+            message += String.format(MESSAGE_UNSCHEDULED_CANDIDATES, String.join(", ", unscheduledNames));
+        }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AutoScheduleCommand // instanceof handles nulls
+                && earliestStart.equals(((AutoScheduleCommand) other).earliestStart)
+                && latestStart.equals(((AutoScheduleCommand) other).latestStart)
+                && tracks.equals(((AutoScheduleCommand) other).tracks)
+                && durationInMinutes == ((AutoScheduleCommand) other).durationInMinutes); // state check
+    }
+}
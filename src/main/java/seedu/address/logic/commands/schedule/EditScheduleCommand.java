@@ -5,6 +5,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_INTERVIEWS;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -25,27 +26,39 @@ public class EditScheduleCommand extends ScheduleCommand {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Edits the interview identified by the index number in the interview schedule "
-            + "to the proposed date and time.\n"
-            + "Parameters: INTERVIEW_INDEX at/DATE_TIME (in dd-MM-yyyy HH:mm format)\n"
-            + "Example: " + COMMAND_WORD + " 3 at/20-03-2023 10:00\n"
+            + "to the proposed date and time and/or duration.\n"
+            + "Parameters: INTERVIEW_INDEX [at/DATE_TIME (in dd-MM-yyyy HH:mm format)] [dur/DURATION_IN_MINUTES]\n"
+            + "Example: " + COMMAND_WORD + " 3 at/20-03-2023 10:00 dur/60\n"
             + "Note: The interview index number must be a valid non zero positive integer.";
 
     public static final String MESSAGE_EDIT_INTERVIEW_SUCCESS =
             "Successfully edited interview for %1$s";
-    public static final String MESSAGE_NOT_EDITED = "Interview date and time must be provided!";
+    public static final String MESSAGE_NOT_EDITED = "Interview date and time or duration must be provided!";
     public static final String MESSAGE_EXPIRED_INTERVIEW = "The interview you are trying to edit has expired!!";
 
     private final Index index;
-    private final LocalDateTime newDateTime;
+    private final Optional<LocalDateTime> newDateTime;
+    private final Optional<Integer> newDurationInMinutes;
 
     /**
      * Creates a EditScheduleCommand to reschedule the interview at specified index to the newDateTime.
      */
     public EditScheduleCommand(Index index, LocalDateTime newDateTime) {
+        this(index, Optional.of(newDateTime), Optional.empty());
+    }
+
+    /**
+     * Creates a EditScheduleCommand to reschedule the interview at specified index to the newDateTime, and to last
+     * newDurationInMinutes, keeping the current date and time or duration of the interview if either is empty.
+     */
+    public EditScheduleCommand(Index index, Optional<LocalDateTime> newDateTime,
+            Optional<Integer> newDurationInMinutes) {
         requireNonNull(index);
         requireNonNull(newDateTime);
+        requireNonNull(newDurationInMinutes);
         this.index = index;
         this.newDateTime = newDateTime;
+        this.newDurationInMinutes = newDurationInMinutes;
     }
 
     @Override
@@ -64,7 +77,7 @@ public class EditScheduleCommand extends ScheduleCommand {
         if (interviewToEdit.isExpired()) {
             throw new CommandException(MESSAGE_EXPIRED_INTERVIEW);
         }
-        Interview editedInterview = createEditedInterview(interviewToEdit, newDateTime);
+        Interview editedInterview = createEditedInterview(interviewToEdit, newDateTime, newDurationInMinutes);
 
         if (!editedInterview.isDuringOfficeHour()) {
             throw new CommandException(MESSAGE_NOT_OFFICE_HOUR);
@@ -88,16 +101,22 @@ public class EditScheduleCommand extends ScheduleCommand {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof EditScheduleCommand // instanceof handles nulls
-                && index.equals(((EditScheduleCommand) other).index)); // state check
+                && index.equals(((EditScheduleCommand) other).index)
+                && newDateTime.equals(((EditScheduleCommand) other).newDateTime)
+                && newDurationInMinutes.equals(((EditScheduleCommand) other).newDurationInMinutes)); // state check
     }
 
     /**
-     * Creates and returns an interview with the new date and time.
+     * Creates and returns an interview with the new date and time and duration, where given.
      */
-    private static Interview createEditedInterview(Interview interviewToEdit, LocalDateTime newDateTime) {
+    private static Interview createEditedInterview(Interview interviewToEdit, Optional<LocalDateTime> newDateTime,
+            Optional<Integer> newDurationInMinutes) {
         assert interviewToEdit != null;
         assert newDateTime != null;
+        assert newDurationInMinutes != null;
 
-        return new Interview(interviewToEdit.getCandidate(), newDateTime);
+        return new Interview(interviewToEdit.getCandidate(),
+                newDateTime.orElse(interviewToEdit.getInterviewDateTime()), interviewToEdit.getTrack(),
+                newDurationInMinutes.orElse(interviewToEdit.getDurationInMinutes()));
     }
 }
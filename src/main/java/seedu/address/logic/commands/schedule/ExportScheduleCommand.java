@@ -0,0 +1,116 @@
+package seedu.address.logic.commands.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.interview.Interview;
+import seedu.address.storage.IcsInterviewScheduleExporter;
+
+/**
+ * Exports the listed interviews to an iCalendar file, which calendar apps can import.
+ * When only the changes are exported, every interview is exported instead, so that the interviews filtered out of
+ * the list are not mistaken for interviews removed from the schedule.
+ */
+public class ExportScheduleCommand extends ScheduleCommand {
+
+    public static final String COMMAND_WORD = ScheduleCommand.COMMAND_WORD + " export";
+
+    public static final String FILE_EXTENSION = ".ics";
+
+    public static final String DEFAULT_FILE_NAME = "interviews" + FILE_EXTENSION;
+
+    public static final String MODE_ALL = "all";
+
+    public static final String MODE_CHANGED = "changed";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the listed interviews to an iCalendar (.ics) file, which calendar apps can import.\n"
+            + "Parameters: [FILE_PATH" + FILE_EXTENSION + "] [mode/" + MODE_ALL + " or " + MODE_CHANGED + "]\n"
+            + "Example: " + COMMAND_WORD + " data/interviews.ics mode/" + MODE_CHANGED + "\n"
+            + "Note: The file is saved as " + DEFAULT_FILE_NAME + " next to the interview data file, unless "
+            + "specified. In mode/" + MODE_CHANGED + ", every interview in the schedule is exported, whether listed "
+            + "or not, but only the interviews changed since the file was last exported are rewritten, and those "
+            + "removed since are marked as cancelled.";
+
+    public static final String MESSAGE_INVALID_MODE =
+            "The export mode must be either " + MODE_ALL + " or " + MODE_CHANGED + ".";
+
+    public static final String MESSAGE_INVALID_FILE_PATH = "The file path is not valid.";
+
+    public static final String MESSAGE_INVALID_FILE_EXTENSION =
+            "The interviews can only be exported to a file ending in " + FILE_EXTENSION + ".";
+
+    public static final String MESSAGE_DATA_FILE = "The interviews cannot be exported over the data file %1$s.";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d interviews to %2$s";
+
+    public static final String MESSAGE_CHANGES_SUCCESS = "Exported %1$d interviews to %2$s, of which %3$d changed";
+
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export interviews to file: ";
+
+    private final Optional<Path> filePath;
+    private final boolean isChangesOnly;
+
+    /**
+     * Creates an ExportScheduleCommand to export the listed interviews to {@code filePath}, or to the default file
+     * if it is empty. Only the changed interviews are rewritten if {@code isChangesOnly} is true.
+     */
+    public ExportScheduleCommand(Optional<Path> filePath, boolean isChangesOnly) {
+        requireNonNull(filePath);
+
+        this.filePath = filePath;
+        this.isChangesOnly = isChangesOnly;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Interview> interviews = isChangesOnly
+                ? model.getInterviewSchedule().getInterviewList()
+                : model.getFilteredInterviewSchedule();
+        Path exportFilePath = filePath.orElseGet(() ->
+                model.getInterviewScheduleFilePath().resolveSibling(DEFAULT_FILE_NAME));
+        for (Path dataFilePath : List.of(model.getAddressBookFilePath(), model.getInterviewScheduleFilePath())) {
+            if (isSameFile(exportFilePath, dataFilePath)) {
+                throw new CommandException(String.format(MESSAGE_DATA_FILE, dataFilePath));
+            }
+        }
+        IcsInterviewScheduleExporter exporter = new IcsInterviewScheduleExporter(exportFilePath);
+
+        try {
+            if (!isChangesOnly) {
+                exporter.export(interviews);
+                return new CommandResult(String.format(MESSAGE_SUCCESS, interviews.size(), exporter.getFilePath()));
+            }
+            int changedCount = exporter.exportChanges(interviews);
+            return new CommandResult(String.format(MESSAGE_CHANGES_SUCCESS, interviews.size(),
+                    exporter.getFilePath(), changedCount));
+        } catch (IOException ioe) {
+            throw new CommandException(MESSAGE_EXPORT_FAILED + ioe, ioe);
+        }
+    }
+
+    private static boolean isSameFile(Path first, Path second) {
+        return first.toAbsolutePath().normalize().equals(second.toAbsolutePath().normalize());
+    }
+
+    @Override
+    public boolean isDataChanging() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportScheduleCommand // instanceof handles nulls
+                && filePath.equals(((ExportScheduleCommand) other).filePath)
+                && isChangesOnly == ((ExportScheduleCommand) other).isChangesOnly); // state check
+    }
+}
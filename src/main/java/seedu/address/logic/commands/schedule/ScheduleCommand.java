@@ -8,9 +8,15 @@ public abstract class ScheduleCommand extends Command {
     public static final String COMMAND_WORD = "schedule";
 
     public static final String MESSAGE_USAGE = "The following formats are supported for " + COMMAND_WORD + ":\n"
-            + COMMAND_WORD + " add candidate/INDEX at/DATE_TIME \n"
-            + COMMAND_WORD + " edit INTERVIEW_INDEX at/DATE_TIME \n"
+            + COMMAND_WORD + " add candidate/INDEX at/DATE_TIME [dur/MINUTES] [track/ROOM_OR_INTERVIEWER] \n"
+            + COMMAND_WORD + " edit INTERVIEW_INDEX [at/DATE_TIME] [dur/MINUTES] \n"
             + COMMAND_WORD + " delete INTERVIEW_INDEX \n"
+            + COMMAND_WORD + " auto from/DATE_TIME to/DATE_TIME [dur/MINUTES] [track/ROOM_OR_INTERVIEWER]... \n"
+            + COMMAND_WORD + " suggest candidate/INDEX [at/EARLIEST_DATE_TIME] [top/NUMBER_OF_SLOTS] [dur/MINUTES] "
+            + "[track/ROOM_OR_INTERVIEWER]... \n"
+            + COMMAND_WORD + " shift from/DATE_TIME to/DATE_TIME (by/MINUTES or on/DATE) "
+            + "[track/ROOM_OR_INTERVIEWER]... \n"
+            + COMMAND_WORD + " export [FILE_PATH] [mode/all or changed] \n"
             + COMMAND_WORD + " clear";
 
     public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
@@ -27,7 +33,7 @@ public abstract class ScheduleCommand extends Command {
     public static final String MESSAGE_NOT_OFFICE_HOUR =
             "You are trying to schedule the interview outside of your office hours!\n"
                     + "Your office hours are Mon-Fri, 8am - 6pm. The latest interview for the day "
-                    + "is to be scheduled at 5.30PM";
+                    + "is to be scheduled at 5.30PM, and every interview must end by 6pm";
 
     public static final String MESSAGE_INVALID_FORMAT_DATETIME =
             "Date and/or Time is either invalid or not in the following format: dd-MM-yyyy HH:mm";
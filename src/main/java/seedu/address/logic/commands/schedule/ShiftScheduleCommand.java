@@ -0,0 +1,156 @@
+package seedu.address.logic.commands.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_INTERVIEWS;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Track;
+
+/**
+ * Moves every interview starting within a date and time range, either by a number of minutes or to another date at
+ * the same time of day. Every move is checked before any interview is moved, and the interviews are then moved all
+ * at once, so either every interview is moved or none is.
+ */
+public class ShiftScheduleCommand extends ScheduleCommand {
+
+    public static final String COMMAND_WORD = ScheduleCommand.COMMAND_WORD + " shift";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Moves every interview starting between the given dates and times, either by a number of minutes "
+            + "or to another date at the same time of day.\n"
+            + "Parameters: from/DATE_TIME to/DATE_TIME (in dd-MM-yyyy HH:mm format) "
+            + "(by/MINUTES or on/DATE (in dd-MM-yyyy format)) [track/ROOM_OR_INTERVIEWER]...\n"
+            + "Example: " + COMMAND_WORD + " from/23-09-2022 08:00 to/23-09-2022 17:30 on/26-09-2022 track/Room 1\n"
+            + "Note: Negative minutes move interviews earlier. Without track/, interviews on every track are moved. "
+            + "If any interview cannot be moved, none is.";
+
+    public static final String MESSAGE_INVALID_RANGE = AutoScheduleCommand.MESSAGE_INVALID_RANGE;
+
+    public static final String MESSAGE_INVALID_OFFSET =
+            "The number of minutes to move interviews by must be a non-zero whole number!";
+
+    public static final String MESSAGE_INVALID_FORMAT_DATE =
+            "Date is either invalid or not in the following format: dd-MM-yyyy";
+
+    public static final String MESSAGE_NO_INTERVIEWS_TO_SHIFT =
+            "There are no interviews to move between %1$s and %2$s!";
+
+    public static final String MESSAGE_CANNOT_SHIFT = "Cannot move the interview for %1$s, so no interview was moved:\n"
+            + "%2$s";
+
+    public static final String MESSAGE_SHIFT_SUCCESS = "Successfully moved %1$d interviews.";
+
+    private static final DateTimeFormatter RANGE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm");
+
+    private final LocalDateTime earliestStart;
+    private final LocalDateTime latestStart;
+    private final Optional<Integer> offsetInMinutes;
+    private final Optional<LocalDate> newDate;
+    private final List<Track> tracks;
+
+    /**
+     * Creates a ShiftScheduleCommand to move the interviews on any of {@code tracks}, or on every track if
+     * {@code tracks} is empty, starting between {@code earliestStart} and {@code latestStart}, inclusive.
+     * The interviews are moved by {@code offsetInMinutes} or to {@code newDate}, exactly one of which is given.
+     */
+    public ShiftScheduleCommand(LocalDateTime earliestStart, LocalDateTime latestStart,
+            Optional<Integer> offsetInMinutes, Optional<LocalDate> newDate, List<Track> tracks) {
+        requireAllNonNull(earliestStart, latestStart, offsetInMinutes, newDate);
+        requireAllNonNull(tracks);
+        checkArgument(!earliestStart.isAfter(latestStart), MESSAGE_INVALID_RANGE);
+        checkArgument(offsetInMinutes.isPresent() != newDate.isPresent(),
+                "Exactly one of the offset and the new date must be given");
+        checkArgument(offsetInMinutes.orElse(1) != 0, MESSAGE_INVALID_OFFSET);
+
+        this.earliestStart = earliestStart;
+        this.latestStart = latestStart;
+        this.offsetInMinutes = offsetInMinutes;
+        this.newDate = newDate;
+        this.tracks = List.copyOf(tracks);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Interview> interviewsToShift = new ArrayList<>();
+        // the range includes the interviews starting at its end
+        for (Interview interview : model.getInterviewsBetween(earliestStart, latestStart.plusNanos(1))) {
+            if (tracks.isEmpty() || tracks.contains(interview.getTrack())) {
+                interviewsToShift.add(interview);
+            }
+        }
+        if (interviewsToShift.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_INTERVIEWS_TO_SHIFT,
+                    earliestStart.format(RANGE_FORMATTER), latestStart.format(RANGE_FORMATTER)));
+        }
+
+        List<Interview> shiftedInterviews = new ArrayList<>();
+        for (Interview interview : interviewsToShift) {
+            Interview shiftedInterview = createShiftedInterview(interview);
+            checkShiftedInterview(interview, shiftedInterview);
+            shiftedInterviews.add(shiftedInterview);
+        }
+
+        model.setInterviews(interviewsToShift, shiftedInterviews);
+        model.updateFilteredInterviewSchedule(PREDICATE_SHOW_ALL_INTERVIEWS);
+        return new CommandResult(String.format(MESSAGE_SHIFT_SUCCESS, shiftedInterviews.size()));
+    }
+
+    /**
+     * Creates and returns {@code interview} moved by the offset or to the new date.
+     */
+    private Interview createShiftedInterview(Interview interview) {
+        LocalDateTime shiftedDateTime = offsetInMinutes
+                .map(offset -> interview.getInterviewDateTime().plusMinutes(offset))
+                .orElseGet(() -> LocalDateTime.of(newDate.get(), interview.getInterviewStartTime()));
+        return new Interview(interview.getCandidate(), shiftedDateTime, interview.getTrack(),
+                interview.getDurationInMinutes());
+    }
+
+    /**
+     * Checks that {@code interview} may be moved to {@code shiftedInterview}, apart from conflicts with other
+     * interviews, which are checked for all moves together.
+     * @throws CommandException if the interview may not be moved.
+     */
+    private static void checkShiftedInterview(Interview interview, Interview shiftedInterview)
+            throws CommandException {
+        String reason = null;
+        if (interview.isExpired()) {
+            reason = EditScheduleCommand.MESSAGE_EXPIRED_INTERVIEW;
+        } else if (!Interview.isValidDateTime(shiftedInterview.getInterviewDateTime())) {
+            reason = MESSAGE_INVALID_PAST_DATETIME;
+        } else if (!shiftedInterview.isDuringOfficeHour()) {
+            reason = MESSAGE_NOT_OFFICE_HOUR;
+        } else if (!shiftedInterview.hasMatchingAvailability()) {
+            reason = MESSAGE_CANDIDATE_NOT_AVAILABLE;
+        }
+        if (reason != null) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_SHIFT, interview.getCandidate().getName(),
+                    reason));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ShiftScheduleCommand // instanceof handles nulls
+                && earliestStart.equals(((ShiftScheduleCommand) other).earliestStart)
+                && latestStart.equals(((ShiftScheduleCommand) other).latestStart)
+                && offsetInMinutes.equals(((ShiftScheduleCommand) other).offsetInMinutes)
+                && newDate.equals(((ShiftScheduleCommand) other).newDate)
+                && tracks.equals(((ShiftScheduleCommand) other).tracks)); // state check
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.logic.commands.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.InterviewSlot;
+import seedu.address.model.interview.Track;
+
+/**
+ * Suggests the next free interview slots for a candidate identified using it's displayed index from the address
+ * book, on the days the candidate is available and within office hours.
+ */
+public class SuggestScheduleCommand extends ScheduleCommand {
+
+    public static final String COMMAND_WORD = ScheduleCommand.COMMAND_WORD + " suggest";
+
+    public static final int DEFAULT_SUGGESTION_COUNT = 5;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the next free interview slots for the candidate identified by the index number, "
+            + "on the days the candidate is available.\n"
+            + "Parameters: candidate/CANDIDATE_INDEX [at/EARLIEST_DATE_TIME (in dd-MM-yyyy HH:mm format)] "
+            + "[top/NUMBER_OF_SLOTS] [dur/DURATION_IN_MINUTES] [track/ROOM_OR_INTERVIEWER]...\n"
+            + "Example: " + COMMAND_WORD + " candidate/1 at/23-09-2022 13:30 top/3 dur/90 track/Room 1 track/Room 2\n"
+            + "Note: Slots are suggested from now, " + DEFAULT_SUGGESTION_COUNT + " at a time, for "
+            + Interview.DEFAULT_DURATION_IN_MINUTES + "-minute interviews, unless specified. "
+            + "A slot free in several rooms or with several interviewers is suggested in the first of them.";
+
+    public static final String MESSAGE_INVALID_SUGGESTION_COUNT =
+            "The number of slots to suggest must be a positive integer.";
+
+    public static final String MESSAGE_SUGGESTED_SLOTS = "Free interview slots for %1$s %2$s:%3$s";
+
+    private static final DateTimeFormatter SLOT_FORMATTER = DateTimeFormatter.ofPattern("EEE dd-MM-yyyy HH:mm");
+
+    private final Index targetIndex;
+    private final Optional<LocalDateTime> earliestStart;
+    private final int suggestionCount;
+    private final List<Track> tracks;
+    private final int durationInMinutes;
+
+    /**
+     * Creates a SuggestScheduleCommand to suggest {@code suggestionCount} free slots on the default track for the
+     * candidate at the specified index, starting no earlier than {@code earliestStart}, or now if it is empty.
+     */
+    public SuggestScheduleCommand(Index targetIndex, Optional<LocalDateTime> earliestStart, int suggestionCount) {
+        this(targetIndex, earliestStart, suggestionCount, List.of(Track.DEFAULT));
+    }
+
+    /**
+     * Creates a SuggestScheduleCommand to suggest {@code suggestionCount} free slots for interviews of the default
+     * duration on any of {@code tracks} for the candidate at the specified index, starting no earlier than
+     * {@code earliestStart}, or now if it is empty.
+     */
+    public SuggestScheduleCommand(Index targetIndex, Optional<LocalDateTime> earliestStart, int suggestionCount,
+            List<Track> tracks) {
+        this(targetIndex, earliestStart, suggestionCount, tracks, Interview.DEFAULT_DURATION_IN_MINUTES);
+    }
+
+    /**
+     * Creates a SuggestScheduleCommand to suggest {@code suggestionCount} free slots for interviews lasting
+     * {@code durationInMinutes} on any of {@code tracks} for the candidate at the specified index, starting no
+     * earlier than {@code earliestStart}, or now if it is empty.
+     */
+    public SuggestScheduleCommand(Index targetIndex, Optional<LocalDateTime> earliestStart, int suggestionCount,
+            List<Track> tracks, int durationInMinutes) {
+        requireNonNull(targetIndex);
+        requireNonNull(earliestStart);
+        requireAllNonNull(tracks);
+        checkArgument(suggestionCount > 0, MESSAGE_INVALID_SUGGESTION_COUNT);
+        checkArgument(!tracks.isEmpty(), "There must be at least one track");
+        checkArgument(Interview.isValidDuration(durationInMinutes), Interview.MESSAGE_DURATION_CONSTRAINTS);
+
+        this.targetIndex = targetIndex;
+        this.earliestStart = earliestStart;
+        this.suggestionCount = suggestionCount;
+        this.tracks = List.copyOf(tracks);
+        this.durationInMinutes = durationInMinutes;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Candidate> lastShownList = model.getFilteredCandidateList();
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(String.format(Messages.MESSAGE_NO_CANDIDATES_IN_SYSTEM));
+        }
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_CANDIDATE_DISPLAYED_INDEX);
+        }
+
+        Candidate candidateToInterview = lastShownList.get(targetIndex.getZeroBased());
+        if (candidateToInterview.isCompleted()) {
+            throw new CommandException(AddScheduleCommand.MESSAGE_CANDIDATE_COMPLETED);
+        }
+        if (model.getInterview(candidateToInterview) != null) {
+            throw new CommandException(MESSAGE_DUPLICATE_CANDIDATE_INTERVIEW);
+        }
+
+        List<InterviewSlot> freeSlots = model.findFreeInterviewSlots(candidateToInterview, tracks,
+                earliestStart.orElseGet(LocalDateTime::now), suggestionCount, durationInMinutes);
+        StringBuilder slotList = new StringBuilder();
+        for (InterviewSlot freeSlot : freeSlots) {
+            slotList.append("\n").append(freeSlot.getStart().format(SLOT_FORMATTER));
+            if (!freeSlot.getTrack().isDefault()) {
+                slotList.append(" (").append(freeSlot.getTrack()).append(")");
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUGGESTED_SLOTS, candidateToInterview.getName(),
+                candidateToInterview.getStudentId(), slotList));
+    }
+
+    @Override
+    public boolean isDataChanging() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SuggestScheduleCommand // instanceof handles nulls
+                && targetIndex.equals(((SuggestScheduleCommand) other).targetIndex)
+                && earliestStart.equals(((SuggestScheduleCommand) other).earliestStart)
+                && suggestionCount == ((SuggestScheduleCommand) other).suggestionCount
+                && tracks.equals(((SuggestScheduleCommand) other).tracks)
+                && durationInMinutes == ((SuggestScheduleCommand) other).durationInMinutes); // state check
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.commands.search;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Deletes a saved search.
+ */
+public class DeleteSearchCommand extends SearchCommand {
+
+    public static final String COMMAND_WORD = SearchCommand.COMMAND_WORD + " delete";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Deletes the saved search with the given name.\n"
+            + "Parameters: NAME\n"
+            + "Example: " + COMMAND_WORD + " pending-security";
+
+    public static final String MESSAGE_SUCCESS = "Deleted saved search %1$s";
+
+    private final String name;
+
+    /**
+     * Creates a DeleteSearchCommand to delete the saved search named {@code name}.
+     */
+    public DeleteSearchCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.hasSavedSearch(name)) {
+            throw new CommandException(String.format(MESSAGE_UNKNOWN_SEARCH, name));
+        }
+
+        model.deleteSavedSearch(name);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name));
+    }
+
+    @Override
+    public boolean isDataChanging() {
+        return false;
+    }
+
+    @Override
+    public boolean isUserPrefsChanging() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DeleteSearchCommand // instanceof handles nulls
+                && name.equals(((DeleteSearchCommand) other).name)); // state check
+    }
+}
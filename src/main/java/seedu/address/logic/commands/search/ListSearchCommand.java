@@ -0,0 +1,50 @@
+package seedu.address.logic.commands.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.Model;
+
+/**
+ * Lists the names and definitions of all saved searches.
+ */
+public class ListSearchCommand extends SearchCommand {
+
+    public static final String COMMAND_WORD = SearchCommand.COMMAND_WORD + " list";
+
+    public static final String MESSAGE_SUCCESS = "Saved searches:";
+    public static final String MESSAGE_NO_SEARCHES = "There are no saved searches!";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        Map<String, String> savedSearches = model.getSavedSearches();
+        if (savedSearches.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_SEARCHES);
+        }
+
+        StringBuilder builder = new StringBuilder(MESSAGE_SUCCESS);
+        savedSearches.forEach((name, definition) -> builder.append("\n")
+                .append(name)
+                .append(": ")
+                .append(FindCommand.COMMAND_WORD)
+                .append(" ")
+                .append(definition));
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean isDataChanging() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || other instanceof ListSearchCommand; // instanceof handles nulls
+    }
+}
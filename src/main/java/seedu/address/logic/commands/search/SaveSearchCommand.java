@@ -0,0 +1,76 @@
+package seedu.address.logic.commands.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.candidate.query.Query;
+
+/**
+ * Saves a search under a name, so that its candidates can be listed again with {@link ShowSearchCommand}.
+ */
+public class SaveSearchCommand extends SearchCommand {
+
+    public static final String COMMAND_WORD = SearchCommand.COMMAND_WORD + " save";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Saves a search for candidates under a name, so that the candidates it finds can be listed again "
+            + "instantly, even after they change.\n"
+            + "Parameters: NAME FIND_PARAMETERS\n"
+            + "FIND_PARAMETERS are the parameters of " + FindCommand.COMMAND_WORD + ", without ranking.\n"
+            + "Example: " + COMMAND_WORD + " pending-security q/appstatus:pending AND course:\"information security\"";
+
+    public static final String MESSAGE_SUCCESS = "Saved search %1$s: " + FindCommand.COMMAND_WORD + " %2$s";
+    public static final String MESSAGE_DUPLICATE_SEARCH = "A saved search named %1$s already exists!";
+
+    private final String name;
+    private final String definition;
+    private final Query query;
+
+    /**
+     * Creates a SaveSearchCommand to save the search with {@code query} under {@code name}.
+     *
+     * @param definition the arguments of the find command giving {@code query}.
+     */
+    public SaveSearchCommand(String name, String definition, Query query) {
+        requireAllNonNull(name, definition, query);
+
+        this.name = name;
+        this.definition = definition;
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (model.hasSavedSearch(name)) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_SEARCH, name));
+        }
+
+        model.addSavedSearch(name, definition, query.plan(model.getSearchIndex()));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name, definition));
+    }
+
+    @Override
+    public boolean isDataChanging() {
+        return false;
+    }
+
+    @Override
+    public boolean isUserPrefsChanging() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SaveSearchCommand // instanceof handles nulls
+                && name.equals(((SaveSearchCommand) other).name)
+                && definition.equals(((SaveSearchCommand) other).definition)
+                && query.equals(((SaveSearchCommand) other).query)); // state check
+    }
+}
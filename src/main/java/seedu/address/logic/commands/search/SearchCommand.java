@@ -0,0 +1,27 @@
+package seedu.address.logic.commands.search;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.FindCommand;
+
+/**
+ * Represents a command on the saved searches, which are named {@code find} searches whose candidates are kept up
+ * to date as candidates change, so that they can be listed again instantly.
+ */
+public abstract class SearchCommand extends Command {
+    public static final String COMMAND_WORD = "search";
+
+    public static final String MESSAGE_USAGE = "The following formats are supported for " + COMMAND_WORD + ":\n"
+            + COMMAND_WORD + " save NAME FIND_PARAMETERS \n"
+            + COMMAND_WORD + " show NAME \n"
+            + COMMAND_WORD + " delete NAME \n"
+            + COMMAND_WORD + " list\n"
+            + "FIND_PARAMETERS are the parameters of " + FindCommand.COMMAND_WORD + ", without ranking.";
+
+    public static final String NAME_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum}_-]*";
+
+    public static final String MESSAGE_INVALID_NAME =
+            "Names of saved searches should only contain alphanumeric characters, hyphens and underscores, "
+                    + "and should start with an alphanumeric character";
+
+    public static final String MESSAGE_UNKNOWN_SEARCH = "There is no saved search named %1$s!";
+}
@@ -0,0 +1,56 @@
+package seedu.address.logic.commands.search;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Lists the candidates found by a saved search.
+ */
+public class ShowSearchCommand extends SearchCommand {
+
+    public static final String COMMAND_WORD = SearchCommand.COMMAND_WORD + " show";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the candidates found by the saved search with the given name.\n"
+            + "Parameters: NAME\n"
+            + "Example: " + COMMAND_WORD + " pending-security";
+
+    private final String name;
+
+    /**
+     * Creates a ShowSearchCommand to list the candidates of the saved search named {@code name}.
+     */
+    public ShowSearchCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.hasSavedSearch(name)) {
+            throw new CommandException(String.format(MESSAGE_UNKNOWN_SEARCH, name));
+        }
+
+        model.updateFilteredCandidateListToSavedSearch(name);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_CANDIDATES_LISTED_OVERVIEW, model.getFilteredCandidateList().size()));
+    }
+
+    @Override
+    public boolean isDataChanging() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ShowSearchCommand // instanceof handles nulls
+                && name.equals(((ShowSearchCommand) other).name)); // state check
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.logic.commands.simulation;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.SimulationDiff;
+
+/**
+ * Ends the simulation, keeping and saving the changes made during it.
+ */
+public class CommitSimulationCommand extends SimulationCommand {
+
+    public static final String COMMAND_WORD = SimulationCommand.COMMAND_WORD + " commit";
+
+    public static final String MESSAGE_SUCCESS = "Simulation committed:\n%1$s";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.isSimulating()) {
+            throw new CommandException(MESSAGE_NOT_SIMULATING);
+        }
+        SimulationDiff diff = model.getSimulationDiff();
+        model.commitSimulation();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, formatDiff(diff)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || other instanceof CommitSimulationCommand; // instanceof handles nulls
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.logic.commands.simulation;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Lists the changes made since the simulation started, with the interview slots they free.
+ */
+public class DiffSimulationCommand extends SimulationCommand {
+
+    public static final String COMMAND_WORD = SimulationCommand.COMMAND_WORD + " diff";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.isSimulating()) {
+            throw new CommandException(MESSAGE_NOT_SIMULATING);
+        }
+        return new CommandResult(formatDiff(model.getSimulationDiff()));
+    }
+
+    @Override
+    public boolean isDataChanging() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || other instanceof DiffSimulationCommand; // instanceof handles nulls
+    }
+}
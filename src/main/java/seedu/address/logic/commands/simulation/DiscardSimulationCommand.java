@@ -0,0 +1,40 @@
+package seedu.address.logic.commands.simulation;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Ends the simulation, undoing the changes made during it.
+ */
+public class DiscardSimulationCommand extends SimulationCommand {
+
+    public static final String COMMAND_WORD = SimulationCommand.COMMAND_WORD + " discard";
+
+    public static final String MESSAGE_SUCCESS = "Simulation discarded. The candidates and interviews are back to "
+            + "what they were when it started.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.isSimulating()) {
+            throw new CommandException(MESSAGE_NOT_SIMULATING);
+        }
+        model.discardSimulation();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean isDataChanging() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || other instanceof DiscardSimulationCommand; // instanceof handles nulls
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.logic.commands.simulation;
+
+import java.util.List;
+import java.util.function.Function;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.model.SimulationDiff;
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.interview.Interview;
+
+/**
+ * Represents a command on the simulation, during which commands change the candidates and interviews as usual,
+ * but nothing is saved until the changes are committed, and the changes can be reviewed or discarded instead.
+ */
+public abstract class SimulationCommand extends Command {
+    public static final String COMMAND_WORD = "simulate";
+
+    public static final String MESSAGE_USAGE = "The following formats are supported for " + COMMAND_WORD + ":\n"
+            + COMMAND_WORD + " start \n"
+            + COMMAND_WORD + " diff \n"
+            + COMMAND_WORD + " commit \n"
+            + COMMAND_WORD + " discard\n"
+            + "Note: Searches saved or deleted during a simulation are not rolled back when it is discarded, and "
+            + "interviews ending during a simulation are only cleared once it is committed or discarded.";
+
+    public static final String MESSAGE_NOT_SIMULATING = "No simulation is running! Start one with "
+            + COMMAND_WORD + " start.";
+
+    public static final String MESSAGE_NO_CHANGES = "Nothing has changed.";
+
+    /**
+     * Returns {@code diff} as a list of the changes, with the interview slots they free.
+     */
+    protected static String formatDiff(SimulationDiff diff) {
+        if (diff.isEmpty()) {
+            return MESSAGE_NO_CHANGES;
+        }
+
+        StringBuilder builder = new StringBuilder();
+        appendSection(builder, "Interviews scheduled:", diff.getScheduledInterviews(), Interview::toString);
+        if (!diff.getRescheduledInterviews().isEmpty()) {
+            builder.append("\nInterviews rescheduled (frees the earlier slot):");
+            diff.getRescheduledInterviews().forEach((replaced, interview) -> builder.append("\n  ")
+                    .append(replaced)
+                    .append(" -> ")
+                    .append(interview));
+        }
+        appendSection(builder, "Interviews cancelled (frees the slot):", diff.getCancelledInterviews(),
+                Interview::toString);
+        appendSection(builder, "Candidates added:", diff.getAddedCandidates(), SimulationCommand::formatCandidate);
+        appendSection(builder, "Candidates edited:", diff.getEditedCandidates(), SimulationCommand::formatCandidate);
+        appendSection(builder, "Candidates deleted:", diff.getRemovedCandidates(),
+                SimulationCommand::formatCandidate);
+        return builder.substring(1);
+    }
+
+    private static <T> void appendSection(StringBuilder builder, String heading, List<T> changes,
+            Function<T, String> formatter) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        builder.append("\n").append(heading);
+        changes.forEach(change -> builder.append("\n  ").append(formatter.apply(change)));
+    }
+
+    private static String formatCandidate(Candidate candidate) {
+        return candidate.getName() + " " + candidate.getStudentId();
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.logic.commands.simulation;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Starts a simulation. Starting copies none of the candidates and interviews, however many there are.
+ */
+public class StartSimulationCommand extends SimulationCommand {
+
+    public static final String COMMAND_WORD = SimulationCommand.COMMAND_WORD + " start";
+
+    public static final String MESSAGE_SUCCESS = "Simulation started. Changes are not saved until you run "
+            + CommitSimulationCommand.COMMAND_WORD + ", and " + DiscardSimulationCommand.COMMAND_WORD
+            + " undoes them all.";
+    public static final String MESSAGE_ALREADY_SIMULATING = "A simulation is already running!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (model.isSimulating()) {
+            throw new CommandException(MESSAGE_ALREADY_SIMULATING);
+        }
+        model.startSimulation();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean isDataChanging() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || other instanceof StartSimulationCommand; // instanceof handles nulls
+    }
+}
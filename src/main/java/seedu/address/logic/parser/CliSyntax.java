@@ -1,5 +1,7 @@
 package seedu.address.logic.parser;
 
+import java.util.List;
+
 /**
  * Contains Command Line Interface (CLI) syntax definitions common to multiple commands
  */
@@ -14,11 +16,27 @@ public class CliSyntax {
     public static final Prefix PREFIX_SENIORITY = new Prefix("yr/");
     public static final Prefix PREFIX_KEYWORD = new Prefix("k/");
     public static final Prefix PREFIX_FIELD = new Prefix("f/");
+    public static final Prefix PREFIX_QUERY = new Prefix("q/");
+    public static final Prefix PREFIX_TOP = new Prefix("top/");
     public static final Prefix PREFIX_SORTKEY = new Prefix("s/");
     public static final Prefix PREFIX_APPLICATION_STATUS = new Prefix("as/");
     public static final Prefix PREFIX_INTERVIEW_STATUS = new Prefix("is/");
     public static final Prefix PREFIX_AVAILABILITY = new Prefix("avail/");
     public static final Prefix PREFIX_CANDIDATE = new Prefix("candidate/");
     public static final Prefix PREFIX_DATETIME = new Prefix("at/");
+    public static final Prefix PREFIX_DURATION = new Prefix("dur/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_TRACK = new Prefix("track/");
     public static final Prefix PREFIX_REMARK = new Prefix("r/");
+    public static final Prefix PREFIX_MODE = new Prefix("mode/");
+    public static final Prefix PREFIX_OFFSET = new Prefix("by/");
+    public static final Prefix PREFIX_DATE = new Prefix("on/");
+
+    /** All prefixes above, which can be completed as the user types them. */
+    public static final List<Prefix> ALL_PREFIXES = List.of(PREFIX_ID, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_COURSE, PREFIX_SENIORITY, PREFIX_KEYWORD, PREFIX_FIELD, PREFIX_QUERY, PREFIX_TOP, PREFIX_SORTKEY,
+            PREFIX_APPLICATION_STATUS, PREFIX_INTERVIEW_STATUS, PREFIX_AVAILABILITY, PREFIX_CANDIDATE,
+            PREFIX_DATETIME, PREFIX_DURATION, PREFIX_FROM, PREFIX_TO, PREFIX_TRACK, PREFIX_REMARK, PREFIX_MODE,
+            PREFIX_OFFSET, PREFIX_DATE);
 }
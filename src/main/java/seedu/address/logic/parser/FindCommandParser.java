@@ -3,13 +3,19 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FIELD;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_KEYWORD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.candidate.RelevanceScorer;
 import seedu.address.model.candidate.predicate.ApplicationStatusContainsKeywordsPredicate;
 import seedu.address.model.candidate.predicate.AvailabilityContainsKeywordsPredicate;
 import seedu.address.model.candidate.predicate.CandidateContainsKeywordsPredicate;
@@ -22,12 +28,21 @@ import seedu.address.model.candidate.predicate.PhoneContainsKeywordsPredicate;
 import seedu.address.model.candidate.predicate.RemarkContainsKeywordsPredicate;
 import seedu.address.model.candidate.predicate.SeniorityContainsKeywordsPredicate;
 import seedu.address.model.candidate.predicate.StudentIdContainsKeywordsPredicate;
+import seedu.address.model.candidate.query.FieldQuery;
+import seedu.address.model.candidate.query.FuzzyNameQuery;
+import seedu.address.model.candidate.query.PhoneticNameQuery;
+import seedu.address.model.candidate.query.Query;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    /** Field for searching names approximately, tolerating misspellings. */
+    public static final String FUZZY_NAME_FIELD = "name~";
+    /** Field for searching names that sound like the keywords. */
+    public static final String PHONETIC_NAME_FIELD = "phonetic";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a {@code FindCommand} object for execution.
@@ -36,8 +51,46 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_KEYWORD, PREFIX_FIELD);
+        ArgumentMultimap argMultimap = tokenize(args);
+        Query query = parseFilter(argMultimap);
+
+        Optional<String> top = argMultimap.getValue(PREFIX_TOP);
+        if (top.isEmpty()) {
+            return new FindCommand(query);
+        }
+
+        List<String> keywords = argMultimap.getAllValues(PREFIX_KEYWORD);
+        return new FindCommand(query, new RelevanceScorer(findScoredFields(getFieldString(argMultimap)), keywords),
+                parseTop(top.get()));
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindCommand, and returns the
+     * {@code Query} that filters the candidates. Ranked searches are not allowed.
+     * @param args contains the user input to be parsed
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Query parseFilter(String args) throws ParseException {
+        ArgumentMultimap argMultimap = tokenize(args);
+        if (arePrefixesPresent(argMultimap, PREFIX_TOP)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        return parseFilter(argMultimap);
+    }
+
+    private static ArgumentMultimap tokenize(String args) {
+        return ArgumentTokenizer.tokenize(args, PREFIX_KEYWORD, PREFIX_FIELD, PREFIX_QUERY, PREFIX_TOP);
+    }
+
+    /**
+     * Returns the {@code Query} given by either a boolean search query or keywords in a field.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    private static Query parseFilter(ArgumentMultimap argMultimap) throws ParseException {
+        if (arePrefixesPresent(argMultimap, PREFIX_QUERY)) {
+            return parseQuery(argMultimap);
+        }
 
         // throws exception if no keywords are specified
         if (!arePrefixesPresent(argMultimap, PREFIX_KEYWORD)
@@ -45,20 +98,92 @@ public class FindCommandParser implements Parser<FindCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        List<String> keywords = argMultimap.getAllValues(PREFIX_KEYWORD);
+        return findMatchingQuery(getFieldString(argMultimap), argMultimap.getAllValues(PREFIX_KEYWORD));
+    }
+
+    private static String getFieldString(ArgumentMultimap argMultimap) {
         Optional<String> field = argMultimap.getValue(PREFIX_FIELD);
-        ContainsKeywordsPredicate predicate;
-        String fieldString;
+        return field.isEmpty() ? "" : field.get().toLowerCase();
+    }
 
-        if (field.isEmpty()) {
-            fieldString = "";
-        } else {
-            fieldString = field.get().toLowerCase();
+    /**
+     * Parses the maximum number of candidates listed by a ranked search.
+     * @throws ParseException if {@code top} is not a positive integer
+     */
+    private static int parseTop(String top) throws ParseException {
+        String trimmedTop = top.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedTop)) {
+            throw new ParseException(FindCommand.MESSAGE_INVALID_TOP);
         }
+        return Integer.parseInt(trimmedTop);
+    }
 
-        predicate = findMatchingPredicate(fieldString, keywords);
+    /**
+     * Returns the fields scored by a ranked search for keywords in the valid field {@code fieldString}.
+     * Availability is not scored, so all candidates found by their availability are equally relevant.
+     */
+    private static List<RelevanceScorer.Field> findScoredFields(String fieldString) {
+        switch (fieldString) {
+        case "appstatus":
+            return List.of(RelevanceScorer.Field.APPLICATION_STATUS);
+        case "all":
+        case "":
+            return Arrays.asList(RelevanceScorer.Field.values());
+        case "course":
+            return List.of(RelevanceScorer.Field.COURSE);
+        case "email":
+            return List.of(RelevanceScorer.Field.EMAIL);
+        case "intstatus":
+            return List.of(RelevanceScorer.Field.INTERVIEW_STATUS);
+        case "name":
+        case FUZZY_NAME_FIELD:
+        case PHONETIC_NAME_FIELD:
+            return List.of(RelevanceScorer.Field.NAME);
+        case "phone":
+            return List.of(RelevanceScorer.Field.PHONE);
+        case "remark":
+            return List.of(RelevanceScorer.Field.REMARK);
+        case "seniority":
+            return List.of(RelevanceScorer.Field.SENIORITY);
+        case "studentid":
+            return List.of(RelevanceScorer.Field.STUDENT_ID);
+        default:
+            return Collections.emptyList();
+        }
+    }
 
-        return new FindCommand(predicate);
+    /**
+     * Parses the boolean search query given with {@code PREFIX_QUERY}, which cannot be combined with keywords
+     * or fields given with other prefixes.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    private static Query parseQuery(ArgumentMultimap argMultimap) throws ParseException {
+        if (arePrefixesPresent(argMultimap, PREFIX_KEYWORD) || arePrefixesPresent(argMultimap, PREFIX_FIELD)
+                || arePrefixesPresent(argMultimap, PREFIX_TOP) || !argMultimap.getPreamble().isEmpty()
+                || argMultimap.getAllValues(PREFIX_QUERY).size() > 1) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        return QueryParser.parseQuery(argMultimap.getValue(PREFIX_QUERY).get());
+    }
+
+    /**
+     * Returns the matching new {@link Query} based on the field input by the user, which is a
+     * {@link FuzzyNameQuery} for {@code FUZZY_NAME_FIELD}, a {@link PhoneticNameQuery} for
+     * {@code PHONETIC_NAME_FIELD} and wraps a {@link ContainsKeywordsPredicate} otherwise.
+     * @param fieldString provides the field specified in user input as a string
+     * @param keywords provides the list of keywords to search for
+     * @return new created matching Query object
+     * @throws ParseException if the user input for {@code fieldString} not conform the expected format
+     */
+    static Query findMatchingQuery(String fieldString, List<String> keywords) throws ParseException {
+        if (fieldString.equals(FUZZY_NAME_FIELD)) {
+            return new FuzzyNameQuery(keywords);
+        }
+        if (fieldString.equals(PHONETIC_NAME_FIELD)) {
+            return new PhoneticNameQuery(keywords);
+        }
+        return new FieldQuery(findMatchingPredicate(fieldString, keywords));
     }
 
     /**
@@ -68,7 +193,7 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @return new created matching ContainsKeywordsPredicate subclass object
      * @throws ParseException if the user input for {@code fieldString} not conform the expected format
      */
-    private ContainsKeywordsPredicate findMatchingPredicate(String fieldString, List<String> keywords)
+    static ContainsKeywordsPredicate findMatchingPredicate(String fieldString, List<String> keywords)
             throws ParseException {
         switch (fieldString) {
         case "appstatus":
@@ -9,6 +9,9 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
@@ -24,6 +27,7 @@ import seedu.address.model.candidate.Phone;
 import seedu.address.model.candidate.Seniority;
 import seedu.address.model.candidate.StudentId;
 import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Track;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -199,6 +203,58 @@ public class ParserUtil {
         return new Availability(trimmedAvailability);
     }
 
+    /**
+     * Parses a {@code String duration} of whole minutes into an interview duration.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code duration} is not a valid interview duration.
+     */
+    public static int parseDuration(String duration) throws ParseException {
+        requireNonNull(duration);
+        String trimmedDuration = duration.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedDuration)
+                || !Interview.isValidDuration(Integer.parseInt(trimmedDuration))) {
+            throw new ParseException(Interview.MESSAGE_DURATION_CONSTRAINTS);
+        }
+        return Integer.parseInt(trimmedDuration);
+    }
+
+    /**
+     * Parses a {@code String track} into a {@code Track}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code track} is invalid.
+     */
+    public static Track parseTrack(String track) throws ParseException {
+        requireNonNull(track);
+        String trimmedTrack = track.trim();
+        if (!Track.isValidTrack(trimmedTrack)) {
+            throw new ParseException(Track.MESSAGE_CONSTRAINTS);
+        }
+        return new Track(trimmedTrack);
+    }
+
+    /**
+     * Parses {@code Collection<String> tracks} into a {@code List<Track>} without duplicates, in the given order.
+     * Returns a list of only the default track if {@code tracks} is empty.
+     *
+     * @throws ParseException if any of the given {@code tracks} is invalid.
+     */
+    public static List<Track> parseTracks(Collection<String> tracks) throws ParseException {
+        requireNonNull(tracks);
+        if (tracks.isEmpty()) {
+            return List.of(Track.DEFAULT);
+        }
+        List<Track> trackList = new ArrayList<>();
+        for (String trackName : tracks) {
+            Track track = parseTrack(trackName);
+            if (!trackList.contains(track)) {
+                trackList.add(track);
+            }
+        }
+        return trackList;
+    }
+
     /**
      * Parses a {@code String dateTime} into a {@code LocalDateTime}.
      *
@@ -0,0 +1,214 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.candidate.Seniority;
+import seedu.address.model.candidate.query.AndQuery;
+import seedu.address.model.candidate.query.NotQuery;
+import seedu.address.model.candidate.query.OrQuery;
+import seedu.address.model.candidate.query.Query;
+import seedu.address.model.candidate.query.SeniorityRangeQuery;
+
+/**
+ * Parses a boolean search query into a {@code Query}.
+ * A query is made up of terms of the form {@code FIELD:KEYWORD}, or {@code KEYWORD} to search all fields,
+ * combined with the operators {@code NOT}, {@code AND} and {@code OR} (in decreasing order of precedence) and
+ * grouped with parentheses. Adjacent terms without an operator between them are combined with {@code AND}.
+ * Keywords containing spaces are enclosed in double quotes, and {@code seniority:MIN..MAX} matches a range of
+ * seniorities, either bound of which may be left out.
+ */
+public class QueryParser {
+
+    public static final String MESSAGE_INVALID_QUERY = "Invalid search query: %1$s";
+
+    private static final String OPERATOR_AND = "AND";
+    private static final String OPERATOR_OR = "OR";
+    private static final String OPERATOR_NOT = "NOT";
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+    private static final String FIELD_SEPARATOR = ":";
+    private static final String RANGE_SEPARATOR = "..";
+    private static final String QUOTE = "\"";
+    private static final String SENIORITY_FIELD = "seniority";
+    private static final int MIN_SENIORITY = 1;
+    private static final int MAX_SENIORITY = 4;
+
+    private final List<String> tokens;
+    private int position;
+
+    private QueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses {@code query} into a {@code Query}.
+     *
+     * @throws ParseException if {@code query} is not a valid search query.
+     */
+    public static Query parseQuery(String query) throws ParseException {
+        requireNonNull(query);
+
+        QueryParser parser = new QueryParser(tokenize(query));
+        Query parsedQuery = parser.parseOr();
+        if (parser.hasNext()) {
+            throw invalidQuery("unexpected '" + parser.peek() + "'");
+        }
+        return parsedQuery;
+    }
+
+    /**
+     * Splits {@code query} into parentheses and whitespace-separated words, keeping quoted keywords whole.
+     */
+    private static List<String> tokenize(String query) throws ParseException {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else {
+                int start = i;
+                while (i < query.length() && !Character.isWhitespace(query.charAt(i))
+                        && query.charAt(i) != '(' && query.charAt(i) != ')') {
+                    if (query.charAt(i) == '"') {
+                        i = query.indexOf('"', i + 1);
+                        if (i < 0) {
+                            throw invalidQuery("missing closing quote");
+                        }
+                    }
+                    i++;
+                }
+                tokens.add(query.substring(start, i));
+            }
+        }
+        return tokens;
+    }
+
+    private Query parseOr() throws ParseException {
+        List<Query> clauses = new ArrayList<>();
+        clauses.add(parseAnd());
+        while (accept(OPERATOR_OR)) {
+            clauses.add(parseAnd());
+        }
+        return clauses.size() == 1 ? clauses.get(0) : new OrQuery(clauses);
+    }
+
+    private Query parseAnd() throws ParseException {
+        List<Query> clauses = new ArrayList<>();
+        clauses.add(parseNot());
+        while (hasNext() && !peek().equals(OPERATOR_OR) && !peek().equals(CLOSE_PARENTHESIS)) {
+            accept(OPERATOR_AND);
+            clauses.add(parseNot());
+        }
+        return clauses.size() == 1 ? clauses.get(0) : new AndQuery(clauses);
+    }
+
+    private Query parseNot() throws ParseException {
+        if (accept(OPERATOR_NOT)) {
+            return new NotQuery(parseNot());
+        }
+        return parsePrimary();
+    }
+
+    private Query parsePrimary() throws ParseException {
+        if (!hasNext()) {
+            throw invalidQuery("expected a search term at the end of the query");
+        }
+
+        if (accept(OPEN_PARENTHESIS)) {
+            Query query = parseOr();
+            if (!accept(CLOSE_PARENTHESIS)) {
+                throw invalidQuery("missing ')'");
+            }
+            return query;
+        }
+
+        String token = tokens.get(position++);
+        if (token.equals(CLOSE_PARENTHESIS) || token.equals(OPERATOR_AND) || token.equals(OPERATOR_OR)) {
+            throw invalidQuery("expected a search term but found '" + token + "'");
+        }
+        return parseTerm(token);
+    }
+
+    /**
+     * Parses a single {@code FIELD:KEYWORD} or {@code KEYWORD} term.
+     */
+    private static Query parseTerm(String term) throws ParseException {
+        int separatorIndex = term.startsWith(QUOTE) ? -1 : term.indexOf(FIELD_SEPARATOR);
+        String field = separatorIndex < 0 ? "" : term.substring(0, separatorIndex).toLowerCase();
+        String keyword = term.substring(separatorIndex + 1).replace(QUOTE, "");
+
+        if (keyword.isEmpty()) {
+            throw invalidQuery("missing keyword in '" + term + "'");
+        }
+        if (field.equals(SENIORITY_FIELD) && keyword.contains(RANGE_SEPARATOR)) {
+            return parseSeniorityRange(keyword);
+        }
+        return FindCommandParser.findMatchingQuery(field, Collections.singletonList(keyword));
+    }
+
+    /**
+     * Parses a seniority range of the form {@code MIN..MAX}, {@code MIN..} or {@code ..MAX}.
+     */
+    private static Query parseSeniorityRange(String range) throws ParseException {
+        int separatorIndex = range.indexOf(RANGE_SEPARATOR);
+        String lowerBound = range.substring(0, separatorIndex);
+        String upperBound = range.substring(separatorIndex + RANGE_SEPARATOR.length());
+
+        int min = lowerBound.isEmpty() ? MIN_SENIORITY : parseSeniority(lowerBound);
+        int max = upperBound.isEmpty() ? MAX_SENIORITY : parseSeniority(upperBound);
+        if (min > max) {
+            throw invalidQuery(SeniorityRangeQuery.MESSAGE_CONSTRAINTS);
+        }
+        return new SeniorityRangeQuery(min, max);
+    }
+
+    /**
+     * Parses a bound of a seniority range. The bound is checked as a number, since the validation regex of
+     * {@code Seniority} also accepts some characters which are not digits.
+     */
+    private static int parseSeniority(String seniority) throws ParseException {
+        if (!StringUtil.isNonZeroUnsignedInteger(seniority)) {
+            throw invalidQuery(Seniority.MESSAGE_CONSTRAINTS);
+        }
+        int value = Integer.parseInt(seniority);
+        if (value < MIN_SENIORITY || value > MAX_SENIORITY) {
+            throw invalidQuery(Seniority.MESSAGE_CONSTRAINTS);
+        }
+        return value;
+    }
+
+    private boolean hasNext() {
+        return position < tokens.size();
+    }
+
+    private String peek() {
+        return tokens.get(position);
+    }
+
+    /**
+     * Consumes the next token if it is {@code expected}.
+     *
+     * @return true if the token was consumed.
+     */
+    private boolean accept(String expected) {
+        if (hasNext() && peek().equals(expected)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private static ParseException invalidQuery(String reason) {
+        return new ParseException(String.format(MESSAGE_INVALID_QUERY, reason));
+    }
+}
@@ -9,8 +9,12 @@ import seedu.address.logic.commands.schedule.ClearScheduleCommand;
 import seedu.address.logic.commands.schedule.ScheduleCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.schedule.AddScheduleCommandParser;
+import seedu.address.logic.parser.schedule.AutoScheduleCommandParser;
 import seedu.address.logic.parser.schedule.DeleteScheduleCommandParser;
 import seedu.address.logic.parser.schedule.EditScheduleCommandParser;
+import seedu.address.logic.parser.schedule.ExportScheduleCommandParser;
+import seedu.address.logic.parser.schedule.ShiftScheduleCommandParser;
+import seedu.address.logic.parser.schedule.SuggestScheduleCommandParser;
 
 /**
  * Parses input arguments and creates a new DeleteCommand object
@@ -39,6 +43,14 @@ public class ScheduleCommandParser implements Parser<ScheduleCommand> {
             return new DeleteScheduleCommandParser().parse(arguments);
         case "clear":
             return new ClearScheduleCommand();
+        case "auto":
+            return new AutoScheduleCommandParser().parse(arguments);
+        case "suggest":
+            return new SuggestScheduleCommandParser().parse(arguments);
+        case "export":
+            return new ExportScheduleCommandParser().parse(arguments);
+        case "shift":
+            return new ShiftScheduleCommandParser().parse(arguments);
         default:
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
         }
@@ -0,0 +1,86 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.search.DeleteSearchCommand;
+import seedu.address.logic.commands.search.ListSearchCommand;
+import seedu.address.logic.commands.search.SaveSearchCommand;
+import seedu.address.logic.commands.search.SearchCommand;
+import seedu.address.logic.commands.search.ShowSearchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.candidate.query.Query;
+
+/**
+ * Parses input arguments and creates a new SearchCommand object
+ */
+public class SearchCommandParser implements Parser<SearchCommand> {
+    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private static final Pattern SAVE_ARGUMENTS_FORMAT = Pattern.compile("(?<name>\\S+)(?<definition>.*)");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchCommand
+     * and returns a SearchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SearchCommand parse(String args) throws ParseException {
+        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+
+        final String searchCommandWord = matcher.group("commandWord");
+        final String arguments = matcher.group("arguments").trim();
+        switch (searchCommandWord) {
+        case "save":
+            return parseSave(arguments);
+        case "show":
+            return new ShowSearchCommand(parseName(arguments, ShowSearchCommand.MESSAGE_USAGE));
+        case "delete":
+            return new DeleteSearchCommand(parseName(arguments, DeleteSearchCommand.MESSAGE_USAGE));
+        case "list":
+            return new ListSearchCommand();
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+    }
+
+    /**
+     * Parses the name and the find arguments defining a search to save.
+     * @throws ParseException if the name is invalid or the find arguments do not give a search without ranking
+     */
+    private static SaveSearchCommand parseSave(String arguments) throws ParseException {
+        final Matcher matcher = SAVE_ARGUMENTS_FORMAT.matcher(arguments);
+        if (!matcher.matches() || matcher.group("definition").isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveSearchCommand.MESSAGE_USAGE));
+        }
+
+        String name = parseName(matcher.group("name"), SaveSearchCommand.MESSAGE_USAGE);
+        String definition = matcher.group("definition").trim();
+        return new SaveSearchCommand(name, definition, parseDefinition(definition));
+    }
+
+    /**
+     * Parses the find arguments {@code definition} of a saved search into the query it searches with.
+     * @throws ParseException if {@code definition} does not give a search without ranking
+     */
+    public static Query parseDefinition(String definition) throws ParseException {
+        return new FindCommandParser().parseFilter(" " + definition);
+    }
+
+    /**
+     * Parses the name of a saved search.
+     * @throws ParseException if {@code name} is missing or invalid
+     */
+    private static String parseName(String name, String messageUsage) throws ParseException {
+        if (name.isEmpty() || name.matches(".*\\s.*")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+        }
+        if (!name.matches(SearchCommand.NAME_VALIDATION_REGEX)) {
+            throw new ParseException(SearchCommand.MESSAGE_INVALID_NAME);
+        }
+        return name;
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.simulation.CommitSimulationCommand;
+import seedu.address.logic.commands.simulation.DiffSimulationCommand;
+import seedu.address.logic.commands.simulation.DiscardSimulationCommand;
+import seedu.address.logic.commands.simulation.SimulationCommand;
+import seedu.address.logic.commands.simulation.StartSimulationCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SimulationCommand object
+ */
+public class SimulationCommandParser implements Parser<SimulationCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SimulationCommand
+     * and returns a SimulationCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SimulationCommand parse(String args) throws ParseException {
+        switch (args.trim()) {
+        case "start":
+            return new StartSimulationCommand();
+        case "diff":
+            return new DiffSimulationCommand();
+        case "commit":
+            return new CommitSimulationCommand();
+        case "discard":
+            return new DiscardSimulationCommand();
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SimulationCommand.MESSAGE_USAGE));
+        }
+    }
+}
@@ -3,18 +3,25 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SORTKEY;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.CandidateSortOrder;
+import seedu.address.model.candidate.CandidateSortOrder.SortKey;
 
 /**
  * Parses input arguments and creates a new SortCommand object
  */
 public class SortCommandParser implements Parser<SortCommand> {
 
+    /** Suffix of a sort key sorted in descending order. */
+    public static final String DESCENDING_SUFFIX = "-";
+
     /**
      * Parses the given {@code String} of arguments in the context of the SortCommand
      * and returns a {@code SortCommand} object for execution.
@@ -32,38 +39,36 @@ public class SortCommandParser implements Parser<SortCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
         }
 
-        String sortKey = argMultimap.getValue(PREFIX_SORTKEY).get().toLowerCase();
-        Comparator<Candidate> sortComparator = findMatchingComparator(sortKey);
+        List<SortKey> sortKeys = new ArrayList<>();
+        Set<CandidateSortOrder.Field> sortedFields = EnumSet.noneOf(CandidateSortOrder.Field.class);
+        for (String sortKeyString : argMultimap.getAllValues(PREFIX_SORTKEY)) {
+            SortKey sortKey = findMatchingSortKey(sortKeyString.toLowerCase());
+            if (!sortedFields.add(sortKey.getField())) {
+                throw new ParseException(SortCommand.MESSAGE_DUPLICATE_SORT_KEY);
+            }
+            sortKeys.add(sortKey);
+        }
 
-        return new SortCommand(sortComparator, sortKey);
+        CandidateSortOrder sortOrder = new CandidateSortOrder(sortKeys);
+        return new SortCommand(sortOrder, sortOrder.toString());
     }
 
     /**
-     * Returns the matching new {@code Comparator<Candidate>} object based on the field input by the user to be
-     * sorted by.
+     * Returns the matching new {@code SortKey} based on the field input by the user to be sorted by, which is
+     * sorted in descending order if it ends with {@code DESCENDING_SUFFIX}.
      * @param sortKey provides the field specified in user input as a string
-     * @return new created matching {@code Comparator<Candidate>} object
+     * @return new created matching {@code SortKey} object
      * @throws ParseException if the user input for {@code sortKey} not conform the expected format
      */
-    private Comparator<Candidate> findMatchingComparator(String sortKey)
-            throws ParseException {
-        switch (sortKey) {
-        case "appstatus":
-            return Comparator.comparing(l -> l.getApplicationStatus().toString().toLowerCase());
-        case "course":
-            return Comparator.comparing(l -> l.getCourse().toString().toLowerCase());
-        case "intstatus":
-            return Comparator.comparing(l -> l.getInterviewStatus().toString().toLowerCase());
-        case "name":
-            return Comparator.comparing(l -> l.getName().toString().toLowerCase());
-        case "seniority":
-            return Comparator.comparing(l -> l.getSeniority().toString().toLowerCase());
-        case "studentid":
-            return Comparator.comparing(l -> l.getStudentId().toString().toLowerCase());
-        default:
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.INVALID_ATTRIBUTE_FIELD));
+    private static SortKey findMatchingSortKey(String sortKey) throws ParseException {
+        boolean isAscending = !sortKey.endsWith(DESCENDING_SUFFIX);
+        String fieldString = isAscending ? sortKey : sortKey.substring(0, sortKey.length() - 1);
+        for (CandidateSortOrder.Field field : CandidateSortOrder.Field.values()) {
+            if (field.getKeyword().equals(fieldString)) {
+                return new SortKey(field, isAscending);
+            }
         }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.INVALID_ATTRIBUTE_FIELD));
     }
 
     /**
@@ -3,6 +3,8 @@ package seedu.address.logic.parser.schedule;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRACK;
 
 import java.time.LocalDateTime;
 import java.util.stream.Stream;
@@ -15,6 +17,8 @@ import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Track;
 
 /**
  * Parses input arguments and creates a new AddScheduleCommand object
@@ -28,14 +32,22 @@ public class AddScheduleCommandParser implements Parser<AddScheduleCommand> {
      */
     public AddScheduleCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_CANDIDATE, PREFIX_DATETIME);
+                ArgumentTokenizer.tokenize(args, PREFIX_CANDIDATE, PREFIX_DATETIME, PREFIX_DURATION, PREFIX_TRACK);
         if (!arePrefixesPresent(argMultimap, PREFIX_CANDIDATE, PREFIX_DATETIME)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddScheduleCommand.MESSAGE_USAGE));
         }
         Index index = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_CANDIDATE).get());
         final LocalDateTime interviewSlot = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_DATETIME).get());
-        return new AddScheduleCommand(index, interviewSlot);
+        Track track = Track.DEFAULT;
+        if (argMultimap.getValue(PREFIX_TRACK).isPresent()) {
+            track = ParserUtil.parseTrack(argMultimap.getValue(PREFIX_TRACK).get());
+        }
+        int durationInMinutes = Interview.DEFAULT_DURATION_IN_MINUTES;
+        if (argMultimap.getValue(PREFIX_DURATION).isPresent()) {
+            durationInMinutes = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+        }
+        return new AddScheduleCommand(index, interviewSlot, track, durationInMinutes);
     }
 
     private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
@@ -0,0 +1,50 @@
+package seedu.address.logic.parser.schedule;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRACK;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.address.logic.commands.schedule.AutoScheduleCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Track;
+
+/**
+ * Parses input arguments and creates a new AutoScheduleCommand object
+ */
+public class AutoScheduleCommandParser implements Parser<AutoScheduleCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AutoScheduleCommand
+     * and returns an AutoScheduleCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AutoScheduleCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO, PREFIX_DURATION,
+                PREFIX_TRACK);
+        if (argMultimap.getValue(PREFIX_FROM).isEmpty() || argMultimap.getValue(PREFIX_TO).isEmpty()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AutoScheduleCommand.MESSAGE_USAGE));
+        }
+        LocalDateTime earliestStart = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_FROM).get());
+        LocalDateTime latestStart = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_TO).get());
+        if (earliestStart.isAfter(latestStart)) {
+            throw new ParseException(AutoScheduleCommand.MESSAGE_INVALID_RANGE);
+        }
+        int durationInMinutes = Interview.DEFAULT_DURATION_IN_MINUTES;
+        if (argMultimap.getValue(PREFIX_DURATION).isPresent()) {
+            durationInMinutes = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+        }
+        List<Track> tracks = ParserUtil.parseTracks(argMultimap.getAllValues(PREFIX_TRACK));
+        return new AutoScheduleCommand(earliestStart, latestStart, tracks, durationInMinutes);
+    }
+}
@@ -3,8 +3,10 @@ package seedu.address.logic.parser.schedule;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.schedule.EditScheduleCommand;
@@ -26,7 +28,7 @@ public class EditScheduleCommandParser implements Parser<EditScheduleCommand> {
      */
     public EditScheduleCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATETIME);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATETIME, PREFIX_DURATION);
         Index index;
 
         try {
@@ -35,10 +37,17 @@ public class EditScheduleCommandParser implements Parser<EditScheduleCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     EditScheduleCommand.MESSAGE_USAGE), pe);
         }
-        if (!argMultimap.getValue(PREFIX_DATETIME).isPresent()) {
+        if (!argMultimap.getValue(PREFIX_DATETIME).isPresent() && !argMultimap.getValue(PREFIX_DURATION).isPresent()) {
             throw new ParseException(EditScheduleCommand.MESSAGE_NOT_EDITED);
         }
-        LocalDateTime newDateTime = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_DATETIME).get());
-        return new EditScheduleCommand(index, newDateTime);
+        Optional<LocalDateTime> newDateTime = Optional.empty();
+        if (argMultimap.getValue(PREFIX_DATETIME).isPresent()) {
+            newDateTime = Optional.of(ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_DATETIME).get()));
+        }
+        Optional<Integer> newDurationInMinutes = Optional.empty();
+        if (argMultimap.getValue(PREFIX_DURATION).isPresent()) {
+            newDurationInMinutes = Optional.of(ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get()));
+        }
+        return new EditScheduleCommand(index, newDateTime, newDurationInMinutes);
     }
 }
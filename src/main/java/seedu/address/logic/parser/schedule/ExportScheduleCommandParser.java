@@ -0,0 +1,49 @@
+package seedu.address.logic.parser.schedule;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.schedule.ExportScheduleCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportScheduleCommand object
+ */
+public class ExportScheduleCommandParser implements Parser<ExportScheduleCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportScheduleCommand
+     * and returns an ExportScheduleCommand object for execution. The file path, if given, must end in
+     * {@link ExportScheduleCommand#FILE_EXTENSION}.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportScheduleCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MODE);
+
+        Optional<Path> filePath = Optional.empty();
+        String preamble = argMultimap.getPreamble().trim();
+        if (!preamble.isEmpty()) {
+            if (!FileUtil.isValidPath(preamble)) {
+                throw new ParseException(ExportScheduleCommand.MESSAGE_INVALID_FILE_PATH);
+            }
+            // the extension keeps the export from overwriting the data and preferences files, which are json
+            if (!preamble.toLowerCase().endsWith(ExportScheduleCommand.FILE_EXTENSION)) {
+                throw new ParseException(ExportScheduleCommand.MESSAGE_INVALID_FILE_EXTENSION);
+            }
+            filePath = Optional.of(Paths.get(preamble));
+        }
+
+        String mode = argMultimap.getValue(PREFIX_MODE).orElse(ExportScheduleCommand.MODE_ALL).trim().toLowerCase();
+        if (!mode.equals(ExportScheduleCommand.MODE_ALL) && !mode.equals(ExportScheduleCommand.MODE_CHANGED)) {
+            throw new ParseException(ExportScheduleCommand.MESSAGE_INVALID_MODE);
+        }
+        return new ExportScheduleCommand(filePath, mode.equals(ExportScheduleCommand.MODE_CHANGED));
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.logic.parser.schedule;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OFFSET;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRACK;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.schedule.ShiftScheduleCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.interview.Track;
+
+/**
+ * Parses input arguments and creates a new ShiftScheduleCommand object
+ */
+public class ShiftScheduleCommandParser implements Parser<ShiftScheduleCommand> {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu")
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ShiftScheduleCommand
+     * and returns a ShiftScheduleCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ShiftScheduleCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO, PREFIX_OFFSET,
+                PREFIX_DATE, PREFIX_TRACK);
+        if (argMultimap.getValue(PREFIX_FROM).isEmpty() || argMultimap.getValue(PREFIX_TO).isEmpty()
+                || argMultimap.getValue(PREFIX_OFFSET).isPresent() == argMultimap.getValue(PREFIX_DATE).isPresent()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShiftScheduleCommand.MESSAGE_USAGE));
+        }
+        LocalDateTime earliestStart = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_FROM).get());
+        LocalDateTime latestStart = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_TO).get());
+        if (earliestStart.isAfter(latestStart)) {
+            throw new ParseException(ShiftScheduleCommand.MESSAGE_INVALID_RANGE);
+        }
+
+        Optional<Integer> offsetInMinutes = Optional.empty();
+        if (argMultimap.getValue(PREFIX_OFFSET).isPresent()) {
+            offsetInMinutes = Optional.of(parseOffset(argMultimap.getValue(PREFIX_OFFSET).get()));
+        }
+        Optional<LocalDate> newDate = Optional.empty();
+        if (argMultimap.getValue(PREFIX_DATE).isPresent()) {
+            newDate = Optional.of(parseDate(argMultimap.getValue(PREFIX_DATE).get()));
+        }
+
+        List<String> trackNames = argMultimap.getAllValues(PREFIX_TRACK);
+        List<Track> tracks = trackNames.isEmpty() ? List.of() : ParserUtil.parseTracks(trackNames);
+        return new ShiftScheduleCommand(earliestStart, latestStart, offsetInMinutes, newDate, tracks);
+    }
+
+    /**
+     * Parses a non-zero whole number of minutes, which may be negative.
+     * @throws ParseException if {@code offset} is not a non-zero whole number
+     */
+    private static int parseOffset(String offset) throws ParseException {
+        try {
+            int offsetInMinutes = Integer.parseInt(offset.trim());
+            if (offsetInMinutes != 0) {
+                return offsetInMinutes;
+            }
+        } catch (NumberFormatException nfe) {
+            // handled below
+        }
+        throw new ParseException(ShiftScheduleCommand.MESSAGE_INVALID_OFFSET);
+    }
+
+    /**
+     * Parses a date in dd-MM-yyyy format.
+     * @throws ParseException if {@code date} is invalid or not in the format
+     */
+    private static LocalDate parseDate(String date) throws ParseException {
+        try {
+            return LocalDate.parse(date.trim(), DATE_FORMATTER);
+        } catch (DateTimeParseException dtpe) {
+            throw new ParseException(ShiftScheduleCommand.MESSAGE_INVALID_FORMAT_DATE);
+        }
+    }
+}
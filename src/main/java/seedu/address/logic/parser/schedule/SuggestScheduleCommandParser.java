@@ -0,0 +1,64 @@
+package seedu.address.logic.parser.schedule;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRACK;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.schedule.SuggestScheduleCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Track;
+
+/**
+ * Parses input arguments and creates a new SuggestScheduleCommand object
+ */
+public class SuggestScheduleCommandParser implements Parser<SuggestScheduleCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SuggestScheduleCommand
+     * and returns a SuggestScheduleCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SuggestScheduleCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CANDIDATE, PREFIX_DATETIME, PREFIX_TOP,
+                PREFIX_DURATION, PREFIX_TRACK);
+        if (argMultimap.getValue(PREFIX_CANDIDATE).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    SuggestScheduleCommand.MESSAGE_USAGE));
+        }
+        Index index = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_CANDIDATE).get());
+
+        Optional<LocalDateTime> earliestStart = Optional.empty();
+        if (argMultimap.getValue(PREFIX_DATETIME).isPresent()) {
+            earliestStart = Optional.of(ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_DATETIME).get()));
+        }
+
+        int suggestionCount = SuggestScheduleCommand.DEFAULT_SUGGESTION_COUNT;
+        if (argMultimap.getValue(PREFIX_TOP).isPresent()) {
+            String top = argMultimap.getValue(PREFIX_TOP).get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(top)) {
+                throw new ParseException(SuggestScheduleCommand.MESSAGE_INVALID_SUGGESTION_COUNT);
+            }
+            suggestionCount = Integer.parseInt(top);
+        }
+        int durationInMinutes = Interview.DEFAULT_DURATION_IN_MINUTES;
+        if (argMultimap.getValue(PREFIX_DURATION).isPresent()) {
+            durationInMinutes = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+        }
+        List<Track> tracks = ParserUtil.parseTracks(argMultimap.getAllValues(PREFIX_TRACK));
+        return new SuggestScheduleCommand(index, earliestStart, suggestionCount, tracks, durationInMinutes);
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Comparator;
 import java.util.List;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChangeJournal;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.candidate.Candidate;
 import seedu.address.model.candidate.UniqueCandidateList;
@@ -102,6 +103,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         candidates.setCandidate(target, editedCandidate);
     }
 
+    /**
+     * Replaces every candidate of {@code targets} with the candidate at the same position in
+     * {@code editedCandidates}, all at once.
+     */
+    public void setCandidates(List<Candidate> targets, List<Candidate> editedCandidates) throws CommandException {
+        candidates.setCandidates(targets, editedCandidates);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
@@ -110,6 +119,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         candidates.remove(key);
     }
 
+    /**
+     * Starts recording the changes to the candidates, which the returned journal can list or undo.
+     */
+    public ListChangeJournal<Candidate> startJournal() {
+        return candidates.startJournal();
+    }
+
     //// util methods
 
     @Override
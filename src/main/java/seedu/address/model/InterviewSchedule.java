@@ -6,18 +6,26 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChangeJournal;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.candidate.Candidate;
 import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.InterviewExpiryQueue;
+import seedu.address.model.interview.InterviewTimeIndex;
 import seedu.address.model.interview.UniqueInterviewList;
 
 public class InterviewSchedule implements ReadOnlyInterviewSchedule {
     private final UniqueInterviewList interviews;
+    private final InterviewTimeIndex timeIndex;
+    private final InterviewExpiryQueue expiryQueue;
 
     {
         interviews = new UniqueInterviewList();
+        timeIndex = new InterviewTimeIndex(interviews.asUnmodifiableObservableList());
+        expiryQueue = new InterviewExpiryQueue(interviews.asUnmodifiableObservableList());
     }
 
     public InterviewSchedule() {
@@ -49,10 +57,23 @@ public class InterviewSchedule implements ReadOnlyInterviewSchedule {
         List<Interview> interviewsCopy = new ArrayList<Interview>(this.getInterviewList());
         Comparator<Interview> comparatorDateTime =
                 Comparator.comparing(l -> l.getInterviewDateTime());
+        if (isSorted(interviewsCopy, comparatorDateTime)) {
+            // leaves a sorted list untouched, so that its listeners and filtered views are not updated again
+            return;
+        }
         interviewsCopy.sort(comparatorDateTime);
         this.setInterviews(interviewsCopy);
     }
 
+    private static boolean isSorted(List<Interview> interviews, Comparator<Interview> comparator) {
+        for (int i = 1; i < interviews.size(); i++) {
+            if (comparator.compare(interviews.get(i - 1), interviews.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Resets the existing data of this {@code InterviewSchedule} with {@code newData}.
      */
@@ -78,6 +99,14 @@ public class InterviewSchedule implements ReadOnlyInterviewSchedule {
         return interviews.containsConflictingInterview(interview);
     }
 
+    /**
+     * Returns the interviews starting from {@code from}, inclusive, up to {@code to}, exclusive, earliest first.
+     * The interviews are looked up by their starts, without testing every interview in the schedule.
+     */
+    public List<Interview> interviewsBetween(LocalDateTime from, LocalDateTime to) {
+        return timeIndex.interviewsBetween(from, to);
+    }
+
     /**
      * Adds an interview to the interview schedule.
      * The interview must not already exist in the interview schedule.
@@ -85,6 +114,14 @@ public class InterviewSchedule implements ReadOnlyInterviewSchedule {
     public void addInterview(Interview interview) {
         interviews.add(interview);
     }
+
+    /**
+     * Adds all of {@code interviews} to the interview schedule at once.
+     * No interview may have the same candidate as, or conflict with, any other interview in the schedule.
+     */
+    public void addInterviews(List<Interview> interviews) {
+        this.interviews.addAll(interviews);
+    }
     /**
      * Sets the target interview to the new editedInterview.
      */
@@ -95,18 +132,20 @@ public class InterviewSchedule implements ReadOnlyInterviewSchedule {
     }
 
     /**
-     * Deletes past interviews from the list if the scheduled interview time is 31 minutes ago.
+     * Replaces every interview of {@code targets} with the interview at the same position in
+     * {@code editedInterviews}, all at once. No edited interview may conflict with another interview.
+     */
+    public void setInterviews(List<Interview> targets, List<Interview> editedInterviews) throws CommandException {
+        interviews.setInterviews(targets, editedInterviews);
+    }
+
+    /**
+     * Deletes past interviews from the list if the interview ended by the current date time.
+     * Only the expired interviews are visited, in the order they ended.
      * @param currentDateTime Current date time.
      */
     public List<Interview> deletePastInterviews(LocalDateTime currentDateTime) {
-        LocalDateTime currentDateTimeMinusThirty = currentDateTime.minusMinutes(30);
-
-        List<Interview> list = new ArrayList<>();
-        for (Interview i: getInterviewList()) {
-            if (i.getInterviewDateTime().isBefore(currentDateTimeMinusThirty)) {
-                list.add(i);
-            }
-        }
+        List<Interview> list = expiryQueue.pollExpired(currentDateTime);
         for (Interview i: list) {
             removeInterview(i);
         }
@@ -114,6 +153,13 @@ public class InterviewSchedule implements ReadOnlyInterviewSchedule {
         return list;
     }
 
+    /**
+     * Returns the date time the next interview in the list ends, or an empty optional if the list is empty.
+     */
+    public Optional<LocalDateTime> getNextInterviewExpiry() {
+        return expiryQueue.nextExpiry();
+    }
+
     /**
      * Updates the candidate of the target interview without checking for conflicting time slots.
      */
@@ -128,6 +174,13 @@ public class InterviewSchedule implements ReadOnlyInterviewSchedule {
         interviews.remove(key);
     }
 
+    /**
+     * Starts recording the changes to the interviews, which the returned journal can list or undo.
+     */
+    public ListChangeJournal<Interview> startJournal() {
+        return interviews.startJournal();
+    }
+
     @Override
     public String toString() {
         return interviews.asUnmodifiableObservableList().size() + " interviews";
@@ -0,0 +1,144 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * The results of testing a predicate on every element of a list, stored as a bitmap with one bit per element.
+ * Large lists are evaluated in parallel on a fork-join pool.
+ * The results are read through {@link #asFilter()}, a predicate that answers elements tested in the same order as
+ * the evaluated list from the bitmap, so that a {@code FilteredList} refiltered with it only reads bits.
+ */
+public class MatchBitmap<T> {
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+    /** Number of bitmap words filled sequentially by a single fork-join task. */
+    private static final int WORDS_PER_TASK = 16;
+
+    private final Object[] elements;
+    private final Predicate<? super T> predicate;
+    private final long[] words;
+
+    private MatchBitmap(Object[] elements, Predicate<? super T> predicate) {
+        this.elements = elements;
+        this.predicate = predicate;
+        this.words = new long[(elements.length + BITS_PER_WORD - 1) / BITS_PER_WORD];
+    }
+
+    /**
+     * Tests {@code predicate} on every element of {@code list} in the calling thread, and returns the results.
+     */
+    public static <T> MatchBitmap<T> evaluate(List<T> list, Predicate<? super T> predicate) {
+        requireAllNonNull(list, predicate);
+
+        MatchBitmap<T> bitmap = new MatchBitmap<>(list.toArray(), predicate);
+        bitmap.fill(0, bitmap.words.length);
+        return bitmap;
+    }
+
+    /**
+     * Tests {@code predicate} on every element of {@code list} using {@code pool}, and returns the results.
+     * {@code predicate} must be safe to call from several threads at once.
+     */
+    public static <T> MatchBitmap<T> evaluate(List<T> list, Predicate<? super T> predicate, ForkJoinPool pool) {
+        requireAllNonNull(list, predicate, pool);
+
+        MatchBitmap<T> bitmap = new MatchBitmap<>(list.toArray(), predicate);
+        pool.invoke(bitmap.new EvaluateTask(0, bitmap.words.length));
+        return bitmap;
+    }
+
+    /**
+     * Returns the results of {@code predicate} on every element of {@code list}, given the elements of the list
+     * satisfying it as {@code matches}, so that {@code predicate} is not tested on any element of the list.
+     * Elements are looked up in {@code matches} by its own notion of equality.
+     */
+    public static <T> MatchBitmap<T> fromMatches(List<T> list, Set<? extends T> matches,
+            Predicate<? super T> predicate) {
+        requireAllNonNull(list, matches, predicate);
+
+        MatchBitmap<T> bitmap = new MatchBitmap<>(list.toArray(), predicate);
+        for (int position = 0; position < bitmap.elements.length; position++) {
+            if (matches.contains(bitmap.elements[position])) {
+                bitmap.words[position / BITS_PER_WORD] |= 1L << position;
+            }
+        }
+        return bitmap;
+    }
+
+    /**
+     * Returns true if the element at {@code position} of the evaluated list satisfies the predicate.
+     */
+    public boolean isMatch(int position) {
+        return (words[position / BITS_PER_WORD] & (1L << position)) != 0;
+    }
+
+    /**
+     * Returns a new predicate that is true for the elements satisfying the evaluated predicate.
+     * Elements tested in the order of the evaluated list are answered from the bitmap. Any other element, such
+     * as one added to the list afterwards, is tested with the evaluated predicate.
+     */
+    public Predicate<T> asFilter() {
+        return new Predicate<>() {
+            /** Position in {@code elements} of the element expected to be tested next. */
+            private int nextPosition;
+
+            @Override
+            public boolean test(T element) {
+                if (nextPosition < elements.length && elements[nextPosition] == element) {
+                    return isMatch(nextPosition++);
+                }
+                return predicate.test(element);
+            }
+        };
+    }
+
+    /**
+     * Fills the bitmap words from {@code fromWord} (inclusive) to {@code toWord} (exclusive).
+     */
+    private void fill(int fromWord, int toWord) {
+        for (int word = fromWord; word < toWord; word++) {
+            int end = Math.min(elements.length, (word + 1) * BITS_PER_WORD);
+            long bits = 0;
+            for (int position = word * BITS_PER_WORD; position < end; position++) {
+                @SuppressWarnings("unchecked")
+                T element = (T) elements[position];
+                if (predicate.test(element)) {
+                    bits |= 1L << position;
+                }
+            }
+            words[word] = bits;
+        }
+    }
+
+    /**
+     * Fills the bitmap words from {@code fromWord} (inclusive) to {@code toWord} (exclusive), splitting the
+     * range between tasks until each task has at most {@link #WORDS_PER_TASK} words.
+     * Each word is written by exactly one task, so no synchronisation is needed.
+     */
+    private class EvaluateTask extends RecursiveAction {
+        private final int fromWord;
+        private final int toWord;
+
+        EvaluateTask(int fromWord, int toWord) {
+            this.fromWord = fromWord;
+            this.toWord = toWord;
+        }
+
+        @Override
+        protected void compute() {
+            if (toWord - fromWord > WORDS_PER_TASK) {
+                int middleWord = (fromWord + toWord) >>> 1;
+                invokeAll(new EvaluateTask(fromWord, middleWord), new EvaluateTask(middleWord, toWord));
+                return;
+            }
+
+            fill(fromWord, toWord);
+        }
+    }
+}
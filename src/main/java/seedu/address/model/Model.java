@@ -4,13 +4,21 @@ import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.FacetCounts;
+import seedu.address.model.candidate.SearchIndex;
 import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.InterviewSlot;
+import seedu.address.model.interview.Track;
+import seedu.address.model.interview.predicate.WithinTimePeriodPredicate;
 
 
 /**
@@ -110,6 +118,14 @@ public interface Model {
      */
     void setCandidate(Candidate target, Candidate editedCandidate) throws CommandException;
 
+    /**
+     * Replaces every candidate of {@code targets} with the candidate at the same position in
+     * {@code editedCandidates}, all at once, in a single pass over the address book.
+     * @throws CommandException if an edited candidate has the same identity as another candidate, in which case no
+     *     candidate is replaced.
+     */
+    void setCandidates(List<Candidate> targets, List<Candidate> editedCandidates) throws CommandException;
+
     /** Returns an unmodifiable view of the filtered candidate list */
     ObservableList<Candidate> getFilteredCandidateList();
 
@@ -119,7 +135,52 @@ public interface Model {
     void updateFilteredCandidateList(Predicate<Candidate> predicate);
 
     /**
-     * Updates the sorting order of filtered candidate list to sort by the given {@code sortComparator}.
+     * Updates the filtered candidate list to show the at most {@code limit} candidates satisfying {@code predicate}
+     * with the highest scores given by {@code scorer}, from highest to lowest.
+     */
+    void updateRankedCandidateList(Predicate<Candidate> predicate, ToIntFunction<Candidate> scorer, int limit);
+
+    /**
+     * Returns the names of the saved searches, mapped to the {@code find} arguments defining them.
+     */
+    Map<String, String> getSavedSearches();
+
+    /**
+     * Returns true if a saved search named {@code name} exists.
+     */
+    boolean hasSavedSearch(String name);
+
+    /**
+     * Saves the search named {@code name}, defined by the {@code find} arguments {@code definition}, whose
+     * candidates satisfy {@code predicate}. Replaces any saved search with the same name.
+     */
+    void addSavedSearch(String name, String definition, Predicate<Candidate> predicate);
+
+    /**
+     * Deletes the saved search named {@code name}, if any.
+     */
+    void deleteSavedSearch(String name);
+
+    /**
+     * Updates the filtered candidate list to show the candidates of the saved search named {@code name}, which
+     * must exist.
+     */
+    void updateFilteredCandidateListToSavedSearch(String name);
+
+    /**
+     * Returns the indexes over all candidates, used to plan and answer searches.
+     */
+    SearchIndex getSearchIndex();
+
+    /**
+     * Returns the number of candidates in the filtered candidate list having each value of every categorical field,
+     * which is kept up to date as the list changes.
+     */
+    FacetCounts getFacetCounts();
+
+    /**
+     * Updates the sorting order of filtered candidate list to sort by the given {@code sortComparator}, without
+     * changing the order of the candidates in the address book.
      */
     void updateSortedCandidateList(Comparator<Candidate> sortComparator);
 
@@ -147,16 +208,51 @@ public interface Model {
      * Adds the interview.
      */
     void addInterview(Interview interview);
+    /**
+     * Adds all of {@code interviews} in a single change to the interview schedule.
+     */
+    void addInterviews(List<Interview> interviews);
     /**
      * Sets the target interview to the editedInterview.
      */
     void setInterview(Interview target, Interview editedInterview) throws CommandException;
 
+    /**
+     * Replaces every interview of {@code targets} with the interview at the same position in
+     * {@code editedInterviews}, which must be for the same candidate, all at once.
+     * @throws CommandException if an edited interview conflicts with another interview, in which case no interview
+     *     is replaced.
+     */
+    void setInterviews(List<Interview> targets, List<Interview> editedInterviews) throws CommandException;
+
+    /**
+     * Returns the interviews starting from {@code from}, inclusive, up to {@code to}, exclusive, earliest first.
+     */
+    List<Interview> getInterviewsBetween(LocalDateTime from, LocalDateTime to);
+
     /**
      * Gets candidate's scheduled interview if present
      */
     Interview getInterview(Candidate target);
 
+    /**
+     * Returns the first {@code count} free slots within office hours on any of {@code tracks} for an interview
+     * lasting {@code durationInMinutes} that start no earlier than {@code earliestStart}, on the days
+     * {@code candidate} is available.
+     */
+    List<InterviewSlot> findFreeInterviewSlots(Candidate candidate, List<Track> tracks, LocalDateTime earliestStart,
+            int count, int durationInMinutes);
+
+    /**
+     * Assigns a distinct free slot within office hours on any of {@code tracks} for an interview lasting
+     * {@code durationInMinutes}, starting between {@code earliestStart} and {@code latestStart}, to as many of
+     * {@code candidates} as possible, on the days each is available. Returns the slot assigned to each candidate, in
+     * the same order, or an empty {@code Optional} if no slot is left for the candidate. The interview schedule is
+     * not changed.
+     */
+    List<Optional<InterviewSlot>> assignFreeInterviewSlots(List<Candidate> candidates, List<Track> tracks,
+            LocalDateTime earliestStart, LocalDateTime latestStart, int durationInMinutes);
+
     /** Returns an unmodifiable view of the filtered interview list */
     ObservableList<Interview> getFilteredInterviewSchedule();
 
@@ -165,10 +261,48 @@ public interface Model {
      */
     void updateFilteredInterviewSchedule(Predicate<Interview> predicate);
 
+    /**
+     * Updates the interview list stored in system to show only the interviews within {@code timePeriod}.
+     */
+    void showInterviewsWithin(WithinTimePeriodPredicate timePeriod);
+
     void updateInterviewCandidate(Interview target, Interview editedInterview);
 
     void deletePastInterviewsForInterviewList(LocalDateTime localDateTime) throws CommandException;
 
+    /**
+     * Returns the date time the next interview in the schedule ends, or an empty optional if there is none.
+     */
+    Optional<LocalDateTime> getNextInterviewExpiry();
+
+    /**
+     * Starts a simulation, after which the candidates and interviews are changed as before but every change can
+     * still be discarded. No simulation must be running.
+     */
+    void startSimulation();
+
+    /**
+     * Returns true if a simulation is running.
+     */
+    boolean isSimulating();
+
+    /**
+     * Returns the changes made to the candidates and interviews since the simulation started.
+     * A simulation must be running.
+     */
+    SimulationDiff getSimulationDiff();
+
+    /**
+     * Ends the simulation, keeping every change made during it. A simulation must be running.
+     */
+    void commitSimulation();
+
+    /**
+     * Ends the simulation, restoring the candidates and interviews to what they were when it started.
+     * A simulation must be running.
+     */
+    void discardSimulation();
+
     void resetAllScheduledStatus() throws CommandException;
 
     List<Candidate> getExpiredInterviewCandidates();
@@ -5,19 +5,43 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.ListChangeJournal;
+import seedu.address.commons.util.LruCache;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.candidate.Availability;
 import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.CandidateSortOrder;
+import seedu.address.model.candidate.FacetCounts;
+import seedu.address.model.candidate.SavedSearchViews;
+import seedu.address.model.candidate.SearchIndex;
+import seedu.address.model.candidate.SortIndex;
+import seedu.address.model.candidate.query.Query;
 import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.InterviewSlot;
+import seedu.address.model.interview.InterviewSlotCalendar;
+import seedu.address.model.interview.Track;
+import seedu.address.model.interview.predicate.WithinTimePeriodPredicate;
 
 
 /**
@@ -25,12 +49,48 @@ import seedu.address.model.interview.Interview;
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    /** Number of distinct searches whose results are kept in {@link #searchCache}. */
+    private static final int SEARCH_CACHE_CAPACITY = 16;
+    /**
+     * Largest number of candidates added to and removed from the filtered list in one change that are moved into
+     * place in the displayed list one by one. The displayed list is sorted again instead after larger changes.
+     */
+    private static final int MAX_CANDIDATES_MOVED_IN_PLACE = 64;
 
     private final AddressBook addressBook;
     private final InterviewSchedule interviewSchedule;
     private final UserPrefs userPrefs;
     private final FilteredList<Candidate> filteredCandidates;
+    /**
+     * {@link #filteredCandidates} in {@link #displayOrder}. Sorting only changes this list, so the order of the
+     * candidates in the address book is left untouched.
+     */
+    private final ObservableList<Candidate> displayedCandidates = FXCollections.observableArrayList();
+    private final ObservableList<Candidate> unmodifiableDisplayedCandidates =
+            FXCollections.unmodifiableObservableList(displayedCandidates);
+    /** Order of the displayed candidates, or null to display them in the order of the address book. */
+    private Comparator<Candidate> displayOrder;
+    /** Order of the last sort, which is kept by later searches, or null if the candidates were never sorted. */
+    private Comparator<Candidate> sortComparator;
+    /** Whether the filtered list is being refiltered, after which the displayed list is replaced in one change. */
+    private boolean isRefiltering;
+    /** Name of the saved search whose candidates are shown, or null if they are shown by any other search. */
+    private String shownSavedSearch;
+    private final SearchIndex searchIndex;
+    private final SortIndex sortIndex;
+    private final SavedSearchViews savedSearchViews;
+    /** Counts of the candidates in {@link #filteredCandidates} by each categorical field. */
+    private final FacetCounts facetCounts;
+    /** Results of recent searches over the current candidate list, cleared whenever the list changes. */
+    private final LruCache<Predicate<Candidate>, MatchBitmap<Candidate>> searchCache =
+            new LruCache<>(SEARCH_CACHE_CAPACITY);
     private final FilteredList<Interview> filteredInterviewSchedule;
+    private final InterviewSlotCalendar interviewSlotCalendar;
+    /** Time period of the interviews shown, or null if they are shown by a predicate instead. */
+    private WithinTimePeriodPredicate shownTimePeriod;
+    /** Journals of the simulation running, which are null if no simulation is running. */
+    private ListChangeJournal<Candidate> simulatedCandidates;
+    private ListChangeJournal<Interview> simulatedInterviews;
 
 
     /**
@@ -47,8 +107,18 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         this.interviewSchedule = new InterviewSchedule(interviewList);
         //interviewSchedule.checkInvalidValues();
+        // the search index and saved search views are created first, so that they are up to date when the filtered
+        // list is refiltered
+        searchIndex = new SearchIndex(this.addressBook.getCandidateList());
+        sortIndex = new SortIndex(this.addressBook.getCandidateList());
+        savedSearchViews = new SavedSearchViews(this.addressBook.getCandidateList());
         filteredCandidates = new FilteredList<>(this.addressBook.getCandidateList());
+        filteredCandidates.addListener(this::onFilteredCandidatesChanged);
+        displayedCandidates.setAll(filteredCandidates);
+        facetCounts = new FacetCounts(filteredCandidates);
+        this.addressBook.getCandidateList().addListener((ListChangeListener<Candidate>) change -> searchCache.clear());
         filteredInterviewSchedule = new FilteredList<>(this.interviewSchedule.getInterviewList());
+        interviewSlotCalendar = new InterviewSlotCalendar(this.interviewSchedule.getInterviewList());
     }
 
     public ModelManager() {
@@ -137,6 +207,13 @@ public class ModelManager implements Model {
         addressBook.setCandidate(target, editedCandidate);
     }
 
+    @Override
+    public void setCandidates(List<Candidate> targets, List<Candidate> editedCandidates) throws CommandException {
+        requireAllNonNull(targets, editedCandidates);
+
+        addressBook.setCandidates(targets, editedCandidates);
+    }
+
     @Override
     public boolean hasInterview(Candidate editedCandidate) {
         String availability = editedCandidate.getAvailability().toString();
@@ -212,9 +289,21 @@ public class ModelManager implements Model {
         updateFilteredInterviewSchedule(PREDICATE_SHOW_ALL_INTERVIEWS);
     }
 
+    @Override
+    public void addInterviews(List<Interview> interviews) {
+        requireAllNonNull(interviews);
+        interviewSchedule.addInterviews(interviews);
+        interviewSchedule.sortInterviews();
+        updateFilteredInterviewSchedule(PREDICATE_SHOW_ALL_INTERVIEWS);
+    }
+
     @Override
     public void updateInterviewCandidate(Interview target, Interview editedInterview) {
         interviewSchedule.updateInterviewCandidate(target, editedInterview);
+        if (shownTimePeriod != null) {
+            // the shown interviews are looked up once, so the edited interview must be looked up again
+            showInterviewsWithin(shownTimePeriod);
+        }
     }
 
     /**
@@ -225,16 +314,59 @@ public class ModelManager implements Model {
     public void deletePastInterviewsForInterviewList(LocalDateTime localDateTime) throws CommandException {
         requireNonNull(localDateTime);
         List<Interview> list = interviewSchedule.deletePastInterviews(localDateTime);
-        int i = 0;
-        while (!list.isEmpty()) {
-            Candidate candidate = list.get(i).getCandidate();
+        for (Interview interview : list) {
+            Candidate candidate = interview.getCandidate();
             logger.log(Level.INFO, candidate.toString());
             setCandidate(candidate, candidate.triggerInterviewStatusCompleted());
-            list.remove(i);
-            i++;
         }
     }
 
+    @Override
+    public Optional<LocalDateTime> getNextInterviewExpiry() {
+        return interviewSchedule.getNextInterviewExpiry();
+    }
+
+    //=========== Simulation =================================================================================
+
+    @Override
+    public void startSimulation() {
+        assert !isSimulating();
+        simulatedCandidates = addressBook.startJournal();
+        simulatedInterviews = interviewSchedule.startJournal();
+    }
+
+    @Override
+    public boolean isSimulating() {
+        return simulatedInterviews != null;
+    }
+
+    @Override
+    public SimulationDiff getSimulationDiff() {
+        assert isSimulating();
+        return new SimulationDiff(simulatedCandidates.getAdded(), simulatedCandidates.getRemoved(),
+                simulatedInterviews.getAdded(), simulatedInterviews.getRemoved());
+    }
+
+    @Override
+    public void commitSimulation() {
+        assert isSimulating();
+        simulatedCandidates.stop();
+        simulatedInterviews.stop();
+        simulatedCandidates = null;
+        simulatedInterviews = null;
+    }
+
+    @Override
+    public void discardSimulation() {
+        assert isSimulating();
+        simulatedInterviews.undo();
+        simulatedCandidates.undo();
+        simulatedCandidates = null;
+        simulatedInterviews = null;
+        updateFilteredCandidateList(PREDICATE_SHOW_ALL_CANDIDATES);
+        updateFilteredInterviewSchedule(PREDICATE_SHOW_ALL_INTERVIEWS);
+    }
+
     @Override
     public void setInterview(Interview target, Interview editedInterview) throws CommandException {
         requireAllNonNull(target, editedInterview);
@@ -242,6 +374,20 @@ public class ModelManager implements Model {
         interviewSchedule.setInterview(target, editedInterview);
     }
 
+    @Override
+    public void setInterviews(List<Interview> targets, List<Interview> editedInterviews) throws CommandException {
+        requireAllNonNull(targets, editedInterviews);
+
+        interviewSchedule.setInterviews(targets, editedInterviews);
+    }
+
+    @Override
+    public List<Interview> getInterviewsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+
+        return interviewSchedule.interviewsBetween(from, to);
+    }
+
     @Override
     public Interview getInterview(Candidate target) {
         for (Interview i: interviewSchedule.getInterviewList()) {
@@ -253,6 +399,24 @@ public class ModelManager implements Model {
         return null;
     }
 
+    @Override
+    public List<InterviewSlot> findFreeInterviewSlots(Candidate candidate, List<Track> tracks,
+            LocalDateTime earliestStart, int count, int durationInMinutes) {
+        requireAllNonNull(candidate, tracks, earliestStart);
+        return interviewSlotCalendar.findFreeSlots(candidate.getAvailability(), tracks, earliestStart, count,
+                durationInMinutes);
+    }
+
+    @Override
+    public List<Optional<InterviewSlot>> assignFreeInterviewSlots(List<Candidate> candidates, List<Track> tracks,
+            LocalDateTime earliestStart, LocalDateTime latestStart, int durationInMinutes) {
+        requireAllNonNull(candidates, tracks, earliestStart, latestStart);
+        List<Availability> availabilities = new ArrayList<>(candidates.size());
+        candidates.forEach(candidate -> availabilities.add(candidate.getAvailability()));
+        return interviewSlotCalendar.assignSlots(availabilities, tracks, earliestStart, latestStart,
+                durationInMinutes);
+    }
+
     /**
      * Accesses and returns the interview list stored in system.
      * @return an unmodifiable view of the filtered interview list in proper sorted order (earliest to latest
@@ -273,6 +437,27 @@ public class ModelManager implements Model {
         requireNonNull(predicate);
         interviewSchedule.sortInterviews();
         filteredInterviewSchedule.setPredicate(predicate);
+        shownTimePeriod = null;
+    }
+
+    /**
+     * Shows the interviews within {@code timePeriod}, which are looked up by their starts rather than by testing
+     * every interview in the schedule.
+     */
+    @Override
+    public void showInterviewsWithin(WithinTimePeriodPredicate timePeriod) {
+        requireNonNull(timePeriod);
+        interviewSchedule.sortInterviews();
+
+        Set<Interview> interviewsWithin = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Interview interview : interviewSchedule.interviewsBetween(timePeriod.getRangeStart(),
+                timePeriod.getRangeEnd())) {
+            if (timePeriod.test(interview)) {
+                interviewsWithin.add(interview);
+            }
+        }
+        filteredInterviewSchedule.setPredicate(interviewsWithin::contains);
+        shownTimePeriod = timePeriod;
     }
 
     //=========== Filtered/Sort Candidate List Accessors =============================================================
@@ -282,28 +467,301 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Candidate> getFilteredCandidateList() {
-        return filteredCandidates;
+        return unmodifiableDisplayedCandidates;
     }
 
     /**
      * Updates the filter of the filtered candidate list to filter by the given {@code predicate}.
+     * The results of {@code predicate} are looked up in the cache of recent searches, which relies on the
+     * {@code equals} and {@code hashCode} of {@code predicate}. If absent, they are evaluated into a
+     * {@link MatchBitmap}, in parallel if the list has at least {@link UserPrefs#getParallelFilterThreshold()}
+     * candidates, so that the filtered list only has to read the results when it is refiltered in a single change.
+     * A {@link Query} which finds its matches in an index is not tested on any candidate.
      * @param predicate contains the test method to check whether to keep a candidate in the filtered list.
      */
     @Override
     public void updateFilteredCandidateList(Predicate<Candidate> predicate) {
         requireNonNull(predicate);
-        filteredCandidates.setPredicate(predicate);
+
+        if (predicate == PREDICATE_SHOW_ALL_CANDIDATES || predicate == PREDICATE_SHOW_EMPTY_LIST) {
+            showFilteredCandidates(predicate, sortComparator);
+            return;
+        }
+
+        showFilteredCandidates(getMatches(predicate).asFilter(), sortComparator);
+    }
+
+    /**
+     * Updates the filtered candidate list to show the at most {@code limit} candidates satisfying {@code predicate}
+     * with the highest scores given by {@code scorer}, from highest to lowest. Candidates with equal scores keep
+     * their list order. Only the matching candidates are scored, and the best ones are selected with a bounded heap
+     * instead of sorting all of them.
+     * Candidates added or edited afterwards are not shown until the next search.
+     */
+    @Override
+    public void updateRankedCandidateList(Predicate<Candidate> predicate, ToIntFunction<Candidate> scorer, int limit) {
+        requireAllNonNull(predicate, scorer);
+
+        ObservableList<Candidate> candidates = addressBook.getCandidateList();
+        MatchBitmap<Candidate> matches = getMatches(predicate);
+        List<Candidate> matchingCandidates = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (matches.isMatch(i)) {
+                matchingCandidates.add(candidates.get(i));
+            }
+        }
+
+        List<Candidate> rankedCandidates = CollectionUtil.selectTopK(matchingCandidates, scorer, limit);
+        Map<Candidate, Integer> ranks = new IdentityHashMap<>();
+        for (int rank = 0; rank < rankedCandidates.size(); rank++) {
+            ranks.put(rankedCandidates.get(rank), rank);
+        }
+        refilter(ranks::containsKey);
+        shownSavedSearch = null;
+        displayOrder = Comparator.comparingInt(ranks::get);
+        displayedCandidates.setAll(rankedCandidates);
+    }
+
+    /**
+     * Returns the results of {@code predicate} on the current candidate list, looked up in the cache of recent
+     * searches if possible.
+     */
+    private MatchBitmap<Candidate> getMatches(Predicate<Candidate> predicate) {
+        MatchBitmap<Candidate> matches = searchCache.get(predicate);
+        if (matches == null) {
+            matches = evaluateCandidates(predicate);
+            searchCache.put(predicate, matches);
+        }
+        return matches;
+    }
+
+    private MatchBitmap<Candidate> evaluateCandidates(Predicate<Candidate> predicate) {
+        ObservableList<Candidate> candidates = addressBook.getCandidateList();
+        Optional<Set<Candidate>> matches = predicate instanceof Query
+                ? ((Query) predicate).findMatches()
+                : Optional.empty();
+        if (matches.isPresent()) {
+            return MatchBitmap.fromMatches(candidates, matches.get(), predicate);
+        }
+        if (candidates.size() < userPrefs.getParallelFilterThreshold()) {
+            return MatchBitmap.evaluate(candidates, predicate);
+        }
+
+        logger.fine("Filtering " + candidates.size() + " candidates in parallel");
+        return MatchBitmap.evaluate(candidates, predicate, ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public Map<String, String> getSavedSearches() {
+        return userPrefs.getSavedSearches();
+    }
+
+    @Override
+    public boolean hasSavedSearch(String name) {
+        requireNonNull(name);
+        return savedSearchViews.contains(name);
+    }
+
+    /**
+     * Saves the search named {@code name} in the user prefs, and materializes its candidates in a view which is
+     * kept up to date by only testing the candidates that change.
+     */
+    @Override
+    public void addSavedSearch(String name, String definition, Predicate<Candidate> predicate) {
+        requireAllNonNull(name, definition, predicate);
+
+        userPrefs.putSavedSearch(name, definition);
+        savedSearchViews.add(name, predicate);
+        if (name.equals(shownSavedSearch)) {
+            shownSavedSearch = null;
+        }
+    }
+
+    @Override
+    public void deleteSavedSearch(String name) {
+        requireNonNull(name);
+
+        userPrefs.removeSavedSearch(name);
+        savedSearchViews.remove(name);
+        if (name.equals(shownSavedSearch)) {
+            shownSavedSearch = null;
+        }
+    }
+
+    /**
+     * Updates the filtered candidate list to show the candidates of the saved search named {@code name}.
+     * The candidates are read from the materialized view, so no candidate is tested against the search itself, and
+     * the list is not refiltered at all if the saved search is already shown, since the view is kept up to date.
+     */
+    @Override
+    public void updateFilteredCandidateListToSavedSearch(String name) {
+        requireNonNull(name);
+
+        if (name.equals(shownSavedSearch)) {
+            return;
+        }
+        Set<Candidate> candidates = savedSearchViews.getCandidates(name);
+        showFilteredCandidates(candidates::contains, sortComparator);
+        shownSavedSearch = name;
+    }
+
+    @Override
+    public SearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    @Override
+    public FacetCounts getFacetCounts() {
+        return facetCounts;
     }
 
     /**
      * Updates the sorting order of filtered candidate list in the system to sort by the given {@code sortComparator}.
+     * Only the displayed list is sorted, in a single change, so the address book is neither reordered nor changed,
+     * and the order is kept by later searches until the next sort.
+     * A {@link CandidateSortOrder} by a single field displays the filtered candidates in the order of the
+     * {@link SortIndex}, while one by several fields sorts the collation keys of the filtered candidates only, in
+     * parallel if there are at least {@link UserPrefs#getParallelSortThreshold()} of them.
      * @param sortComparator contains the {@code sortComparator} object with details on what the sorting
      *                       should be.
      */
     @Override
     public void updateSortedCandidateList(Comparator<Candidate> sortComparator) {
         requireNonNull(sortComparator);
-        addressBook.sortCandidates(sortComparator);
+
+        this.sortComparator = sortComparator;
+        displayOrder = sortComparator;
+        displayedCandidates.setAll(sortFilteredCandidates(sortComparator));
+    }
+
+    /**
+     * Refilters the filtered candidate list by {@code predicate}, and displays its candidates in {@code order}, or in
+     * the order of the address book if null, in a single change.
+     */
+    private void showFilteredCandidates(Predicate<? super Candidate> predicate, Comparator<Candidate> order) {
+        refilter(predicate);
+        shownSavedSearch = null;
+        displayOrder = order;
+        displayedCandidates.setAll(sortFilteredCandidates(order));
+    }
+
+    /**
+     * Refilters the filtered candidate list by {@code predicate} without updating the displayed list, which must be
+     * replaced afterwards.
+     */
+    private void refilter(Predicate<? super Candidate> predicate) {
+        isRefiltering = true;
+        try {
+            filteredCandidates.setPredicate(predicate);
+        } finally {
+            isRefiltering = false;
+        }
+    }
+
+    /**
+     * Returns the filtered candidates in {@code order}, or in the order of the address book if null.
+     */
+    private List<Candidate> sortFilteredCandidates(Comparator<Candidate> order) {
+        if (order == null) {
+            return filteredCandidates;
+        }
+        if (order instanceof CandidateSortOrder) {
+            return sortFilteredCandidates((CandidateSortOrder) order);
+        }
+
+        List<Candidate> sortedCandidates = new ArrayList<>(filteredCandidates);
+        sortedCandidates.sort(order);
+        return sortedCandidates;
+    }
+
+    /**
+     * Returns the filtered candidates in {@code sortOrder}. An order by a single field is read by walking the
+     * {@link SortIndex} and skipping the candidates filtered out, in time linear in the size of the address book,
+     * unless sorting the collation keys of the few filtered candidates is cheaper. Other orders sort the keys of the
+     * filtered candidates, in parallel if there are many of them.
+     */
+    private List<Candidate> sortFilteredCandidates(CandidateSortOrder sortOrder) {
+        int shownCount = filteredCandidates.size();
+        boolean isWalkCheaper = (long) shownCount * (32 - Integer.numberOfLeadingZeros(shownCount))
+                >= sortIndex.size();
+        if (sortOrder.getSortKeys().size() > 1 || !isWalkCheaper) {
+            if (shownCount < userPrefs.getParallelSortThreshold()) {
+                return sortOrder.sort(filteredCandidates);
+            }
+            logger.fine("Sorting " + shownCount + " candidates in parallel");
+            return sortOrder.sortInParallel(filteredCandidates);
+        }
+
+        List<Candidate> orderedCandidates = sortIndex.getOrderedCandidates(sortOrder.getSortKeys().get(0));
+        if (shownCount == orderedCandidates.size()) {
+            return orderedCandidates;
+        }
+        Set<Candidate> shownCandidates = Collections.newSetFromMap(new IdentityHashMap<>(shownCount));
+        shownCandidates.addAll(filteredCandidates);
+        orderedCandidates.removeIf(candidate -> !shownCandidates.contains(candidate));
+        return orderedCandidates;
+    }
+
+    /**
+     * Updates the displayed list after the filtered list changes when the address book does. The displayed list
+     * mirrors the change if it is in the order of the address book. Otherwise, the candidates added and removed are
+     * moved into place one by one if they are few, or else the filtered candidates are sorted again.
+     */
+    private void onFilteredCandidatesChanged(ListChangeListener.Change<? extends Candidate> change) {
+        if (isRefiltering) {
+            return;
+        }
+        if (displayOrder == null) {
+            while (change.next()) {
+                int from = change.getFrom();
+                if (change.wasPermutated()) {
+                    displayedCandidates.subList(from, change.getTo()).clear();
+                    displayedCandidates.addAll(from, filteredCandidates.subList(from, change.getTo()));
+                } else {
+                    displayedCandidates.subList(from, from + change.getRemovedSize()).clear();
+                    displayedCandidates.addAll(from, change.getAddedSubList());
+                }
+            }
+            return;
+        }
+
+        List<Candidate> removedCandidates = new ArrayList<>();
+        List<Candidate> addedCandidates = new ArrayList<>();
+        while (change.next()) {
+            // the displayed order does not depend on the order of the filtered list
+            if (!change.wasPermutated()) {
+                removedCandidates.addAll(change.getRemoved());
+                addedCandidates.addAll(change.getAddedSubList());
+            }
+        }
+        if (removedCandidates.size() + addedCandidates.size() > MAX_CANDIDATES_MOVED_IN_PLACE) {
+            displayedCandidates.setAll(sortFilteredCandidates(displayOrder));
+            return;
+        }
+        for (Candidate candidate : removedCandidates) {
+            displayedCandidates.remove(indexOfDisplayedCandidate(candidate));
+        }
+        for (Candidate candidate : addedCandidates) {
+            int index = Collections.binarySearch(displayedCandidates, candidate, displayOrder);
+            displayedCandidates.add(index < 0 ? -index - 1 : index, candidate);
+        }
+    }
+
+    /**
+     * Returns the index of {@code candidate} in the displayed list, found by binary search unless other candidates
+     * are equal to it in the displayed order.
+     */
+    private int indexOfDisplayedCandidate(Candidate candidate) {
+        int index = Collections.binarySearch(displayedCandidates, candidate, displayOrder);
+        if (index >= 0 && displayedCandidates.get(index) == candidate) {
+            return index;
+        }
+        for (int i = 0; i < displayedCandidates.size(); i++) {
+            if (displayedCandidates.get(i) == candidate) {
+                return i;
+            }
+        }
+        throw new AssertionError("A candidate removed from the filtered list must be displayed");
     }
 
     @Override
@@ -323,7 +781,7 @@ public class ModelManager implements Model {
         return addressBook.equals(other.addressBook)
                 && interviewSchedule.equals(other.interviewSchedule)
                 && userPrefs.equals(other.userPrefs)
-                && filteredCandidates.equals(other.filteredCandidates)
+                && displayedCandidates.equals(other.displayedCandidates)
                 && filteredInterviewSchedule.equals(other.filteredInterviewSchedule);
     }
 }
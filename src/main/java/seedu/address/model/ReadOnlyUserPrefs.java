@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Map;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -15,4 +16,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getInterviewListFilePath();
 
+    int getParallelFilterThreshold();
+
+    int getParallelSortThreshold();
+
+    Map<String, String> getSavedSearches();
+
 }
@@ -0,0 +1,111 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.StudentId;
+import seedu.address.model.interview.Interview;
+
+/**
+ * The changes made to the candidates and interviews since a simulation started.
+ * Candidates and interviews are matched by student ID, so a candidate replaced by another with the same student ID
+ * is edited, and an interview replaced by another for the same candidate is rescheduled if it takes another slot.
+ */
+public class SimulationDiff {
+
+    private final List<Candidate> addedCandidates = new ArrayList<>();
+    private final List<Candidate> removedCandidates = new ArrayList<>();
+    private final List<Candidate> editedCandidates = new ArrayList<>();
+    private final List<Interview> scheduledInterviews = new ArrayList<>();
+    private final List<Interview> cancelledInterviews = new ArrayList<>();
+    /** Maps every rescheduled interview to the interview replacing it, in the order they were replaced. */
+    private final Map<Interview, Interview> rescheduledInterviews = new LinkedHashMap<>();
+
+    /**
+     * Creates a {@code SimulationDiff} from the candidates and interviews added and removed during the simulation.
+     */
+    public SimulationDiff(List<Candidate> candidatesAdded, List<Candidate> candidatesRemoved,
+            List<Interview> interviewsAdded, List<Interview> interviewsRemoved) {
+        requireAllNonNull(candidatesAdded, candidatesRemoved, interviewsAdded, interviewsRemoved);
+
+        Map<StudentId, Candidate> unmatchedCandidates = new LinkedHashMap<>();
+        candidatesRemoved.forEach(candidate -> unmatchedCandidates.put(candidate.getStudentId(), candidate));
+        for (Candidate candidate : candidatesAdded) {
+            if (unmatchedCandidates.remove(candidate.getStudentId()) != null) {
+                editedCandidates.add(candidate);
+            } else {
+                addedCandidates.add(candidate);
+            }
+        }
+        removedCandidates.addAll(unmatchedCandidates.values());
+
+        Map<StudentId, Interview> unmatchedInterviews = new LinkedHashMap<>();
+        interviewsRemoved.forEach(interview -> unmatchedInterviews.put(toStudentId(interview), interview));
+        for (Interview interview : interviewsAdded) {
+            Interview replaced = unmatchedInterviews.remove(toStudentId(interview));
+            if (replaced == null) {
+                scheduledInterviews.add(interview);
+            } else if (!isSameSlot(replaced, interview)) {
+                rescheduledInterviews.put(replaced, interview);
+            }
+        }
+        cancelledInterviews.addAll(unmatchedInterviews.values());
+    }
+
+    private static StudentId toStudentId(Interview interview) {
+        return interview.getCandidate().getStudentId();
+    }
+
+    private static boolean isSameSlot(Interview first, Interview second) {
+        return first.getInterviewDateTime().equals(second.getInterviewDateTime())
+                && first.getInterviewEndDateTime().equals(second.getInterviewEndDateTime())
+                && first.getTrack().equals(second.getTrack());
+    }
+
+    public List<Candidate> getAddedCandidates() {
+        return Collections.unmodifiableList(addedCandidates);
+    }
+
+    public List<Candidate> getRemovedCandidates() {
+        return Collections.unmodifiableList(removedCandidates);
+    }
+
+    /**
+     * Returns the candidates as they are now, of the candidates edited.
+     */
+    public List<Candidate> getEditedCandidates() {
+        return Collections.unmodifiableList(editedCandidates);
+    }
+
+    public List<Interview> getScheduledInterviews() {
+        return Collections.unmodifiableList(scheduledInterviews);
+    }
+
+    /**
+     * Returns the interviews cancelled, whose slots are freed.
+     */
+    public List<Interview> getCancelledInterviews() {
+        return Collections.unmodifiableList(cancelledInterviews);
+    }
+
+    /**
+     * Returns every rescheduled interview, whose slot is freed, mapped to the interview replacing it.
+     */
+    public Map<Interview, Interview> getRescheduledInterviews() {
+        return Collections.unmodifiableMap(rescheduledInterviews);
+    }
+
+    /**
+     * Returns true if nothing was changed.
+     */
+    public boolean isEmpty() {
+        return addedCandidates.isEmpty() && removedCandidates.isEmpty() && editedCandidates.isEmpty()
+                && scheduledInterviews.isEmpty() && cancelledInterviews.isEmpty() && rescheduledInterviews.isEmpty();
+    }
+}
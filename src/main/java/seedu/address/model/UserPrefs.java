@@ -4,7 +4,10 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,9 +16,18 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /** Number of candidates from which filtering the candidate list is done in parallel. */
+    public static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 20000;
+    /** Number of displayed candidates from which sorting them is done in parallel. */
+    public static final int DEFAULT_PARALLEL_SORT_THRESHOLD = 50000;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "talentassistant.json");
     private Path interviewListFilePath = Paths.get("data" , "interviewlist.json");
+    private int parallelFilterThreshold = DEFAULT_PARALLEL_FILTER_THRESHOLD;
+    private int parallelSortThreshold = DEFAULT_PARALLEL_SORT_THRESHOLD;
+    /** Maps the name of every saved search to the {@code find} arguments defining it. */
+    private Map<String, String> savedSearches = new TreeMap<>();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +50,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setInterviewListFilePath(newUserPrefs.getInterviewListFilePath());
+        setParallelFilterThreshold(newUserPrefs.getParallelFilterThreshold());
+        setParallelSortThreshold(newUserPrefs.getParallelSortThreshold());
+        setSavedSearches(newUserPrefs.getSavedSearches());
     }
 
     public GuiSettings getGuiSettings() {
@@ -67,6 +82,49 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.interviewListFilePath = interviewListFilePath;
     }
 
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
+    public int getParallelSortThreshold() {
+        return parallelSortThreshold;
+    }
+
+    public void setParallelSortThreshold(int parallelSortThreshold) {
+        this.parallelSortThreshold = parallelSortThreshold;
+    }
+
+    public Map<String, String> getSavedSearches() {
+        return Collections.unmodifiableMap(savedSearches);
+    }
+
+    public void setSavedSearches(Map<String, String> savedSearches) {
+        requireNonNull(savedSearches);
+        this.savedSearches = new TreeMap<>(savedSearches);
+    }
+
+    /**
+     * Saves the search named {@code name} with the {@code find} arguments {@code definition}, replacing any saved
+     * search with the same name.
+     */
+    public void putSavedSearch(String name, String definition) {
+        requireNonNull(name);
+        requireNonNull(definition);
+        savedSearches.put(name, definition);
+    }
+
+    /**
+     * Removes the saved search named {@code name}, if any.
+     */
+    public void removeSavedSearch(String name) {
+        requireNonNull(name);
+        savedSearches.remove(name);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -80,13 +138,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         return guiSettings.equals(o.guiSettings)
                 && addressBookFilePath.equals(o.addressBookFilePath)
-                && interviewListFilePath.equals(o.interviewListFilePath);
+                && interviewListFilePath.equals(o.interviewListFilePath)
+                && parallelFilterThreshold == o.parallelFilterThreshold
+                && parallelSortThreshold == o.parallelSortThreshold
+                && savedSearches.equals(o.savedSearches);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(guiSettings, addressBookFilePath,
-                interviewListFilePath);
+                interviewListFilePath, parallelFilterThreshold, parallelSortThreshold, savedSearches);
     }
 
     @Override
@@ -95,6 +156,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal TalentAssistant data file location : " + addressBookFilePath);
         sb.append("\nLocal InterviewSchedule data file location : " + interviewListFilePath);
+        sb.append("\nParallel filter threshold : " + parallelFilterThreshold);
+        sb.append("\nParallel sort threshold : " + parallelSortThreshold);
+        sb.append("\nSaved searches : " + savedSearches);
         return sb.toString();
     }
 
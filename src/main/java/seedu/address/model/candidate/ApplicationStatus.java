@@ -70,4 +70,9 @@ public class ApplicationStatus {
     public boolean equals(Object other) {
         return ((ApplicationStatus) other).statusType.equals(this.statusType);
     }
+
+    @Override
+    public int hashCode() {
+        return statusType.hashCode();
+    }
 }
@@ -25,6 +25,9 @@ public class Candidate {
     private final Availability availability;
     private final Remark remark;
 
+    // Lazily computed, as most candidates are never searched before being replaced by an edited copy
+    private CandidateSearchKeys searchKeys;
+
     /**
      * Every field must be present and not null.
      */
@@ -84,6 +87,16 @@ public class Candidate {
         return remark;
     }
 
+    /**
+     * Returns the lowercased searchable representation of this candidate, computing it on first use.
+     */
+    public CandidateSearchKeys getSearchKeys() {
+        if (searchKeys == null) {
+            searchKeys = new CandidateSearchKeys(this);
+        }
+        return searchKeys;
+    }
+
     /**
      * Returns true if both candidates have the same name.
      * This defines a weaker notion of equality between two candidates.
@@ -0,0 +1,73 @@
+package seedu.address.model.candidate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Represents the lowercased searchable representation of a {@code Candidate}.
+ * Guarantees: immutable; every field is normalised once when the candidate is first searched, so that
+ * keyword predicates can test a candidate without allocating any new strings.
+ */
+public class CandidateSearchKeys {
+
+    public final String studentId;
+    public final String name;
+    /** Whitespace-separated words of {@link #name}. */
+    public final List<String> nameTokens;
+    /** Distinct Soundex codes of {@link #nameTokens}. */
+    public final Set<String> namePhoneticCodes;
+    public final String phone;
+    public final String email;
+    public final String course;
+    public final String seniority;
+    public final String applicationStatus;
+    public final String interviewStatus;
+    public final String remark;
+
+    /**
+     * Constructs the {@code CandidateSearchKeys} of the given {@code candidate}.
+     *
+     * @param candidate the candidate whose fields are to be normalised.
+     */
+    public CandidateSearchKeys(Candidate candidate) {
+        requireNonNull(candidate);
+
+        studentId = normalise(candidate.getStudentId());
+        name = normalise(candidate.getName());
+        nameTokens = List.of(name.trim().split("\\s+"));
+        namePhoneticCodes = toPhoneticCodes(nameTokens);
+        phone = normalise(candidate.getPhone());
+        email = normalise(candidate.getEmail());
+        course = normalise(candidate.getCourse());
+        seniority = candidate.getSeniority().toSearchString().toLowerCase();
+        applicationStatus = normalise(candidate.getApplicationStatus());
+        interviewStatus = normalise(candidate.getInterviewStatus());
+        remark = normalise(candidate.getRemark());
+    }
+
+    /**
+     * Returns the distinct non-empty Soundex codes of {@code tokens}.
+     */
+    private static Set<String> toPhoneticCodes(List<String> tokens) {
+        Set<String> codes = new HashSet<>();
+        for (String token : tokens) {
+            String code = StringUtil.soundex(token);
+            if (!code.isEmpty()) {
+                codes.add(code);
+            }
+        }
+        return Set.copyOf(codes);
+    }
+
+    /**
+     * Returns the lowercased string value of {@code field}, or an empty string if the field is absent.
+     */
+    private static String normalise(Object field) {
+        return field == null ? "" : field.toString().toLowerCase();
+    }
+}
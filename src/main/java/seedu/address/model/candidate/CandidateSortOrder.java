@@ -0,0 +1,245 @@
+package seedu.address.model.candidate;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Orders candidates by several fields in turn, each in ascending or descending order, such as by course, then by
+ * descending seniority, then by name. Fields are compared ignoring case, in English collation order.
+ * Candidates with equal fields are ordered by ascending student ID, as {@link SortIndex} orders them, so that
+ * candidates are in the same order however they are sorted.
+ * A list of candidates is sorted with {@link #sort(List)}, or {@link #sortInParallel(List)} if large, which extract
+ * the collation keys of all the candidates up front and compare them by index, so that sorting never creates new
+ * strings. Candidates compared later have their keys extracted the first time they are compared.
+ * An order should be used from one thread, apart from sorting in parallel.
+ */
+public class CandidateSortOrder implements Comparator<Candidate> {
+
+    /**
+     * Represents a field of a {@code Candidate} that candidates can be sorted by.
+     */
+    public enum Field {
+        APPLICATION_STATUS("appstatus", candidate -> candidate.getApplicationStatus().toString()),
+        COURSE("course", candidate -> candidate.getCourse().toString()),
+        INTERVIEW_STATUS("intstatus", candidate -> candidate.getInterviewStatus().toString()),
+        NAME("name", candidate -> candidate.getName().toString()),
+        SENIORITY("seniority", candidate -> candidate.getSeniority().toString()),
+        STUDENT_ID("studentid", candidate -> candidate.getStudentId().toString());
+
+        private final String keyword;
+        private final Function<Candidate, String> valueExtractor;
+
+        Field(String keyword, Function<Candidate, String> valueExtractor) {
+            this.keyword = keyword;
+            this.valueExtractor = valueExtractor;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        /**
+         * Returns the value of this field of {@code candidate}, as compared when sorting.
+         */
+        String extractValue(Candidate candidate) {
+            return valueExtractor.apply(candidate);
+        }
+    }
+
+    /**
+     * Represents a field to sort by, in ascending or descending order.
+     */
+    public static class SortKey {
+        private final Field field;
+        private final boolean isAscending;
+
+        /**
+         * Creates a {@code SortKey} sorting by {@code field} in ascending order if {@code isAscending} is true, and in
+         * descending order otherwise.
+         */
+        public SortKey(Field field, boolean isAscending) {
+            requireNonNull(field);
+
+            this.field = field;
+            this.isAscending = isAscending;
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        public boolean isAscending() {
+            return isAscending;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof SortKey // instanceof handles nulls
+                    && field.equals(((SortKey) other).field)
+                    && isAscending == ((SortKey) other).isAscending); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * field.hashCode() + Boolean.hashCode(isAscending);
+        }
+
+        @Override
+        public String toString() {
+            return field.getKeyword() + (isAscending ? "" : "-");
+        }
+    }
+
+    private final List<SortKey> sortKeys;
+    private final Collator collator;
+    /**
+     * Collation keys of the sorted fields of the candidates sorted or compared since the last sort. Candidates are
+     * looked up by identity, so that no candidate is hashed by its fields, and the keys are replaced by every sort.
+     */
+    private final Map<Candidate, CollationKey[]> collationKeys = new IdentityHashMap<>();
+
+    /**
+     * Creates a {@code CandidateSortOrder} ordering candidates by each of {@code sortKeys} in turn.
+     * There must be at least one sort key.
+     */
+    public CandidateSortOrder(List<SortKey> sortKeys) {
+        requireAllNonNull(sortKeys);
+        checkArgument(!sortKeys.isEmpty(), "There must be at least one sort key");
+
+        this.sortKeys = List.copyOf(sortKeys);
+        this.collator = newCollator();
+    }
+
+    /**
+     * Returns a new collator comparing field values the way a {@code CandidateSortOrder} does.
+     */
+    static Collator newCollator() {
+        Collator collator = Collator.getInstance(Locale.ENGLISH);
+        collator.setStrength(Collator.SECONDARY);
+        return collator;
+    }
+
+    public List<SortKey> getSortKeys() {
+        return sortKeys;
+    }
+
+    /**
+     * Compares two candidates by their sorted fields, then by student ID.
+     */
+    @Override
+    public int compare(Candidate first, Candidate second) {
+        return compareKeys(getCollationKeys(first), getCollationKeys(second));
+    }
+
+    /**
+     * Returns {@code candidates} sorted in this order. The collation keys of all the candidates are extracted up
+     * front, replacing the keys of the candidates compared before, and the candidates are sorted by index, so that
+     * no key is looked up while sorting.
+     */
+    public List<Candidate> sort(List<Candidate> candidates) {
+        requireAllNonNull(candidates);
+
+        CollationKey[][] keys = new CollationKey[candidates.size()][];
+        Arrays.setAll(keys, i -> extractCollationKeys(collator, candidates.get(i)));
+        Integer[] order = new Integer[candidates.size()];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, (first, second) -> compareKeys(keys[first], keys[second]));
+        return toSortedCandidates(candidates, keys, order);
+    }
+
+    /**
+     * Returns {@code candidates} sorted in this order, as {@link #sort(List)} does. The collation keys of the
+     * candidates are extracted in parallel, and sorted with a parallel merge sort.
+     */
+    public List<Candidate> sortInParallel(List<Candidate> candidates) {
+        requireAllNonNull(candidates);
+
+        int size = candidates.size();
+        CollationKey[][] keys = new CollationKey[size][];
+        // collators are not thread-safe, so every thread extracts keys with its own copy
+        ThreadLocal<Collator> collators = ThreadLocal.withInitial(() -> (Collator) collator.clone());
+        IntStream.range(0, size).parallel()
+                .forEach(i -> keys[i] = extractCollationKeys(collators.get(), candidates.get(i)));
+
+        Integer[] order = new Integer[size];
+        Arrays.setAll(order, i -> i);
+        Arrays.parallelSort(order, (first, second) -> compareKeys(keys[first], keys[second]));
+        return toSortedCandidates(candidates, keys, order);
+    }
+
+    /**
+     * Returns the candidates at the indexes in {@code order}, and keeps the extracted {@code keys} of the candidates
+     * in place of the keys of the candidates compared before.
+     */
+    private List<Candidate> toSortedCandidates(List<Candidate> candidates, CollationKey[][] keys, Integer[] order) {
+        collationKeys.clear();
+        List<Candidate> sortedCandidates = new ArrayList<>(order.length);
+        for (int index : order) {
+            sortedCandidates.add(candidates.get(index));
+            collationKeys.put(candidates.get(index), keys[index]);
+        }
+        return sortedCandidates;
+    }
+
+    private int compareKeys(CollationKey[] first, CollationKey[] second) {
+        for (int i = 0; i < sortKeys.size(); i++) {
+            int comparison = first[i].compareTo(second[i]);
+            if (comparison != 0) {
+                return sortKeys.get(i).isAscending ? comparison : -comparison;
+            }
+        }
+        // student IDs are compared as strings, in either direction, as the sort index compares them
+        int last = sortKeys.size();
+        return first[last].getSourceString().compareTo(second[last].getSourceString());
+    }
+
+    /**
+     * Returns the collation keys of the sorted fields of {@code candidate}, in the order of the sort keys, followed
+     * by the collation key of its student ID.
+     */
+    private CollationKey[] extractCollationKeys(Collator collator, Candidate candidate) {
+        CollationKey[] keys = new CollationKey[sortKeys.size() + 1];
+        for (int i = 0; i < sortKeys.size(); i++) {
+            keys[i] = collator.getCollationKey(sortKeys.get(i).field.extractValue(candidate));
+        }
+        keys[sortKeys.size()] = collator.getCollationKey(Field.STUDENT_ID.extractValue(candidate));
+        return keys;
+    }
+
+    private CollationKey[] getCollationKeys(Candidate candidate) {
+        requireNonNull(candidate);
+        return collationKeys.computeIfAbsent(candidate, unused -> extractCollationKeys(collator, candidate));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CandidateSortOrder // instanceof handles nulls
+                && sortKeys.equals(((CandidateSortOrder) other).sortKeys)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return sortKeys.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return sortKeys.stream().map(SortKey::toString).collect(Collectors.joining(","));
+    }
+}
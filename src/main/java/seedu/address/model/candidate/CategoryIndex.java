@@ -0,0 +1,131 @@
+package seedu.address.model.candidate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChangeUtil;
+
+/**
+ * Indexes a list of candidates by the value of each of their categorical fields.
+ * Since every categorical field only takes a handful of values, the number of candidates matching a condition
+ * on such a field can be counted by testing one candidate per value instead of scanning the whole list.
+ */
+public class CategoryIndex {
+
+    /**
+     * Represents a field of a {@code Candidate} that only takes one of a small, fixed set of values.
+     */
+    public enum Category {
+        COURSE("Course", candidate -> candidate.getCourse().toString(), keys -> keys.course),
+        SENIORITY("Seniority", candidate -> candidate.getSeniority().toSearchString(), keys -> keys.seniority),
+        APPLICATION_STATUS("Application status", candidate -> candidate.getApplicationStatus().toString(),
+                keys -> keys.applicationStatus),
+        INTERVIEW_STATUS("Interview status", candidate -> candidate.getInterviewStatus().toString(),
+                keys -> keys.interviewStatus);
+
+        private final String displayName;
+        private final Function<Candidate, String> labelExtractor;
+        private final Function<CandidateSearchKeys, String> valueExtractor;
+
+        Category(String displayName, Function<Candidate, String> labelExtractor,
+                Function<CandidateSearchKeys, String> valueExtractor) {
+            this.displayName = displayName;
+            this.labelExtractor = labelExtractor;
+            this.valueExtractor = valueExtractor;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        /**
+         * Returns the value of this field of {@code candidate} as it is displayed to the user.
+         */
+        public String labelOf(Candidate candidate) {
+            return labelExtractor.apply(candidate);
+        }
+
+        /**
+         * Returns the lowercased value of this field of {@code candidate}.
+         */
+        public String valueOf(Candidate candidate) {
+            return valueExtractor.apply(candidate.getSearchKeys());
+        }
+    }
+
+    /** For each category, maps every value present in the list to the candidates having that value. */
+    private final Map<Category, Map<String, Set<Candidate>>> postings = new EnumMap<>(Category.class);
+    private int size;
+
+    /**
+     * Creates an index over {@code candidates} which follows all later changes to the list.
+     *
+     * @param candidates the list of candidates to index.
+     */
+    public CategoryIndex(ObservableList<Candidate> candidates) {
+        requireNonNull(candidates);
+
+        for (Category category : Category.values()) {
+            postings.put(category, new HashMap<>());
+        }
+        candidates.forEach(this::add);
+        candidates.addListener(ListChangeUtil.forEachRemovedAndAdded(this::remove, this::add));
+    }
+
+    /**
+     * Returns the number of candidates in the indexed list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of candidates in the indexed list that satisfy {@code predicate}.
+     * {@code predicate} must only depend on the {@code category} field of a candidate, so that it is tested
+     * on a single candidate for each value of the field.
+     */
+    public int countMatching(Category category, Predicate<Candidate> predicate) {
+        requireNonNull(category);
+        requireNonNull(predicate);
+
+        int count = 0;
+        for (Set<Candidate> candidatesWithValue : postings.get(category).values()) {
+            if (predicate.test(candidatesWithValue.iterator().next())) {
+                count += candidatesWithValue.size();
+            }
+        }
+        return count;
+    }
+
+    private void add(Candidate candidate) {
+        for (Category category : Category.values()) {
+            postings.get(category)
+                    .computeIfAbsent(category.valueOf(candidate), unused ->
+                            Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(candidate);
+        }
+        size++;
+    }
+
+    private void remove(Candidate candidate) {
+        for (Category category : Category.values()) {
+            Map<String, Set<Candidate>> valuePostings = postings.get(category);
+            String value = category.valueOf(candidate);
+            Set<Candidate> candidatesWithValue = valuePostings.get(value);
+            candidatesWithValue.remove(candidate);
+            if (candidatesWithValue.isEmpty()) {
+                valuePostings.remove(value);
+            }
+        }
+        size--;
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model.candidate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChangeUtil;
+import seedu.address.commons.util.PrefixTrie;
+
+/**
+ * Indexes the student IDs, name words and emails of a list of candidates in a {@link PrefixTrie}, so that what
+ * the user is typing can be completed without scanning every candidate.
+ * It may be read from another thread while the list is being changed.
+ */
+public class CompletionIndex {
+
+    private final PrefixTrie trie = new PrefixTrie();
+
+    /**
+     * Creates an index over {@code candidates} which follows all later changes to the list.
+     *
+     * @param candidates the list of candidates to index.
+     */
+    public CompletionIndex(ObservableList<Candidate> candidates) {
+        requireNonNull(candidates);
+
+        candidates.forEach(this::add);
+        candidates.addListener(ListChangeUtil.forEachRemovedAndAdded(this::remove, this::add));
+    }
+
+    /**
+     * Returns at most {@code limit} student IDs, name words and emails starting with {@code prefix}, ignoring case,
+     * in alphabetical order.
+     */
+    public List<String> complete(String prefix, int limit) {
+        return trie.complete(prefix, limit);
+    }
+
+    private void add(Candidate candidate) {
+        getWords(candidate).forEach(trie::add);
+    }
+
+    private void remove(Candidate candidate) {
+        getWords(candidate).forEach(trie::remove);
+    }
+
+    private static List<String> getWords(Candidate candidate) {
+        List<String> words = new ArrayList<>();
+        words.add(candidate.getStudentId().studentId);
+        for (String nameWord : candidate.getName().fullName.trim().split("\\s+")) {
+            words.add(nameWord);
+        }
+        words.add(candidate.getEmail().value);
+        return words;
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model.candidate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChangeUtil;
+import seedu.address.model.candidate.CategoryIndex.Category;
+
+/**
+ * Counts the candidates in a list having each value of every categorical field, such as the number of candidates
+ * taking each course.
+ * The counts follow the changes to the list with {@link ListChangeUtil#forEachLeavingAndEntering}, which skips the
+ * candidates a refiltered list removes and adds again, so only the candidates entering or leaving the list are
+ * counted again.
+ */
+public class FacetCounts {
+
+    /** For each category, maps every value present in the list, as displayed, to the number of candidates. */
+    private final Map<Category, Map<String, Integer>> counts = new EnumMap<>(Category.class);
+
+    /**
+     * Creates the counts of {@code candidates}, which follow all later changes to the list.
+     *
+     * @param candidates the list of candidates to count.
+     */
+    public FacetCounts(ObservableList<Candidate> candidates) {
+        requireNonNull(candidates);
+
+        for (Category category : Category.values()) {
+            counts.put(category, new TreeMap<>());
+        }
+        candidates.forEach(this::add);
+        candidates.addListener(ListChangeUtil.forEachLeavingAndEntering(this::remove, this::add));
+    }
+
+    /**
+     * Returns an unmodifiable view of the number of candidates having each value of {@code category}, ordered by
+     * value. Values no candidate in the list has are left out.
+     */
+    public Map<String, Integer> getCounts(Category category) {
+        requireNonNull(category);
+        return Collections.unmodifiableMap(counts.get(category));
+    }
+
+    private void add(Candidate candidate) {
+        for (Category category : Category.values()) {
+            counts.get(category).merge(category.labelOf(candidate), 1, Integer::sum);
+        }
+    }
+
+    private void remove(Candidate candidate) {
+        for (Category category : Category.values()) {
+            // a count reaching zero is removed, so that only values present in the list are counted
+            counts.get(category).computeIfPresent(category.labelOf(candidate), (label, count) ->
+                    count == 1 ? null : count - 1);
+        }
+    }
+
+    /**
+     * Returns the counts of every category on its own line, such as {@code Course: Computer Science (2)}.
+     */
+    @Override
+    public String toString() {
+        return counts.entrySet().stream()
+                .map(categoryCounts -> categoryCounts.getKey().getDisplayName() + ": "
+                        + categoryCounts.getValue().entrySet().stream()
+                                .map(count -> count.getKey() + " (" + count.getValue() + ")")
+                                .collect(Collectors.joining(", ")))
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -80,4 +80,8 @@ public class InterviewStatus {
         return ((InterviewStatus) other).interviewStatus.equals(this.interviewStatus);
     }
 
+    @Override
+    public int hashCode() {
+        return interviewStatus.hashCode();
+    }
 }
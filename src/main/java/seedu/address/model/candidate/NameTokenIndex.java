@@ -0,0 +1,84 @@
+package seedu.address.model.candidate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.BkTree;
+import seedu.address.commons.util.ListChangeUtil;
+
+/**
+ * Indexes the distinct words in the names of a list of candidates in a {@link BkTree}, so that the words similar
+ * to a misspelled word can be found without comparing it with every name.
+ * Words are never removed from the tree, but each word records how many candidates currently have it in their
+ * name.
+ */
+public class NameTokenIndex {
+
+    private final BkTree tokenTree = new BkTree();
+    /** Maps every word ever indexed to the order in which it was first indexed. */
+    private final Map<String, Integer> tokenOrder = new HashMap<>();
+    /** Maps every word ever indexed to the number of candidates in the list having it in their name. */
+    private final Map<String, Integer> tokenCounts = new HashMap<>();
+
+    /**
+     * Creates an index over {@code candidates} which follows all later changes to the list.
+     *
+     * @param candidates the list of candidates to index.
+     */
+    public NameTokenIndex(ObservableList<Candidate> candidates) {
+        requireNonNull(candidates);
+
+        candidates.forEach(this::add);
+        candidates.addListener(ListChangeUtil.forEachRemovedAndAdded(this::remove, this::add));
+    }
+
+    /**
+     * Returns the words indexed so far that are within {@code maxDistance} edits of {@code token}.
+     */
+    public List<String> findSimilarTokens(String token, int maxDistance) {
+        return tokenTree.search(token, maxDistance);
+    }
+
+    /**
+     * Returns the number of distinct words indexed so far.
+     */
+    public int getTokenCount() {
+        return tokenOrder.size();
+    }
+
+    /**
+     * Returns true if {@code token} was among the first {@code tokenCount} words indexed.
+     * A word is only absent from the result of an earlier {@link #findSimilarTokens(String, int)} because it is
+     * not similar if it had already been indexed when the search was made.
+     */
+    public boolean wasIndexedBefore(String token, int tokenCount) {
+        Integer order = tokenOrder.get(token);
+        return order != null && order < tokenCount;
+    }
+
+    /**
+     * Returns the number of candidates in the list with {@code token} in their name.
+     */
+    public int countCandidatesWith(String token) {
+        return tokenCounts.getOrDefault(token, 0);
+    }
+
+    private void add(Candidate candidate) {
+        for (String token : candidate.getSearchKeys().nameTokens) {
+            if (tokenTree.add(token)) {
+                tokenOrder.put(token, tokenOrder.size());
+            }
+            tokenCounts.merge(token, 1, Integer::sum);
+        }
+    }
+
+    private void remove(Candidate candidate) {
+        for (String token : candidate.getSearchKeys().nameTokens) {
+            tokenCounts.merge(token, -1, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.candidate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChangeUtil;
+
+/**
+ * Indexes a list of candidates by the Soundex codes of the words in their names, so that the candidates whose
+ * name sounds like a word are found with a hash lookup instead of comparing the word with every name.
+ */
+public class PhoneticIndex {
+
+    /** Maps every Soundex code present in the list to the candidates having a name word with that code. */
+    private final Map<String, Set<Candidate>> postings = new HashMap<>();
+
+    /**
+     * Creates an index over {@code candidates} which follows all later changes to the list.
+     *
+     * @param candidates the list of candidates to index.
+     */
+    public PhoneticIndex(ObservableList<Candidate> candidates) {
+        requireNonNull(candidates);
+
+        candidates.forEach(this::add);
+        candidates.addListener(ListChangeUtil.forEachRemovedAndAdded(this::remove, this::add));
+    }
+
+    /**
+     * Returns true if {@code candidate} is in the indexed list and has a name word with the Soundex {@code code}.
+     */
+    public boolean hasCandidateWith(String code, Candidate candidate) {
+        Set<Candidate> candidatesWithCode = postings.get(code);
+        return candidatesWithCode != null && candidatesWithCode.contains(candidate);
+    }
+
+    /**
+     * Returns an unmodifiable view of the candidates in the list having a name word with the Soundex {@code code}.
+     */
+    public Set<Candidate> getCandidatesWith(String code) {
+        Set<Candidate> candidatesWithCode = postings.get(code);
+        return candidatesWithCode == null ? Collections.emptySet() : Collections.unmodifiableSet(candidatesWithCode);
+    }
+
+    /**
+     * Returns the number of candidates in the list having a name word with the Soundex {@code code}.
+     */
+    public int countCandidatesWith(String code) {
+        Set<Candidate> candidatesWithCode = postings.get(code);
+        return candidatesWithCode == null ? 0 : candidatesWithCode.size();
+    }
+
+    private void add(Candidate candidate) {
+        for (String code : candidate.getSearchKeys().namePhoneticCodes) {
+            postings.computeIfAbsent(code, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(candidate);
+        }
+    }
+
+    private void remove(Candidate candidate) {
+        for (String code : candidate.getSearchKeys().namePhoneticCodes) {
+            Set<Candidate> candidatesWithCode = postings.get(code);
+            candidatesWithCode.remove(candidate);
+            if (candidatesWithCode.isEmpty()) {
+                postings.remove(code);
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.address.model.candidate;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Scores how well a {@code Candidate} matches some search keywords, so that search results can be ranked.
+ * Each keyword is scored by its best match among the scored fields, as the weight of the field times the quality
+ * of the match: an exact match of the whole field beats a match at the start of a word, which beats a match
+ * anywhere else. The score of a candidate is the sum of the scores of all keywords.
+ */
+public class RelevanceScorer implements ToIntFunction<Candidate> {
+
+    /** Quality of a keyword equal to the whole field. */
+    public static final int EXACT_MATCH = 3;
+    /** Quality of a keyword found at the start of a word of the field. */
+    public static final int PREFIX_MATCH = 2;
+    /** Quality of a keyword found anywhere else in the field. */
+    public static final int SUBSTRING_MATCH = 1;
+    public static final int NO_MATCH = 0;
+
+    /**
+     * Represents a field of a {@code Candidate} that can be scored, weighted by how well a match on the field
+     * identifies the candidate.
+     */
+    public enum Field {
+        STUDENT_ID(8, keys -> keys.studentId),
+        EMAIL(6, keys -> keys.email),
+        PHONE(6, keys -> keys.phone),
+        NAME(4, keys -> keys.name),
+        COURSE(2, keys -> keys.course),
+        SENIORITY(1, keys -> keys.seniority),
+        APPLICATION_STATUS(1, keys -> keys.applicationStatus),
+        INTERVIEW_STATUS(1, keys -> keys.interviewStatus),
+        REMARK(1, keys -> keys.remark);
+
+        private final int weight;
+        private final Function<CandidateSearchKeys, String> valueExtractor;
+
+        Field(int weight, Function<CandidateSearchKeys, String> valueExtractor) {
+            this.weight = weight;
+            this.valueExtractor = valueExtractor;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+    }
+
+    private final List<Field> fields;
+    private final List<String> keywords;
+    /** Trimmed, lowercased and non-empty {@link #keywords}. */
+    private final List<String> lowerCaseKeywords;
+
+    /**
+     * Creates a {@code RelevanceScorer} scoring matches of {@code keywords} on the given {@code fields}.
+     */
+    public RelevanceScorer(List<Field> fields, List<String> keywords) {
+        requireAllNonNull(fields, keywords);
+
+        this.fields = fields;
+        this.keywords = keywords;
+        this.lowerCaseKeywords = new ArrayList<>();
+        for (String keyword : keywords) {
+            String lowerCaseKeyword = keyword.trim().toLowerCase();
+            if (!lowerCaseKeyword.isEmpty()) {
+                lowerCaseKeywords.add(lowerCaseKeyword);
+            }
+        }
+    }
+
+    /**
+     * Returns the relevance score of {@code candidate}, which is 0 if no keyword matches any scored field.
+     */
+    @Override
+    public int applyAsInt(Candidate candidate) {
+        CandidateSearchKeys keys = candidate.getSearchKeys();
+
+        int score = 0;
+        for (String keyword : lowerCaseKeywords) {
+            int keywordScore = 0;
+            for (Field field : fields) {
+                keywordScore = Math.max(keywordScore,
+                        field.weight * getMatchQuality(field.valueExtractor.apply(keys), keyword));
+            }
+            score += keywordScore;
+        }
+        return score;
+    }
+
+    /**
+     * Returns the quality of the best match of the lowercased {@code keyword} in the lowercased {@code value}.
+     */
+    public static int getMatchQuality(String value, String keyword) {
+        requireAllNonNull(value, keyword);
+
+        int index = value.indexOf(keyword);
+        if (index < 0) {
+            return NO_MATCH;
+        }
+        if (index == 0 && value.length() == keyword.length()) {
+            return EXACT_MATCH;
+        }
+        while (index >= 0) {
+            if (index == 0 || Character.isWhitespace(value.charAt(index - 1))) {
+                return PREFIX_MATCH;
+            }
+            index = value.indexOf(keyword, index + 1);
+        }
+        return SUBSTRING_MATCH;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RelevanceScorer // instanceof handles nulls
+                && fields.equals(((RelevanceScorer) other).fields)
+                && keywords.equals(((RelevanceScorer) other).keywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * fields.hashCode() + keywords.hashCode();
+    }
+}
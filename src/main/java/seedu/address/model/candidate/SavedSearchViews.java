@@ -0,0 +1,96 @@
+package seedu.address.model.candidate;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChangeUtil;
+
+/**
+ * Materializes the candidates matching each saved search of a list of candidates.
+ * Only the candidates in a change to the list are tested against the predicate of each view, so that the
+ * candidates of a view can be read at any time without testing every candidate.
+ */
+public class SavedSearchViews {
+
+    private final ObservableList<Candidate> candidates;
+    /** Maps the name of every view to its predicate. */
+    private final Map<String, Predicate<Candidate>> predicates = new HashMap<>();
+    /** Maps the name of every view to the candidates in the list satisfying its predicate. */
+    private final Map<String, Set<Candidate>> members = new HashMap<>();
+
+    /**
+     * Creates an empty set of views over {@code candidates} which follows all later changes to the list.
+     *
+     * @param candidates the list of candidates to materialize views of.
+     */
+    public SavedSearchViews(ObservableList<Candidate> candidates) {
+        requireNonNull(candidates);
+
+        this.candidates = candidates;
+        candidates.addListener(ListChangeUtil.forEachRemovedAndAdded(this::removeFromViews, this::addToViews));
+    }
+
+    /**
+     * Adds a view named {@code name} of the candidates satisfying {@code predicate}, replacing any view with the
+     * same name. This tests every candidate in the list once.
+     */
+    public void add(String name, Predicate<Candidate> predicate) {
+        requireAllNonNull(name, predicate);
+
+        Set<Candidate> matchingCandidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Candidate candidate : candidates) {
+            if (predicate.test(candidate)) {
+                matchingCandidates.add(candidate);
+            }
+        }
+        predicates.put(name, predicate);
+        members.put(name, matchingCandidates);
+    }
+
+    /**
+     * Removes the view named {@code name}, if any.
+     */
+    public void remove(String name) {
+        requireNonNull(name);
+
+        predicates.remove(name);
+        members.remove(name);
+    }
+
+    /**
+     * Returns true if there is a view named {@code name}.
+     */
+    public boolean contains(String name) {
+        requireNonNull(name);
+        return members.containsKey(name);
+    }
+
+    /**
+     * Returns an unmodifiable view of the candidates of the view named {@code name}, which stays up to date as the
+     * list changes. The view must exist.
+     */
+    public Set<Candidate> getCandidates(String name) {
+        requireNonNull(name);
+        return Collections.unmodifiableSet(members.get(name));
+    }
+
+    private void removeFromViews(Candidate candidate) {
+        members.values().forEach(matchingCandidates -> matchingCandidates.remove(candidate));
+    }
+
+    private void addToViews(Candidate candidate) {
+        for (Map.Entry<String, Set<Candidate>> view : members.entrySet()) {
+            if (predicates.get(view.getKey()).test(candidate)) {
+                view.getValue().add(candidate);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.candidate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.candidate.CategoryIndex.Category;
+
+/**
+ * Holds the indexes over a list of candidates that are used to plan and answer searches, and to complete what the
+ * user is typing.
+ */
+public class SearchIndex {
+
+    private final CategoryIndex categoryIndex;
+    private final NameTokenIndex nameTokenIndex;
+    private final PhoneticIndex phoneticIndex;
+    private final CompletionIndex completionIndex;
+
+    /**
+     * Creates the indexes over {@code candidates}, which follow all later changes to the list.
+     * The indexes are updated before any listener added to the list afterwards is notified of a change.
+     *
+     * @param candidates the list of candidates to index.
+     */
+    public SearchIndex(ObservableList<Candidate> candidates) {
+        requireNonNull(candidates);
+
+        categoryIndex = new CategoryIndex(candidates);
+        nameTokenIndex = new NameTokenIndex(candidates);
+        phoneticIndex = new PhoneticIndex(candidates);
+        completionIndex = new CompletionIndex(candidates);
+    }
+
+    public CategoryIndex getCategoryIndex() {
+        return categoryIndex;
+    }
+
+    public NameTokenIndex getNameTokenIndex() {
+        return nameTokenIndex;
+    }
+
+    public PhoneticIndex getPhoneticIndex() {
+        return phoneticIndex;
+    }
+
+    public CompletionIndex getCompletionIndex() {
+        return completionIndex;
+    }
+
+    /**
+     * Returns the number of candidates in the indexed list.
+     */
+    public int size() {
+        return categoryIndex.size();
+    }
+
+    /**
+     * Returns the fraction of candidates in the indexed list that satisfy {@code predicate}, which must only depend
+     * on the {@code category} field of a candidate.
+     */
+    public double getFractionMatching(Category category, Predicate<Candidate> predicate) {
+        return size() == 0 ? 0 : (double) categoryIndex.countMatching(category, predicate) / size();
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.model.candidate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChangeUtil;
+import seedu.address.model.candidate.CandidateSortOrder.Field;
+import seedu.address.model.candidate.CandidateSortOrder.SortKey;
+
+/**
+ * Keeps a list of candidates presorted by each field they can be sorted by, so that the candidates can be listed in
+ * the order of any one field by walking an index instead of sorting them.
+ * Every field is indexed in a single tree by its collation key, then by student ID, which is unique to a candidate in
+ * the list.
+ */
+public class SortIndex {
+
+    private final Collator collator = CandidateSortOrder.newCollator();
+    /** Maps every field to the candidates in the list ordered by the collation key of that field, then student ID. */
+    private final Map<Field, NavigableSet<Entry>> orders = new EnumMap<>(Field.class);
+    private int size;
+
+    /**
+     * Creates an index over {@code candidates} which follows all later changes to the list.
+     *
+     * @param candidates the list of candidates to index.
+     */
+    public SortIndex(ObservableList<Candidate> candidates) {
+        requireNonNull(candidates);
+
+        for (Field field : Field.values()) {
+            orders.put(field, new TreeSet<>());
+        }
+        candidates.forEach(this::add);
+        candidates.addListener(ListChangeUtil.forEachRemovedAndAdded(this::remove, this::add));
+    }
+
+    /**
+     * Returns the number of candidates in the indexed list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the candidates in the list in the order of {@code sortKey}, in time linear in their number.
+     * Candidates with equal values of the field are in ascending order of student ID, in either direction.
+     */
+    public List<Candidate> getOrderedCandidates(SortKey sortKey) {
+        requireNonNull(sortKey);
+
+        NavigableSet<Entry> order = orders.get(sortKey.getField());
+        List<Candidate> orderedCandidates = new ArrayList<>(size);
+        if (sortKey.isAscending()) {
+            order.forEach(entry -> orderedCandidates.add(entry.candidate));
+            return orderedCandidates;
+        }
+
+        // candidates with equal values are walked in descending order of student ID, so every run of them is reversed
+        int runStart = 0;
+        CollationKey runKey = null;
+        for (Iterator<Entry> entries = order.descendingIterator(); entries.hasNext();) {
+            Entry entry = entries.next();
+            if (!entry.key.equals(runKey)) {
+                Collections.reverse(orderedCandidates.subList(runStart, orderedCandidates.size()));
+                runStart = orderedCandidates.size();
+                runKey = entry.key;
+            }
+            orderedCandidates.add(entry.candidate);
+        }
+        Collections.reverse(orderedCandidates.subList(runStart, orderedCandidates.size()));
+        return orderedCandidates;
+    }
+
+    private void add(Candidate candidate) {
+        for (Field field : Field.values()) {
+            orders.get(field).add(new Entry(collator.getCollationKey(field.extractValue(candidate)), candidate));
+        }
+        size++;
+    }
+
+    private void remove(Candidate candidate) {
+        for (Field field : Field.values()) {
+            orders.get(field).remove(new Entry(collator.getCollationKey(field.extractValue(candidate)), candidate));
+        }
+        size--;
+    }
+
+    /**
+     * Represents a candidate in the index of a field, ordered by the collation key of the field, then by student ID.
+     */
+    private static class Entry implements Comparable<Entry> {
+        private final CollationKey key;
+        private final String studentId;
+        private final Candidate candidate;
+
+        Entry(CollationKey key, Candidate candidate) {
+            this.key = key;
+            this.studentId = candidate.getStudentId().toString();
+            this.candidate = candidate;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int comparison = key.compareTo(other.key);
+            return comparison != 0 ? comparison : studentId.compareTo(other.studentId);
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package seedu.address.model.candidate;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.commands.EditCommand.MESSAGE_DUPLICATE_CANDIDATE;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChangeJournal;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.candidate.exceptions.CandidateNotFoundException;
 import seedu.address.model.candidate.exceptions.DuplicateCandidateException;
@@ -80,6 +87,45 @@ public class UniqueCandidateList implements Iterable<Candidate> {
         internalList.set(index, editedCandidate);
     }
 
+    /**
+     * Replaces every candidate of {@code targets} in the list with the candidate at the same position in
+     * {@code editedCandidates}, all at once. Every target must exist in the list, and the edited candidates must be
+     * unique together with the candidates not replaced; otherwise none is replaced.
+     * The list is visited once, and its listeners are notified of a single change.
+     */
+    public void setCandidates(List<Candidate> targets, List<Candidate> editedCandidates) throws CommandException {
+        requireAllNonNull(targets);
+        requireAllNonNull(editedCandidates);
+        checkArgument(targets.size() == editedCandidates.size(), "Every target must have one edited candidate");
+
+        Map<Candidate, Candidate> editedCandidatesByTarget = new HashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            editedCandidatesByTarget.put(targets.get(i), editedCandidates.get(i));
+        }
+        checkArgument(editedCandidatesByTarget.size() == targets.size(), "Every target must be replaced once");
+
+        List<Candidate> internalListCopy = new ArrayList<>(internalList.size());
+        int replacedCount = 0;
+        for (Candidate candidate : internalList) {
+            Candidate editedCandidate = editedCandidatesByTarget.get(candidate);
+            if (editedCandidate == null) {
+                internalListCopy.add(candidate);
+            } else {
+                internalListCopy.add(editedCandidate);
+                replacedCount++;
+            }
+        }
+        if (replacedCount != targets.size()) {
+            throw new CandidateNotFoundException();
+        }
+
+        if (!candidatesAreUnique(internalListCopy)) {
+            throw new CommandException(MESSAGE_DUPLICATE_CANDIDATE);
+        }
+
+        internalList.setAll(internalListCopy);
+    }
+
     /**
      * Removes the equivalent candidate from the list.
      * The candidate must exist in the list.
@@ -109,6 +155,13 @@ public class UniqueCandidateList implements Iterable<Candidate> {
         internalList.setAll(candidates);
     }
 
+    /**
+     * Starts recording the changes to the list, which the returned journal can list or undo.
+     */
+    public ListChangeJournal<Candidate> startJournal() {
+        return new ListChangeJournal<>(internalList);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -135,13 +188,17 @@ public class UniqueCandidateList implements Iterable<Candidate> {
 
     /**
      * Returns true if {@code candidates} contains only unique candidates.
+     * As candidates are the same if they share a student ID, email or phone, each of these is checked with a set,
+     * so the check takes linear time.
      */
     private boolean candidatesAreUnique(List<Candidate> candidates) {
-        for (int i = 0; i < candidates.size() - 1; i++) {
-            for (int j = i + 1; j < candidates.size(); j++) {
-                if (candidates.get(i).isSameCandidate(candidates.get(j))) {
-                    return false;
-                }
+        Set<StudentId> studentIds = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        Set<Phone> phones = new HashSet<>();
+        for (Candidate candidate : candidates) {
+            if (!studentIds.add(candidate.getStudentId()) || !emails.add(candidate.getEmail())
+                    || !phones.add(candidate.getPhone())) {
+                return false;
             }
         }
         return true;
@@ -32,8 +32,7 @@ public class ApplicationStatusContainsKeywordsPredicate extends ContainsKeywords
     public boolean test(Candidate candidate) {
         requireNonNull(candidate);
 
-        return keywords.stream().anyMatch(keyword ->
-                candidate.getApplicationStatus().toString().toLowerCase().contains(keyword.toLowerCase()));
+        return containsAnyKeyword(candidate.getSearchKeys().applicationStatus);
     }
 
     /**
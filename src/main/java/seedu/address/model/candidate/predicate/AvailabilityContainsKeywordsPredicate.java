@@ -2,8 +2,6 @@ package seedu.address.model.candidate.predicate;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -15,6 +13,8 @@ import seedu.address.model.candidate.Candidate;
 public class AvailabilityContainsKeywordsPredicate extends ContainsKeywordsPredicate implements Predicate<Candidate> {
     public static final String[] DAYS_IN_FULL = { "", "MON", "TUE", "WED", "THU", "FRI" };
 
+    private final int[] keywordDays;
+
     /**
      * Creates a new {@link AvailabilityContainsKeywordsPredicate} object with the
      * {@link AvailabilityContainsKeywordsPredicate#keywords} initialised.
@@ -22,6 +22,39 @@ public class AvailabilityContainsKeywordsPredicate extends ContainsKeywordsPredi
      */
     public AvailabilityContainsKeywordsPredicate(List<String> keywords) {
         super(keywords);
+        keywordDays = toDays(lowerCaseKeywords);
+    }
+
+    /**
+     * Returns the day of the week (1 for Monday to 5 for Friday) that each of the {@code lowerCaseKeywords}
+     * refers to, or 0 if the keyword is not a valid day.
+     * @param lowerCaseKeywords contain lowercased keyword(s) to convert.
+     */
+    static int[] toDays(String[] lowerCaseKeywords) {
+        int[] days = new int[lowerCaseKeywords.length];
+        for (int i = 0; i < lowerCaseKeywords.length; i++) {
+            for (int day = 1; day < DAYS_IN_FULL.length; day++) {
+                if (DAYS_IN_FULL[day].equalsIgnoreCase(lowerCaseKeywords[i])) {
+                    days[i] = day;
+                }
+            }
+        }
+        return days;
+    }
+
+    /**
+     * Returns true if {@code candidate} is available on any of the given {@code days}.
+     * @param candidate object to retrieve the {@code Availability}.
+     * @param days contain the days of the week as returned by {@link #toDays(String[])}.
+     */
+    static boolean isAvailableOnAnyDay(Candidate candidate, int[] days) {
+        boolean[] availableDays = candidate.getAvailability().getAvailableListAsBoolean();
+        for (int day : days) {
+            if (day > 0 && availableDays[day - 1]) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -34,15 +67,7 @@ public class AvailabilityContainsKeywordsPredicate extends ContainsKeywordsPredi
     public boolean test(Candidate candidate) {
         requireNonNull(candidate);
 
-        String availability = candidate.getAvailability().toString();
-        int[] availArr = Arrays.stream(availability.split(",")).mapToInt((Integer::parseInt)).toArray();
-        HashMap<String, Integer> availMap = new HashMap<>();
-
-        for (Integer i: availArr) {
-            availMap.put(DAYS_IN_FULL[i], i);
-        }
-
-        return keywords.stream().anyMatch(keyword -> availMap.containsKey(keyword.toUpperCase()));
+        return isAvailableOnAnyDay(candidate, keywordDays);
     }
 
     /**
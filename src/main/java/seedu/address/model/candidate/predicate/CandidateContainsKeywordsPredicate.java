@@ -2,12 +2,11 @@ package seedu.address.model.candidate.predicate;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.CandidateSearchKeys;
 
 /**
  * Tests that a {@code Candidate} matches any of the keywords given.
@@ -15,6 +14,8 @@ import seedu.address.model.candidate.Candidate;
 public class CandidateContainsKeywordsPredicate extends ContainsKeywordsPredicate implements Predicate<Candidate> {
     public static final String[] DAYS_IN_FULL = { "", "MON", "TUE", "WED", "THU", "FRI" };
 
+    private final int[] keywordDays;
+
     /**
      * Creates a new {@link CandidateContainsKeywordsPredicate} object with the
      * {@link CandidateContainsKeywordsPredicate#keywords} initialised.
@@ -22,6 +23,7 @@ public class CandidateContainsKeywordsPredicate extends ContainsKeywordsPredicat
      */
     public CandidateContainsKeywordsPredicate(List<String> keywords) {
         super(keywords);
+        keywordDays = AvailabilityContainsKeywordsPredicate.toDays(lowerCaseKeywords);
     }
 
     /**
@@ -34,24 +36,16 @@ public class CandidateContainsKeywordsPredicate extends ContainsKeywordsPredicat
     public boolean test(Candidate candidate) {
         requireNonNull(candidate);
 
-        String availability = candidate.getAvailability().toString();
-        int[] availArr = Arrays.stream(availability.split(",")).mapToInt((Integer::parseInt)).toArray();
-        HashMap<String, Integer> availMap = new HashMap<>();
-
-        for (Integer i: availArr) {
-            availMap.put(DAYS_IN_FULL[i], i);
-        }
-
-        return keywords.stream().anyMatch(keyword ->
-                candidate.getApplicationStatus().toString().toLowerCase().contains(keyword.toLowerCase())
-                        || candidate.getCourse().toString().toLowerCase().contains(keyword.toLowerCase())
-                        || candidate.getEmail().toString().toLowerCase().contains(keyword.toLowerCase())
-                        || candidate.getInterviewStatus().toString().toLowerCase().contains(keyword.toLowerCase())
-                        || candidate.getName().toString().toLowerCase().contains(keyword.toLowerCase())
-                        || candidate.getPhone().toString().toLowerCase().contains(keyword.toLowerCase())
-                        || candidate.getSeniority().toSearchString().toLowerCase().contains(keyword.toLowerCase())
-                        || candidate.getStudentId().toString().toLowerCase().contains(keyword.toLowerCase())
-                        || availMap.containsKey(keyword.toUpperCase()));
+        CandidateSearchKeys searchKeys = candidate.getSearchKeys();
+        return containsAnyKeyword(searchKeys.applicationStatus)
+                || containsAnyKeyword(searchKeys.course)
+                || containsAnyKeyword(searchKeys.email)
+                || containsAnyKeyword(searchKeys.interviewStatus)
+                || containsAnyKeyword(searchKeys.name)
+                || containsAnyKeyword(searchKeys.phone)
+                || containsAnyKeyword(searchKeys.seniority)
+                || containsAnyKeyword(searchKeys.studentId)
+                || AvailabilityContainsKeywordsPredicate.isAvailableOnAnyDay(candidate, keywordDays);
     }
 
     /**
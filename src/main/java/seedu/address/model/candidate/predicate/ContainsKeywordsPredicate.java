@@ -2,9 +2,11 @@ package seedu.address.model.candidate.predicate;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.AhoCorasickAutomaton;
 import seedu.address.model.candidate.Candidate;
 
 /**
@@ -13,16 +15,34 @@ import seedu.address.model.candidate.Candidate;
  */
 public abstract class ContainsKeywordsPredicate implements Predicate<Candidate> {
     protected final List<String> keywords;
+    protected final String[] lowerCaseKeywords;
+    private final AhoCorasickAutomaton keywordAutomaton;
 
     /**
      * Creates a new {@link ContainsKeywordsPredicate} object with the
      * {@link ContainsKeywordsPredicate#keywords} initialised.
+     * The keywords are lowercased and compiled into a single automaton once here, rather than on every call
+     * to {@link #test(Candidate)}.
      * @param keywords contain keyword(s) to find.
      */
     public ContainsKeywordsPredicate(List<String> keywords) {
         requireNonNull(keywords);
 
         this.keywords = keywords;
+        this.lowerCaseKeywords = new String[keywords.size()];
+        for (int i = 0; i < lowerCaseKeywords.length; i++) {
+            lowerCaseKeywords[i] = keywords.get(i).toLowerCase();
+        }
+        this.keywordAutomaton = new AhoCorasickAutomaton(Arrays.asList(lowerCaseKeywords));
+    }
+
+    /**
+     * Returns true if the lowercased {@code value} contains any of the
+     * {@link ContainsKeywordsPredicate#lowerCaseKeywords}, scanning {@code value} only once.
+     * @param value lowercased field value of a {@code Candidate}.
+     */
+    protected boolean containsAnyKeyword(String value) {
+        return keywordAutomaton.containsAnyIn(value);
     }
 
     /**
@@ -41,5 +61,10 @@ public abstract class ContainsKeywordsPredicate implements Predicate<Candidate>
                 && keywords.equals(((ContainsKeywordsPredicate) other).keywords)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
 
 }
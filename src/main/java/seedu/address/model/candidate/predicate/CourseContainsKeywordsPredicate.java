@@ -31,8 +31,7 @@ public class CourseContainsKeywordsPredicate extends ContainsKeywordsPredicate i
     public boolean test(Candidate candidate) {
         requireNonNull(candidate);
 
-        return keywords.stream()
-                .anyMatch(keyword -> candidate.getCourse().toString().toLowerCase().contains(keyword.toLowerCase()));
+        return containsAnyKeyword(candidate.getSearchKeys().course);
     }
 
     /**
@@ -31,8 +31,7 @@ public class EmailContainsKeywordsPredicate extends ContainsKeywordsPredicate im
     public boolean test(Candidate candidate) {
         requireNonNull(candidate);
 
-        return keywords.stream()
-                .anyMatch(keyword -> candidate.getEmail().toString().toLowerCase().contains(keyword.toLowerCase()));
+        return containsAnyKeyword(candidate.getSearchKeys().email);
     }
 
     /**
@@ -32,8 +32,7 @@ public class InterviewStatusContainsKeywordsPredicate extends ContainsKeywordsPr
     public boolean test(Candidate candidate) {
         requireNonNull(candidate);
 
-        return keywords.stream().anyMatch(keyword ->
-                candidate.getInterviewStatus().toString().toLowerCase().contains(keyword.toLowerCase()));
+        return containsAnyKeyword(candidate.getSearchKeys().interviewStatus);
     }
 
     /**
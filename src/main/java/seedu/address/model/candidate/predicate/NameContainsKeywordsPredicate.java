@@ -31,8 +31,7 @@ public class NameContainsKeywordsPredicate extends ContainsKeywordsPredicate imp
     public boolean test(Candidate candidate) {
         requireNonNull(candidate);
 
-        return keywords.stream()
-                .anyMatch(keyword -> candidate.getName().toString().toLowerCase().contains(keyword.toLowerCase()));
+        return containsAnyKeyword(candidate.getSearchKeys().name);
     }
 
     /**
@@ -31,8 +31,7 @@ public class PhoneContainsKeywordsPredicate extends ContainsKeywordsPredicate im
     public boolean test(Candidate candidate) {
         requireNonNull(candidate);
 
-        return keywords.stream()
-                .anyMatch(keyword -> candidate.getPhone().toString().toLowerCase().contains(keyword.toLowerCase()));
+        return containsAnyKeyword(candidate.getSearchKeys().phone);
     }
 
     /**
@@ -32,8 +32,7 @@ public class SeniorityContainsKeywordsPredicate extends ContainsKeywordsPredicat
     public boolean test(Candidate candidate) {
         requireNonNull(candidate);
 
-        return keywords.stream().anyMatch(keyword ->
-                candidate.getSeniority().toSearchString().toLowerCase().contains(keyword.toLowerCase()));
+        return containsAnyKeyword(candidate.getSearchKeys().seniority);
     }
 
     /**
@@ -31,8 +31,7 @@ public class StudentIdContainsKeywordsPredicate extends ContainsKeywordsPredicat
     public boolean test(Candidate candidate) {
         requireNonNull(candidate);
 
-        return keywords.stream()
-                .anyMatch(keyword -> candidate.getStudentId().toString().toLowerCase().contains(keyword.toLowerCase()));
+        return containsAnyKeyword(candidate.getSearchKeys().studentId);
     }
 
     /**
@@ -0,0 +1,72 @@
+package seedu.address.model.candidate.query;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.SearchIndex;
+
+/**
+ * A query that matches the candidates matched by all of its clauses.
+ */
+public class AndQuery extends CompositeQuery {
+
+    /**
+     * Creates an {@code AndQuery} over {@code clauses}, which are tested in the given order.
+     */
+    public AndQuery(List<Query> clauses) {
+        super(clauses);
+    }
+
+    @Override
+    public boolean test(Candidate candidate) {
+        for (Query clause : clauses) {
+            if (!clause.test(candidate)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public double estimateSelectivity(SearchIndex index) {
+        double selectivity = 1;
+        for (Query clause : clauses) {
+            selectivity *= clause.estimateSelectivity(index);
+        }
+        return selectivity;
+    }
+
+    /**
+     * Returns the candidates found by the first clause which reads an index, that match every other clause too.
+     */
+    @Override
+    public Optional<Set<Candidate>> findMatches() {
+        for (Query clause : clauses) {
+            Optional<Set<Candidate>> clauseMatches = clause.findMatches();
+            if (clauseMatches.isPresent()) {
+                Set<Candidate> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+                for (Candidate candidate : clauseMatches.get()) {
+                    if (test(candidate)) {
+                        matches.add(candidate);
+                    }
+                }
+                return Optional.of(matches);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    protected double getContinueProbability(double selectivity) {
+        return selectivity;
+    }
+
+    @Override
+    protected CompositeQuery withClauses(List<Query> clauses) {
+        return new AndQuery(clauses);
+    }
+}
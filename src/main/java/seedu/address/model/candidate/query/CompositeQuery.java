@@ -0,0 +1,88 @@
+package seedu.address.model.candidate.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.model.candidate.SearchIndex;
+
+/**
+ * A query combining several clauses, whose result is decided as soon as one clause gives the deciding answer.
+ * Planning orders the clauses by the ratio of their cost to the probability that they decide the result, which
+ * minimises the expected cost of testing a candidate when the clauses are independent.
+ */
+public abstract class CompositeQuery extends Query {
+
+    protected final List<Query> clauses;
+
+    /**
+     * Creates a {@code CompositeQuery} over {@code clauses}, which are tested in the given order.
+     */
+    public CompositeQuery(List<Query> clauses) {
+        requireAllNonNull(clauses);
+
+        this.clauses = Collections.unmodifiableList(new ArrayList<>(clauses));
+    }
+
+    /**
+     * Returns the probability that a clause with the given {@code selectivity} does not decide the result,
+     * so that the next clause has to be tested.
+     */
+    protected abstract double getContinueProbability(double selectivity);
+
+    /**
+     * Returns a new query of the same kind as this query over {@code clauses}.
+     */
+    protected abstract CompositeQuery withClauses(List<Query> clauses);
+
+    @Override
+    public double estimateCost(SearchIndex index) {
+        double cost = 0;
+        double continueProbability = 1;
+        for (Query clause : clauses) {
+            cost += continueProbability * clause.estimateCost(index);
+            continueProbability *= getContinueProbability(clause.estimateSelectivity(index));
+        }
+        return cost;
+    }
+
+    /**
+     * Plans every clause, merges nested queries of the same kind into this query, and orders the resulting
+     * clauses so that cheap and decisive clauses are tested first.
+     */
+    @Override
+    public Query plan(SearchIndex index) {
+        List<Query> plannedClauses = new ArrayList<>();
+        for (Query clause : clauses) {
+            Query plannedClause = clause.plan(index);
+            if (plannedClause.getClass() == getClass()) {
+                plannedClauses.addAll(((CompositeQuery) plannedClause).clauses);
+            } else {
+                plannedClauses.add(plannedClause);
+            }
+        }
+
+        plannedClauses.sort(Comparator.comparingDouble(clause -> getRank(clause, index)));
+        return withClauses(plannedClauses);
+    }
+
+    private double getRank(Query clause, SearchIndex index) {
+        double decideProbability = 1 - getContinueProbability(clause.estimateSelectivity(index));
+        return decideProbability == 0 ? Double.POSITIVE_INFINITY : clause.estimateCost(index) / decideProbability;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other != null && other.getClass() == getClass() // handles nulls
+                && clauses.equals(((CompositeQuery) other).clauses)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * getClass().hashCode() + clauses.hashCode();
+    }
+}
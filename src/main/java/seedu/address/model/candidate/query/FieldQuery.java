@@ -0,0 +1,109 @@
+package seedu.address.model.candidate.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.CategoryIndex.Category;
+import seedu.address.model.candidate.SearchIndex;
+import seedu.address.model.candidate.predicate.ApplicationStatusContainsKeywordsPredicate;
+import seedu.address.model.candidate.predicate.CandidateContainsKeywordsPredicate;
+import seedu.address.model.candidate.predicate.ContainsKeywordsPredicate;
+import seedu.address.model.candidate.predicate.CourseContainsKeywordsPredicate;
+import seedu.address.model.candidate.predicate.EmailContainsKeywordsPredicate;
+import seedu.address.model.candidate.predicate.InterviewStatusContainsKeywordsPredicate;
+import seedu.address.model.candidate.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.candidate.predicate.PhoneContainsKeywordsPredicate;
+import seedu.address.model.candidate.predicate.SeniorityContainsKeywordsPredicate;
+import seedu.address.model.candidate.predicate.StudentIdContainsKeywordsPredicate;
+
+/**
+ * A query clause that matches candidates containing any of some keywords in one field, or in all fields.
+ */
+public class FieldQuery extends Query {
+
+    /** Estimated selectivity of a field that is unique or nearly unique to each candidate. */
+    private static final double IDENTIFIER_SELECTIVITY = 0.01;
+    private static final double NAME_SELECTIVITY = 0.1;
+    private static final double DEFAULT_SELECTIVITY = 0.5;
+    /** Number of fields tested by a {@link CandidateContainsKeywordsPredicate}. */
+    private static final double ALL_FIELDS_COST = 9;
+
+    private final ContainsKeywordsPredicate predicate;
+
+    /**
+     * Creates a {@code FieldQuery} that matches the candidates satisfying {@code predicate}.
+     */
+    public FieldQuery(ContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean test(Candidate candidate) {
+        return predicate.test(candidate);
+    }
+
+    /**
+     * Returns the exact selectivity counted from {@code index} if the searched field is categorical, or a
+     * fixed estimate depending on the field otherwise.
+     */
+    @Override
+    public double estimateSelectivity(SearchIndex index) {
+        Optional<Category> category = getCategory();
+        if (category.isPresent()) {
+            return index.getFractionMatching(category.get(), predicate);
+        }
+
+        if (predicate instanceof StudentIdContainsKeywordsPredicate
+                || predicate instanceof EmailContainsKeywordsPredicate
+                || predicate instanceof PhoneContainsKeywordsPredicate) {
+            return IDENTIFIER_SELECTIVITY;
+        } else if (predicate instanceof NameContainsKeywordsPredicate) {
+            return NAME_SELECTIVITY;
+        } else {
+            return DEFAULT_SELECTIVITY;
+        }
+    }
+
+    @Override
+    public double estimateCost(SearchIndex index) {
+        return predicate instanceof CandidateContainsKeywordsPredicate ? ALL_FIELDS_COST : 1;
+    }
+
+    @Override
+    public Query plan(SearchIndex index) {
+        return this;
+    }
+
+    /**
+     * Returns the categorical field searched by the predicate, if any.
+     */
+    private Optional<Category> getCategory() {
+        if (predicate instanceof CourseContainsKeywordsPredicate) {
+            return Optional.of(Category.COURSE);
+        } else if (predicate instanceof SeniorityContainsKeywordsPredicate) {
+            return Optional.of(Category.SENIORITY);
+        } else if (predicate instanceof ApplicationStatusContainsKeywordsPredicate) {
+            return Optional.of(Category.APPLICATION_STATUS);
+        } else if (predicate instanceof InterviewStatusContainsKeywordsPredicate) {
+            return Optional.of(Category.INTERVIEW_STATUS);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FieldQuery // instanceof handles nulls
+                && predicate.equals(((FieldQuery) other).predicate)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return predicate.hashCode();
+    }
+}
@@ -0,0 +1,187 @@
+package seedu.address.model.candidate.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.NameTokenIndex;
+import seedu.address.model.candidate.SearchIndex;
+
+/**
+ * A query clause that matches candidates whose {@code Name} approximately contains any of some keywords.
+ * A keyword matches a name if every word of the keyword is within a few edits of some word of the name, where
+ * longer words tolerate more edits.
+ * Planning looks up the words similar to each keyword word in the {@link NameTokenIndex}, so that testing a
+ * candidate only takes set lookups instead of computing edit distances against every name.
+ */
+public class FuzzyNameQuery extends Query {
+
+    /** Words of at most this length must match exactly. */
+    private static final int MAX_LENGTH_FOR_EXACT_MATCH = 2;
+    /** Words of at most this length may be one edit away from the name word. */
+    private static final int MAX_LENGTH_FOR_ONE_EDIT = 5;
+    private static final int MAX_EDITS = 2;
+
+    private final List<String> keywords;
+    /** Lowercased words of each keyword. */
+    private final List<List<String>> keywordTokens;
+
+    /** Index used to resolve {@link #similarTokens}, or null if this query has not been planned. */
+    private final NameTokenIndex nameTokenIndex;
+    /** Maps every keyword word to the similar name words found in {@link #nameTokenIndex} when planning. */
+    private final Map<String, Set<String>> similarTokens;
+    /** Number of words that had been indexed in {@link #nameTokenIndex} when planning. */
+    private final int indexedTokenCount;
+
+    /**
+     * Creates a {@code FuzzyNameQuery} matching the names similar to any of {@code keywords}.
+     */
+    public FuzzyNameQuery(List<String> keywords) {
+        this(keywords, null, Collections.emptyMap(), 0);
+    }
+
+    private FuzzyNameQuery(List<String> keywords, NameTokenIndex nameTokenIndex,
+                           Map<String, Set<String>> similarTokens, int indexedTokenCount) {
+        CollectionUtil.requireAllNonNull(keywords);
+
+        this.keywords = keywords;
+        this.keywordTokens = new ArrayList<>();
+        for (String keyword : keywords) {
+            String trimmedKeyword = keyword.trim().toLowerCase();
+            if (!trimmedKeyword.isEmpty()) {
+                keywordTokens.add(List.of(trimmedKeyword.split("\\s+")));
+            }
+        }
+        this.nameTokenIndex = nameTokenIndex;
+        this.similarTokens = similarTokens;
+        this.indexedTokenCount = indexedTokenCount;
+    }
+
+    /**
+     * Returns the maximum number of edits between {@code token} and a name word for them to be similar.
+     */
+    public static int getMaxEdits(String token) {
+        requireNonNull(token);
+
+        if (token.length() <= MAX_LENGTH_FOR_EXACT_MATCH) {
+            return 0;
+        } else if (token.length() <= MAX_LENGTH_FOR_ONE_EDIT) {
+            return 1;
+        } else {
+            return MAX_EDITS;
+        }
+    }
+
+    @Override
+    public boolean test(Candidate candidate) {
+        requireNonNull(candidate);
+
+        List<String> nameTokens = candidate.getSearchKeys().nameTokens;
+        for (List<String> tokens : keywordTokens) {
+            if (containsAllSimilar(nameTokens, tokens)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean containsAllSimilar(List<String> nameTokens, List<String> tokens) {
+        for (String token : tokens) {
+            if (!containsSimilar(nameTokens, token)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean containsSimilar(List<String> nameTokens, String token) {
+        for (int i = 0; i < nameTokens.size(); i++) {
+            if (isSimilar(token, nameTokens.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code nameToken} is similar to the keyword word {@code token}, looking the answer up in
+     * {@link #similarTokens} if {@code nameToken} had been indexed when this query was planned.
+     */
+    private boolean isSimilar(String token, String nameToken) {
+        if (nameTokenIndex != null && nameTokenIndex.wasIndexedBefore(nameToken, indexedTokenCount)) {
+            return similarTokens.get(token).contains(nameToken);
+        }
+        int maxEdits = getMaxEdits(token);
+        return StringUtil.editDistance(token, nameToken, maxEdits) <= maxEdits;
+    }
+
+    /**
+     * Returns the fraction of candidates having a name word similar to any keyword, counted from the index if this
+     * query has been planned. Every keyword is assumed to be matched by different candidates.
+     */
+    @Override
+    public double estimateSelectivity(SearchIndex index) {
+        if (nameTokenIndex == null) {
+            return plan(index).estimateSelectivity(index);
+        }
+        if (index.size() == 0) {
+            return 0;
+        }
+
+        int matchCount = 0;
+        for (List<String> tokens : keywordTokens) {
+            int keywordMatchCount = Integer.MAX_VALUE;
+            for (String token : tokens) {
+                int tokenMatchCount = 0;
+                for (String similarToken : similarTokens.get(token)) {
+                    tokenMatchCount += nameTokenIndex.countCandidatesWith(similarToken);
+                }
+                keywordMatchCount = Math.min(keywordMatchCount, tokenMatchCount);
+            }
+            matchCount += keywordMatchCount;
+        }
+        return Math.min(1, (double) matchCount / index.size());
+    }
+
+    @Override
+    public double estimateCost(SearchIndex index) {
+        return 1;
+    }
+
+    /**
+     * Returns an equivalent query which has looked up the name words similar to each keyword word in the index.
+     */
+    @Override
+    public Query plan(SearchIndex index) {
+        NameTokenIndex tokenIndex = index.getNameTokenIndex();
+        Map<String, Set<String>> resolvedTokens = new HashMap<>();
+        for (List<String> tokens : keywordTokens) {
+            for (String token : tokens) {
+                resolvedTokens.computeIfAbsent(token, unused ->
+                        new HashSet<>(tokenIndex.findSimilarTokens(token, getMaxEdits(token))));
+            }
+        }
+        return new FuzzyNameQuery(keywords, tokenIndex, resolvedTokens, tokenIndex.getTokenCount());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FuzzyNameQuery // instanceof handles nulls
+                && keywords.equals(((FuzzyNameQuery) other).keywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+}
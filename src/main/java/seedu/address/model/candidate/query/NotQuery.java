@@ -0,0 +1,55 @@
+package seedu.address.model.candidate.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.SearchIndex;
+
+/**
+ * A query that matches the candidates not matched by another query.
+ */
+public class NotQuery extends Query {
+
+    private final Query negated;
+
+    /**
+     * Creates a {@code NotQuery} matching the candidates not matched by {@code negated}.
+     */
+    public NotQuery(Query negated) {
+        requireNonNull(negated);
+
+        this.negated = negated;
+    }
+
+    @Override
+    public boolean test(Candidate candidate) {
+        return !negated.test(candidate);
+    }
+
+    @Override
+    public double estimateSelectivity(SearchIndex index) {
+        return 1 - negated.estimateSelectivity(index);
+    }
+
+    @Override
+    public double estimateCost(SearchIndex index) {
+        return negated.estimateCost(index);
+    }
+
+    @Override
+    public Query plan(SearchIndex index) {
+        return new NotQuery(negated.plan(index));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotQuery // instanceof handles nulls
+                && negated.equals(((NotQuery) other).negated)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return ~negated.hashCode();
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.model.candidate.query;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.SearchIndex;
+
+/**
+ * A query that matches the candidates matched by any of its clauses.
+ */
+public class OrQuery extends CompositeQuery {
+
+    /**
+     * Creates an {@code OrQuery} over {@code clauses}, which are tested in the given order.
+     */
+    public OrQuery(List<Query> clauses) {
+        super(clauses);
+    }
+
+    @Override
+    public boolean test(Candidate candidate) {
+        for (Query clause : clauses) {
+            if (clause.test(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public double estimateSelectivity(SearchIndex index) {
+        double missProbability = 1;
+        for (Query clause : clauses) {
+            missProbability *= 1 - clause.estimateSelectivity(index);
+        }
+        return 1 - missProbability;
+    }
+
+    /**
+     * Returns the candidates found by any clause, if every clause reads an index.
+     */
+    @Override
+    public Optional<Set<Candidate>> findMatches() {
+        Set<Candidate> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Query clause : clauses) {
+            Optional<Set<Candidate>> clauseMatches = clause.findMatches();
+            if (clauseMatches.isEmpty()) {
+                return Optional.empty();
+            }
+            matches.addAll(clauseMatches.get());
+        }
+        return Optional.of(matches);
+    }
+
+    @Override
+    protected double getContinueProbability(double selectivity) {
+        return 1 - selectivity;
+    }
+
+    @Override
+    protected CompositeQuery withClauses(List<Query> clauses) {
+        return new OrQuery(clauses);
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.model.candidate.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.PhoneticIndex;
+import seedu.address.model.candidate.SearchIndex;
+
+/**
+ * A query clause that matches candidates whose {@code Name} sounds like any of some keywords.
+ * A keyword matches a name if every word of the keyword has the same Soundex code as some word of the name, so
+ * that differently transcribed names such as "Mohamed" and "Muhammad" match.
+ * Once planned, a candidate is tested by looking its codes up in the {@link PhoneticIndex}, and the matching
+ * candidates are found by reading the candidates with the rarest code of each keyword from the index.
+ */
+public class PhoneticNameQuery extends Query {
+
+    private final List<String> keywords;
+    /** Soundex codes of the words of each keyword. */
+    private final List<List<String>> keywordCodes;
+    /** Index used to test candidates, or null if this query has not been planned. */
+    private final PhoneticIndex phoneticIndex;
+
+    /**
+     * Creates a {@code PhoneticNameQuery} matching the names that sound like any of {@code keywords}.
+     */
+    public PhoneticNameQuery(List<String> keywords) {
+        this(keywords, null);
+    }
+
+    private PhoneticNameQuery(List<String> keywords, PhoneticIndex phoneticIndex) {
+        CollectionUtil.requireAllNonNull(keywords);
+
+        this.keywords = keywords;
+        this.keywordCodes = new ArrayList<>();
+        for (String keyword : keywords) {
+            List<String> codes = new ArrayList<>();
+            for (String word : keyword.trim().split("\\s+")) {
+                String code = StringUtil.soundex(word);
+                if (!code.isEmpty()) {
+                    codes.add(code);
+                }
+            }
+            if (!codes.isEmpty()) {
+                keywordCodes.add(codes);
+            }
+        }
+        this.phoneticIndex = phoneticIndex;
+    }
+
+    @Override
+    public boolean test(Candidate candidate) {
+        requireNonNull(candidate);
+
+        for (List<String> codes : keywordCodes) {
+            if (hasAllCodes(candidate, codes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasAllCodes(Candidate candidate, List<String> codes) {
+        for (String code : codes) {
+            if (!hasCode(candidate, code)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code candidate} has a name word with the Soundex {@code code}, looked up in the index if
+     * this query has been planned. The index follows the candidate list, so its answers are never out of date.
+     */
+    private boolean hasCode(Candidate candidate, String code) {
+        return phoneticIndex == null
+                ? candidate.getSearchKeys().namePhoneticCodes.contains(code)
+                : phoneticIndex.hasCandidateWith(code, candidate);
+    }
+
+    /**
+     * Returns the candidates having every code of some keyword, found by testing only the candidates in the
+     * smallest bucket of the phonetic index among the codes of each keyword, if this query has been planned.
+     */
+    @Override
+    public Optional<Set<Candidate>> findMatches() {
+        if (phoneticIndex == null) {
+            return Optional.empty();
+        }
+
+        Set<Candidate> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<String> codes : keywordCodes) {
+            String rarestCode = codes.stream()
+                    .min(Comparator.comparingInt(phoneticIndex::countCandidatesWith)).get();
+            for (Candidate candidate : phoneticIndex.getCandidatesWith(rarestCode)) {
+                if (hasAllCodes(candidate, codes)) {
+                    matches.add(candidate);
+                }
+            }
+        }
+        return Optional.of(matches);
+    }
+
+    /**
+     * Returns the fraction of candidates having a name word with the code of any keyword, counted from the index.
+     * Every keyword is assumed to be matched by different candidates.
+     */
+    @Override
+    public double estimateSelectivity(SearchIndex index) {
+        if (index.size() == 0) {
+            return 0;
+        }
+
+        PhoneticIndex codeIndex = index.getPhoneticIndex();
+        int matchCount = 0;
+        for (List<String> codes : keywordCodes) {
+            int keywordMatchCount = Integer.MAX_VALUE;
+            for (String code : codes) {
+                keywordMatchCount = Math.min(keywordMatchCount, codeIndex.countCandidatesWith(code));
+            }
+            matchCount += keywordMatchCount;
+        }
+        return Math.min(1, (double) matchCount / index.size());
+    }
+
+    @Override
+    public double estimateCost(SearchIndex index) {
+        return 1;
+    }
+
+    /**
+     * Returns an equivalent query which tests candidates by looking them up in the phonetic index.
+     */
+    @Override
+    public Query plan(SearchIndex index) {
+        return new PhoneticNameQuery(keywords, index.getPhoneticIndex());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PhoneticNameQuery // instanceof handles nulls
+                && keywords.equals(((PhoneticNameQuery) other).keywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.model.candidate.query;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.SearchIndex;
+
+/**
+ * Represents a boolean query over the fields of a {@code Candidate}.
+ * A query is planned against a {@link SearchIndex} before it is evaluated, so that the clauses most likely to
+ * decide the result cheaply are tested first.
+ */
+public abstract class Query implements Predicate<Candidate> {
+
+    /**
+     * Returns the estimated fraction of the candidates in {@code index} that match this query, from 0 to 1.
+     */
+    public abstract double estimateSelectivity(SearchIndex index);
+
+    /**
+     * Returns the estimated cost of testing a single candidate against this query, in units of one field test.
+     */
+    public abstract double estimateCost(SearchIndex index);
+
+    /**
+     * Returns a query equivalent to this query, with its clauses reordered using the statistics of {@code index}.
+     */
+    public abstract Query plan(SearchIndex index);
+
+    /**
+     * Returns the candidates matching this query, read from the buckets of an index without testing every
+     * candidate, or an empty optional if they can only be found by testing every candidate. Only a planned query
+     * reads an index.
+     */
+    public Optional<Set<Candidate>> findMatches() {
+        return Optional.empty();
+    }
+}
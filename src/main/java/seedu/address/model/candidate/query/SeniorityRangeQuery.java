@@ -0,0 +1,67 @@
+package seedu.address.model.candidate.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.CategoryIndex.Category;
+import seedu.address.model.candidate.SearchIndex;
+
+/**
+ * A query clause that matches candidates whose {@code Seniority} lies within an inclusive range.
+ */
+public class SeniorityRangeQuery extends Query {
+
+    public static final String MESSAGE_CONSTRAINTS = "The lower bound of a seniority range should not be "
+            + "greater than its upper bound";
+
+    private final int lowerBound;
+    private final int upperBound;
+
+    /**
+     * Creates a {@code SeniorityRangeQuery} matching seniorities from {@code lowerBound} to {@code upperBound},
+     * both inclusive.
+     */
+    public SeniorityRangeQuery(int lowerBound, int upperBound) {
+        checkArgument(lowerBound <= upperBound, MESSAGE_CONSTRAINTS);
+
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    @Override
+    public boolean test(Candidate candidate) {
+        requireNonNull(candidate);
+
+        int seniority = Integer.parseInt(candidate.getSeniority().seniority);
+        return lowerBound <= seniority && seniority <= upperBound;
+    }
+
+    @Override
+    public double estimateSelectivity(SearchIndex index) {
+        return index.getFractionMatching(Category.SENIORITY, this);
+    }
+
+    @Override
+    public double estimateCost(SearchIndex index) {
+        return 1;
+    }
+
+    @Override
+    public Query plan(SearchIndex index) {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SeniorityRangeQuery // instanceof handles nulls
+                && lowerBound == ((SeniorityRangeQuery) other).lowerBound
+                && upperBound == ((SeniorityRangeQuery) other).upperBound); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * lowerBound + upperBound;
+    }
+}
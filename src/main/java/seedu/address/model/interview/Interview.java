@@ -1,11 +1,13 @@
 package seedu.address.model.interview;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 
 import seedu.address.model.candidate.Candidate;
 
@@ -14,20 +16,46 @@ import seedu.address.model.candidate.Candidate;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Interview {
-    private static final int INTERVIEW_DURATION_IN_MINUTES = 30;
+    public static final int DEFAULT_DURATION_IN_MINUTES = 30;
+    public static final int MAX_DURATION_IN_MINUTES = 480;
+
+    /** Time by which every interview must end. */
+    public static final LocalTime OFFICE_END_TIME = LocalTime.of(18, 0);
+
+    public static final String MESSAGE_DURATION_CONSTRAINTS =
+            "Interview durations should be a whole number of minutes from 1 to " + MAX_DURATION_IN_MINUTES;
 
     private final Candidate candidate;
     private final LocalDateTime interviewDateTime;
     private final LocalDateTime interviewEndDateTime;
+    private final int durationInMinutes;
     private final int interviewDay;
+    private final Track track;
 
     /**
-     * Every field must be present and not null.
+     * Every field must be present and not null. The interview is on the default track.
      */
     public Interview(Candidate candidate, LocalDateTime interviewDateTime) {
-        requireAllNonNull(candidate, interviewDateTime);
+        this(candidate, interviewDateTime, Track.DEFAULT);
+    }
+
+    /**
+     * Every field must be present and not null. The interview lasts the default duration.
+     */
+    public Interview(Candidate candidate, LocalDateTime interviewDateTime, Track track) {
+        this(candidate, interviewDateTime, track, DEFAULT_DURATION_IN_MINUTES);
+    }
+
+    /**
+     * Every field must be present and not null, and the duration must be valid.
+     */
+    public Interview(Candidate candidate, LocalDateTime interviewDateTime, Track track, int durationInMinutes) {
+        requireAllNonNull(candidate, interviewDateTime, track);
+        checkArgument(isValidDuration(durationInMinutes), MESSAGE_DURATION_CONSTRAINTS);
+        this.track = track;
         this.interviewDateTime = interviewDateTime;
-        this.interviewEndDateTime = interviewDateTime.plusMinutes(INTERVIEW_DURATION_IN_MINUTES);
+        this.durationInMinutes = durationInMinutes;
+        this.interviewEndDateTime = interviewDateTime.plusMinutes(durationInMinutes);
         this.interviewDay = interviewDateTime.getDayOfWeek().getValue();
         Candidate candidateWithStatus = candidate.triggerInterviewStatusScheduled();
         this.candidate = candidateWithStatus;
@@ -45,17 +73,18 @@ public class Interview {
     }
 
     /**
-     * Returns true if both interviews have the same interview date and time.
+     * Returns true if both interviews are on the same track and overlap in time.
+     * Each interview takes the half-open interval from its start up to its end, so that an interview may start
+     * the moment another ends.
      */
     public boolean isConflictingInterview(Interview otherInterview) {
         if (otherInterview == this) {
             return true;
         }
         return otherInterview != null
-                && (!otherInterview.getInterviewDateTime().isAfter(getInterviewDateTime())
-                && otherInterview.getInterviewEndDateTime().isAfter(getInterviewDateTime()))
-                || (otherInterview.getInterviewDateTime().isBefore(getInterviewEndDateTime())
-                && otherInterview.getInterviewEndDateTime().isAfter(getInterviewEndDateTime()));
+                && otherInterview.getTrack().equals(getTrack())
+                && otherInterview.getInterviewDateTime().isBefore(getInterviewEndDateTime())
+                && getInterviewDateTime().isBefore(otherInterview.getInterviewEndDateTime());
     }
 
     /**
@@ -68,7 +97,7 @@ public class Interview {
     }
 
     /**
-     * Returns true if the candidate is available on the proposed interview day
+     * Returns true if the interview starts and ends within the office hours of a weekday.
      */
     public boolean isDuringOfficeHour() {
         int interviewHour = this.interviewDateTime.getHour();
@@ -85,7 +114,8 @@ public class Interview {
                 return false;
             }
         }
-        return true;
+        return interviewEndDateTime.toLocalDate().equals(interviewDateTime.toLocalDate())
+                && !interviewEndDateTime.toLocalTime().isAfter(OFFICE_END_TIME);
     }
     /**
      * Returns true if this interview's date and time has expired.
@@ -94,6 +124,13 @@ public class Interview {
         return this.interviewEndDateTime.isBefore(LocalDateTime.now());
     }
 
+    /**
+     * Returns true if the given number of minutes is a valid interview duration.
+     */
+    public static boolean isValidDuration(int durationInMinutes) {
+        return durationInMinutes > 0 && durationInMinutes <= MAX_DURATION_IN_MINUTES;
+    }
+
     /**
      * Returns true if the given date and time is not in the past.
      */
@@ -130,12 +167,24 @@ public class Interview {
     public LocalDateTime getInterviewEndDateTime() {
         return this.interviewEndDateTime;
     }
+    /**
+     * Returns the duration of the interview in minutes.
+     */
+    public int getDurationInMinutes() {
+        return this.durationInMinutes;
+    }
     /**
      * Returns the date of the interview.
      */
     public LocalDate getInterviewDate() {
         return this.interviewDateTime.toLocalDate();
     }
+    /**
+     * Returns the room or interviewer of the interview.
+     */
+    public Track getTrack() {
+        return this.track;
+    }
 
 
     /**
@@ -153,12 +202,22 @@ public class Interview {
 
         Interview otherInterview = (Interview) other;
         return otherInterview.getCandidate().equals(getCandidate())
-                && otherInterview.getInterviewDateTime().equals(getInterviewDateTime());
+                && otherInterview.getInterviewDateTime().equals(getInterviewDateTime())
+                && otherInterview.getTrack().equals(getTrack())
+                && otherInterview.getDurationInMinutes() == getDurationInMinutes();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(candidate, interviewDateTime, track, durationInMinutes);
     }
 
     @Override
     public String toString() {
         return this.candidate.getName() + " " + this.candidate.getStudentId() + " "
-                + this.getInterviewDateTime().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm"));
+                + this.getInterviewDateTime().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm"))
+                + (this.durationInMinutes == DEFAULT_DURATION_IN_MINUTES
+                        ? "" : " for " + this.durationInMinutes + " min")
+                + (this.track.isDefault() ? "" : " (" + this.track + ")");
     }
 }
@@ -0,0 +1,111 @@
+package seedu.address.model.interview;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChangeUtil;
+
+/**
+ * Queues the interviews of a list by their ends in a min-heap, so that the next interview to expire is found in
+ * constant time and every expired interview is taken in logarithmic time, instead of scanning the whole list.
+ * Interviews removed from the list are only marked as removed and skipped when they reach the head of the heap,
+ * and the heap is rebuilt once most of its entries are removed ones.
+ */
+public class InterviewExpiryQueue {
+
+    private final PriorityQueue<Entry> heap = new PriorityQueue<>(Comparator.comparing((Entry entry) -> entry.end));
+    /** Maps every queued interview to its entry in the heap. */
+    private final Map<Interview, Entry> entries = new IdentityHashMap<>();
+
+    /**
+     * Creates a queue over {@code interviews} which follows all later changes to the list.
+     *
+     * @param interviews the list of interviews to queue.
+     */
+    public InterviewExpiryQueue(ObservableList<Interview> interviews) {
+        requireNonNull(interviews);
+
+        interviews.forEach(this::add);
+        ListChangeListener<Interview> updater = ListChangeUtil.forEachRemovedAndAdded(this::remove, this::add);
+        interviews.addListener((ListChangeListener<Interview>) change -> {
+            updater.onChanged(change);
+            rebuildIfMostlyRemoved();
+        });
+    }
+
+    /**
+     * Returns the end of the queued interview which ends first, or an empty optional if no interview is queued.
+     */
+    public Optional<LocalDateTime> nextExpiry() {
+        dropRemovedHead();
+        return heap.isEmpty() ? Optional.empty() : Optional.of(heap.peek().end);
+    }
+
+    /**
+     * Takes the queued interviews which have ended by {@code currentDateTime} out of the queue, in the order of
+     * their ends. Taken interviews are not queued again unless they are added to the list again.
+     */
+    public List<Interview> pollExpired(LocalDateTime currentDateTime) {
+        requireNonNull(currentDateTime);
+
+        List<Interview> expired = new ArrayList<>();
+        dropRemovedHead();
+        while (!heap.isEmpty() && !heap.peek().end.isAfter(currentDateTime)) {
+            Entry entry = heap.poll();
+            entries.remove(entry.interview);
+            expired.add(entry.interview);
+            dropRemovedHead();
+        }
+        return expired;
+    }
+
+    private void rebuildIfMostlyRemoved() {
+        if (heap.size() > 2 * entries.size()) {
+            heap.clear();
+            heap.addAll(entries.values());
+        }
+    }
+
+    private void add(Interview interview) {
+        Entry entry = new Entry(interview);
+        entries.put(interview, entry);
+        heap.add(entry);
+    }
+
+    private void remove(Interview interview) {
+        Entry entry = entries.remove(interview);
+        if (entry != null) {
+            entry.isRemoved = true;
+        }
+    }
+
+    private void dropRemovedHead() {
+        while (!heap.isEmpty() && heap.peek().isRemoved) {
+            heap.poll();
+        }
+    }
+
+    /**
+     * An interview in the heap, ordered by its end.
+     */
+    private static class Entry {
+        private final Interview interview;
+        private final LocalDateTime end;
+        private boolean isRemoved;
+
+        Entry(Interview interview) {
+            this.interview = interview;
+            this.end = interview.getInterviewEndDateTime();
+        }
+    }
+}
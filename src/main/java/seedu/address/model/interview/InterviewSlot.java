@@ -0,0 +1,51 @@
+package seedu.address.model.interview;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents a free interview slot on a track, found by an {@link InterviewSlotCalendar}.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class InterviewSlot {
+
+    private final LocalDateTime start;
+    private final Track track;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public InterviewSlot(LocalDateTime start, Track track) {
+        requireAllNonNull(start, track);
+
+        this.start = start;
+        this.track = track;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public Track getTrack() {
+        return track;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof InterviewSlot // instanceof handles nulls
+                && start.equals(((InterviewSlot) other).start)
+                && track.equals(((InterviewSlot) other).track)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * start.hashCode() + track.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return track.isDefault() ? start.toString() : start + " (" + track + ")";
+    }
+}
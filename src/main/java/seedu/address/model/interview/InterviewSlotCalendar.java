@@ -0,0 +1,335 @@
+package seedu.address.model.interview;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChangeUtil;
+import seedu.address.model.candidate.Availability;
+
+/**
+ * Keeps a bitmap of the 30-minute interview slots taken on each day of each track of a list of interviews, so that
+ * free slots are found by scanning bits instead of trying one date and time after another.
+ * Slots start every 30 minutes from 8:00 to 17:30 on weekdays, the office hours of
+ * {@link Interview#isDuringOfficeHour()}. A slot of a track is taken if any interview on the track overlaps it.
+ * Several tracks are searched at once by combining the bitmaps of their free slots on a day with a bitwise or.
+ * An interview longer than a slot needs as many consecutive free slots on one track as it overlaps, which are found
+ * by combining the bitmap of the track with itself shifted by one slot after another with a bitwise and.
+ */
+public class InterviewSlotCalendar {
+
+    public static final LocalTime FIRST_SLOT_START = LocalTime.of(8, 0);
+    public static final int SLOT_DURATION_IN_MINUTES = 30;
+    /** Number of slots on a weekday, the last of which starts at 17:30. */
+    public static final int SLOTS_PER_DAY = 20;
+
+    private static final long SLOT_DURATION_IN_SECONDS = SLOT_DURATION_IN_MINUTES * 60L;
+    private static final int ALL_SLOTS = (1 << SLOTS_PER_DAY) - 1;
+    private static final int DAYS_PER_WORKING_WEEK = 5;
+
+    /** Maps every track with interviews to its days with an interview, each mapped to the slots taken that day. */
+    private final Map<Track, Map<LocalDate, DaySlots>> tracks = new HashMap<>();
+
+    /**
+     * Creates a calendar of {@code interviews} which follows all later changes to the list.
+     *
+     * @param interviews the list of interviews taking slots.
+     */
+    public InterviewSlotCalendar(ObservableList<Interview> interviews) {
+        requireNonNull(interviews);
+
+        interviews.forEach(interview -> mark(interview, 1));
+        interviews.addListener(ListChangeUtil.forEachRemovedAndAdded(interview -> mark(interview, -1),
+                interview -> mark(interview, 1)));
+    }
+
+    /**
+     * Returns the first {@code count} free slots for an interview of the default duration, as
+     * {@link #findFreeSlots(Availability, List, LocalDateTime, int, int)} does.
+     */
+    public List<InterviewSlot> findFreeSlots(Availability availability, List<Track> tracks,
+            LocalDateTime earliestStart, int count) {
+        return findFreeSlots(availability, tracks, earliestStart, count, Interview.DEFAULT_DURATION_IN_MINUTES);
+    }
+
+    /**
+     * Returns the first {@code count} free slots on any of {@code tracks} for an interview lasting
+     * {@code durationInMinutes} that start no earlier than {@code earliestStart}, on the days of the week in
+     * {@code availability}, in chronological order. The interview must end within office hours, on a track free
+     * for its whole duration. A slot free on several tracks is returned once, on the first of them in
+     * {@code tracks}. Days are scanned one bitmap at a time, so the cost is linear in the number of days and tracks
+     * scanned.
+     */
+    public List<InterviewSlot> findFreeSlots(Availability availability, List<Track> tracks,
+            LocalDateTime earliestStart, int count, int durationInMinutes) {
+        requireAllNonNull(availability, earliestStart);
+        requireAllNonNull(tracks);
+        checkArgument(!tracks.isEmpty(), "There must be at least one track");
+        checkArgument(count > 0, "count must be positive");
+        checkArgument(Interview.isValidDuration(durationInMinutes), Interview.MESSAGE_DURATION_CONSTRAINTS);
+
+        boolean[] isAvailable = availability.getAvailableListAsBoolean();
+        List<InterviewSlot> freeSlots = new ArrayList<>(count);
+        LocalDate date = earliestStart.toLocalDate();
+        // skips the slots of the first day starting before the earliest start
+        int skippedSlots = slotsStartingBefore(date, earliestStart);
+
+        int slotCount = toSlotCount(durationInMinutes);
+
+        // every available day after the last interview is free, so the scan always ends
+        while (freeSlots.size() < count) {
+            if (isWeekday(date) && isAvailable[date.getDayOfWeek().getValue() - 1]) {
+                int[] freeSlotBits = getStartableSlots(getFreeSlots(tracks, date), ALL_SLOTS & ~skippedSlots,
+                        slotCount);
+                int anyFreeSlotBits = union(freeSlotBits);
+                while (anyFreeSlotBits != 0 && freeSlots.size() < count) {
+                    int slot = Integer.numberOfTrailingZeros(anyFreeSlotBits);
+                    freeSlots.add(new InterviewSlot(toSlotStart(date, slot),
+                            tracks.get(firstTrackWithSlot(freeSlotBits, slot))));
+                    anyFreeSlotBits &= anyFreeSlotBits - 1;
+                }
+            }
+            date = date.plusDays(1);
+            skippedSlots = 0;
+        }
+        return freeSlots;
+    }
+
+    /**
+     * Assigns free slots for interviews of the default duration, as
+     * {@link #assignSlots(List, List, LocalDateTime, LocalDateTime, int)} does.
+     */
+    public List<Optional<InterviewSlot>> assignSlots(List<Availability> availabilities, List<Track> tracks,
+            LocalDateTime earliestStart, LocalDateTime latestStart) {
+        return assignSlots(availabilities, tracks, earliestStart, latestStart, Interview.DEFAULT_DURATION_IN_MINUTES);
+    }
+
+    /**
+     * Assigns a distinct free slot on any of {@code tracks} for an interview lasting {@code durationInMinutes},
+     * starting between {@code earliestStart} and {@code latestStart}, inclusive, to as many of
+     * {@code availabilities} as possible, each on a day of the week in that availability. The interviews must end
+     * within office hours and must not overlap on a track. Returns the slot assigned to each availability, in the
+     * same order, or an empty {@code Optional} if none is left. The availabilities with the fewest days are
+     * assigned first, each to its earliest free slot on the first track with it free, so that flexible candidates
+     * do not take the only days of the others. The calendar itself is not changed.
+     */
+    public List<Optional<InterviewSlot>> assignSlots(List<Availability> availabilities, List<Track> tracks,
+            LocalDateTime earliestStart, LocalDateTime latestStart, int durationInMinutes) {
+        requireAllNonNull(availabilities, earliestStart, latestStart);
+        requireAllNonNull(tracks);
+        checkArgument(!tracks.isEmpty(), "There must be at least one track");
+        checkArgument(Interview.isValidDuration(durationInMinutes), Interview.MESSAGE_DURATION_CONSTRAINTS);
+        int slotCount = toSlotCount(durationInMinutes);
+
+        // the free slots of every track on every weekday in the range, grouped by day of the week
+        List<LocalDate> dates = new ArrayList<>();
+        List<Integer> windowSlotBits = new ArrayList<>();
+        List<int[]> freeSlotBits = new ArrayList<>();
+        List<List<Integer>> dayIndexesByWeekday = new ArrayList<>();
+        for (int weekday = 0; weekday < DAYS_PER_WORKING_WEEK; weekday++) {
+            dayIndexesByWeekday.add(new ArrayList<>());
+        }
+        for (LocalDate date = earliestStart.toLocalDate(); !date.isAfter(latestStart.toLocalDate());
+                date = date.plusDays(1)) {
+            if (!isWeekday(date)) {
+                continue;
+            }
+            int windowSlots = ALL_SLOTS & ~slotsStartingBefore(date, earliestStart)
+                    & slotsStartingBefore(date, latestStart.plusSeconds(1));
+            dayIndexesByWeekday.get(date.getDayOfWeek().getValue() - 1).add(dates.size());
+            dates.add(date);
+            windowSlotBits.add(windowSlots);
+            freeSlotBits.add(getFreeSlots(tracks, date));
+        }
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < availabilities.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingInt(i -> countAvailableDays(availabilities.get(i))));
+
+        // the first day of each day of the week that may still have free slots, which only moves forward
+        int[] nextDays = new int[DAYS_PER_WORKING_WEEK];
+        List<Optional<InterviewSlot>> assignedSlots = new ArrayList<>(
+                Collections.nCopies(availabilities.size(), Optional.empty()));
+        for (int i : order) {
+            boolean[] isAvailable = availabilities.get(i).getAvailableListAsBoolean();
+            int earliestDayIndex = -1;
+            for (int weekday = 0; weekday < DAYS_PER_WORKING_WEEK; weekday++) {
+                List<Integer> dayIndexes = dayIndexesByWeekday.get(weekday);
+                while (nextDays[weekday] < dayIndexes.size() && union(getStartableSlots(
+                        freeSlotBits.get(dayIndexes.get(nextDays[weekday])),
+                        windowSlotBits.get(dayIndexes.get(nextDays[weekday])), slotCount)) == 0) {
+                    nextDays[weekday]++;
+                }
+                if (isAvailable[weekday] && nextDays[weekday] < dayIndexes.size()
+                        && (earliestDayIndex == -1 || dayIndexes.get(nextDays[weekday]) < earliestDayIndex)) {
+                    earliestDayIndex = dayIndexes.get(nextDays[weekday]);
+                }
+            }
+            if (earliestDayIndex == -1) {
+                continue;
+            }
+
+            int[] startableSlots = getStartableSlots(freeSlotBits.get(earliestDayIndex),
+                    windowSlotBits.get(earliestDayIndex), slotCount);
+            int slot = Integer.numberOfTrailingZeros(union(startableSlots));
+            int trackIndex = firstTrackWithSlot(startableSlots, slot);
+            assignedSlots.set(i, Optional.of(new InterviewSlot(toSlotStart(dates.get(earliestDayIndex), slot),
+                    tracks.get(trackIndex))));
+            freeSlotBits.get(earliestDayIndex)[trackIndex] &= ~(((1 << slotCount) - 1) << slot);
+        }
+        return assignedSlots;
+    }
+
+    /**
+     * Adds {@code delta} to the number of interviews overlapping each slot that {@code interview} overlaps.
+     * Interviews outside office hours only take the slots they overlap, if any.
+     */
+    private void mark(Interview interview, int delta) {
+        LocalDate date = interview.getInterviewDate();
+        int firstSlot = (int) Math.max(0, Math.floorDiv(
+                secondsAfterFirstSlot(date, interview.getInterviewDateTime()), SLOT_DURATION_IN_SECONDS));
+        int lastSlot = (int) Math.min(SLOTS_PER_DAY - 1, Math.floorDiv(
+                secondsAfterFirstSlot(date, interview.getInterviewEndDateTime()) - 1, SLOT_DURATION_IN_SECONDS));
+        if (firstSlot > lastSlot) {
+            return;
+        }
+
+        Map<LocalDate, DaySlots> days = tracks.computeIfAbsent(interview.getTrack(), unused -> new HashMap<>());
+        DaySlots daySlots = days.computeIfAbsent(date, unused -> new DaySlots());
+        for (int slot = firstSlot; slot <= lastSlot; slot++) {
+            daySlots.interviewCounts[slot] += delta;
+            if (daySlots.interviewCounts[slot] > 0) {
+                daySlots.takenSlots |= 1 << slot;
+            } else {
+                daySlots.takenSlots &= ~(1 << slot);
+            }
+        }
+        if (daySlots.takenSlots == 0) {
+            days.remove(date);
+            if (days.isEmpty()) {
+                tracks.remove(interview.getTrack());
+            }
+        }
+    }
+
+    private int getTakenSlots(Track track, LocalDate date) {
+        DaySlots daySlots = tracks.getOrDefault(track, Map.of()).get(date);
+        return daySlots == null ? 0 : daySlots.takenSlots;
+    }
+
+    /**
+     * Returns the bitmap of the slots free on {@code date} for each of {@code tracks}.
+     */
+    private int[] getFreeSlots(List<Track> tracks, LocalDate date) {
+        int[] freeSlotBits = new int[tracks.size()];
+        for (int i = 0; i < freeSlotBits.length; i++) {
+            freeSlotBits[i] = ALL_SLOTS & ~getTakenSlots(tracks.get(i), date);
+        }
+        return freeSlotBits;
+    }
+
+    /**
+     * Returns the bitmap of the slots among {@code windowSlots} starting {@code slotCount} consecutive free slots
+     * of each track, given the bitmap of the free slots of each track. Slots after the last slot of the day are
+     * never free, so the consecutive slots always end within office hours.
+     */
+    private static int[] getStartableSlots(int[] freeSlotBits, int windowSlots, int slotCount) {
+        int[] startableSlotBits = new int[freeSlotBits.length];
+        for (int i = 0; i < freeSlotBits.length; i++) {
+            int startable = freeSlotBits[i];
+            for (int shift = 1; shift < slotCount; shift++) {
+                startable &= freeSlotBits[i] >>> shift;
+            }
+            startableSlotBits[i] = windowSlots & startable;
+        }
+        return startableSlotBits;
+    }
+
+    /**
+     * Returns the number of slots an interview lasting {@code durationInMinutes} and starting with a slot takes.
+     */
+    private static int toSlotCount(int durationInMinutes) {
+        return (durationInMinutes + SLOT_DURATION_IN_MINUTES - 1) / SLOT_DURATION_IN_MINUTES;
+    }
+
+    /**
+     * Returns the bitmap of the slots free on any track, given the bitmap of the free slots of each track.
+     */
+    private static int union(int[] freeSlotBits) {
+        int anyFreeSlotBits = 0;
+        for (int trackFreeSlotBits : freeSlotBits) {
+            anyFreeSlotBits |= trackFreeSlotBits;
+        }
+        return anyFreeSlotBits;
+    }
+
+    /**
+     * Returns the index of the first track with {@code slot} free, which must be free on some track.
+     */
+    private static int firstTrackWithSlot(int[] freeSlotBits, int slot) {
+        int trackIndex = 0;
+        while ((freeSlotBits[trackIndex] & (1 << slot)) == 0) {
+            trackIndex++;
+        }
+        return trackIndex;
+    }
+
+    /**
+     * Returns the bitmap of the slots on {@code date} that start before {@code dateTime}.
+     */
+    private static int slotsStartingBefore(LocalDate date, LocalDateTime dateTime) {
+        long seconds = secondsAfterFirstSlot(date, dateTime);
+        int slotCount = (int) Math.max(0, Math.min(SLOTS_PER_DAY,
+                -Math.floorDiv(-seconds, SLOT_DURATION_IN_SECONDS)));
+        return slotCount == SLOTS_PER_DAY ? ALL_SLOTS : (1 << slotCount) - 1;
+    }
+
+    private static int countAvailableDays(Availability availability) {
+        int dayCount = 0;
+        for (boolean isAvailable : availability.getAvailableListAsBoolean()) {
+            if (isAvailable) {
+                dayCount++;
+            }
+        }
+        return dayCount;
+    }
+
+    private static boolean isWeekday(LocalDate date) {
+        return date.getDayOfWeek().compareTo(DayOfWeek.FRIDAY) <= 0;
+    }
+
+    /**
+     * Returns the number of whole seconds from the start of the first slot on {@code date} to {@code dateTime}.
+     */
+    private static long secondsAfterFirstSlot(LocalDate date, LocalDateTime dateTime) {
+        return Duration.between(date.atTime(FIRST_SLOT_START), dateTime).getSeconds();
+    }
+
+    private static LocalDateTime toSlotStart(LocalDate date, int slot) {
+        return date.atTime(FIRST_SLOT_START).plusMinutes((long) slot * SLOT_DURATION_IN_MINUTES);
+    }
+
+    /**
+     * Holds the number of interviews overlapping each slot of a day, and the bitmap of the slots with any.
+     */
+    private static class DaySlots {
+        private final int[] interviewCounts = new int[SLOTS_PER_DAY];
+        private int takenSlots;
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.interview;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChangeUtil;
+
+/**
+ * Indexes a list of interviews by their start, so that the interviews starting within a range of time are found
+ * in logarithmic time plus the number found, instead of testing every interview.
+ * Interviews on different tracks may start at the same time, so every start is mapped to all interviews starting
+ * then.
+ */
+public class InterviewTimeIndex {
+
+    /** Maps every start of an interview to the interviews starting then, in the order they were indexed. */
+    private final NavigableMap<LocalDateTime, List<Interview>> starts = new TreeMap<>();
+
+    /**
+     * Creates an index over {@code interviews} which follows all later changes to the list.
+     *
+     * @param interviews the list of interviews to index.
+     */
+    public InterviewTimeIndex(ObservableList<Interview> interviews) {
+        requireNonNull(interviews);
+
+        interviews.forEach(this::add);
+        interviews.addListener(ListChangeUtil.forEachRemovedAndAdded(this::remove, this::add));
+    }
+
+    /**
+     * Returns the interviews starting from {@code from}, inclusive, up to {@code to}, exclusive, in the order of
+     * their starts. Returns an empty list if {@code to} is not after {@code from}.
+     */
+    public List<Interview> interviewsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+
+        List<Interview> interviews = new ArrayList<>();
+        if (!to.isAfter(from)) {
+            return interviews;
+        }
+        starts.subMap(from, true, to, false).values().forEach(interviews::addAll);
+        return interviews;
+    }
+
+    private void add(Interview interview) {
+        starts.computeIfAbsent(interview.getInterviewDateTime(), unused -> new ArrayList<>(1)).add(interview);
+    }
+
+    private void remove(Interview interview) {
+        List<Interview> interviews = starts.get(interview.getInterviewDateTime());
+        interviews.remove(interview);
+        if (interviews.isEmpty()) {
+            starts.remove(interview.getInterviewDateTime());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model.interview;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChangeUtil;
+
+/**
+ * Indexes a list of interviews by track, each track as an interval index of its interviews ordered by start, so
+ * that the interviews overlapping a time are found in logarithmic time instead of comparing every interview.
+ * The interviews on a track never overlap, so ordering them by start also orders them by end.
+ */
+public class InterviewTrackIndex {
+
+    /** Maps every track with interviews to its interviews by their start. */
+    private final Map<Track, NavigableMap<LocalDateTime, Interview>> tracks = new HashMap<>();
+
+    /**
+     * Creates an index over {@code interviews} which follows all later changes to the list.
+     *
+     * @param interviews the list of interviews to index.
+     */
+    public InterviewTrackIndex(ObservableList<Interview> interviews) {
+        requireNonNull(interviews);
+
+        interviews.forEach(this::add);
+        interviews.addListener(ListChangeUtil.forEachRemovedAndAdded(this::remove, this::add));
+    }
+
+    /**
+     * Returns true if an interview in the list overlaps {@code toCheck} on the same track.
+     */
+    public boolean hasConflict(Interview toCheck) {
+        return hasConflict(toCheck, Set.of());
+    }
+
+    /**
+     * Returns true if an interview in the list other than {@code ignored} overlaps {@code toCheck} on the same
+     * track. {@code ignored} may be null.
+     */
+    public boolean hasConflict(Interview toCheck, Interview ignored) {
+        return hasConflict(toCheck, ignored == null ? Set.of() : Set.of(ignored));
+    }
+
+    /**
+     * Returns true if an interview in the list but not in {@code ignored} overlaps {@code toCheck} on the same
+     * track. Only the interviews overlapping {@code toCheck} are visited.
+     */
+    public boolean hasConflict(Interview toCheck, Set<Interview> ignored) {
+        requireNonNull(toCheck);
+        requireNonNull(ignored);
+
+        NavigableMap<LocalDateTime, Interview> starts = tracks.get(toCheck.getTrack());
+        if (starts == null) {
+            return false;
+        }
+        // scans back from the last interview starting before toCheck ends, until one ends before toCheck starts
+        for (Interview interview : starts.headMap(toCheck.getInterviewEndDateTime(), false)
+                .descendingMap().values()) {
+            if (!interview.getInterviewEndDateTime().isAfter(toCheck.getInterviewDateTime())) {
+                return false;
+            }
+            if (!ignored.contains(interview)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(Interview interview) {
+        tracks.computeIfAbsent(interview.getTrack(), unused -> new TreeMap<>())
+                .put(interview.getInterviewDateTime(), interview);
+    }
+
+    private void remove(Interview interview) {
+        NavigableMap<LocalDateTime, Interview> starts = tracks.get(interview.getTrack());
+        starts.remove(interview.getInterviewDateTime(), interview);
+        if (starts.isEmpty()) {
+            tracks.remove(interview.getTrack());
+        }
+    }
+}
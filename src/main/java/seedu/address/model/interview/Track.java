@@ -0,0 +1,73 @@
+package seedu.address.model.interview;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents a room or interviewer holding interviews in parallel with the others in TAlent Assistant™.
+ * Interviews only conflict with overlapping interviews on the same track. Interviews not given a room or
+ * interviewer are all on the {@link #DEFAULT} track.
+ * Guarantees: immutable; is valid as declared in {@link #isValidTrack(String)}, unless it is the default track
+ */
+public class Track {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Rooms and interviewers should only contain alphanumeric characters and spaces, and it should not be blank";
+
+    /*
+     * The first character of the track must not be a whitespace,
+     * otherwise " " (a blank string) becomes a valid input.
+     */
+    public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+
+    /** The track of interviews without a room or interviewer. */
+    public static final Track DEFAULT = new Track();
+
+    public final String value;
+
+    /**
+     * Constructs a {@code Track}.
+     *
+     * @param track A valid room or interviewer.
+     */
+    public Track(String track) {
+        requireNonNull(track);
+        checkArgument(isValidTrack(track), MESSAGE_CONSTRAINTS);
+        value = track;
+    }
+
+    private Track() {
+        value = "";
+    }
+
+    /**
+     * Returns true if a given string is a valid room or interviewer.
+     */
+    public static boolean isValidTrack(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns true if this is the track of interviews without a room or interviewer.
+     */
+    public boolean isDefault() {
+        return value.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Track // instanceof handles nulls
+                && value.equals(((Track) other).value)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+}
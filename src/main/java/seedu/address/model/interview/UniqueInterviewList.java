@@ -1,16 +1,23 @@
 package seedu.address.model.interview;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.commands.schedule.ScheduleCommand.MESSAGE_CONFLICTING_INTERVIEW;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChangeJournal;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.candidate.Candidate;
 import seedu.address.model.interview.exceptions.ConflictingInterviewException;
@@ -22,6 +29,7 @@ public class UniqueInterviewList implements Iterable<Interview> {
     private final ObservableList<Interview> internalList = FXCollections.observableArrayList();
     private final ObservableList<Interview> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final InterviewTrackIndex trackIndex = new InterviewTrackIndex(internalList);
 
     /**
      * Returns true if the interview list contains an interview with the same candidate as the
@@ -33,11 +41,12 @@ public class UniqueInterviewList implements Iterable<Interview> {
     }
 
     /**
-     * Returns true if the list contains an interview with a conflicting time slot as the given argument.
+     * Returns true if the list contains an interview with a conflicting time slot on the same track as the given
+     * argument.
      */
     public boolean containsConflictingInterview(Interview toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isConflictingInterview);
+        return trackIndex.hasConflict(toCheck);
     }
     /**
      * Adds an interview to the list. The interview candidate must not already have an interview in the list, nor
@@ -53,6 +62,25 @@ public class UniqueInterviewList implements Iterable<Interview> {
         }
         internalList.add(toAdd);
     }
+    /**
+     * Adds all of {@code toAdd} to the list in a single change. No interview may have the same candidate as, or
+     * conflict with, an interview in the list or an earlier interview in {@code toAdd}; otherwise none is added.
+     */
+    public void addAll(List<Interview> toAdd) {
+        requireAllNonNull(toAdd);
+
+        List<Interview> candidatesToCheck = new ArrayList<>(internalList);
+        candidatesToCheck.addAll(toAdd);
+        if (!interviewsCandidatesAreUnique(candidatesToCheck)) {
+            throw new DuplicateCandidateException();
+        }
+        if (toAdd.stream().anyMatch(this::containsConflictingInterview)
+                || !interviewsDateTimeAreNonConflicting(toAdd)) {
+            throw new ConflictingInterviewException();
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the target interview in the list with the editedInterview.
      * The target interview must exist in the list.
@@ -66,18 +94,52 @@ public class UniqueInterviewList implements Iterable<Interview> {
             throw new InterviewNotFoundException();
         }
 
-        ObservableList<Interview> internalListCopy = FXCollections.observableArrayList(internalList);
         // Credits to teammate @tiewweijian for initial suggestion of deletion/removal of interviews
         // to solve the issue of rescheduling the same candidate
-        internalListCopy.set(index, editedInterview);
-
-        if (!interviewsDateTimeAreNonConflicting(internalListCopy)) {
+        if (trackIndex.hasConflict(editedInterview, target)) {
             throw new CommandException(MESSAGE_CONFLICTING_INTERVIEW);
         }
 
         internalList.set(index, editedInterview);
     }
 
+    /**
+     * Replaces every interview of {@code targets} in the list with the interview at the same position in
+     * {@code editedInterviews}, which must be for the same candidate. The edited interviews must not conflict with
+     * each other or with the interviews not replaced; otherwise none is replaced.
+     * The edited interviews are checked against the track index, so only the interviews they overlap are visited.
+     */
+    public void setInterviews(List<Interview> targets, List<Interview> editedInterviews) throws CommandException {
+        requireAllNonNull(targets);
+        requireAllNonNull(editedInterviews);
+        checkArgument(targets.size() == editedInterviews.size(), "Every target must have one edited interview");
+        for (int i = 0; i < targets.size(); i++) {
+            checkArgument(targets.get(i).isSameInterviewCandidate(editedInterviews.get(i)),
+                    "Every edited interview must be for the candidate of its target");
+        }
+
+        Set<Interview> targetSet = new HashSet<>(targets);
+        checkArgument(targetSet.size() == targets.size(), "Every target must be replaced once");
+        Map<Interview, Integer> targetIndexes = new HashMap<>();
+        for (int i = 0; i < internalList.size(); i++) {
+            if (targetSet.contains(internalList.get(i))) {
+                targetIndexes.put(internalList.get(i), i);
+            }
+        }
+        if (targetIndexes.size() != targetSet.size()) {
+            throw new InterviewNotFoundException();
+        }
+
+        if (!interviewsDateTimeAreNonConflicting(editedInterviews) || editedInterviews.stream()
+                .anyMatch(editedInterview -> trackIndex.hasConflict(editedInterview, targetSet))) {
+            throw new CommandException(MESSAGE_CONFLICTING_INTERVIEW);
+        }
+
+        for (int i = 0; i < targets.size(); i++) {
+            internalList.set(targetIndexes.get(targets.get(i)), editedInterviews.get(i));
+        }
+    }
+
     /**
      * Replaces the target interview in the list with the editedInterview, without checking for
      * any conflicting interview, as only the candidate field in the {@code editedInterview} is modified.
@@ -135,6 +197,13 @@ public class UniqueInterviewList implements Iterable<Interview> {
         return internalList.stream().anyMatch(toCheck::isSameInterviewCandidate);
     }
 
+    /**
+     * Starts recording the changes to the list, which the returned journal can list or undo.
+     */
+    public ListChangeJournal<Interview> startJournal() {
+        return new ListChangeJournal<>(internalList);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -162,23 +231,30 @@ public class UniqueInterviewList implements Iterable<Interview> {
     /**
      * Returns true if all interviews contains only unique candidates.
      */
-    private boolean interviewsCandidatesAreUnique(List<Interview> interviews) {
-        for (int i = 0; i < interviews.size() - 1; i++) {
-            for (int j = i + 1; j < interviews.size(); j++) {
-                if (interviews.get(i).isSameInterviewCandidate(interviews.get(j))) {
-                    return false;
-                }
+    private static boolean interviewsCandidatesAreUnique(List<Interview> interviews) {
+        Set<Candidate> candidates = new HashSet<>();
+        for (Interview interview : interviews) {
+            if (!candidates.add(interview.getCandidate())) {
+                return false;
             }
         }
         return true;
     }
     /**
      * Returns true if the list of interviews contains only non-conflicting interviews.
+     * The interviews of every track are swept in the order of their starts, as an interview overlapping any later
+     * one on its track also overlaps the next one to start.
      */
-    private boolean interviewsDateTimeAreNonConflicting(List<Interview> interviews) {
-        for (int i = 0; i < interviews.size() - 1; i++) {
-            for (int j = i + 1; j < interviews.size(); j++) {
-                if (interviews.get(i).isConflictingInterview(interviews.get(j))) {
+    private static boolean interviewsDateTimeAreNonConflicting(List<Interview> interviews) {
+        Map<Track, List<Interview>> tracks = new HashMap<>();
+        for (Interview interview : interviews) {
+            tracks.computeIfAbsent(interview.getTrack(), unused -> new ArrayList<>()).add(interview);
+        }
+
+        for (List<Interview> track : tracks.values()) {
+            track.sort(Comparator.comparing(Interview::getInterviewDateTime));
+            for (int i = 1; i < track.size(); i++) {
+                if (track.get(i - 1).isConflictingInterview(track.get(i))) {
                     return false;
                 }
             }
@@ -29,6 +29,16 @@ public class AllWithinTimePeriodPredicate extends WithinTimePeriodPredicate impl
         return true;
     }
 
+    @Override
+    public LocalDateTime getRangeStart() {
+        return LocalDateTime.MIN;
+    }
+
+    @Override
+    public LocalDateTime getRangeEnd() {
+        return LocalDateTime.MAX;
+    }
+
     /**
      * Checks if another object are instances of the same class and contains the same
      * {@link AllWithinTimePeriodPredicate#endDateTime}.
@@ -37,6 +37,16 @@ public class ThisMonthWithinTimePeriodPredicate extends WithinTimePeriodPredicat
                 && interview.getInterviewDateTime().isAfter(currentDateTime);
     }
 
+    @Override
+    public LocalDateTime getRangeStart() {
+        return currentDateTime;
+    }
+
+    @Override
+    public LocalDateTime getRangeEnd() {
+        return endDateTime;
+    }
+
     /**
      * Checks if another object are instances of the same class and contains the same
      * {@link ThisMonthWithinTimePeriodPredicate#endDateTime}.
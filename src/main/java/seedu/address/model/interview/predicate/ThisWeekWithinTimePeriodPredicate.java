@@ -37,6 +37,16 @@ public class ThisWeekWithinTimePeriodPredicate extends WithinTimePeriodPredicate
                 && interview.getInterviewDateTime().isAfter(currentDateTime);
     }
 
+    @Override
+    public LocalDateTime getRangeStart() {
+        return currentDateTime;
+    }
+
+    @Override
+    public LocalDateTime getRangeEnd() {
+        return endDateTime;
+    }
+
     /**
      * Checks if another object are instances of the same class and contains the same
      * {@link ThisWeekWithinTimePeriodPredicate#endDateTime}.
@@ -33,6 +33,16 @@ public class TodayWithinTimePeriodPredicate extends WithinTimePeriodPredicate im
         return interview.getInterviewDate().isEqual(endDateTime.toLocalDate());
     }
 
+    @Override
+    public LocalDateTime getRangeStart() {
+        return endDateTime.toLocalDate().atStartOfDay();
+    }
+
+    @Override
+    public LocalDateTime getRangeEnd() {
+        return endDateTime.toLocalDate().plusDays(1).atStartOfDay();
+    }
+
     /**
      * Checks if another object are instances of the same class and contains the same
      * {@link TodayWithinTimePeriodPredicate#endDateTime}.
@@ -32,6 +32,17 @@ public abstract class WithinTimePeriodPredicate implements Predicate<Interview>
     @Override
     public abstract boolean test(Interview interview);
 
+    /**
+     * Returns the earliest start of the interviews this predicate may accept, so that the interviews within the time
+     * period can be looked up by their starts before being tested.
+     */
+    public abstract LocalDateTime getRangeStart();
+
+    /**
+     * Returns the time before which every interview this predicate accepts starts.
+     */
+    public abstract LocalDateTime getRangeEnd();
+
     /**
      * Checks if another object are instances of the same class and contains the same
      * {@link WithinTimePeriodPredicate#endDateTime}.
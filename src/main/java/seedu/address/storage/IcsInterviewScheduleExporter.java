@@ -0,0 +1,317 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.interview.Interview;
+
+/**
+ * Exports interviews to an iCalendar (RFC 5545) file, one event per interview.
+ * Every event is written to the file as soon as it is rendered, so the document is never built in memory, and the
+ * file is only replaced once it is completely written.
+ * An event is identified by the student ID of its candidate, who has at most one interview. When only the changes
+ * are exported, the events whose interview has not changed since the file was last exported are written exactly
+ * as before, and only the other events are rewritten with a later sequence number. The events of interviews no
+ * longer exported are kept as cancelled events, so that calendar apps importing the file remove them.
+ */
+public class IcsInterviewScheduleExporter {
+
+    private static final String LINE_BREAK = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final String PRODUCT_ID = "-//TAlent Assistant//Interview Schedule//EN";
+    private static final String UID_DOMAIN = "@talentassistant";
+    private static final String STATUS_CANCELLED = "STATUS:CANCELLED";
+    private static final DateTimeFormatter LOCAL_DATE_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final Path filePath;
+    private final Clock clock;
+
+    /**
+     * Creates an {@code IcsInterviewScheduleExporter} exporting to the file at {@code filePath}.
+     */
+    public IcsInterviewScheduleExporter(Path filePath) {
+        this(filePath, Clock.systemUTC());
+    }
+
+    /**
+     * Creates an {@code IcsInterviewScheduleExporter} exporting to the file at {@code filePath}, stamping the
+     * events rewritten with the time given by {@code clock}.
+     */
+    IcsInterviewScheduleExporter(Path filePath, Clock clock) {
+        requireAllNonNull(filePath, clock);
+
+        this.filePath = filePath;
+        this.clock = clock;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Replaces the file with the events of {@code interviews}.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void export(List<Interview> interviews) throws IOException {
+        requireAllNonNull(interviews);
+
+        export(interviews, new HashMap<>());
+    }
+
+    /**
+     * Replaces the file with the events of {@code interviews}, rewriting only the events whose interview was not
+     * exported to the file as it is now. Events of interviews not in {@code interviews} are rewritten as cancelled,
+     * unless they already are. The file is exported in full if it does not exist.
+     * @return the number of events rewritten, including those cancelled.
+     * @throws IOException if there was any problem reading from or writing to the file.
+     */
+    public int exportChanges(List<Interview> interviews) throws IOException {
+        requireAllNonNull(interviews);
+
+        return export(interviews, readExportedEvents());
+    }
+
+    private int export(List<Interview> interviews, Map<String, ExportedEvent> exportedEvents) throws IOException {
+        String timeStamp = formatUtc(LocalDateTime.now(clock.withZone(ZoneOffset.UTC)));
+        int rewrittenCount = 0;
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path partFile = filePath.resolveSibling(filePath.getFileName() + ".part");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(partFile, UTF_8)) {
+                writeLine(writer, "BEGIN:VCALENDAR");
+                writeLine(writer, "VERSION:2.0");
+                writeLine(writer, "PRODID:" + PRODUCT_ID);
+                writeLine(writer, "CALSCALE:GREGORIAN");
+                for (Interview interview : interviews) {
+                    String uid = toUid(interview);
+                    rewrittenCount += writeEvent(writer, toEventContent(uid, interview), exportedEvents.remove(uid),
+                            timeStamp);
+                }
+                // the events left are of interviews removed since they were exported
+                for (ExportedEvent exportedEvent : exportedEvents.values()) {
+                    List<String> content = new ArrayList<>(exportedEvent.content);
+                    if (!content.contains(STATUS_CANCELLED)) {
+                        content.add(STATUS_CANCELLED);
+                    }
+                    rewrittenCount += writeEvent(writer, content, exportedEvent, timeStamp);
+                }
+                writeLine(writer, "END:VCALENDAR");
+            }
+            Files.move(partFile, filePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(partFile);
+            throw ioe;
+        }
+        return rewrittenCount;
+    }
+
+    /**
+     * Returns the content lines of the event of {@code interview}, which are every line but the time stamp and
+     * sequence number, unfolded.
+     */
+    private static List<String> toEventContent(String uid, Interview interview) {
+        Candidate candidate = interview.getCandidate();
+        List<String> content = new ArrayList<>();
+        content.add("UID:" + uid);
+        content.add("DTSTART:" + interview.getInterviewDateTime().format(LOCAL_DATE_TIME_FORMATTER));
+        content.add("DTEND:" + interview.getInterviewEndDateTime().format(LOCAL_DATE_TIME_FORMATTER));
+        content.add("SUMMARY:" + escapeText("Interview with " + candidate.getName() + " ("
+                + candidate.getStudentId() + ")"));
+        if (!interview.getTrack().isDefault()) {
+            content.add("LOCATION:" + escapeText(interview.getTrack().toString()));
+        }
+        content.add("DESCRIPTION:" + escapeText("Email: " + candidate.getEmail() + "\nPhone: " + candidate.getPhone()
+                + "\nCourse: " + candidate.getCourse()));
+        return content;
+    }
+
+    /**
+     * Writes the event with {@code content} exactly as {@code exportedEvent} was if it has the same content, or
+     * with {@code timeStamp} and the next sequence number otherwise. {@code exportedEvent} is null if the event
+     * was not exported before.
+     * @return the number of events rewritten, which is 0 or 1.
+     */
+    private static int writeEvent(Writer writer, List<String> content, ExportedEvent exportedEvent,
+            String timeStamp) throws IOException {
+        if (exportedEvent != null && exportedEvent.content.equals(content)) {
+            writeEvent(writer, content, exportedEvent.timeStamp, exportedEvent.sequence);
+            return 0;
+        }
+        writeEvent(writer, content, timeStamp, exportedEvent == null ? 0 : exportedEvent.sequence + 1);
+        return 1;
+    }
+
+    private static void writeEvent(Writer writer, List<String> content, String timeStamp, int sequence)
+            throws IOException {
+        writeLine(writer, "BEGIN:VEVENT");
+        for (String line : content) {
+            writeLine(writer, line);
+        }
+        writeLine(writer, "DTSTAMP:" + timeStamp);
+        writeLine(writer, "SEQUENCE:" + sequence);
+        writeLine(writer, "END:VEVENT");
+    }
+
+    /**
+     * Writes {@code line} folded into lines of at most {@value #MAX_LINE_OCTETS} octets, without splitting a
+     * character.
+     */
+    private static void writeLine(Writer writer, String line) throws IOException {
+        int lineOctets = 0;
+        int i = 0;
+        while (i < line.length()) {
+            int codePoint = line.codePointAt(i);
+            int octets = countUtf8Octets(codePoint);
+            if (lineOctets + octets > MAX_LINE_OCTETS) {
+                // the folded line starts with a space, which takes an octet
+                writer.write(LINE_BREAK + " ");
+                lineOctets = 1;
+            }
+            writer.write(line, i, Character.charCount(codePoint));
+            lineOctets += octets;
+            i += Character.charCount(codePoint);
+        }
+        writer.write(LINE_BREAK);
+    }
+
+    private static int countUtf8Octets(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        } else if (codePoint < 0x800) {
+            return 2;
+        } else if (codePoint < 0x10000) {
+            return 3;
+        } else {
+            return 4;
+        }
+    }
+
+    /**
+     * Reads the events in the file, in the order they are in the file, or none if the file does not exist.
+     */
+    private Map<String, ExportedEvent> readExportedEvents() throws IOException {
+        Map<String, ExportedEvent> exportedEvents = new LinkedHashMap<>();
+        if (!FileUtil.isFileExists(filePath)) {
+            return exportedEvents;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, UTF_8)) {
+            EventReader eventReader = new EventReader(exportedEvents);
+            StringBuilder unfoldedLine = null;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (unfoldedLine != null && (line.startsWith(" ") || line.startsWith("\t"))) {
+                    unfoldedLine.append(line, 1, line.length());
+                    continue;
+                }
+                if (unfoldedLine != null) {
+                    eventReader.read(unfoldedLine.toString());
+                }
+                unfoldedLine = new StringBuilder(line);
+            }
+            if (unfoldedLine != null) {
+                eventReader.read(unfoldedLine.toString());
+            }
+        }
+        return exportedEvents;
+    }
+
+    private static String toUid(Interview interview) {
+        return interview.getCandidate().getStudentId() + UID_DOMAIN;
+    }
+
+    private static String formatUtc(LocalDateTime utcDateTime) {
+        return utcDateTime.withNano(0).format(LOCAL_DATE_TIME_FORMATTER) + "Z";
+    }
+
+    /**
+     * Escapes the characters of {@code text} which may not appear as they are in a text value.
+     */
+    private static String escapeText(String text) {
+        return text.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,").replace("\n", "\\n");
+    }
+
+    /**
+     * An event read from the file.
+     */
+    private static class ExportedEvent {
+        private final List<String> content;
+        private final String timeStamp;
+        private final int sequence;
+
+        ExportedEvent(List<String> content, String timeStamp, int sequence) {
+            this.content = content;
+            this.timeStamp = timeStamp;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Collects the events from the unfolded lines of the file, one line at a time.
+     */
+    private static class EventReader {
+        private final Map<String, ExportedEvent> exportedEvents;
+        /** Content lines of the event being read, or null if no event is being read. */
+        private List<String> content;
+        private String uid;
+        private String timeStamp;
+        private int sequence;
+
+        EventReader(Map<String, ExportedEvent> exportedEvents) {
+            this.exportedEvents = exportedEvents;
+        }
+
+        void read(String line) {
+            if (line.equals("BEGIN:VEVENT")) {
+                content = new ArrayList<>();
+                uid = null;
+                timeStamp = null;
+                sequence = 0;
+            } else if (content == null) {
+                return;
+            } else if (line.equals("END:VEVENT")) {
+                if (uid != null && timeStamp != null) {
+                    exportedEvents.put(uid, new ExportedEvent(content, timeStamp, sequence));
+                }
+                content = null;
+            } else if (line.startsWith("DTSTAMP:")) {
+                timeStamp = line.substring("DTSTAMP:".length());
+            } else if (line.startsWith("SEQUENCE:")) {
+                sequence = parseSequence(line.substring("SEQUENCE:".length()));
+            } else {
+                if (line.startsWith("UID:")) {
+                    uid = line.substring("UID:".length());
+                }
+                content.add(line);
+            }
+        }
+
+        private static int parseSequence(String sequence) {
+            try {
+                return Integer.parseInt(sequence.trim());
+            } catch (NumberFormatException nfe) {
+                return 0;
+            }
+        }
+    }
+}
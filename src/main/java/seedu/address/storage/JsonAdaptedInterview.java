@@ -18,6 +18,7 @@ import seedu.address.model.candidate.Remark;
 import seedu.address.model.candidate.Seniority;
 import seedu.address.model.candidate.StudentId;
 import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Track;
 
 /**
  * Jackson-friendly version of {@link Interview}.
@@ -37,6 +38,8 @@ class JsonAdaptedInterview {
     private final String availability;
     private final String remark;
     private final String interviewDateTime;
+    private final String track;
+    private final Integer duration;
 
     /**
      * Constructs a {@code JsonAdaptedInterview} with the given candidate and interviewDateTime details.
@@ -49,7 +52,9 @@ class JsonAdaptedInterview {
                                 @JsonProperty("interviewStatus") String interviewStatus,
                                 @JsonProperty("availability") String availability,
                                 @JsonProperty("interviewDateTime") String interviewDateTime,
-                                @JsonProperty("remark") String remark) {
+                                @JsonProperty("remark") String remark,
+                                @JsonProperty("track") String track,
+                                @JsonProperty("duration") Integer duration) {
         this.studentID = studentID;
         this.name = name;
         this.phone = phone;
@@ -61,6 +66,8 @@ class JsonAdaptedInterview {
         this.availability = availability;
         this.remark = remark;
         this.interviewDateTime = interviewDateTime;
+        this.track = track;
+        this.duration = duration;
     }
 
     /**
@@ -78,6 +85,8 @@ class JsonAdaptedInterview {
         availability = source.getCandidate().getAvailability().availability;
         remark = source.getCandidate().getRemark().value;
         interviewDateTime = source.getInterviewDateTime().toString();
+        track = source.getTrack().isDefault() ? null : source.getTrack().value;
+        duration = source.getDurationInMinutes();
     }
 
     /**
@@ -161,7 +170,19 @@ class JsonAdaptedInterview {
         }
 
         final LocalDateTime modelInterviewDateTime = LocalDateTime.parse(interviewDateTime);
-        return new Interview(candidate, modelInterviewDateTime);
+
+        // interviews saved before tracks were added have none, and are on the default track
+        if (track != null && !Track.isValidTrack(track)) {
+            throw new IllegalValueException(Track.MESSAGE_CONSTRAINTS);
+        }
+        final Track modelTrack = track == null ? Track.DEFAULT : new Track(track);
+
+        // interviews saved before durations were added last the default duration
+        if (duration != null && !Interview.isValidDuration(duration)) {
+            throw new IllegalValueException(Interview.MESSAGE_DURATION_CONSTRAINTS);
+        }
+        final int modelDuration = duration == null ? Interview.DEFAULT_DURATION_IN_MINUTES : duration;
+        return new Interview(candidate, modelInterviewDateTime, modelTrack, modelDuration);
     }
 
 }
@@ -1,10 +1,21 @@
 package seedu.address.ui;
 
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -13,25 +24,51 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Completions of the last word typed are computed in the background on every keystroke and shown below the
+ * command box; pressing Tab accepts the first one.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
+    /** Computes completions away from the JavaFX application thread, shared by all command boxes. */
+    private static final ExecutorService COMPLETION_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-completion");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final CommandExecutor commandExecutor;
+    private final CompletionProvider completionProvider;
+    private final ContextMenu completionMenu = new ContextMenu();
+    /** Completions being computed for the current text, or null if there are none. */
+    private Future<?> pendingCompletion;
+    /** Completions shown for the current text. */
+    private List<String> completions = new ArrayList<>();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CompletionProvider}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CompletionProvider completionProvider) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.completionProvider = completionProvider;
+        // calls #setStyleToDefault() and updates the completions whenever there is a change to the text of the
+        // command box.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            requestCompletions(newText);
+        });
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
+        commandTextField.focusedProperty().addListener((unused1, unused2, isFocused) -> {
+            if (!isFocused) {
+                completionMenu.hide();
+            }
+        });
     }
 
     /**
@@ -52,6 +89,66 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Accepts the first completion shown when Tab is pressed, instead of moving the focus.
+     */
+    private void handleKeyPressed(KeyEvent event) {
+        if (event.getCode() == KeyCode.TAB && !completions.isEmpty()) {
+            acceptCompletion(completions.get(0));
+            event.consume();
+        }
+    }
+
+    /**
+     * Starts computing the completions of {@code commandText} in the background, discarding any completions still
+     * being computed for an older text. The completions are only shown if the text has not changed by the time
+     * they are ready, so the JavaFX application thread never waits for them.
+     */
+    private void requestCompletions(String commandText) {
+        if (pendingCompletion != null) {
+            pendingCompletion.cancel(false);
+            pendingCompletion = null;
+        }
+        if (commandText.trim().isEmpty()) {
+            showCompletions(new ArrayList<>());
+            return;
+        }
+
+        pendingCompletion = COMPLETION_EXECUTOR.submit(() -> {
+            List<String> newCompletions = completionProvider.getCompletions(commandText);
+            Platform.runLater(() -> {
+                if (commandText.equals(commandTextField.getText())) {
+                    showCompletions(newCompletions);
+                }
+            });
+        });
+    }
+
+    private void showCompletions(List<String> newCompletions) {
+        completions = newCompletions;
+        if (newCompletions.isEmpty()) {
+            completionMenu.hide();
+            return;
+        }
+
+        List<MenuItem> items = new ArrayList<>();
+        for (String completion : newCompletions) {
+            MenuItem item = new MenuItem(completion);
+            item.setMnemonicParsing(false);
+            item.setOnAction(unused -> acceptCompletion(completion));
+            items.add(item);
+        }
+        completionMenu.getItems().setAll(items);
+        if (!completionMenu.isShowing() && commandTextField.getScene() != null) {
+            completionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    private void acceptCompletion(String completion) {
+        commandTextField.setText(completion);
+        commandTextField.positionCaret(completion.length());
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -85,4 +182,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException, FileNotFoundException;
     }
 
+    /**
+     * Represents a function that completes partially typed commands.
+     */
+    @FunctionalInterface
+    public interface CompletionProvider {
+        /**
+         * Returns the ways to complete the last word of {@code commandText}. May be called from any thread.
+         *
+         * @see seedu.address.logic.Logic#getCompletions(String)
+         */
+        List<String> getCompletions(String commandText);
+    }
+
 }
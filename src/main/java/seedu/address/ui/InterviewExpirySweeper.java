@@ -0,0 +1,120 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.interview.Interview;
+
+/**
+ * Deletes every interview when it ends, and marks its candidate as having completed the interview, while the app
+ * stays open.
+ * A background timer waits for the next interview to end, which the schedule keeps at the head of a min-heap, and
+ * then sweeps the expired interviews on the JavaFX application thread. The timer is set again whenever the
+ * schedule changes, so the schedule is never scanned.
+ * Interviews are not swept during a simulation, so the sweep waits until it ends, when the interviews which ended
+ * during it are swept at once.
+ */
+public class InterviewExpirySweeper {
+
+    private static final Logger logger = LogsCenter.getLogger(InterviewExpirySweeper.class);
+
+    /** How often a sweep waiting for a simulation to end checks whether it has ended. */
+    private static final Duration SIMULATION_CHECK_INTERVAL = Duration.ofSeconds(1);
+
+    /** Waits for interviews to end, shared by all sweepers. */
+    private static final ScheduledExecutorService EXPIRY_TIMER = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "interview-expiry");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final Logic logic;
+    private final Executor fxExecutor;
+    private final Supplier<LocalDateTime> clock;
+    /** Sweep waiting for the next interview to end, or null if no interview is scheduled. */
+    private ScheduledFuture<?> pendingSweep;
+    /** End of the interview {@link #pendingSweep} waits for. */
+    private LocalDateTime pendingExpiry;
+
+    /**
+     * Creates an {@code InterviewExpirySweeper} sweeping the interviews of {@code logic} on the JavaFX application
+     * thread.
+     */
+    public InterviewExpirySweeper(Logic logic) {
+        this(logic, Platform::runLater, LocalDateTime::now);
+    }
+
+    /**
+     * Creates an {@code InterviewExpirySweeper} sweeping the interviews of {@code logic} with {@code fxExecutor},
+     * which must run every sweep on the thread changing the interviews, at the date times given by {@code clock}.
+     */
+    InterviewExpirySweeper(Logic logic, Executor fxExecutor, Supplier<LocalDateTime> clock) {
+        requireNonNull(logic);
+        requireNonNull(fxExecutor);
+        requireNonNull(clock);
+
+        this.logic = logic;
+        this.fxExecutor = fxExecutor;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts waiting for the next interview to end. Must be called on the JavaFX application thread.
+     */
+    public void start() {
+        logic.getInterviewSchedule().getInterviewList()
+                .addListener((ListChangeListener<Interview>) change -> schedule());
+        schedule();
+    }
+
+    /**
+     * Sets the timer for the next interview to end, unless it is already set for that interview.
+     */
+    private void schedule() {
+        Optional<LocalDateTime> nextExpiry = logic.getNextInterviewExpiry();
+        if (pendingSweep != null && !pendingSweep.isDone() && nextExpiry.equals(Optional.of(pendingExpiry))) {
+            return;
+        }
+        if (pendingSweep != null) {
+            pendingSweep.cancel(false);
+            pendingSweep = null;
+        }
+        if (nextExpiry.isEmpty()) {
+            return;
+        }
+
+        pendingExpiry = nextExpiry.get();
+        long delay = Math.max(0, Duration.between(clock.get(), pendingExpiry).toNanos());
+        pendingSweep = EXPIRY_TIMER.schedule(() -> fxExecutor.execute(this::sweep), delay, TimeUnit.NANOSECONDS);
+    }
+
+    private void sweep() {
+        if (logic.isSimulating()) {
+            pendingSweep = EXPIRY_TIMER.schedule(() -> fxExecutor.execute(this::sweep),
+                    SIMULATION_CHECK_INTERVAL.toNanos(), TimeUnit.NANOSECONDS);
+            return;
+        }
+        try {
+            logic.deleteExpiredInterviews(clock.get());
+        } catch (CommandException ce) {
+            logger.warning("Failed to delete expired interviews: " + ce.getMessage());
+        }
+        schedule();
+    }
+}
@@ -145,7 +145,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -293,7 +293,7 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
         //to manually clear the commandBox
         commandBoxPlaceholder.getChildren().remove(0);
-        commandBoxPlaceholder.getChildren().add(new CommandBox(this::executeCommand).getRoot());
+        commandBoxPlaceholder.getChildren().add(new CommandBox(this::executeCommand, logic::getCompletions).getRoot());
         return commandResult;
     }
 
@@ -318,7 +318,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
         commandBoxPlaceholder.getChildren().remove(0);
-        commandBoxPlaceholder.getChildren().add(new CommandBox(this::executeCommand).getRoot());
+        commandBoxPlaceholder.getChildren().add(new CommandBox(this::executeCommand, logic::getCompletions).getRoot());
         return commandResult;
     }
 
@@ -43,6 +43,7 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            new InterviewExpirySweeper(logic).start();
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -0,0 +1,83 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class AhoCorasickAutomatonTest {
+
+    @Test
+    public void constructor_nullKeyword_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AhoCorasickAutomaton(null));
+        assertThrows(NullPointerException.class, () -> new AhoCorasickAutomaton(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void containsAnyIn_nullText_throwsNullPointerException() {
+        AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(Collections.singletonList("a"));
+        assertThrows(NullPointerException.class, () -> automaton.containsAnyIn(null));
+    }
+
+    @Test
+    public void containsAnyIn_noKeywords_returnsFalse() {
+        AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(Collections.emptyList());
+        assertFalse(automaton.containsAnyIn(""));
+        assertFalse(automaton.containsAnyIn("alice"));
+    }
+
+    @Test
+    public void containsAnyIn_emptyKeyword_returnsTrue() {
+        AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(Arrays.asList("bob", ""));
+        assertTrue(automaton.containsAnyIn(""));
+        assertTrue(automaton.containsAnyIn("alice"));
+    }
+
+    @Test
+    public void containsAnyIn_keywordPresent_returnsTrue() {
+        AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(Arrays.asList("he", "she", "his", "hers"));
+
+        // keyword at start, middle and end of text
+        assertTrue(automaton.containsAnyIn("hello"));
+        assertTrue(automaton.containsAnyIn("ushers"));
+        assertTrue(automaton.containsAnyIn("this"));
+
+        // keyword only found by following a failure transition
+        assertTrue(automaton.containsAnyIn("shis"));
+
+        // keyword is a suffix of a partial match of another keyword
+        automaton = new AhoCorasickAutomaton(Arrays.asList("abcd", "bc"));
+        assertTrue(automaton.containsAnyIn("abce"));
+    }
+
+    @Test
+    public void containsAnyIn_keywordAbsent_returnsFalse() {
+        AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(Arrays.asList("he", "she", "his", "hers"));
+        assertFalse(automaton.containsAnyIn(""));
+        assertFalse(automaton.containsAnyIn("h"));
+        assertFalse(automaton.containsAnyIn("sh is"));
+
+        // matching is case-sensitive
+        assertFalse(automaton.containsAnyIn("HE"));
+    }
+
+    @Test
+    public void containsAnyIn_manyKeywords_sameResultAsStringContains() {
+        List<String> keywords = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            keywords.add(String.format("a%07d", i * 37));
+        }
+        AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(keywords);
+
+        for (int i = 0; i < 3000; i++) {
+            String text = String.format("a%07db", i);
+            assertTrue(automaton.containsAnyIn(text) == keywords.stream().anyMatch(text::contains));
+        }
+    }
+}
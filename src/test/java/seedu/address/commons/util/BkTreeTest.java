@@ -0,0 +1,79 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    @Test
+    public void add_duplicateWord_returnsFalse() {
+        BkTree tree = new BkTree();
+        assertTrue(tree.add("alice"));
+        assertTrue(tree.add("alicia"));
+        assertFalse(tree.add("alice"));
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void search_invalidArguments_throwsException() {
+        BkTree tree = new BkTree();
+        assertThrows(NullPointerException.class, () -> tree.search(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> tree.search("alice", -1));
+    }
+
+    @Test
+    public void search_emptyTree_returnsEmptyList() {
+        assertTrue(new BkTree().search("alice", 2).isEmpty());
+    }
+
+    @Test
+    public void search_misspelledWord_returnsSimilarWords() {
+        BkTree tree = new BkTree();
+        for (String word : Arrays.asList("muhammad", "mohammed", "mohamed", "ahmad", "alice", "bob")) {
+            tree.add(word);
+        }
+
+        assertEquals(new HashSet<>(Arrays.asList("muhammad", "mohammed", "mohamed")),
+                new HashSet<>(tree.search("mohamad", 2)));
+        assertEquals(Arrays.asList("alice"), tree.search("alice", 0));
+    }
+
+    @Test
+    public void search_randomWords_sameResultAsComparingEveryWord() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>();
+        BkTree tree = new BkTree();
+        for (int i = 0; i < 500; i++) {
+            String word = randomWord(random);
+            words.add(word);
+            tree.add(word);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            String query = randomWord(random);
+            int maxDistance = i % 3;
+            assertEquals(words.stream().filter(word -> StringUtil.editDistance(query, word, maxDistance) <= maxDistance)
+                    .collect(Collectors.toSet()), new HashSet<>(tree.search(query, maxDistance)));
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 3 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -82,6 +84,32 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void selectTopK() {
+        List<String> items = Arrays.asList("bb", "a", "dddd", "ccc", "ee", "f");
+
+        // highest scores first, ties kept in list order
+        assertEquals(Arrays.asList("dddd", "ccc", "bb"), CollectionUtil.selectTopK(items, String::length, 3));
+        assertEquals(Arrays.asList("dddd", "ccc", "bb", "ee", "a", "f"),
+                CollectionUtil.selectTopK(items, String::length, 10));
+        assertEquals(Arrays.asList("a", "f"), CollectionUtil.selectTopK(items, item -> -item.length(), 2));
+        assertEquals(Collections.emptyList(), CollectionUtil.selectTopK(items, String::length, 0));
+        assertEquals(Collections.emptyList(), CollectionUtil.selectTopK(Collections.<String>emptyList(),
+                String::length, 3));
+
+        // same result as a full stable sort
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            numbers.add((i * 7919) % 101);
+        }
+        List<Integer> sorted = new ArrayList<>(numbers);
+        sorted.sort(Collections.reverseOrder());
+        assertEquals(sorted.subList(0, 25), CollectionUtil.selectTopK(numbers, number -> number, 25));
+
+        assertThrows(NullPointerException.class, () -> CollectionUtil.selectTopK(null, String::length, 1));
+        assertThrows(IllegalArgumentException.class, () -> CollectionUtil.selectTopK(items, String::length, -1));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -0,0 +1,68 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class ListChangeJournalTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ListChangeJournal<String>(null));
+    }
+
+    @Test
+    public void getAddedAndRemoved_changedList_netChanges() {
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b", "c");
+        ListChangeJournal<String> journal = new ListChangeJournal<>(list);
+
+        list.add("d");
+        list.remove("a");
+        list.set(0, "e");
+        // added and removed again, which is no change
+        list.add("f");
+        list.remove("f");
+
+        assertEquals(Arrays.asList("d", "e"), journal.getAdded());
+        assertEquals(Arrays.asList("a", "b"), journal.getRemoved());
+    }
+
+    @Test
+    public void undo_changedList_restoresList() {
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b", "c");
+        ListChangeJournal<String> journal = new ListChangeJournal<>(list);
+
+        list.add(1, "d");
+        list.remove("c");
+        list.set(0, "e");
+        list.setAll("f", "g");
+        list.add("h");
+        journal.undo();
+
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+
+        // the journal no longer records changes
+        list.add("i");
+        assertEquals(List.of(), journal.getAdded());
+    }
+
+    @Test
+    public void stop_changedList_keepsList() {
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b");
+        ListChangeJournal<String> journal = new ListChangeJournal<>(list);
+
+        list.add("c");
+        journal.stop();
+        list.add("d");
+
+        assertEquals(Arrays.asList("c"), journal.getAdded());
+        assertEquals(Arrays.asList("a", "b", "c", "d"), list);
+    }
+}
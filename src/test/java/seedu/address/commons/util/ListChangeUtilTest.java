@@ -0,0 +1,50 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class ListChangeUtilTest {
+
+    @Test
+    public void forEachRemovedAndAdded_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ListChangeUtil.forEachRemovedAndAdded(null, unused -> { }));
+        assertThrows(NullPointerException.class, () -> ListChangeUtil.forEachLeavingAndEntering(unused -> { },
+                null));
+    }
+
+    @Test
+    public void forEachRemovedAndAdded_changedList_removedBeforeAdded() {
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b");
+        List<String> calls = new ArrayList<>();
+        list.addListener(ListChangeUtil.forEachRemovedAndAdded(removed -> calls.add("-" + removed),
+                added -> calls.add("+" + added)));
+
+        list.setAll("b", "c");
+        assertEquals(Arrays.asList("-a", "-b", "+b", "+c"), calls);
+    }
+
+    @Test
+    public void forEachLeavingAndEntering_changedList_unchangedElementsSkipped() {
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b");
+        List<String> calls = new ArrayList<>();
+        list.addListener(ListChangeUtil.forEachLeavingAndEntering(removed -> calls.add("-" + removed),
+                added -> calls.add("+" + added)));
+
+        list.setAll("b", "c");
+        assertEquals(Arrays.asList("-a", "+c"), calls);
+
+        // an equal element which is not the same object is passed
+        calls.clear();
+        list.set(1, new String("c"));
+        assertEquals(Arrays.asList("-c", "+c"), calls);
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PrefixTrie().add(null));
+    }
+
+    @Test
+    public void complete_invalidArguments_throwsException() {
+        PrefixTrie trie = new PrefixTrie();
+        assertThrows(NullPointerException.class, () -> trie.complete(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> trie.complete("a", -1));
+    }
+
+    @Test
+    public void complete_wordsWithPrefix_returnsWordsInAlphabeticalOrder() {
+        PrefixTrie trie = new PrefixTrie();
+        for (String word : Arrays.asList("Benson", "alex", "Alice", "Al", "bernice")) {
+            trie.add(word);
+        }
+
+        assertEquals(Arrays.asList("Al", "alex", "Alice"), trie.complete("al", 10));
+        assertEquals(Arrays.asList("Alice"), trie.complete("ALI", 10));
+        assertEquals(Arrays.asList("Benson", "bernice"), trie.complete("be", 10));
+        assertEquals(Collections.emptyList(), trie.complete("c", 10));
+
+        // empty prefix completes every word
+        assertEquals(5, trie.complete("", 10).size());
+
+        // at most limit words are returned
+        assertEquals(Arrays.asList("Al", "alex"), trie.complete("a", 2));
+        assertEquals(Collections.emptyList(), trie.complete("a", 0));
+    }
+
+    @Test
+    public void remove_countedWords_removedAfterLastOccurrence() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("Alice");
+        trie.add("alice");
+        trie.add("Alicia");
+        assertEquals(2, trie.size());
+
+        // first occurrence decides the returned form
+        trie.remove("ALICE");
+        assertEquals(Arrays.asList("Alice", "Alicia"), trie.complete("ali", 10));
+
+        trie.remove("alice");
+        assertEquals(Arrays.asList("Alicia"), trie.complete("ali", 10));
+        assertEquals(1, trie.size());
+
+        // absent words are ignored
+        trie.remove("alice");
+        trie.remove("bob");
+        trie.remove("al");
+        assertEquals(1, trie.size());
+
+        trie.remove("Alicia");
+        assertEquals(0, trie.size());
+        assertEquals(Collections.emptyList(), trie.complete("", 10));
+
+        // words can be added back after pruning
+        trie.add("Al");
+        assertEquals(Arrays.asList("Al"), trie.complete("a", 10));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -201,6 +202,62 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsStringIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    /*
+     * Equivalence Partitions: null strings, negative maxDistance, distance within maxDistance,
+     * distance beyond maxDistance
+     */
+
+    @Test
+    public void editDistance_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null, 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.editDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void editDistance_withinMaxDistance_returnsDistance() {
+        assertEquals(0, StringUtil.editDistance("", "", 0));
+        assertEquals(0, StringUtil.editDistance("abc", "abc", 0));
+        assertEquals(3, StringUtil.editDistance("", "abc", 3)); // insertions only
+        assertEquals(1, StringUtil.editDistance("abc", "abd", 2)); // substitution
+        assertEquals(1, StringUtil.editDistance("abcd", "acd", 2)); // deletion
+        assertEquals(2, StringUtil.editDistance("mohamad", "muhammad", 2));
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting", 5));
+    }
+
+    @Test
+    public void editDistance_beyondMaxDistance_returnsMaxDistancePlusOne() {
+        assertEquals(1, StringUtil.editDistance("abc", "abd", 0));
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting", 2));
+        assertEquals(2, StringUtil.editDistance("a", "abcdef", 1)); // lengths differ too much
+        assertEquals(2, StringUtil.editDistance("abcdef", "badcfe", 1));
+    }
+
+    //---------------- Tests for soundex --------------------------------------
+
+    @Test
+    public void soundex_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.soundex(null));
+    }
+
+    @Test
+    public void soundex_validWords_returnsCode() {
+        assertEquals("R163", StringUtil.soundex("Robert"));
+        assertEquals("R163", StringUtil.soundex("rupert"));
+        assertEquals("A261", StringUtil.soundex("Ashcraft")); // letters with the same digit separated by H
+        assertEquals("T522", StringUtil.soundex("Tymczak")); // letters with the same digit are coded once
+        assertEquals("P236", StringUtil.soundex("Pfister")); // second letter has the same digit as the first
+        assertEquals("L000", StringUtil.soundex("Lee")); // padded with zeros
+        assertEquals("J200", StringUtil.soundex("José")); // accents ignored
+        assertEquals("M530", StringUtil.soundex("Mohamed"));
+        assertEquals("M530", StringUtil.soundex("Muhammad"));
+        assertEquals("A100", StringUtil.soundex("a0123b")); // non-letters skipped
+        assertEquals("", StringUtil.soundex("123"));
+        assertEquals("", StringUtil.soundex(""));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
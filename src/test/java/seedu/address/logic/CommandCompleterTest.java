@@ -0,0 +1,73 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.CompletionIndex;
+import seedu.address.testutil.CandidateBuilder;
+
+public class CommandCompleterTest {
+
+    private final Candidate alice = new CandidateBuilder().withStudentId("A0123451B").withName("Alice Pauline")
+            .withEmail("E0123450@u.nus.edu").build();
+    private final Candidate alex = new CandidateBuilder().withStudentId("A0234567B").withName("Alex Yeoh")
+            .withEmail("E0234560@u.nus.edu").build();
+    private final ObservableList<Candidate> candidates = FXCollections.observableArrayList(alice, alex);
+    private final CommandCompleter completer = new CommandCompleter(new CompletionIndex(candidates));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandCompleter(null));
+    }
+
+    @Test
+    public void complete_commandWord() {
+        assertEquals(Arrays.asList("find"), completer.complete("fi"));
+        assertEquals(Arrays.asList("schedule", "search", "simulate", "sort"), completer.complete("s"));
+        assertEquals(Arrays.asList("schedule add", "schedule auto"), completer.complete("schedule a"));
+        assertEquals(Arrays.asList("schedule suggest"), completer.complete("schedule su"));
+        assertEquals(Arrays.asList("schedule shift"), completer.complete("schedule sh"));
+        assertEquals(Arrays.asList("schedule edit", "schedule export"), completer.complete("schedule e"));
+        assertEquals(Arrays.asList("search save", "search show"), completer.complete("search s"));
+        assertEquals(Arrays.asList("simulate diff", "simulate discard"), completer.complete("simulate d"));
+
+        // complete words are not completed again
+        assertEquals(Collections.emptyList(), completer.complete("find"));
+    }
+
+    @Test
+    public void complete_prefixValue() {
+        assertEquals(Arrays.asList("find k/Alex", "find k/Alice"), completer.complete("find k/al"));
+        assertEquals(Arrays.asList("find k/alice k/A0123451B"), completer.complete("find k/alice k/a01"));
+        assertEquals(Arrays.asList("find k/E0234560@u.nus.edu"), completer.complete("find k/e02"));
+
+        // nothing to complete after a bare prefix or whitespace
+        assertEquals(Collections.emptyList(), completer.complete("find k/"));
+        assertEquals(Collections.emptyList(), completer.complete("find k/al "));
+    }
+
+    @Test
+    public void complete_prefixOrCandidateWord() {
+        assertEquals(Arrays.asList("find k/alice to/", "find k/alice top/"), completer.complete("find k/alice to"));
+        assertTrue(completer.complete("edit 1 a").containsAll(Arrays.asList("edit 1 as/", "edit 1 at/",
+                "edit 1 avail/", "edit 1 A0123451B", "edit 1 Alex")));
+    }
+
+    @Test
+    public void complete_candidatesChanged_completionsUpdated() {
+        candidates.remove(alex);
+        assertEquals(Arrays.asList("find k/Alice"), completer.complete("find k/al"));
+
+        candidates.add(new CandidateBuilder().withStudentId("A0345678B").withName("Albert Tan").build());
+        assertEquals(Arrays.asList("find k/Albert", "find k/Alice"), completer.complete("find k/al"));
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_CANDIDATES_SORTED_OVERVIEW;
 import static seedu.address.commons.core.Messages.MESSAGE_NO_CANDIDATES_DISPLAYED;
 import static seedu.address.commons.core.Messages.MESSAGE_NO_CANDIDATES_IN_SYSTEM;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -13,11 +16,18 @@ import static seedu.address.logic.commands.CommandTestUtil.SENIORITY_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.STUDENT_ID_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_APPLICATION_PENDING;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_INTERVIEW_NOT_SCHEDULED;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SORTKEY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCandidates.ALICE;
 import static seedu.address.testutil.TypicalCandidates.AMY;
+import static seedu.address.testutil.TypicalCandidates.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalInterviews.INTERVIEW_ALICE;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,8 +36,16 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.search.DeleteSearchCommand;
+import seedu.address.logic.commands.search.SaveSearchCommand;
+import seedu.address.logic.commands.simulation.CommitSimulationCommand;
+import seedu.address.logic.commands.simulation.DiscardSimulationCommand;
+import seedu.address.logic.commands.simulation.StartSimulationCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.InterviewSchedule;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -78,6 +96,19 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, MESSAGE_NO_CANDIDATES_IN_SYSTEM, model);
     }
 
+    @Test
+    public void constructor_savedSearchesInUserPrefs_savedSearchesRestored() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.putSavedSearch("alice", "k/Alice f/name");
+        userPrefs.putSavedSearch("invalid", "k/Alice f/height");
+        model = new ModelManager(new AddressBook(), new InterviewSchedule(), userPrefs);
+        setUp();
+
+        assertTrue(model.hasSavedSearch("alice"));
+        assertFalse(model.hasSavedSearch("invalid"));
+        assertEquals(Map.of("alice", "k/Alice f/name"), model.getSavedSearches());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
@@ -103,6 +134,82 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_displayOnlyCommand_nothingSaved() throws Exception {
+        // Setup LogicManager with storage which cannot save
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonInterviewScheduleStorage interviewScheduleStorage =
+                new JsonInterviewScheduleIoExceptionThrowingStub(temporaryFolder
+                        .resolve("ioExceptionInterviewSchedule.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, interviewScheduleStorage);
+        logic = new LogicManager(model, storage);
+
+        String sortCommand = SortCommand.COMMAND_WORD + " " + PREFIX_SORTKEY + "name";
+        assertCommandSuccess(sortCommand, String.format(MESSAGE_CANDIDATES_SORTED_OVERVIEW, 0), new ModelManager());
+    }
+
+    @Test
+    public void execute_commandDuringSimulation_savedOnlyWhenCommitted() throws Exception {
+        // Setup LogicManager with storage which cannot save
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonInterviewScheduleStorage interviewScheduleStorage =
+                new JsonInterviewScheduleIoExceptionThrowingStub(temporaryFolder
+                        .resolve("ioExceptionInterviewSchedule.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, interviewScheduleStorage);
+        logic = new LogicManager(model, storage);
+
+        logic.execute(StartSimulationCommand.COMMAND_WORD);
+        String addCommand = AddCommand.COMMAND_WORD + STUDENT_ID_DESC_AMY + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + COURSE_DESC_AMY + SENIORITY_DESC_AMY + AVAILABILITY_DESC_AMY;
+        logic.execute(addCommand);
+        assertEquals(1, model.getFilteredCandidateList().size());
+
+        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertThrows(CommandException.class, expectedMessage, () -> logic.execute(
+                CommitSimulationCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_savedSearchChanged_onlyUserPrefsSaved() throws Exception {
+        // Setup LogicManager with storage which can only save the user prefs
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonInterviewScheduleStorage interviewScheduleStorage =
+                new JsonInterviewScheduleIoExceptionThrowingStub(temporaryFolder
+                        .resolve("ioExceptionInterviewSchedule.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, interviewScheduleStorage);
+        logic = new LogicManager(model, storage);
+
+        logic.execute(SaveSearchCommand.COMMAND_WORD + " alice k/Alice f/name");
+        assertEquals(Map.of("alice", "k/Alice f/name"), userPrefsStorage.readUserPrefs().get().getSavedSearches());
+
+        logic.execute(DeleteSearchCommand.COMMAND_WORD + " alice");
+        assertEquals(Map.of(), userPrefsStorage.readUserPrefs().get().getSavedSearches());
+    }
+
+    @Test
+    public void deleteExpiredInterviews_duringSimulation_sweptOnceDiscarded() throws Exception {
+        InterviewSchedule interviewSchedule = new InterviewSchedule();
+        interviewSchedule.addInterview(INTERVIEW_ALICE);
+        model = new ModelManager(getTypicalAddressBook(), interviewSchedule, new UserPrefs());
+        setUp();
+
+        logic.execute(StartSimulationCommand.COMMAND_WORD);
+        logic.deleteExpiredInterviews(LocalDateTime.now());
+        assertEquals(List.of(INTERVIEW_ALICE), model.getInterviewSchedule().getInterviewList());
+
+        logic.execute(DiscardSimulationCommand.COMMAND_WORD);
+        assertEquals(List.of(), model.getInterviewSchedule().getInterviewList());
+        assertTrue(model.getAddressBook().getCandidateList().contains(ALICE.triggerInterviewStatusCompleted()));
+    }
+
     @Test
     public void getFilteredCandidateList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredCandidateList().remove(0));
@@ -12,7 +12,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 import org.junit.jupiter.api.Test;
 
@@ -24,8 +27,14 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyInterviewSchedule;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.SimulationDiff;
 import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.FacetCounts;
+import seedu.address.model.candidate.SearchIndex;
 import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.InterviewSlot;
+import seedu.address.model.interview.Track;
+import seedu.address.model.interview.predicate.WithinTimePeriodPredicate;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.testutil.CandidateBuilder;
 
@@ -164,6 +173,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void showInterviewsWithin(WithinTimePeriodPredicate timePeriod) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasCandidate(Candidate candidate) {
             throw new AssertionError("This method should not be called.");
@@ -179,6 +193,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setCandidates(List<Candidate> targets, List<Candidate> editedCandidates) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasInterview(Candidate editedCandidate) {
             throw new AssertionError("This method should not be called.");
@@ -209,6 +228,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addInterviews(List<Interview> interviews) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setInterview(Interview target, Interview editedInterview) {
             throw new AssertionError("This method should not be called.");
@@ -219,6 +243,18 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<InterviewSlot> findFreeInterviewSlots(Candidate candidate, List<Track> tracks,
+                LocalDateTime earliestStart, int count, int durationInMinutes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Optional<InterviewSlot>> assignFreeInterviewSlots(List<Candidate> candidates,
+                List<Track> tracks, LocalDateTime earliestStart, LocalDateTime latestStart, int durationInMinutes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Candidate> getFilteredCandidateList() {
             throw new AssertionError("This method should not be called.");
@@ -229,6 +265,47 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateRankedCandidateList(Predicate<Candidate> predicate, ToIntFunction<Candidate> scorer,
+                                              int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, String> getSavedSearches() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasSavedSearch(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addSavedSearch(String name, String definition, Predicate<Candidate> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteSavedSearch(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredCandidateListToSavedSearch(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SearchIndex getSearchIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FacetCounts getFacetCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateSortedCandidateList(Comparator<Candidate> sortKey) {
             throw new AssertionError("This method should not be called.");
@@ -244,6 +321,46 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<LocalDateTime> getNextInterviewExpiry() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setInterviews(List<Interview> targets, List<Interview> editedInterviews) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Interview> getInterviewsBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void startSimulation() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isSimulating() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SimulationDiff getSimulationDiff() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitSimulation() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void discardSimulation() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void resetAllScheduledStatus() {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,107 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalCandidates.ALICE;
+import static seedu.address.testutil.TypicalCandidates.CARL;
+import static seedu.address.testutil.TypicalCandidates.DANIEL;
+import static seedu.address.testutil.TypicalCandidates.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalInterviews.TUESDAY_INTERVIEW_DATE_TIME;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.schedule.AutoScheduleCommand;
+import seedu.address.model.InterviewSchedule;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Track;
+
+public class AutoScheduleCommandTest {
+
+    private static final LocalDateTime MONDAY_EIGHT_AM = TUESDAY_INTERVIEW_DATE_TIME.minusDays(1).withHour(8);
+    private static final LocalDateTime FRIDAY_EIGHT_AM = MONDAY_EIGHT_AM.plusDays(4);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new InterviewSchedule(), new UserPrefs());
+
+    @Test
+    public void execute_fewerSlotsThanCandidates_leastAvailableScheduled() throws CommandException {
+        model.updateFilteredCandidateList(candidate -> candidate.equals(CARL) || candidate.equals(DANIEL));
+        AutoScheduleCommand command = new AutoScheduleCommand(FRIDAY_EIGHT_AM, FRIDAY_EIGHT_AM);
+
+        // Daniel is only available on Fridays, so he takes the only slot
+        String expectedMessage = String.format(AutoScheduleCommand.MESSAGE_SCHEDULED_CANDIDATES_SUCCESS, 1,
+                "26-04-2080 08:00", "26-04-2080 08:00")
+                + String.format(AutoScheduleCommand.MESSAGE_UNSCHEDULED_CANDIDATES, CARL.getName());
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+
+        Candidate scheduledDaniel = DANIEL.triggerInterviewStatusScheduled();
+        assertEquals(List.of(new Interview(scheduledDaniel, FRIDAY_EIGHT_AM)),
+                model.getInterviewSchedule().getInterviewList());
+        assertTrue(model.getAddressBook().getCandidateList().contains(scheduledDaniel));
+    }
+
+    @Test
+    public void execute_longInterviews_scheduledWithoutOverlap() throws CommandException {
+        model.updateFilteredCandidateList(candidate -> candidate.equals(CARL) || candidate.equals(DANIEL));
+        AutoScheduleCommand command = new AutoScheduleCommand(FRIDAY_EIGHT_AM, FRIDAY_EIGHT_AM.plusMinutes(30),
+                List.of(Track.DEFAULT), 60);
+
+        // Daniel's interview runs until 9am, so Carl cannot start at 8:30
+        String expectedMessage = String.format(AutoScheduleCommand.MESSAGE_SCHEDULED_CANDIDATES_SUCCESS, 1,
+                "26-04-2080 08:00", "26-04-2080 08:30")
+                + String.format(AutoScheduleCommand.MESSAGE_UNSCHEDULED_CANDIDATES, CARL.getName());
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+
+        assertEquals(List.of(new Interview(DANIEL.triggerInterviewStatusScheduled(), FRIDAY_EIGHT_AM, Track.DEFAULT,
+                60)), model.getInterviewSchedule().getInterviewList());
+    }
+
+    @Test
+    public void execute_noCandidateToSchedule_throwsCommandException() {
+        model.updateFilteredCandidateList(candidate -> candidate.equals(ALICE));
+        AutoScheduleCommand command = new AutoScheduleCommand(MONDAY_EIGHT_AM, FRIDAY_EIGHT_AM);
+
+        assertCommandFailure(command, model, AutoScheduleCommand.MESSAGE_NO_CANDIDATES_TO_SCHEDULE);
+    }
+
+    @Test
+    public void execute_noFreeSlot_throwsCommandException() {
+        model.updateFilteredCandidateList(candidate -> candidate.equals(DANIEL));
+        AutoScheduleCommand command = new AutoScheduleCommand(MONDAY_EIGHT_AM, MONDAY_EIGHT_AM.plusDays(3));
+
+        assertCommandFailure(command, model, AutoScheduleCommand.MESSAGE_NO_FREE_SLOTS);
+    }
+
+    @Test
+    public void equals() {
+        AutoScheduleCommand mondayToFriday = new AutoScheduleCommand(MONDAY_EIGHT_AM, FRIDAY_EIGHT_AM);
+
+        // same object -> returns true
+        assertTrue(mondayToFriday.equals(mondayToFriday));
+
+        // same values -> returns true
+        assertTrue(mondayToFriday.equals(new AutoScheduleCommand(MONDAY_EIGHT_AM, FRIDAY_EIGHT_AM)));
+
+        // different types -> returns false
+        assertFalse(mondayToFriday.equals(1));
+
+        // null -> returns false
+        assertFalse(mondayToFriday.equals(null));
+
+        // different range -> returns false
+        assertFalse(mondayToFriday.equals(new AutoScheduleCommand(MONDAY_EIGHT_AM, MONDAY_EIGHT_AM)));
+
+        // different duration -> returns false
+        assertFalse(mondayToFriday.equals(new AutoScheduleCommand(MONDAY_EIGHT_AM, FRIDAY_EIGHT_AM,
+                List.of(Track.DEFAULT), 60)));
+    }
+}
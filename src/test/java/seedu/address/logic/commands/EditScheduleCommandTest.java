@@ -8,16 +8,20 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showInterviewAtIndex;
 import static seedu.address.logic.commands.schedule.EditScheduleCommand.MESSAGE_EXPIRED_INTERVIEW;
 import static seedu.address.logic.commands.schedule.ScheduleCommand.DATE_TIME_FORMATTER;
+import static seedu.address.testutil.TypicalCandidates.ALICE;
+import static seedu.address.testutil.TypicalCandidates.BENSON;
 import static seedu.address.testutil.TypicalCandidates.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CANDIDATE;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_INTERVIEW;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_INTERVIEW;
+import static seedu.address.testutil.TypicalInterviews.TUESDAY_INTERVIEW_DATE_TIME;
 import static seedu.address.testutil.TypicalInterviews.VALID_ALICE_INTERVIEW_DATE_TIME;
 import static seedu.address.testutil.TypicalInterviews.VALID_AMY_INTERVIEW_DATE_TIME;
 import static seedu.address.testutil.TypicalInterviews.VALID_NO_CONFLICT_INTERVIEW_DATE_TIME;
 import static seedu.address.testutil.TypicalInterviews.getTypicalInterviewSchedule;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -151,6 +155,38 @@ public class EditScheduleCommandTest {
         assertCommandFailure(editScheduleCommand, model, EditScheduleCommand.MESSAGE_CONFLICTING_INTERVIEW);
     }
 
+    @Test
+    public void execute_longerDurationEndingAsNextInterviewStarts_success() throws CommandException {
+        Model model = new ModelManager(getTypicalAddressBook(), new InterviewSchedule(), new UserPrefs());
+        Interview aliceInterview = new Interview(ALICE, TUESDAY_INTERVIEW_DATE_TIME);
+        model.addInterview(aliceInterview);
+        model.addInterview(new Interview(BENSON, TUESDAY_INTERVIEW_DATE_TIME.plusHours(1)));
+        EditScheduleCommand editScheduleCommand =
+                new EditScheduleCommand(INDEX_FIRST_INTERVIEW, Optional.empty(), Optional.of(60));
+
+        Interview editedInterview = new InterviewBuilder(aliceInterview).withDuration(60).build();
+        String expectedMessage = String.format(EditScheduleCommand.MESSAGE_EDIT_INTERVIEW_SUCCESS,
+                aliceInterview + " to " + editedInterview.getInterviewDate().format(DATE_TIME_FORMATTER) + " "
+                        + editedInterview.getInterviewStartTime());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()),
+                new InterviewSchedule(model.getInterviewSchedule()), new UserPrefs());
+        expectedModel.setInterview(aliceInterview, editedInterview);
+
+        assertCommandSuccess(editScheduleCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_longerDurationOverlappingNextInterview_failure() {
+        Model model = new ModelManager(getTypicalAddressBook(), new InterviewSchedule(), new UserPrefs());
+        model.addInterview(new Interview(ALICE, TUESDAY_INTERVIEW_DATE_TIME));
+        model.addInterview(new Interview(BENSON, TUESDAY_INTERVIEW_DATE_TIME.plusHours(1)));
+        EditScheduleCommand editScheduleCommand =
+                new EditScheduleCommand(INDEX_FIRST_INTERVIEW, Optional.empty(), Optional.of(90));
+
+        assertCommandFailure(editScheduleCommand, model, EditScheduleCommand.MESSAGE_CONFLICTING_INTERVIEW);
+    }
+
     @Test
     public void execute_invalidInterviewIndexUnfilteredList_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredInterviewSchedule().size() + 1);
@@ -204,5 +240,11 @@ public class EditScheduleCommandTest {
 
         // different candidate -> returns false
         assertFalse(editScheduleFirstCommand.equals(editScheduleSecondCommand));
+
+        // different date and time or duration -> returns false
+        assertFalse(editScheduleFirstCommand.equals(new EditScheduleCommand(TypicalIndexes.INDEX_FIRST_INTERVIEW,
+                VALID_ALICE_INTERVIEW_DATE_TIME)));
+        assertFalse(editScheduleFirstCommand.equals(new EditScheduleCommand(TypicalIndexes.INDEX_FIRST_INTERVIEW,
+                Optional.of(VALID_AMY_INTERVIEW_DATE_TIME), Optional.of(60))));
     }
 }
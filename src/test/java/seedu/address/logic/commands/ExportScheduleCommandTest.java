@@ -0,0 +1,122 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCandidates.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalInterviews.getTypicalInterviewSchedule;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.schedule.ExportScheduleCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ExportScheduleCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalInterviewSchedule(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalInterviewSchedule(),
+            new UserPrefs());
+
+    @Test
+    public void execute_defaultFile_exportedNextToInterviewData() {
+        model.setInterviewScheduleFilePath(testFolder.resolve("interviewList.json"));
+        expectedModel.setInterviewScheduleFilePath(testFolder.resolve("interviewList.json"));
+        Path filePath = testFolder.resolve(ExportScheduleCommand.DEFAULT_FILE_NAME);
+
+        assertCommandSuccess(new ExportScheduleCommand(Optional.empty(), false), model,
+                String.format(ExportScheduleCommand.MESSAGE_SUCCESS, model.getFilteredInterviewSchedule().size(),
+                        filePath), expectedModel);
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void execute_changesOnly_unchangedInterviewsCounted() {
+        Path filePath = testFolder.resolve("exported.ics");
+        int interviewCount = model.getFilteredInterviewSchedule().size();
+
+        assertCommandSuccess(new ExportScheduleCommand(Optional.of(filePath), true), model,
+                String.format(ExportScheduleCommand.MESSAGE_CHANGES_SUCCESS, interviewCount, filePath,
+                        interviewCount), expectedModel);
+        assertCommandSuccess(new ExportScheduleCommand(Optional.of(filePath), true), model,
+                String.format(ExportScheduleCommand.MESSAGE_CHANGES_SUCCESS, interviewCount, filePath, 0),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_changesOnlyOfFilteredList_everyInterviewExported() throws Exception {
+        Path filePath = testFolder.resolve("exported.ics");
+        int interviewCount = model.getInterviewSchedule().getInterviewList().size();
+        model.updateFilteredInterviewSchedule(interview -> false);
+        expectedModel.updateFilteredInterviewSchedule(interview -> false);
+
+        assertCommandSuccess(new ExportScheduleCommand(Optional.of(filePath), true), model,
+                String.format(ExportScheduleCommand.MESSAGE_CHANGES_SUCCESS, interviewCount, filePath,
+                        interviewCount), expectedModel);
+        assertFalse(Files.readString(filePath).contains("STATUS:CANCELLED"));
+
+        // the interviews filtered out are not cancelled
+        assertCommandSuccess(new ExportScheduleCommand(Optional.of(filePath), true), model,
+                String.format(ExportScheduleCommand.MESSAGE_CHANGES_SUCCESS, interviewCount, filePath, 0),
+                expectedModel);
+        assertFalse(Files.readString(filePath).contains("STATUS:CANCELLED"));
+    }
+
+    @Test
+    public void execute_fileIsDirectory_throwsCommandException() throws Exception {
+        Path directory = Files.createDirectory(testFolder.resolve("directory.ics"));
+        Files.createFile(directory.resolve("blocker"));
+
+        assertCommandFailure(new ExportScheduleCommand(Optional.of(directory), false), model,
+                ExportScheduleCommand.MESSAGE_EXPORT_FAILED + "java.nio.file.DirectoryNotEmptyException: "
+                        + directory);
+        assertFalse(Files.exists(testFolder.resolve("directory.ics.part")));
+    }
+
+    @Test
+    public void execute_dataFile_throwsCommandException() throws Exception {
+        Path interviewFilePath = testFolder.resolve("interviews.ics");
+        model.setInterviewScheduleFilePath(interviewFilePath);
+        Files.writeString(interviewFilePath, "data");
+
+        assertCommandFailure(new ExportScheduleCommand(Optional.of(testFolder.resolve("./interviews.ics")), false),
+                model, String.format(ExportScheduleCommand.MESSAGE_DATA_FILE, interviewFilePath));
+        assertCommandFailure(new ExportScheduleCommand(Optional.of(model.getAddressBookFilePath()), true), model,
+                String.format(ExportScheduleCommand.MESSAGE_DATA_FILE, model.getAddressBookFilePath()));
+        assertTrue(Files.readString(interviewFilePath).equals("data"));
+    }
+
+    @Test
+    public void equals() {
+        ExportScheduleCommand exportAll = new ExportScheduleCommand(Optional.empty(), false);
+        ExportScheduleCommand exportChanges = new ExportScheduleCommand(Optional.empty(), true);
+
+        // same object -> returns true
+        assertTrue(exportAll.equals(exportAll));
+
+        // same values -> returns true
+        assertTrue(exportAll.equals(new ExportScheduleCommand(Optional.empty(), false)));
+
+        // different types -> returns false
+        assertFalse(exportAll.equals(1));
+
+        // null -> returns false
+        assertFalse(exportAll.equals(null));
+
+        // different mode -> returns false
+        assertFalse(exportAll.equals(exportChanges));
+
+        // different file -> returns false
+        assertFalse(exportAll.equals(new ExportScheduleCommand(Optional.of(Path.of("other.ics")), false)));
+    }
+}
@@ -70,7 +70,11 @@ public class FindCommandTest {
 
     @Test
     public void execute_multipleKeywords_multipleCandidatesFound() {
-        String expectedMessage = String.format(MESSAGE_CANDIDATES_LISTED_OVERVIEW, 3);
+        String expectedMessage = String.format(MESSAGE_CANDIDATES_LISTED_OVERVIEW, 3)
+                + "\nCourse: Business Analytics (1), Computer Science (1), Information Systems (1)"
+                + "\nSeniority: COM2 (3)"
+                + "\nApplication status: Pending (3)"
+                + "\nInterview status: Not Scheduled (3)";
         CandidateContainsKeywordsPredicate predicate = preparePredicate("Kurz Elle Kunz");
         FindCommand command = new FindCommand(predicate);
         Logger logger = Logger.getLogger(FocusCommandTest.class.getName());
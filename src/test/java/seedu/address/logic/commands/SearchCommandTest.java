@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_CANDIDATES_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCandidates.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalInterviews.getTypicalInterviewSchedule;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.search.DeleteSearchCommand;
+import seedu.address.logic.commands.search.ListSearchCommand;
+import seedu.address.logic.commands.search.SaveSearchCommand;
+import seedu.address.logic.commands.search.SearchCommand;
+import seedu.address.logic.commands.search.ShowSearchCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.candidate.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.candidate.query.FieldQuery;
+
+/**
+ * Contains integration tests (interaction with the Model) for the {@code SearchCommand}s.
+ */
+public class SearchCommandTest {
+    private static final String NAME = "meier";
+    private static final String DEFINITION = "k/Meier f/name";
+    private static final NameContainsKeywordsPredicate PREDICATE =
+            new NameContainsKeywordsPredicate(Arrays.asList("Meier"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalInterviewSchedule(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(),
+            getTypicalInterviewSchedule(), new UserPrefs());
+
+    @Test
+    public void execute_saveNewSearch_success() {
+        expectedModel.addSavedSearch(NAME, DEFINITION, PREDICATE);
+        assertCommandSuccess(new SaveSearchCommand(NAME, DEFINITION, new FieldQuery(PREDICATE)), model,
+                String.format(SaveSearchCommand.MESSAGE_SUCCESS, NAME, DEFINITION), expectedModel);
+        assertTrue(model.hasSavedSearch(NAME));
+    }
+
+    @Test
+    public void execute_saveDuplicateSearch_failure() {
+        model.addSavedSearch(NAME, DEFINITION, PREDICATE);
+        assertCommandFailure(new SaveSearchCommand(NAME, DEFINITION, new FieldQuery(PREDICATE)), model,
+                String.format(SaveSearchCommand.MESSAGE_DUPLICATE_SEARCH, NAME));
+    }
+
+    @Test
+    public void execute_showSavedSearch_matchingCandidatesListed() {
+        model.addSavedSearch(NAME, DEFINITION, PREDICATE);
+        expectedModel.addSavedSearch(NAME, DEFINITION, PREDICATE);
+        expectedModel.updateFilteredCandidateList(PREDICATE);
+
+        assertCommandSuccess(new ShowSearchCommand(NAME), model,
+                String.format(MESSAGE_CANDIDATES_LISTED_OVERVIEW, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_unknownSearch_failure() {
+        String expectedMessage = String.format(SearchCommand.MESSAGE_UNKNOWN_SEARCH, NAME);
+        assertCommandFailure(new ShowSearchCommand(NAME), model, expectedMessage);
+        assertCommandFailure(new DeleteSearchCommand(NAME), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_deleteSavedSearch_success() {
+        model.addSavedSearch(NAME, DEFINITION, PREDICATE);
+        assertCommandSuccess(new DeleteSearchCommand(NAME), model,
+                String.format(DeleteSearchCommand.MESSAGE_SUCCESS, NAME), expectedModel);
+        assertFalse(model.hasSavedSearch(NAME));
+    }
+
+    @Test
+    public void execute_listSavedSearches_success() {
+        assertCommandSuccess(new ListSearchCommand(), model, ListSearchCommand.MESSAGE_NO_SEARCHES, expectedModel);
+
+        model.addSavedSearch(NAME, DEFINITION, PREDICATE);
+        expectedModel.addSavedSearch(NAME, DEFINITION, PREDICATE);
+        assertCommandSuccess(new ListSearchCommand(), model,
+                ListSearchCommand.MESSAGE_SUCCESS + "\n" + NAME + ": find " + DEFINITION, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        ShowSearchCommand showFirstCommand = new ShowSearchCommand("first");
+
+        assertTrue(showFirstCommand.equals(showFirstCommand));
+        assertTrue(showFirstCommand.equals(new ShowSearchCommand("first")));
+        assertFalse(showFirstCommand.equals(1));
+        assertFalse(showFirstCommand.equals(null));
+        assertFalse(showFirstCommand.equals(new ShowSearchCommand("second")));
+        assertFalse(showFirstCommand.equals(new DeleteSearchCommand("first")));
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.schedule.ScheduleCommand.MESSAGE_CANDIDATE_NOT_AVAILABLE;
+import static seedu.address.logic.commands.schedule.ScheduleCommand.MESSAGE_CONFLICTING_INTERVIEW;
+import static seedu.address.logic.commands.schedule.ScheduleCommand.MESSAGE_NOT_OFFICE_HOUR;
+import static seedu.address.testutil.TypicalCandidates.ALICE;
+import static seedu.address.testutil.TypicalCandidates.BENSON;
+import static seedu.address.testutil.TypicalCandidates.CARL;
+import static seedu.address.testutil.TypicalCandidates.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalInterviews.TUESDAY_INTERVIEW_DATE_TIME;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.schedule.ShiftScheduleCommand;
+import seedu.address.model.InterviewSchedule;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Track;
+import seedu.address.testutil.InterviewBuilder;
+import seedu.address.testutil.InterviewScheduleBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code ShiftScheduleCommand}.
+ */
+public class ShiftScheduleCommandTest {
+
+    private static final LocalDateTime TUESDAY_START = TUESDAY_INTERVIEW_DATE_TIME.withHour(8);
+    private static final LocalDateTime TUESDAY_END = TUESDAY_INTERVIEW_DATE_TIME.withHour(17).withMinute(30);
+    private static final LocalDate WEDNESDAY = TUESDAY_INTERVIEW_DATE_TIME.toLocalDate().plusDays(1);
+    private static final LocalDate THURSDAY = TUESDAY_INTERVIEW_DATE_TIME.toLocalDate().plusDays(2);
+
+    private final Interview aliceInterview = new InterviewBuilder().withCandidate(ALICE)
+            .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME).build();
+    private final Interview bensonInterview = new InterviewBuilder().withCandidate(BENSON)
+            .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME.plusMinutes(30)).build();
+    private final Interview carlInterview = new InterviewBuilder().withCandidate(CARL)
+            .withInterviewDateTime(LocalDateTime.of(WEDNESDAY, TUESDAY_INTERVIEW_DATE_TIME.toLocalTime())).build();
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getSchedule(), new UserPrefs());
+
+    private InterviewSchedule getSchedule() {
+        return new InterviewScheduleBuilder().withInterview(aliceInterview).withInterview(bensonInterview)
+                .withInterview(carlInterview).build();
+    }
+
+    @Test
+    public void execute_shiftIntoSlotsOfMovedInterviews_success() throws CommandException {
+        ShiftScheduleCommand command = new ShiftScheduleCommand(TUESDAY_START, TUESDAY_END, Optional.of(30),
+                Optional.empty(), List.of());
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getSchedule(), new UserPrefs());
+        expectedModel.setInterviews(Arrays.asList(aliceInterview, bensonInterview), Arrays.asList(
+                new InterviewBuilder(aliceInterview).withInterviewDateTime(bensonInterview.getInterviewDateTime())
+                        .build(),
+                new InterviewBuilder(bensonInterview)
+                        .withInterviewDateTime(bensonInterview.getInterviewDateTime().plusMinutes(30)).build()));
+
+        assertCommandSuccess(command, model, String.format(ShiftScheduleCommand.MESSAGE_SHIFT_SUCCESS, 2),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_conflictOnNewDate_nothingMoved() {
+        ShiftScheduleCommand command = new ShiftScheduleCommand(TUESDAY_START, TUESDAY_END, Optional.empty(),
+                Optional.of(WEDNESDAY), List.of());
+        assertCommandFailure(command, model, MESSAGE_CONFLICTING_INTERVIEW);
+    }
+
+    @Test
+    public void execute_candidateNotAvailableOnNewDate_nothingMoved() {
+        ShiftScheduleCommand command = new ShiftScheduleCommand(TUESDAY_START, TUESDAY_END, Optional.empty(),
+                Optional.of(THURSDAY), List.of());
+        assertCommandFailure(command, model, String.format(ShiftScheduleCommand.MESSAGE_CANNOT_SHIFT,
+                ALICE.getName(), MESSAGE_CANDIDATE_NOT_AVAILABLE));
+    }
+
+    @Test
+    public void execute_shiftOutOfOfficeHours_nothingMoved() {
+        ShiftScheduleCommand command = new ShiftScheduleCommand(TUESDAY_START, TUESDAY_END, Optional.of(-180),
+                Optional.empty(), List.of());
+        assertCommandFailure(command, model, String.format(ShiftScheduleCommand.MESSAGE_CANNOT_SHIFT,
+                ALICE.getName(), MESSAGE_NOT_OFFICE_HOUR));
+    }
+
+    @Test
+    public void execute_noInterviewsOnTrack_failure() {
+        ShiftScheduleCommand command = new ShiftScheduleCommand(TUESDAY_START, TUESDAY_END, Optional.of(30),
+                Optional.empty(), List.of(new Track("Room 1")));
+        assertCommandFailure(command, model, String.format(ShiftScheduleCommand.MESSAGE_NO_INTERVIEWS_TO_SHIFT,
+                "23-04-2080 08:00", "23-04-2080 17:30"));
+    }
+
+    @Test
+    public void equals() {
+        ShiftScheduleCommand byOffset = new ShiftScheduleCommand(TUESDAY_START, TUESDAY_END, Optional.of(30),
+                Optional.empty(), List.of());
+
+        // same values -> returns true
+        assertTrue(byOffset.equals(new ShiftScheduleCommand(TUESDAY_START, TUESDAY_END, Optional.of(30),
+                Optional.empty(), List.of())));
+
+        // null -> returns false
+        assertFalse(byOffset.equals(null));
+
+        // different offset -> returns false
+        assertFalse(byOffset.equals(new ShiftScheduleCommand(TUESDAY_START, TUESDAY_END, Optional.of(60),
+                Optional.empty(), List.of())));
+
+        // new date instead of offset -> returns false
+        assertFalse(byOffset.equals(new ShiftScheduleCommand(TUESDAY_START, TUESDAY_END, Optional.empty(),
+                Optional.of(WEDNESDAY), List.of())));
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCandidates.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalInterviews.INTERVIEW_ALICE;
+import static seedu.address.testutil.TypicalInterviews.INTERVIEW_BENSON;
+import static seedu.address.testutil.TypicalInterviews.VALID_NO_CONFLICT_INTERVIEW_DATE_TIME;
+import static seedu.address.testutil.TypicalInterviews.getTypicalInterviewSchedule;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.simulation.CommitSimulationCommand;
+import seedu.address.logic.commands.simulation.DiffSimulationCommand;
+import seedu.address.logic.commands.simulation.DiscardSimulationCommand;
+import seedu.address.logic.commands.simulation.SimulationCommand;
+import seedu.address.logic.commands.simulation.StartSimulationCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.interview.Interview;
+import seedu.address.testutil.InterviewBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for the {@code SimulationCommand}s.
+ */
+public class SimulationCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalInterviewSchedule(), new UserPrefs());
+
+    @Test
+    public void execute_startSimulation_success() {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalInterviewSchedule(),
+                new UserPrefs());
+        expectedModel.startSimulation();
+
+        assertCommandSuccess(new StartSimulationCommand(), model, StartSimulationCommand.MESSAGE_SUCCESS,
+                expectedModel);
+        assertTrue(model.isSimulating());
+    }
+
+    @Test
+    public void execute_startWhileSimulating_failure() {
+        model.startSimulation();
+        assertCommandFailure(new StartSimulationCommand(), model, StartSimulationCommand.MESSAGE_ALREADY_SIMULATING);
+    }
+
+    @Test
+    public void execute_notSimulating_failure() {
+        assertCommandFailure(new DiffSimulationCommand(), model, SimulationCommand.MESSAGE_NOT_SIMULATING);
+        assertCommandFailure(new CommitSimulationCommand(), model, SimulationCommand.MESSAGE_NOT_SIMULATING);
+        assertCommandFailure(new DiscardSimulationCommand(), model, SimulationCommand.MESSAGE_NOT_SIMULATING);
+    }
+
+    @Test
+    public void execute_diffWithoutChanges_noChanges() throws CommandException {
+        model.startSimulation();
+        assertEquals(SimulationCommand.MESSAGE_NO_CHANGES,
+                new DiffSimulationCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_diffAfterChanges_changesListed() throws CommandException {
+        model.startSimulation();
+        Interview rescheduledInterview = new InterviewBuilder(INTERVIEW_ALICE)
+                .withInterviewDateTime(VALID_NO_CONFLICT_INTERVIEW_DATE_TIME).build();
+        model.setInterview(INTERVIEW_ALICE, rescheduledInterview);
+        model.deleteInterview(INTERVIEW_BENSON);
+
+        String expectedMessage = "Interviews rescheduled (frees the earlier slot):\n  "
+                + INTERVIEW_ALICE + " -> " + rescheduledInterview
+                + "\nInterviews cancelled (frees the slot):\n  " + INTERVIEW_BENSON;
+        assertEquals(expectedMessage, new DiffSimulationCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_commitSimulation_changesKept() throws CommandException {
+        model.startSimulation();
+        model.deleteInterview(INTERVIEW_BENSON);
+
+        String expectedMessage = String.format(CommitSimulationCommand.MESSAGE_SUCCESS,
+                "Interviews cancelled (frees the slot):\n  " + INTERVIEW_BENSON);
+        assertEquals(expectedMessage, new CommitSimulationCommand().execute(model).getFeedbackToUser());
+        assertFalse(model.isSimulating());
+        assertFalse(model.getInterviewSchedule().getInterviewList().contains(INTERVIEW_BENSON));
+    }
+
+    @Test
+    public void execute_discardSimulation_changesUndone() {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalInterviewSchedule(),
+                new UserPrefs());
+        model.startSimulation();
+        model.deleteInterview(INTERVIEW_BENSON);
+
+        assertCommandSuccess(new DiscardSimulationCommand(), model, DiscardSimulationCommand.MESSAGE_SUCCESS,
+                expectedModel);
+        assertFalse(model.isSimulating());
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(new StartSimulationCommand().equals(new StartSimulationCommand()));
+        assertFalse(new StartSimulationCommand().equals(new DiscardSimulationCommand()));
+        assertFalse(new DiffSimulationCommand().equals(null));
+    }
+}
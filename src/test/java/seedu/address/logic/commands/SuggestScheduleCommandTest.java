@@ -0,0 +1,112 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.schedule.ScheduleCommand.MESSAGE_DUPLICATE_CANDIDATE_INTERVIEW;
+import static seedu.address.testutil.TypicalCandidates.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CANDIDATE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_CANDIDATE;
+import static seedu.address.testutil.TypicalInterviews.TUESDAY_INTERVIEW_DATE_TIME;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.schedule.SuggestScheduleCommand;
+import seedu.address.model.InterviewSchedule;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Track;
+
+public class SuggestScheduleCommandTest {
+
+    private static final LocalDateTime TUESDAY_EIGHT_AM = TUESDAY_INTERVIEW_DATE_TIME.withHour(8);
+    private static final LocalDateTime MONDAY_FIVE_PM = TUESDAY_EIGHT_AM.minusDays(1).withHour(17);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new InterviewSchedule(), new UserPrefs());
+
+    @Test
+    public void execute_validIndex_freeSlotsListed() {
+        Candidate second = model.getFilteredCandidateList().get(INDEX_SECOND_CANDIDATE.getZeroBased());
+        model.addInterview(new Interview(second, TUESDAY_EIGHT_AM));
+        Candidate first = model.getFilteredCandidateList().get(INDEX_FIRST_CANDIDATE.getZeroBased());
+        SuggestScheduleCommand command = new SuggestScheduleCommand(INDEX_FIRST_CANDIDATE,
+                Optional.of(MONDAY_FIVE_PM), 3);
+
+        String expectedMessage = String.format(SuggestScheduleCommand.MESSAGE_SUGGESTED_SLOTS, first.getName(),
+                first.getStudentId(), "\nMon 22-04-2080 17:00\nMon 22-04-2080 17:30\nTue 23-04-2080 08:30");
+        Model expectedModel = new ModelManager(model.getAddressBook(), model.getInterviewSchedule(),
+                new UserPrefs());
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_severalTracks_freeSlotsOnAnyTrackListed() {
+        Candidate second = model.getFilteredCandidateList().get(INDEX_SECOND_CANDIDATE.getZeroBased());
+        model.addInterview(new Interview(second, TUESDAY_EIGHT_AM, new Track("Room 1")));
+        Candidate first = model.getFilteredCandidateList().get(INDEX_FIRST_CANDIDATE.getZeroBased());
+        SuggestScheduleCommand command = new SuggestScheduleCommand(INDEX_FIRST_CANDIDATE,
+                Optional.of(TUESDAY_EIGHT_AM), 2, List.of(new Track("Room 1"), new Track("Room 2")));
+
+        String expectedMessage = String.format(SuggestScheduleCommand.MESSAGE_SUGGESTED_SLOTS, first.getName(),
+                first.getStudentId(), "\nTue 23-04-2080 08:00 (Room 2)\nTue 23-04-2080 08:30 (Room 1)");
+        Model expectedModel = new ModelManager(model.getAddressBook(), model.getInterviewSchedule(),
+                new UserPrefs());
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredCandidateList().size() + 1);
+        SuggestScheduleCommand command = new SuggestScheduleCommand(outOfBoundIndex, Optional.empty(), 1);
+
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_CANDIDATE_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_candidateAlreadyScheduled_throwsCommandException() {
+        Candidate first = model.getFilteredCandidateList().get(INDEX_FIRST_CANDIDATE.getZeroBased());
+        model.addInterview(new Interview(first, TUESDAY_EIGHT_AM));
+        SuggestScheduleCommand command = new SuggestScheduleCommand(INDEX_FIRST_CANDIDATE, Optional.empty(), 1);
+
+        assertCommandFailure(command, model, MESSAGE_DUPLICATE_CANDIDATE_INTERVIEW);
+    }
+
+    @Test
+    public void equals() {
+        SuggestScheduleCommand suggestFirst = new SuggestScheduleCommand(INDEX_FIRST_CANDIDATE, Optional.empty(), 3);
+
+        // same object -> returns true
+        assertTrue(suggestFirst.equals(suggestFirst));
+
+        // same values -> returns true
+        assertTrue(suggestFirst.equals(new SuggestScheduleCommand(INDEX_FIRST_CANDIDATE, Optional.empty(), 3)));
+
+        // different types -> returns false
+        assertFalse(suggestFirst.equals(1));
+
+        // null -> returns false
+        assertFalse(suggestFirst.equals(null));
+
+        // different candidate, earliest start or count -> returns false
+        assertFalse(suggestFirst.equals(new SuggestScheduleCommand(INDEX_SECOND_CANDIDATE, Optional.empty(), 3)));
+        assertFalse(suggestFirst.equals(new SuggestScheduleCommand(INDEX_FIRST_CANDIDATE,
+                Optional.of(MONDAY_FIVE_PM), 3)));
+        assertFalse(suggestFirst.equals(new SuggestScheduleCommand(INDEX_FIRST_CANDIDATE, Optional.empty(), 4)));
+
+        // different tracks -> returns false
+        assertFalse(suggestFirst.equals(new SuggestScheduleCommand(INDEX_FIRST_CANDIDATE, Optional.empty(), 3,
+                List.of(new Track("Room 1")))));
+    }
+}
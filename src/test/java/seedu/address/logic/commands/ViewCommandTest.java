@@ -1,11 +1,16 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCandidates.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalInterviews.INTERVIEW_ALICE;
+import static seedu.address.testutil.TypicalInterviews.INTERVIEW_BENSON;
+import static seedu.address.testutil.TypicalInterviews.TUESDAY_INTERVIEW_DATE_TIME;
 import static seedu.address.testutil.TypicalInterviews.getTypicalInterviewSchedule;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,7 +22,11 @@ import seedu.address.model.InterviewSchedule;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.interview.Interview;
 import seedu.address.model.interview.predicate.AllWithinTimePeriodPredicate;
+import seedu.address.model.interview.predicate.TodayWithinTimePeriodPredicate;
+import seedu.address.testutil.InterviewBuilder;
+import seedu.address.testutil.InterviewScheduleBuilder;
 
 
 /**
@@ -44,6 +53,30 @@ public class ViewCommandTest {
                         model.getFilteredInterviewSchedule().size())), expectedModel);
     }
 
+    @Test
+    public void execute_viewToday_showsInterviewsStartingToday() {
+        LocalDateTime now = TUESDAY_INTERVIEW_DATE_TIME.withHour(8);
+        Interview todayInterview = new InterviewBuilder(INTERVIEW_ALICE)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME).build();
+        Interview tomorrowInterview = new InterviewBuilder(INTERVIEW_BENSON)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME.plusDays(1)).build();
+        model = new ModelManager(getTypicalAddressBook(), new InterviewScheduleBuilder()
+                .withInterview(tomorrowInterview).withInterview(todayInterview).build(), new UserPrefs());
+        TodayWithinTimePeriodPredicate todayPredicate = new TodayWithinTimePeriodPredicate(now);
+
+        expectedModel = new ModelManager(model.getAddressBook(), model.getInterviewSchedule(), new UserPrefs());
+        expectedModel.updateFilteredInterviewSchedule(todayPredicate);
+        assertCommandSuccess(new ViewCommand(todayPredicate), model,
+                new CommandResult(String.format(Messages.MESSAGE_INTERVIEWS_LISTED_OVERVIEW, 1)), expectedModel);
+        assertEquals(List.of(todayInterview), model.getFilteredInterviewSchedule());
+
+        // an edited interview is looked up again
+        Interview editedInterview = new InterviewBuilder(todayInterview)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME.plusHours(1)).build();
+        model.updateInterviewCandidate(todayInterview, editedInterview);
+        assertEquals(List.of(editedInterview), model.getFilteredInterviewSchedule());
+    }
+
     @Test
     public void execute_listIsEmpty_showsNoInterviewsListed() {
         model = new ModelManager(new AddressBook(), new InterviewSchedule(), new UserPrefs());
@@ -3,6 +3,8 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRACK;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CANDIDATE;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.schedule.AddScheduleCommand;
 import seedu.address.logic.parser.schedule.AddScheduleCommandParser;
+import seedu.address.model.interview.Track;
 
 
 /**
@@ -33,6 +36,24 @@ public class AddScheduleCommandParserTest {
                 new AddScheduleCommand(INDEX_FIRST_CANDIDATE, interviewDateTime));
     }
 
+    @Test
+    public void parse_validArgsWithTrack_returnsAddScheduleCommand() {
+        LocalDateTime futureDateTime = LocalDateTime.of(2080, 4, 23, 10, 0);
+        assertParseSuccess(parser, " " + PREFIX_CANDIDATE + "1 " + PREFIX_DATETIME + "23-04-2080 10:00 "
+                + PREFIX_TRACK + " Room 2 ", new AddScheduleCommand(INDEX_FIRST_CANDIDATE, futureDateTime,
+                new Track("Room 2")));
+        assertParseFailure(parser, " " + PREFIX_CANDIDATE + "1 " + PREFIX_DATETIME + "23-04-2080 10:00 "
+                + PREFIX_TRACK + "Room #2", Track.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgsWithDuration_returnsAddScheduleCommand() {
+        LocalDateTime futureDateTime = LocalDateTime.of(2080, 4, 23, 10, 0);
+        assertParseSuccess(parser, " " + PREFIX_CANDIDATE + "1 " + PREFIX_DATETIME + "23-04-2080 10:00 "
+                + PREFIX_DURATION + "90", new AddScheduleCommand(INDEX_FIRST_CANDIDATE, futureDateTime,
+                Track.DEFAULT, 90));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
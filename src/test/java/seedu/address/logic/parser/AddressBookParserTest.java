@@ -30,6 +30,8 @@ import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.commands.schedule.AddScheduleCommand;
 import seedu.address.logic.commands.schedule.ScheduleCommand;
+import seedu.address.logic.commands.search.SearchCommand;
+import seedu.address.logic.commands.search.ShowSearchCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.candidate.Candidate;
 import seedu.address.model.candidate.Remark;
@@ -98,6 +100,13 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        ShowSearchCommand command = (ShowSearchCommand) parser.parseCommand(
+                SearchCommand.COMMAND_WORD + " show pending");
+        assertEquals(new ShowSearchCommand("pending"), command);
+    }
+
     @Test
     public void parseCommand_sort() throws Exception {
         assertTrue(parser.parseCommand(SortCommand.COMMAND_WORD + " s/" + "name") instanceof SortCommand);
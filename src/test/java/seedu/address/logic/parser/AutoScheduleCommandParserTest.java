@@ -0,0 +1,58 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRACK;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.schedule.AutoScheduleCommand;
+import seedu.address.logic.parser.schedule.AutoScheduleCommandParser;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Track;
+
+public class AutoScheduleCommandParserTest {
+
+    private final AutoScheduleCommandParser parser = new AutoScheduleCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsAutoScheduleCommand() {
+        assertParseSuccess(parser, " " + PREFIX_FROM + "22-04-2080 08:00 " + PREFIX_TO + "26-04-2080 17:30",
+                new AutoScheduleCommand(LocalDateTime.of(2080, 4, 22, 8, 0), LocalDateTime.of(2080, 4, 26, 17, 30)));
+    }
+
+    @Test
+    public void parse_repeatedTracks_returnsAutoScheduleCommandWithDistinctTracks() {
+        assertParseSuccess(parser, " " + PREFIX_FROM + "22-04-2080 08:00 " + PREFIX_TO + "26-04-2080 17:30 "
+                + PREFIX_TRACK + "Room 1 " + PREFIX_TRACK + "Room 2 " + PREFIX_TRACK + "Room 1",
+                new AutoScheduleCommand(LocalDateTime.of(2080, 4, 22, 8, 0), LocalDateTime.of(2080, 4, 26, 17, 30),
+                        List.of(new Track("Room 1"), new Track("Room 2"))));
+    }
+
+    @Test
+    public void parse_duration_returnsAutoScheduleCommandWithDuration() {
+        assertParseSuccess(parser, " " + PREFIX_FROM + "22-04-2080 08:00 " + PREFIX_TO + "26-04-2080 17:30 "
+                + PREFIX_DURATION + "90",
+                new AutoScheduleCommand(LocalDateTime.of(2080, 4, 22, 8, 0), LocalDateTime.of(2080, 4, 26, 17, 30),
+                        List.of(Track.DEFAULT), 90));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_FROM + "22-04-2080 08:00", String.format(
+                MESSAGE_INVALID_COMMAND_FORMAT, AutoScheduleCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + PREFIX_FROM + "26-04-2080 08:00 " + PREFIX_TO + "22-04-2080 17:30",
+                AutoScheduleCommand.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " " + PREFIX_FROM + "22-04-2080 08:00 " + PREFIX_TO + "26-04-2080 17:30 "
+                + PREFIX_TRACK + "Room #1", Track.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_FROM + "22-04-2080 08:00 " + PREFIX_TO + "26-04-2080 17:30 "
+                + PREFIX_DURATION + "0", Interview.MESSAGE_DURATION_CONSTRAINTS);
+    }
+}
@@ -3,15 +3,19 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_INTERVIEW_DATE_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_INTERVIEW;
 import static seedu.address.testutil.TypicalInterviews.VALID_AMY_INTERVIEW_DATE_TIME;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.schedule.EditScheduleCommand;
 import seedu.address.logic.parser.schedule.EditScheduleCommandParser;
+import seedu.address.model.interview.Interview;
 
 public class EditScheduleCommandParserTest {
 
@@ -26,6 +30,19 @@ public class EditScheduleCommandParserTest {
                 new EditScheduleCommand(INDEX_FIRST_INTERVIEW, VALID_AMY_INTERVIEW_DATE_TIME));
     }
 
+    @Test
+    public void parse_durationOnly_returnsEditScheduleCommand() {
+        assertParseSuccess(parser, "1 " + PREFIX_DURATION + "90",
+                new EditScheduleCommand(INDEX_FIRST_INTERVIEW, Optional.empty(), Optional.of(90)));
+    }
+
+    @Test
+    public void parse_invalidDuration_failure() {
+        assertParseFailure(parser, "1 " + PREFIX_DURATION + "0", Interview.MESSAGE_DURATION_CONSTRAINTS);
+        assertParseFailure(parser, "1 " + PREFIX_DURATION + "481", Interview.MESSAGE_DURATION_CONSTRAINTS);
+        assertParseFailure(parser, "1 " + PREFIX_DURATION + "1h", Interview.MESSAGE_DURATION_CONSTRAINTS);
+    }
+
     @Test
     public void parse_missingParts_failure() {
         // no index specified
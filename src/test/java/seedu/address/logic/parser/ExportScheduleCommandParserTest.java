@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.schedule.ExportScheduleCommand;
+import seedu.address.logic.parser.schedule.ExportScheduleCommandParser;
+
+public class ExportScheduleCommandParserTest {
+
+    private final ExportScheduleCommandParser parser = new ExportScheduleCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportScheduleCommand() {
+        assertParseSuccess(parser, "", new ExportScheduleCommand(Optional.empty(), false));
+        assertParseSuccess(parser, " " + PREFIX_MODE + "Changed", new ExportScheduleCommand(Optional.empty(), true));
+        assertParseSuccess(parser, " data/my interviews.ics " + PREFIX_MODE + "all",
+                new ExportScheduleCommand(Optional.of(Paths.get("data/my interviews.ics")), false));
+    }
+
+    @Test
+    public void parse_notIcsFile_throwsParseException() {
+        assertParseFailure(parser, " data/talentassistant.json", ExportScheduleCommand.MESSAGE_INVALID_FILE_EXTENSION);
+        assertParseFailure(parser, " preferences.json " + PREFIX_MODE + "all",
+                ExportScheduleCommand.MESSAGE_INVALID_FILE_EXTENSION);
+        assertParseSuccess(parser, " interviews.ICS",
+                new ExportScheduleCommand(Optional.of(Paths.get("interviews.ICS")), false));
+    }
+
+    @Test
+    public void parse_invalidMode_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_MODE + "some", ExportScheduleCommand.MESSAGE_INVALID_MODE);
+    }
+}
@@ -5,10 +5,12 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.candidate.RelevanceScorer;
 import seedu.address.model.candidate.predicate.ApplicationStatusContainsKeywordsPredicate;
 import seedu.address.model.candidate.predicate.AvailabilityContainsKeywordsPredicate;
 import seedu.address.model.candidate.predicate.CandidateContainsKeywordsPredicate;
@@ -19,6 +21,12 @@ import seedu.address.model.candidate.predicate.NameContainsKeywordsPredicate;
 import seedu.address.model.candidate.predicate.PhoneContainsKeywordsPredicate;
 import seedu.address.model.candidate.predicate.SeniorityContainsKeywordsPredicate;
 import seedu.address.model.candidate.predicate.StudentIdContainsKeywordsPredicate;
+import seedu.address.model.candidate.query.AndQuery;
+import seedu.address.model.candidate.query.FieldQuery;
+import seedu.address.model.candidate.query.FuzzyNameQuery;
+import seedu.address.model.candidate.query.NotQuery;
+import seedu.address.model.candidate.query.PhoneticNameQuery;
+import seedu.address.model.candidate.query.SeniorityRangeQuery;
 
 public class FindCommandParserTest {
 
@@ -144,4 +152,79 @@ public class FindCommandParserTest {
         assertParseSuccess(parser,
                 "    k/  Mon \t  k/     Fri  \t  f/avail \t", expectedFindAvailabilityCommand);
     }
+
+    @Test
+    public void parse_validArgs_returnsFindFuzzyNameCommand() {
+        FindCommand expectedFindFuzzyNameCommand =
+                new FindCommand(new FuzzyNameQuery(Arrays.asList("Mohamad", "Alise")));
+        assertParseSuccess(parser, " k/Mohamad k/Alise f/name~", expectedFindFuzzyNameCommand);
+
+        // fuzzy name term in a query
+        assertParseSuccess(parser, " q/name~:Mohamad",
+                new FindCommand(new FuzzyNameQuery(Arrays.asList("Mohamad"))));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindPhoneticNameCommand() {
+        assertParseSuccess(parser, " k/Mohamed k/Alyce f/phonetic",
+                new FindCommand(new PhoneticNameQuery(Arrays.asList("Mohamed", "Alyce"))));
+
+        // phonetic name term in a query
+        assertParseSuccess(parser, " q/phonetic:Mohamed",
+                new FindCommand(new PhoneticNameQuery(Arrays.asList("Mohamed"))));
+    }
+
+    @Test
+    public void parse_validQuery_returnsFindQueryCommand() {
+        FindCommand expectedFindQueryCommand = new FindCommand(new AndQuery(Arrays.asList(
+                new FieldQuery(new CourseContainsKeywordsPredicate(Arrays.asList("computer science"))),
+                new SeniorityRangeQuery(2, 3),
+                new NotQuery(new FieldQuery(new ApplicationStatusContainsKeywordsPredicate(
+                        Arrays.asList("rejected")))))));
+        assertParseSuccess(parser, " q/course:\"computer science\" AND seniority:2..3 AND NOT appstatus:rejected",
+                expectedFindQueryCommand);
+    }
+
+    @Test
+    public void parse_queryWithOtherPrefixes_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+        // query with keywords
+        assertParseFailure(parser, " q/name:alice k/bob", expectedMessage);
+
+        // query with field
+        assertParseFailure(parser, " q/name:alice f/name", expectedMessage);
+
+        // multiple queries
+        assertParseFailure(parser, " q/name:alice q/name:bob", expectedMessage);
+
+        // non-empty preamble
+        assertParseFailure(parser, " alice q/name:alice", expectedMessage);
+
+        // query with ranked search
+        assertParseFailure(parser, " q/name:alice top/5", expectedMessage);
+    }
+
+    @Test
+    public void parse_validTop_returnsRankedFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new FieldQuery(new NameContainsKeywordsPredicate(Arrays.asList("alice"))),
+                new RelevanceScorer(List.of(RelevanceScorer.Field.NAME), Arrays.asList("alice")), 5);
+        assertParseSuccess(parser, " k/alice f/name top/5", expectedFindCommand);
+        assertParseSuccess(parser, " k/alice f/name top/ 5 ", expectedFindCommand);
+
+        // all fields are scored by default
+        expectedFindCommand = new FindCommand(
+                new FieldQuery(new CandidateContainsKeywordsPredicate(Arrays.asList("alice"))),
+                new RelevanceScorer(Arrays.asList(RelevanceScorer.Field.values()), Arrays.asList("alice")), 10);
+        assertParseSuccess(parser, " k/alice top/10", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidTop_throwsParseException() {
+        assertParseFailure(parser, " k/alice top/0", FindCommand.MESSAGE_INVALID_TOP);
+        assertParseFailure(parser, " k/alice top/-1", FindCommand.MESSAGE_INVALID_TOP);
+        assertParseFailure(parser, " k/alice top/ten", FindCommand.MESSAGE_INVALID_TOP);
+        assertParseFailure(parser, " k/alice top/", FindCommand.MESSAGE_INVALID_TOP);
+    }
 }
@@ -0,0 +1,107 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.QueryParser.MESSAGE_INVALID_QUERY;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.candidate.Seniority;
+import seedu.address.model.candidate.predicate.CandidateContainsKeywordsPredicate;
+import seedu.address.model.candidate.predicate.CourseContainsKeywordsPredicate;
+import seedu.address.model.candidate.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.candidate.query.AndQuery;
+import seedu.address.model.candidate.query.FieldQuery;
+import seedu.address.model.candidate.query.NotQuery;
+import seedu.address.model.candidate.query.OrQuery;
+import seedu.address.model.candidate.query.Query;
+import seedu.address.model.candidate.query.SeniorityRangeQuery;
+
+public class QueryParserTest {
+
+    private static final Query NAME_ALICE =
+            new FieldQuery(new NameContainsKeywordsPredicate(Collections.singletonList("alice")));
+    private static final Query NAME_BOB =
+            new FieldQuery(new NameContainsKeywordsPredicate(Collections.singletonList("bob")));
+    private static final Query COURSE_SCIENCE =
+            new FieldQuery(new CourseContainsKeywordsPredicate(Collections.singletonList("science")));
+
+    @Test
+    public void parseQuery_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> QueryParser.parseQuery(null));
+    }
+
+    @Test
+    public void parseQuery_singleTerm_returnsFieldQuery() throws Exception {
+        assertEquals(NAME_ALICE, QueryParser.parseQuery("name:alice"));
+
+        // field is case-insensitive
+        assertEquals(NAME_ALICE, QueryParser.parseQuery("NAME:alice"));
+
+        // no field searches all fields
+        assertEquals(new FieldQuery(new CandidateContainsKeywordsPredicate(Collections.singletonList("alice"))),
+                QueryParser.parseQuery("alice"));
+
+        // quoted keyword with spaces
+        assertEquals(new FieldQuery(new NameContainsKeywordsPredicate(Collections.singletonList("alice pauline"))),
+                QueryParser.parseQuery("name:\"alice pauline\""));
+    }
+
+    @Test
+    public void parseQuery_operators_respectsPrecedence() throws Exception {
+        // AND binds tighter than OR
+        assertEquals(new OrQuery(Arrays.asList(NAME_ALICE, new AndQuery(Arrays.asList(NAME_BOB, COURSE_SCIENCE)))),
+                QueryParser.parseQuery("name:alice OR name:bob AND course:science"));
+
+        // NOT binds tighter than AND
+        assertEquals(new AndQuery(Arrays.asList(new NotQuery(NAME_ALICE), NAME_BOB)),
+                QueryParser.parseQuery("NOT name:alice AND name:bob"));
+
+        // parentheses override precedence
+        assertEquals(new AndQuery(Arrays.asList(new OrQuery(Arrays.asList(NAME_ALICE, NAME_BOB)), COURSE_SCIENCE)),
+                QueryParser.parseQuery("(name:alice OR name:bob) AND course:science"));
+
+        // adjacent terms are combined with AND
+        assertEquals(new AndQuery(Arrays.asList(NAME_ALICE, COURSE_SCIENCE)),
+                QueryParser.parseQuery("name:alice course:science"));
+    }
+
+    @Test
+    public void parseQuery_seniorityRange_returnsSeniorityRangeQuery() throws Exception {
+        assertEquals(new SeniorityRangeQuery(2, 3), QueryParser.parseQuery("seniority:2..3"));
+        assertEquals(new SeniorityRangeQuery(2, 4), QueryParser.parseQuery("seniority:2.."));
+        assertEquals(new SeniorityRangeQuery(1, 3), QueryParser.parseQuery("seniority:..3"));
+    }
+
+    @Test
+    public void parseQuery_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_QUERY, "missing ')'"), () ->
+                QueryParser.parseQuery("(name:alice OR name:bob"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_QUERY, "unexpected ')'"), () ->
+                QueryParser.parseQuery("name:alice)"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_QUERY, "missing closing quote"), () ->
+                QueryParser.parseQuery("name:\"alice"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_QUERY,
+                "expected a search term but found 'OR'"), () -> QueryParser.parseQuery("name:alice AND OR name:bob"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_QUERY,
+                "expected a search term at the end of the query"), () -> QueryParser.parseQuery("NOT"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_QUERY, "missing keyword in 'name:'"), () ->
+                QueryParser.parseQuery("name:"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_QUERY, Seniority.MESSAGE_CONSTRAINTS), () ->
+                QueryParser.parseQuery("seniority:0..3"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_QUERY, Seniority.MESSAGE_CONSTRAINTS), () ->
+                QueryParser.parseQuery("seniority:|..3"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_QUERY, Seniority.MESSAGE_CONSTRAINTS), () ->
+                QueryParser.parseQuery("seniority:2..5"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_QUERY,
+                SeniorityRangeQuery.MESSAGE_CONSTRAINTS), () -> QueryParser.parseQuery("seniority:3..2"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.INVALID_ATTRIBUTE_FIELD), () -> QueryParser.parseQuery("hobby:chess"));
+    }
+}
@@ -11,10 +11,14 @@ import java.time.LocalDateTime;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.schedule.AddScheduleCommand;
+import seedu.address.logic.commands.schedule.AutoScheduleCommand;
 import seedu.address.logic.commands.schedule.ClearScheduleCommand;
 import seedu.address.logic.commands.schedule.DeleteScheduleCommand;
 import seedu.address.logic.commands.schedule.EditScheduleCommand;
+import seedu.address.logic.commands.schedule.ExportScheduleCommand;
 import seedu.address.logic.commands.schedule.ScheduleCommand;
+import seedu.address.logic.commands.schedule.ShiftScheduleCommand;
+import seedu.address.logic.commands.schedule.SuggestScheduleCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 public class ScheduleCommandParserTest {
@@ -32,6 +36,27 @@ public class ScheduleCommandParserTest {
         assertEquals(new AddScheduleCommand(INDEX_FIRST_CANDIDATE,
                 LocalDateTime.of(2023, 01, 01, 10, 00)), command);
     }
+    @Test
+    public void parse_validArgs_returnsAutoScheduleCommand() throws Exception {
+        assertTrue(parser.parse("auto from/22-04-2080 08:00 to/26-04-2080 17:30") instanceof AutoScheduleCommand);
+    }
+
+    @Test
+    public void parse_validArgs_returnsSuggestScheduleCommand() throws Exception {
+        assertTrue(parser.parse("suggest candidate/1 top/2") instanceof SuggestScheduleCommand);
+    }
+
+    @Test
+    public void parse_validArgs_returnsExportScheduleCommand() throws Exception {
+        assertTrue(parser.parse("export mode/changed") instanceof ExportScheduleCommand);
+    }
+
+    @Test
+    public void parse_validArgs_returnsShiftScheduleCommand() throws Exception {
+        assertTrue(parser.parse("shift from/22-04-2080 08:00 to/22-04-2080 17:30 by/60")
+                instanceof ShiftScheduleCommand);
+    }
+
     @Test
     public void parse_validArgs_returnsClearScheduleCommand() throws Exception {
         assertTrue(parser.parse("clear") instanceof ClearScheduleCommand);
@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.search.DeleteSearchCommand;
+import seedu.address.logic.commands.search.ListSearchCommand;
+import seedu.address.logic.commands.search.SaveSearchCommand;
+import seedu.address.logic.commands.search.SearchCommand;
+import seedu.address.logic.commands.search.ShowSearchCommand;
+import seedu.address.model.candidate.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.candidate.query.FieldQuery;
+
+public class SearchCommandParserTest {
+    private final SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSearchCommand() {
+        assertParseSuccess(parser, " save alice-bob k/Alice k/Bob f/name ",
+                new SaveSearchCommand("alice-bob", "k/Alice k/Bob f/name",
+                        new FieldQuery(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")))));
+        assertParseSuccess(parser, " show alice-bob", new ShowSearchCommand("alice-bob"));
+        assertParseSuccess(parser, " delete alice_2", new DeleteSearchCommand("alice_2"));
+        assertParseSuccess(parser, " list", new ListSearchCommand());
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " rename a b",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+
+        // missing definition
+        assertParseFailure(parser, " save alice",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveSearchCommand.MESSAGE_USAGE));
+
+        // invalid name
+        assertParseFailure(parser, " save -alice k/Alice", SearchCommand.MESSAGE_INVALID_NAME);
+        assertParseFailure(parser, " show alice!", SearchCommand.MESSAGE_INVALID_NAME);
+        assertParseFailure(parser, " delete alice bob",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteSearchCommand.MESSAGE_USAGE));
+
+        // ranked searches cannot be saved
+        assertParseFailure(parser, " save alice k/Alice top/3", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+    }
+}
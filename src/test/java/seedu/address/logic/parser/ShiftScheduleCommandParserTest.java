@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OFFSET;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRACK;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.schedule.ShiftScheduleCommand;
+import seedu.address.logic.parser.schedule.ShiftScheduleCommandParser;
+import seedu.address.model.interview.Track;
+
+public class ShiftScheduleCommandParserTest {
+
+    private static final String RANGE = " " + PREFIX_FROM + "23-04-2080 08:00 " + PREFIX_TO + "23-04-2080 17:30";
+    private static final LocalDateTime EARLIEST_START = LocalDateTime.of(2080, 4, 23, 8, 0);
+    private static final LocalDateTime LATEST_START = LocalDateTime.of(2080, 4, 23, 17, 30);
+
+    private final ShiftScheduleCommandParser parser = new ShiftScheduleCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsShiftScheduleCommand() {
+        assertParseSuccess(parser, RANGE + " " + PREFIX_OFFSET + "-30",
+                new ShiftScheduleCommand(EARLIEST_START, LATEST_START, Optional.of(-30), Optional.empty(),
+                        List.of()));
+        assertParseSuccess(parser, RANGE + " " + PREFIX_DATE + "25-04-2080 " + PREFIX_TRACK + "Room 1",
+                new ShiftScheduleCommand(EARLIEST_START, LATEST_START, Optional.empty(),
+                        Optional.of(LocalDate.of(2080, 4, 25)), List.of(new Track("Room 1"))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormatMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ShiftScheduleCommand.MESSAGE_USAGE);
+
+        // neither offset nor date
+        assertParseFailure(parser, RANGE, invalidFormatMessage);
+
+        // both offset and date
+        assertParseFailure(parser, RANGE + " " + PREFIX_OFFSET + "30 " + PREFIX_DATE + "25-04-2080",
+                invalidFormatMessage);
+
+        // missing range
+        assertParseFailure(parser, " " + PREFIX_FROM + "23-04-2080 08:00 " + PREFIX_OFFSET + "30",
+                invalidFormatMessage);
+
+        // zero or non-numeric offset
+        assertParseFailure(parser, RANGE + " " + PREFIX_OFFSET + "0", ShiftScheduleCommand.MESSAGE_INVALID_OFFSET);
+        assertParseFailure(parser, RANGE + " " + PREFIX_OFFSET + "1h", ShiftScheduleCommand.MESSAGE_INVALID_OFFSET);
+
+        // invalid date
+        assertParseFailure(parser, RANGE + " " + PREFIX_DATE + "31-04-2080",
+                ShiftScheduleCommand.MESSAGE_INVALID_FORMAT_DATE);
+
+        // range ending before it starts
+        assertParseFailure(parser, " " + PREFIX_FROM + "23-04-2080 17:30 " + PREFIX_TO + "23-04-2080 08:00 "
+                + PREFIX_OFFSET + "30", ShiftScheduleCommand.MESSAGE_INVALID_RANGE);
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.simulation.CommitSimulationCommand;
+import seedu.address.logic.commands.simulation.DiffSimulationCommand;
+import seedu.address.logic.commands.simulation.DiscardSimulationCommand;
+import seedu.address.logic.commands.simulation.SimulationCommand;
+import seedu.address.logic.commands.simulation.StartSimulationCommand;
+
+public class SimulationCommandParserTest {
+    private final SimulationCommandParser parser = new SimulationCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSimulationCommand() {
+        assertParseSuccess(parser, " start", new StartSimulationCommand());
+        assertParseSuccess(parser, " diff ", new DiffSimulationCommand());
+        assertParseSuccess(parser, " commit", new CommitSimulationCommand());
+        assertParseSuccess(parser, " discard", new DiscardSimulationCommand());
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SimulationCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " undo", expectedMessage);
+        assertParseFailure(parser, " start now", expectedMessage);
+    }
+}
@@ -6,11 +6,14 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.CandidateSortOrder;
+import seedu.address.model.candidate.CandidateSortOrder.SortKey;
 
 public class SortCommandParserTest {
 
@@ -78,12 +81,27 @@ public class SortCommandParserTest {
     }
 
     @Test
-    public void parse_multipleRepeatedFields_acceptsLast() {
-        String userInput = SORT_EMPTY + "name" + SORT_EMPTY + "course" + SORT_EMPTY + "studentid";
+    public void parse_multipleFields_sortsByAllFields() {
+        String userInput = SORT_EMPTY + "course" + SORT_EMPTY + "Seniority-" + SORT_EMPTY + "name";
 
-        Comparator<Candidate> sortComparator = Comparator.comparing(l -> l.getStudentId().toString().toLowerCase());
-        SortCommand expectedCommand = new SortCommand(sortComparator, "studentid");
+        CandidateSortOrder sortComparator = new CandidateSortOrder(List.of(
+                new SortKey(CandidateSortOrder.Field.COURSE, true),
+                new SortKey(CandidateSortOrder.Field.SENIORITY, false),
+                new SortKey(CandidateSortOrder.Field.NAME, true)));
+        SortCommand expectedCommand = new SortCommand(sortComparator, "course,seniority-,name");
 
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    public void parse_repeatedFields_failure() {
+        assertParseFailure(parser, SORT_EMPTY + "name" + SORT_EMPTY + "course" + SORT_EMPTY + "name-",
+                SortCommand.MESSAGE_DUPLICATE_SORT_KEY);
+    }
+
+    @Test
+    public void parse_descendingWithoutField_failure() {
+        assertParseFailure(parser, SORT_EMPTY + "-", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SortCommand.INVALID_ATTRIBUTE_FIELD));
+    }
 }
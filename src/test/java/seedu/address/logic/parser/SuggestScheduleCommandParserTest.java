@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CANDIDATE;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.schedule.SuggestScheduleCommand;
+import seedu.address.logic.parser.schedule.SuggestScheduleCommandParser;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Track;
+
+public class SuggestScheduleCommandParserTest {
+
+    private final SuggestScheduleCommandParser parser = new SuggestScheduleCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSuggestScheduleCommand() {
+        assertParseSuccess(parser, " " + PREFIX_CANDIDATE + "1", new SuggestScheduleCommand(INDEX_FIRST_CANDIDATE,
+                Optional.empty(), SuggestScheduleCommand.DEFAULT_SUGGESTION_COUNT));
+        assertParseSuccess(parser, " " + PREFIX_CANDIDATE + "1 " + PREFIX_DATETIME + "22-04-2080 17:00 "
+                + PREFIX_TOP + "3", new SuggestScheduleCommand(INDEX_FIRST_CANDIDATE,
+                Optional.of(LocalDateTime.of(2080, 4, 22, 17, 0)), 3));
+        assertParseSuccess(parser, " " + PREFIX_CANDIDATE + "1 " + PREFIX_DURATION + "90",
+                new SuggestScheduleCommand(INDEX_FIRST_CANDIDATE, Optional.empty(),
+                        SuggestScheduleCommand.DEFAULT_SUGGESTION_COUNT, List.of(Track.DEFAULT), 90));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_TOP + "3", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SuggestScheduleCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "1 " + PREFIX_CANDIDATE + "1", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SuggestScheduleCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + PREFIX_CANDIDATE + "1 " + PREFIX_TOP + "0",
+                SuggestScheduleCommand.MESSAGE_INVALID_SUGGESTION_COUNT);
+        assertParseFailure(parser, " " + PREFIX_CANDIDATE + "1 " + PREFIX_DURATION + "481",
+                Interview.MESSAGE_DURATION_CONSTRAINTS);
+    }
+}
@@ -143,6 +143,21 @@ public class InterviewScheduleTest {
         assertEquals(schedule, interviewSchedule);
     }
 
+    @Test
+    public void interviewsBetween_interviewsInAndOutOfRange_returnsInterviewsInRange() {
+        Interview interviewAlice = new InterviewBuilder(INTERVIEW_ALICE)
+                .withInterviewDateTime(VALID_AMY_INTERVIEW_DATE_TIME).build();
+        Interview interviewBenson = new InterviewBuilder(INTERVIEW_BENSON)
+                .withInterviewDateTime(VALID_AMY_INTERVIEW_DATE_TIME.plusDays(1)).build();
+        interviewSchedule.addInterview(interviewBenson);
+        interviewSchedule.addInterview(interviewAlice);
+
+        assertEquals(List.of(interviewAlice), interviewSchedule.interviewsBetween(VALID_AMY_INTERVIEW_DATE_TIME,
+                VALID_AMY_INTERVIEW_DATE_TIME.plusDays(1)));
+        assertEquals(Arrays.asList(interviewAlice, interviewBenson), interviewSchedule.interviewsBetween(
+                VALID_AMY_INTERVIEW_DATE_TIME, VALID_AMY_INTERVIEW_DATE_TIME.plusDays(2)));
+    }
+
     @Test
     public void deletePastInterviews_withPastInterviews() {
         LocalDateTime currentDateTime = LocalDateTime.now();
@@ -0,0 +1,104 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class MatchBitmapTest {
+
+    private static final Predicate<Integer> IS_MULTIPLE_OF_THREE = number -> number % 3 == 0;
+
+    private final ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    @Test
+    public void evaluate_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> MatchBitmap.evaluate(null, IS_MULTIPLE_OF_THREE, pool));
+        assertThrows(NullPointerException.class, () -> MatchBitmap.evaluate(Collections.emptyList(), null, pool));
+        assertThrows(NullPointerException.class, () ->
+                MatchBitmap.evaluate(Collections.emptyList(), IS_MULTIPLE_OF_THREE, null));
+    }
+
+    @Test
+    public void evaluate_largeList_sameResultAsPredicate() {
+        List<Integer> numbers = numbersUpTo(10007);
+        MatchBitmap<Integer> parallelBitmap = MatchBitmap.evaluate(numbers, IS_MULTIPLE_OF_THREE, pool);
+        MatchBitmap<Integer> sequentialBitmap = MatchBitmap.evaluate(numbers, IS_MULTIPLE_OF_THREE);
+
+        for (int position = 0; position < numbers.size(); position++) {
+            assertEquals(IS_MULTIPLE_OF_THREE.test(numbers.get(position)), parallelBitmap.isMatch(position));
+            assertEquals(IS_MULTIPLE_OF_THREE.test(numbers.get(position)), sequentialBitmap.isMatch(position));
+        }
+    }
+
+    @Test
+    public void fromMatches_knownMatches_predicateNotTested() {
+        List<Integer> numbers = numbersUpTo(200);
+        Set<Integer> multiplesOfThree = new HashSet<>();
+        numbers.stream().filter(IS_MULTIPLE_OF_THREE).forEach(multiplesOfThree::add);
+        AtomicInteger predicateCalls = new AtomicInteger();
+        MatchBitmap<Integer> bitmap = MatchBitmap.fromMatches(numbers, multiplesOfThree, number -> {
+            predicateCalls.incrementAndGet();
+            return IS_MULTIPLE_OF_THREE.test(number);
+        });
+
+        for (int position = 0; position < numbers.size(); position++) {
+            assertEquals(IS_MULTIPLE_OF_THREE.test(numbers.get(position)), bitmap.isMatch(position));
+        }
+        assertEquals(0, predicateCalls.get());
+    }
+
+    @Test
+    public void asFilter_elementsInListOrder_answeredFromBitmap() {
+        List<Integer> numbers = numbersUpTo(1000);
+        AtomicInteger predicateCalls = new AtomicInteger();
+        MatchBitmap<Integer> bitmap = MatchBitmap.evaluate(numbers, number -> {
+            predicateCalls.incrementAndGet();
+            return IS_MULTIPLE_OF_THREE.test(number);
+        }, pool);
+        assertEquals(1000, predicateCalls.get());
+
+        // every filter reads the same results
+        for (int i = 0; i < 2; i++) {
+            Predicate<Integer> filter = bitmap.asFilter();
+            for (Integer number : numbers) {
+                assertEquals(IS_MULTIPLE_OF_THREE.test(number), filter.test(number));
+            }
+        }
+        assertEquals(1000, predicateCalls.get());
+    }
+
+    @Test
+    public void asFilter_elementNotInListOrder_fallsBackToPredicate() {
+        List<Integer> numbers = numbersUpTo(10);
+        Predicate<Integer> filter = MatchBitmap.evaluate(numbers, IS_MULTIPLE_OF_THREE, pool).asFilter();
+
+        // element added to the list afterwards
+        assertTrue(filter.test(3000));
+        assertFalse(filter.test(3001));
+
+        // elements of the list are still answered correctly
+        for (Integer number : numbers) {
+            assertEquals(IS_MULTIPLE_OF_THREE.test(number), filter.test(number));
+        }
+    }
+
+    private static List<Integer> numbersUpTo(int size) {
+        List<Integer> numbers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            numbers.add(i);
+        }
+        return numbers;
+    }
+}
@@ -7,24 +7,42 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CANDIDATES;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCandidates.ALICE;
 import static seedu.address.testutil.TypicalCandidates.BENSON;
+import static seedu.address.testutil.TypicalCandidates.CARL;
+import static seedu.address.testutil.TypicalCandidates.DANIEL;
+import static seedu.address.testutil.TypicalCandidates.ELLE;
 import static seedu.address.testutil.TypicalCandidates.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalInterviews.INTERVIEW_ALICE;
 import static seedu.address.testutil.TypicalInterviews.INTERVIEW_BENSON;
+import static seedu.address.testutil.TypicalInterviews.VALID_NO_CONFLICT_INTERVIEW_DATE_TIME;
+import static seedu.address.testutil.TypicalInterviews.getTypicalInterviewSchedule;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.CandidateSortOrder;
+import seedu.address.model.candidate.RelevanceScorer;
 import seedu.address.model.candidate.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.candidate.query.PhoneticNameQuery;
 import seedu.address.model.interview.Interview;
 import seedu.address.model.interview.predicate.AllWithinTimePeriodPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.CandidateBuilder;
+import seedu.address.testutil.InterviewBuilder;
 import seedu.address.testutil.InterviewScheduleBuilder;
 
 public class ModelManagerTest {
@@ -104,6 +122,251 @@ public class ModelManagerTest {
     }
 
     //=======TODO======
+    @Test
+    public void updateFilteredCandidateList_aboveParallelThreshold_sameResultAsSequential() throws CommandException {
+        AddressBook addressBook = getTypicalAddressBook();
+        UserPrefs parallelUserPrefs = new UserPrefs();
+        parallelUserPrefs.setParallelFilterThreshold(0);
+        ModelManager sequentialModel = new ModelManager(addressBook, new InterviewSchedule(), new UserPrefs());
+        ModelManager parallelModel = new ModelManager(addressBook, new InterviewSchedule(), parallelUserPrefs);
+
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("meier", "kurz"));
+        sequentialModel.updateFilteredCandidateList(predicate);
+        parallelModel.updateFilteredCandidateList(predicate);
+        assertEquals(sequentialModel.getFilteredCandidateList(), parallelModel.getFilteredCandidateList());
+
+        // candidates edited after filtering are still tested against the predicate
+        parallelModel.setCandidate(ALICE, new CandidateBuilder(ALICE).withName("Alice Meier").build());
+        assertEquals(sequentialModel.getFilteredCandidateList().size() + 1,
+                parallelModel.getFilteredCandidateList().size());
+    }
+
+    @Test
+    public void updateFilteredCandidateList_repeatedSearch_resultsCachedUntilListChanges() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new InterviewSchedule(), new UserPrefs());
+        int candidateCount = modelManager.getAddressBook().getCandidateList().size();
+        AtomicInteger predicateCalls = new AtomicInteger();
+        Predicate<Candidate> predicate = candidate -> {
+            predicateCalls.incrementAndGet();
+            return candidate.getName().fullName.contains("Meier");
+        };
+
+        modelManager.updateFilteredCandidateList(predicate);
+        List<Candidate> expectedCandidates = new ArrayList<>(modelManager.getFilteredCandidateList());
+        modelManager.updateFilteredCandidateList(PREDICATE_SHOW_ALL_CANDIDATES);
+        modelManager.updateFilteredCandidateList(predicate);
+        assertEquals(candidateCount, predicateCalls.get());
+        assertEquals(expectedCandidates, modelManager.getFilteredCandidateList());
+
+        // equal predicates share results
+        modelManager.updateFilteredCandidateList(new NameContainsKeywordsPredicate(Arrays.asList("kurz")));
+        modelManager.updateFilteredCandidateList(PREDICATE_SHOW_ALL_CANDIDATES);
+        modelManager.updateFilteredCandidateList(new NameContainsKeywordsPredicate(Arrays.asList("kurz")));
+        assertEquals(1, modelManager.getFilteredCandidateList().size());
+
+        // changing the list invalidates the cache
+        modelManager.deleteCandidate(ALICE);
+        modelManager.updateFilteredCandidateList(predicate);
+        assertEquals(2 * candidateCount - 1, predicateCalls.get());
+    }
+
+    @Test
+    public void updateFilteredCandidateList_candidateEditedAfterIndexedSearch_searchIndexUpToDate()
+            throws CommandException {
+        modelManager = new ModelManager(getTypicalAddressBook(), new InterviewSchedule(), new UserPrefs());
+        modelManager.updateFilteredCandidateList(new PhoneticNameQuery(Arrays.asList("Mohamed"))
+                .plan(modelManager.getSearchIndex()));
+        assertEquals(0, modelManager.getFilteredCandidateList().size());
+
+        // the filtered list is refiltered after the index has been updated
+        Candidate editedAlice = new CandidateBuilder(ALICE).withName("Muhammad Pauline").build();
+        modelManager.setCandidate(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredCandidateList());
+    }
+
+    @Test
+    public void updateFilteredCandidateListToSavedSearch_candidatesChanged_savedSearchUpToDate()
+            throws CommandException {
+        modelManager = new ModelManager(getTypicalAddressBook(), new InterviewSchedule(), new UserPrefs());
+        modelManager.addSavedSearch("meier", "k/Meier f/name",
+                new NameContainsKeywordsPredicate(Arrays.asList("Meier")));
+        assertEquals(Map.of("meier", "k/Meier f/name"), modelManager.getUserPrefs().getSavedSearches());
+
+        modelManager.updateFilteredCandidateListToSavedSearch("meier");
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredCandidateList());
+
+        // showing the saved search again leaves the list as it is
+        AtomicInteger changeCount = new AtomicInteger();
+        modelManager.getFilteredCandidateList().addListener((ListChangeListener<Candidate>) change ->
+                changeCount.incrementAndGet());
+        modelManager.updateFilteredCandidateListToSavedSearch("meier");
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredCandidateList());
+        assertEquals(0, changeCount.get());
+
+        // the saved search follows edits and deletions made while another search is shown
+        modelManager.updateFilteredCandidateList(PREDICATE_SHOW_ALL_CANDIDATES);
+        Candidate editedAlice = new CandidateBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setCandidate(ALICE, editedAlice);
+        modelManager.deleteCandidate(DANIEL);
+        modelManager.updateFilteredCandidateListToSavedSearch("meier");
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredCandidateList());
+
+        modelManager.deleteSavedSearch("meier");
+        assertFalse(modelManager.hasSavedSearch("meier"));
+        assertTrue(modelManager.getUserPrefs().getSavedSearches().isEmpty());
+    }
+
+    @Test
+    public void updateSortedCandidateList_aboveParallelThreshold_sameResultAsSequential() throws CommandException {
+        AddressBook addressBook = getTypicalAddressBook();
+        UserPrefs parallelUserPrefs = new UserPrefs();
+        parallelUserPrefs.setParallelSortThreshold(0);
+        ModelManager sequentialModel = new ModelManager(addressBook, new InterviewSchedule(), new UserPrefs());
+        ModelManager parallelModel = new ModelManager(addressBook, new InterviewSchedule(), parallelUserPrefs);
+
+        List<CandidateSortOrder.SortKey> sortKeys = List.of(
+                new CandidateSortOrder.SortKey(CandidateSortOrder.Field.SENIORITY, false),
+                new CandidateSortOrder.SortKey(CandidateSortOrder.Field.NAME, true));
+        sequentialModel.updateSortedCandidateList(new CandidateSortOrder(sortKeys));
+        parallelModel.updateSortedCandidateList(new CandidateSortOrder(sortKeys));
+        assertEquals(sequentialModel.getFilteredCandidateList(), parallelModel.getFilteredCandidateList());
+
+        // candidates edited after sorting are still placed by their fields
+        Candidate editedAlice = new CandidateBuilder(ALICE).withName("Zoe Meier").build();
+        sequentialModel.setCandidate(ALICE, editedAlice);
+        parallelModel.setCandidate(ALICE, editedAlice);
+        assertEquals(sequentialModel.getFilteredCandidateList(), parallelModel.getFilteredCandidateList());
+
+        // only the filtered candidates are sorted again
+        Predicate<Candidate> notBenson = candidate -> !candidate.equals(BENSON);
+        sequentialModel.updateFilteredCandidateList(notBenson);
+        parallelModel.updateFilteredCandidateList(notBenson);
+        assertFalse(parallelModel.getFilteredCandidateList().contains(BENSON));
+        assertEquals(sequentialModel.getFilteredCandidateList(), parallelModel.getFilteredCandidateList());
+    }
+
+    @Test
+    public void updateSortedCandidateList_equalFields_orderedByStudentIdOnEveryPath() {
+        List<Candidate> tiedCandidates = new ArrayList<>();
+        for (Candidate candidate : Arrays.asList(CARL, ALICE, BENSON)) {
+            tiedCandidates.add(new CandidateBuilder(candidate).withCourse("Computer Science").withSeniority("2")
+                    .build());
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setCandidates(tiedCandidates);
+        UserPrefs parallelUserPrefs = new UserPrefs();
+        parallelUserPrefs.setParallelSortThreshold(0);
+        ModelManager sequentialModel = new ModelManager(addressBook, new InterviewSchedule(), new UserPrefs());
+        ModelManager parallelModel = new ModelManager(addressBook, new InterviewSchedule(), parallelUserPrefs);
+        List<Candidate> expectedCandidates = Arrays.asList(tiedCandidates.get(1), tiedCandidates.get(2),
+                tiedCandidates.get(0));
+
+        // a single key is sorted by the sort index
+        sequentialModel.updateSortedCandidateList(new CandidateSortOrder(
+                List.of(new CandidateSortOrder.SortKey(CandidateSortOrder.Field.SENIORITY, false))));
+        assertEquals(expectedCandidates, sequentialModel.getFilteredCandidateList());
+
+        List<CandidateSortOrder.SortKey> sortKeys = List.of(
+                new CandidateSortOrder.SortKey(CandidateSortOrder.Field.SENIORITY, false),
+                new CandidateSortOrder.SortKey(CandidateSortOrder.Field.COURSE, true));
+        sequentialModel.updateSortedCandidateList(new CandidateSortOrder(sortKeys));
+        assertEquals(expectedCandidates, sequentialModel.getFilteredCandidateList());
+        parallelModel.updateSortedCandidateList(new CandidateSortOrder(sortKeys));
+        assertEquals(expectedCandidates, parallelModel.getFilteredCandidateList());
+    }
+
+    @Test
+    public void updateSortedCandidateList_sortByName_onlyDisplayedListSorted() throws CommandException {
+        modelManager = new ModelManager(getTypicalAddressBook(), new InterviewSchedule(), new UserPrefs());
+        List<Candidate> storedCandidates = new ArrayList<>(modelManager.getAddressBook().getCandidateList());
+        CandidateSortOrder nameDescending = new CandidateSortOrder(
+                List.of(new CandidateSortOrder.SortKey(CandidateSortOrder.Field.NAME, false)));
+
+        modelManager.updateSortedCandidateList(nameDescending);
+        List<Candidate> expectedCandidates = new ArrayList<>(storedCandidates);
+        expectedCandidates.sort(nameDescending);
+        assertEquals(expectedCandidates, modelManager.getFilteredCandidateList());
+        assertEquals(storedCandidates, modelManager.getAddressBook().getCandidateList());
+
+        // the order is kept by later searches and follows edits
+        modelManager.updateFilteredCandidateList(new NameContainsKeywordsPredicate(Arrays.asList("Meier", "Alice")));
+        assertEquals(Arrays.asList(DANIEL, BENSON, ALICE), modelManager.getFilteredCandidateList());
+        Candidate editedAlice = new CandidateBuilder(ALICE).withName("Alice Zimmer Meier").build();
+        modelManager.setCandidate(ALICE, editedAlice);
+        assertEquals(Arrays.asList(DANIEL, BENSON, editedAlice), modelManager.getFilteredCandidateList());
+
+        // adding a candidate lists all candidates, still in sorted order
+        Candidate zed = new CandidateBuilder().withStudentId("A0999999B").withName("Zed Meier").build();
+        modelManager.addCandidate(zed);
+        expectedCandidates = new ArrayList<>(modelManager.getAddressBook().getCandidateList());
+        expectedCandidates.sort(nameDescending);
+        assertEquals(zed, expectedCandidates.get(0));
+        assertEquals(expectedCandidates, modelManager.getFilteredCandidateList());
+    }
+
+    @Test
+    public void updateSortedCandidateList_filteredCandidates_displayedInOneChange() throws CommandException {
+        modelManager = new ModelManager(getTypicalAddressBook(), new InterviewSchedule(), new UserPrefs());
+        Predicate<Candidate> notCarl = candidate -> !candidate.equals(CARL);
+        modelManager.updateFilteredCandidateList(notCarl);
+        AtomicInteger changeCount = new AtomicInteger();
+        modelManager.getFilteredCandidateList().addListener((ListChangeListener<Candidate>) change ->
+                changeCount.incrementAndGet());
+        CandidateSortOrder nameAscending = new CandidateSortOrder(
+                List.of(new CandidateSortOrder.SortKey(CandidateSortOrder.Field.NAME, true)));
+
+        // only the filtered candidates are displayed, walked from the sort index
+        modelManager.updateSortedCandidateList(nameAscending);
+        List<Candidate> expectedCandidates = new ArrayList<>(modelManager.getAddressBook().getCandidateList());
+        expectedCandidates.remove(CARL);
+        expectedCandidates.sort(nameAscending);
+        assertEquals(expectedCandidates, modelManager.getFilteredCandidateList());
+        assertEquals(1, changeCount.get());
+
+        // refiltering keeps the order, in one change as well
+        modelManager.updateFilteredCandidateList(PREDICATE_SHOW_ALL_CANDIDATES);
+        expectedCandidates.add(CARL);
+        expectedCandidates.sort(nameAscending);
+        assertEquals(expectedCandidates, modelManager.getFilteredCandidateList());
+        assertEquals(2, changeCount.get());
+
+        // the displayed list cannot be changed other than through the model
+        assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredCandidateList().remove(0));
+    }
+
+    @Test
+    public void getFilteredCandidateList_unsorted_followsAddressBookOrder() throws CommandException {
+        modelManager = new ModelManager(getTypicalAddressBook(), new InterviewSchedule(), new UserPrefs());
+        Candidate editedBenson = new CandidateBuilder(BENSON).withName("Aaron Meier").build();
+
+        modelManager.setCandidate(BENSON, editedBenson);
+        modelManager.deleteCandidate(ALICE);
+        assertEquals(modelManager.getAddressBook().getCandidateList(), modelManager.getFilteredCandidateList());
+    }
+
+    @Test
+    public void updateRankedCandidateList_topCandidates_shownInRankedOrder() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new InterviewSchedule(), new UserPrefs());
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("e"));
+        RelevanceScorer scorer = new RelevanceScorer(List.of(RelevanceScorer.Field.NAME),
+                Arrays.asList("Meier", "Elle"));
+
+        // exact word matches first, ties in list order, only the best candidates shown
+        modelManager.updateRankedCandidateList(predicate, scorer, 3);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), modelManager.getFilteredCandidateList());
+
+        // non-matching candidates are never shown
+        modelManager.updateRankedCandidateList(predicate, scorer, 100);
+        assertTrue(modelManager.getFilteredCandidateList().stream().allMatch(predicate));
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), modelManager.getFilteredCandidateList().subList(0, 3));
+
+        // filtering again restores list order
+        modelManager.updateFilteredCandidateList(predicate);
+        List<Candidate> expectedCandidates = new ArrayList<>(modelManager.getAddressBook().getCandidateList());
+        expectedCandidates.removeIf(predicate.negate());
+        assertEquals(expectedCandidates, modelManager.getFilteredCandidateList());
+    }
+
     @Test
     public void setInterviewScheduleFilePath_nullPath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setInterviewScheduleFilePath(null));
@@ -248,6 +511,65 @@ public class ModelManagerTest {
         assertEquals(modelManager, modelManagerCopy);
     }
 
+    @Test
+    public void deletePastInterviews_severalPastInterviews_allCandidatesCompleted() throws CommandException {
+        LocalDateTime currentDateTime = LocalDateTime.now();
+        Interview pastInterview = new Interview(ALICE, currentDateTime);
+        Interview otherPastInterview = new InterviewBuilder(INTERVIEW_BENSON)
+                .withInterviewDateTime(currentDateTime.plusMinutes(30)).build();
+
+        modelManager = new ModelManager(getTypicalAddressBook(), new InterviewScheduleBuilder()
+                .withInterview(pastInterview).withInterview(otherPastInterview).build(), new UserPrefs());
+        assertEquals(Optional.of(currentDateTime.plusMinutes(30)), modelManager.getNextInterviewExpiry());
+
+        modelManager.deletePastInterviewsForInterviewList(currentDateTime.plusHours(1));
+        assertEquals(Optional.empty(), modelManager.getNextInterviewExpiry());
+        assertTrue(modelManager.getAddressBook().getCandidateList()
+                .contains(ALICE.triggerInterviewStatusCompleted()));
+        assertTrue(modelManager.getAddressBook().getCandidateList()
+                .contains(INTERVIEW_BENSON.getCandidate().triggerInterviewStatusCompleted()));
+    }
+
+    @Test
+    public void discardSimulation_changesMade_dataRestored() throws CommandException {
+        modelManager = new ModelManager(getTypicalAddressBook(), getTypicalInterviewSchedule(), new UserPrefs());
+        ModelManager expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalInterviewSchedule(),
+                new UserPrefs());
+
+        modelManager.startSimulation();
+        assertTrue(modelManager.isSimulating());
+        Interview rescheduledInterview = new InterviewBuilder(INTERVIEW_ALICE)
+                .withInterviewDateTime(VALID_NO_CONFLICT_INTERVIEW_DATE_TIME).build();
+        modelManager.setInterview(INTERVIEW_ALICE, rescheduledInterview);
+        modelManager.deleteInterview(INTERVIEW_BENSON);
+        modelManager.deleteCandidate(DANIEL);
+
+        SimulationDiff diff = modelManager.getSimulationDiff();
+        assertEquals(Map.of(INTERVIEW_ALICE, rescheduledInterview), diff.getRescheduledInterviews());
+        assertEquals(List.of(INTERVIEW_BENSON), diff.getCancelledInterviews());
+        assertEquals(List.of(DANIEL), diff.getRemovedCandidates());
+        assertTrue(diff.getScheduledInterviews().isEmpty());
+
+        modelManager.discardSimulation();
+        assertFalse(modelManager.isSimulating());
+        assertEquals(expectedModel, modelManager);
+    }
+
+    @Test
+    public void commitSimulation_changesMade_changesKept() {
+        modelManager = new ModelManager(getTypicalAddressBook(), getTypicalInterviewSchedule(), new UserPrefs());
+
+        modelManager.startSimulation();
+        modelManager.deleteInterview(INTERVIEW_BENSON);
+        modelManager.commitSimulation();
+        assertFalse(modelManager.isSimulating());
+
+        // later changes are no longer simulated
+        modelManager.deleteInterview(INTERVIEW_ALICE);
+        assertFalse(modelManager.getInterviewSchedule().getInterviewList().contains(INTERVIEW_ALICE));
+        assertFalse(modelManager.getInterviewSchedule().getInterviewList().contains(INTERVIEW_BENSON));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withCandidate(ALICE).withCandidate(BENSON).build();
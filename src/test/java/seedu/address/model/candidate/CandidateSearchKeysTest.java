@@ -0,0 +1,38 @@
+package seedu.address.model.candidate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.CandidateBuilder;
+
+public class CandidateSearchKeysTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CandidateSearchKeys(null));
+    }
+
+    @Test
+    public void constructor_validCandidate_fieldsLowercased() {
+        Candidate candidate = new CandidateBuilder().withStudentId("A0123456B").withName("Alice Pauline")
+                .withEmail("E0123456@u.nus.edu").withCourse("Computer Science").withSeniority("2").build();
+        CandidateSearchKeys searchKeys = new CandidateSearchKeys(candidate);
+
+        assertEquals("a0123456b", searchKeys.studentId);
+        assertEquals("alice pauline", searchKeys.name);
+        assertEquals("e0123456@u.nus.edu", searchKeys.email);
+        assertEquals("computer science", searchKeys.course);
+        assertEquals("com2", searchKeys.seniority);
+        assertEquals("pending", searchKeys.applicationStatus);
+        assertEquals("not scheduled", searchKeys.interviewStatus);
+    }
+
+    @Test
+    public void getSearchKeys_calledTwice_returnsSameInstance() {
+        Candidate candidate = new CandidateBuilder().build();
+        assertTrue(candidate.getSearchKeys() == candidate.getSearchKeys());
+    }
+}
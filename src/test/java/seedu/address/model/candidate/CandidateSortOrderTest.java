@@ -0,0 +1,114 @@
+package seedu.address.model.candidate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.candidate.CandidateSortOrder.Field;
+import seedu.address.model.candidate.CandidateSortOrder.SortKey;
+import seedu.address.testutil.CandidateBuilder;
+
+public class CandidateSortOrderTest {
+
+    private final Candidate aliceCs2 = new CandidateBuilder().withStudentId("A0000001B").withName("alice")
+            .withCourse("Computer Science").withSeniority("2").build();
+    private final Candidate bobCs3 = new CandidateBuilder().withStudentId("A0000002B").withName("Bob")
+            .withCourse("Computer Science").withSeniority("3").build();
+    private final Candidate carlBa2 = new CandidateBuilder().withStudentId("A0000003B").withName("Carl")
+            .withCourse("Business Analytics").withSeniority("2").build();
+    private final Candidate amyCs2 = new CandidateBuilder().withStudentId("A0000004B").withName("Amy")
+            .withCourse("Computer Science").withSeniority("2").build();
+
+    @Test
+    public void constructor_invalidSortKeys_throwsException() {
+        assertThrows(NullPointerException.class, () -> new CandidateSortOrder(null));
+        assertThrows(IllegalArgumentException.class, () -> new CandidateSortOrder(Collections.emptyList()));
+    }
+
+    @Test
+    public void compare_severalSortKeys_sortedByEachKeyInTurn() {
+        CandidateSortOrder sortOrder = new CandidateSortOrder(List.of(new SortKey(Field.COURSE, true),
+                new SortKey(Field.SENIORITY, false), new SortKey(Field.NAME, true)));
+        List<Candidate> candidates = new ArrayList<>(Arrays.asList(aliceCs2, bobCs3, carlBa2, amyCs2));
+
+        candidates.sort(sortOrder);
+        assertEquals(Arrays.asList(carlBa2, bobCs3, aliceCs2, amyCs2), candidates);
+
+        // comparing the same candidates again gives the same result
+        candidates.sort(sortOrder);
+        assertEquals(Arrays.asList(carlBa2, bobCs3, aliceCs2, amyCs2), candidates);
+    }
+
+    @Test
+    public void sort_severalSortKeys_sameOrderAsComparator() {
+        CandidateSortOrder sortOrder = new CandidateSortOrder(List.of(new SortKey(Field.COURSE, true),
+                new SortKey(Field.SENIORITY, false), new SortKey(Field.NAME, true)));
+        List<Candidate> candidates = Arrays.asList(aliceCs2, bobCs3, carlBa2, amyCs2);
+
+        assertEquals(Arrays.asList(carlBa2, bobCs3, aliceCs2, amyCs2), sortOrder.sort(candidates));
+        assertEquals(Arrays.asList(carlBa2, bobCs3, aliceCs2, amyCs2), sortOrder.sortInParallel(candidates));
+        // the candidates to sort are left in their order
+        assertEquals(Arrays.asList(aliceCs2, bobCs3, carlBa2, amyCs2), candidates);
+    }
+
+    @Test
+    public void sortInParallel_candidatesComparedAfterwards_comparedByFields() {
+        CandidateSortOrder sortOrder = new CandidateSortOrder(List.of(new SortKey(Field.SENIORITY, true)));
+
+        // candidates with equal fields are sorted by student ID
+        List<Candidate> candidates = new ArrayList<>(sortOrder.sortInParallel(Arrays.asList(bobCs3, aliceCs2,
+                carlBa2)));
+        assertEquals(Arrays.asList(aliceCs2, carlBa2, bobCs3), candidates);
+
+        // candidates which were not sorted are compared by their fields, then by student ID
+        candidates.add(0, amyCs2);
+        candidates.sort(sortOrder);
+        assertEquals(Arrays.asList(aliceCs2, carlBa2, amyCs2, bobCs3), candidates);
+        assertTrue(sortOrder.compare(amyCs2, aliceCs2) > 0);
+        assertTrue(sortOrder.compare(aliceCs2, amyCs2) < 0);
+    }
+
+    @Test
+    public void compare_equalFields_orderedByStudentId() {
+        Candidate amyCs2WithLowerId = new CandidateBuilder(amyCs2).withStudentId("A0000000B").build();
+        CandidateSortOrder sortOrder = new CandidateSortOrder(List.of(new SortKey(Field.COURSE, false),
+                new SortKey(Field.SENIORITY, false)));
+        List<Candidate> candidates = new ArrayList<>(Arrays.asList(amyCs2, aliceCs2, amyCs2WithLowerId));
+
+        // student IDs are in ascending order whichever direction the fields are sorted in
+        candidates.sort(sortOrder);
+        assertEquals(Arrays.asList(amyCs2WithLowerId, aliceCs2, amyCs2), candidates);
+
+        assertEquals(Arrays.asList(amyCs2WithLowerId, aliceCs2, amyCs2),
+                sortOrder.sortInParallel(Arrays.asList(amyCs2, aliceCs2, amyCs2WithLowerId)));
+    }
+
+    @Test
+    public void compare_differentCase_caseIgnored() {
+        CandidateSortOrder sortOrder = new CandidateSortOrder(List.of(new SortKey(Field.NAME, false)));
+
+        assertTrue(sortOrder.compare(aliceCs2, amyCs2) > 0);
+        assertTrue(sortOrder.compare(bobCs3, aliceCs2) < 0);
+        assertEquals(0, sortOrder.compare(aliceCs2, new CandidateBuilder(aliceCs2).withName("ALICE").build()));
+    }
+
+    @Test
+    public void equals() {
+        CandidateSortOrder sortOrder = new CandidateSortOrder(List.of(new SortKey(Field.NAME, true)));
+
+        assertTrue(sortOrder.equals(sortOrder));
+        assertTrue(sortOrder.equals(new CandidateSortOrder(List.of(new SortKey(Field.NAME, true)))));
+        assertFalse(sortOrder.equals(null));
+        assertFalse(sortOrder.equals(new CandidateSortOrder(List.of(new SortKey(Field.NAME, false)))));
+        assertEquals("name,seniority-", new CandidateSortOrder(List.of(new SortKey(Field.NAME, true),
+                new SortKey(Field.SENIORITY, false))).toString());
+    }
+}
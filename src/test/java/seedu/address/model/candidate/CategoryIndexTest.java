@@ -0,0 +1,60 @@
+package seedu.address.model.candidate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.candidate.CategoryIndex.Category;
+import seedu.address.testutil.CandidateBuilder;
+
+public class CategoryIndexTest {
+
+    private final Candidate scienceSeniorityOne = new CandidateBuilder().withStudentId("A0000001B")
+            .withCourse("Computer Science").withSeniority("1").build();
+    private final Candidate scienceSeniorityTwo = new CandidateBuilder().withStudentId("A0000002B")
+            .withCourse("Computer Science").withSeniority("2").build();
+    private final Candidate analyticsSeniorityTwo = new CandidateBuilder().withStudentId("A0000003B")
+            .withCourse("Business Analytics").withSeniority("2").build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CategoryIndex(null));
+    }
+
+    @Test
+    public void countMatching_existingCandidates_countsAllCandidatesWithMatchingValue() {
+        CategoryIndex index = new CategoryIndex(FXCollections.observableArrayList(
+                scienceSeniorityOne, scienceSeniorityTwo, analyticsSeniorityTwo));
+
+        assertEquals(3, index.size());
+        assertEquals(2, index.countMatching(Category.COURSE, candidate ->
+                candidate.getSearchKeys().course.contains("science")));
+        assertEquals(1, index.countMatching(Category.SENIORITY, candidate ->
+                candidate.getSearchKeys().seniority.equals("com1")));
+        assertEquals(0, index.countMatching(Category.APPLICATION_STATUS, candidate ->
+                candidate.getSearchKeys().applicationStatus.equals("rejected")));
+    }
+
+    @Test
+    public void countMatching_listModified_indexUpdated() {
+        ObservableList<Candidate> candidates = FXCollections.observableArrayList(scienceSeniorityOne);
+        CategoryIndex index = new CategoryIndex(candidates);
+
+        candidates.add(analyticsSeniorityTwo);
+        candidates.add(scienceSeniorityTwo);
+        assertEquals(3, index.size());
+        assertEquals(2, index.countMatching(Category.SENIORITY, candidate ->
+                candidate.getSearchKeys().seniority.equals("com2")));
+
+        candidates.remove(scienceSeniorityOne);
+        candidates.set(0, new CandidateBuilder(analyticsSeniorityTwo).withSeniority("4").build());
+        assertEquals(2, index.size());
+        assertEquals(1, index.countMatching(Category.SENIORITY, candidate ->
+                candidate.getSearchKeys().seniority.equals("com2")));
+        assertEquals(1, index.countMatching(Category.COURSE, candidate ->
+                candidate.getSearchKeys().course.contains("analytics")));
+    }
+}
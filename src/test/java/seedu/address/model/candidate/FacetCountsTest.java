@@ -0,0 +1,62 @@
+package seedu.address.model.candidate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.candidate.CategoryIndex.Category;
+import seedu.address.testutil.CandidateBuilder;
+
+public class FacetCountsTest {
+
+    private final Candidate alice = new CandidateBuilder().withStudentId("A0000001B")
+            .withCourse("Computer Science").withSeniority("2").build();
+    private final Candidate bob = new CandidateBuilder().withStudentId("A0000002B")
+            .withCourse("Business Analytics").withSeniority("2").build();
+    private final Candidate carl = new CandidateBuilder().withStudentId("A0000003B")
+            .withCourse("Computer Science").withSeniority("3").build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new FacetCounts(null));
+    }
+
+    @Test
+    public void getCounts_existingCandidates_countedByValue() {
+        FacetCounts facetCounts = new FacetCounts(FXCollections.observableArrayList(alice, bob, carl));
+
+        assertEquals(Map.of("Business Analytics", 1, "Computer Science", 2),
+                facetCounts.getCounts(Category.COURSE));
+        assertEquals(Map.of("COM2", 2, "COM3", 1), facetCounts.getCounts(Category.SENIORITY));
+        assertEquals("Course: Business Analytics (1), Computer Science (2)\n"
+                + "Seniority: COM2 (2), COM3 (1)\n"
+                + "Application status: Pending (3)\n"
+                + "Interview status: Not Scheduled (3)", facetCounts.toString());
+    }
+
+    @Test
+    public void getCounts_filterChanged_countsUpdated() {
+        ObservableList<Candidate> candidates = FXCollections.observableArrayList(alice, bob);
+        FilteredList<Candidate> filteredCandidates = new FilteredList<>(candidates);
+        FacetCounts facetCounts = new FacetCounts(filteredCandidates);
+
+        filteredCandidates.setPredicate(candidate -> candidate.getSeniority().seniority.equals("2"));
+        candidates.add(carl);
+        assertEquals(Map.of("Business Analytics", 1, "Computer Science", 1),
+                facetCounts.getCounts(Category.COURSE));
+
+        candidates.set(0, new CandidateBuilder(alice).withCourse("Business Analytics").build());
+        assertEquals(Map.of("Business Analytics", 2), facetCounts.getCounts(Category.COURSE));
+
+        filteredCandidates.setPredicate(null);
+        assertEquals(Map.of("Business Analytics", 2, "Computer Science", 1),
+                facetCounts.getCounts(Category.COURSE));
+        assertEquals(Map.of("COM2", 2, "COM3", 1), facetCounts.getCounts(Category.SENIORITY));
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.candidate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.CandidateBuilder;
+
+public class NameTokenIndexTest {
+
+    private final Candidate aliceTan = new CandidateBuilder().withStudentId("A0000001B").withName("Alice Tan").build();
+    private final Candidate alicePauline = new CandidateBuilder().withStudentId("A0000002B")
+            .withName("Alice Pauline").build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NameTokenIndex(null));
+    }
+
+    @Test
+    public void findSimilarTokens_indexedNames_returnsSimilarWords() {
+        NameTokenIndex index = new NameTokenIndex(FXCollections.observableArrayList(aliceTan, alicePauline));
+
+        assertEquals(3, index.getTokenCount());
+        assertEquals(new HashSet<>(Arrays.asList("alice")), new HashSet<>(index.findSimilarTokens("alise", 1)));
+        assertEquals(new HashSet<>(Arrays.asList("tan")), new HashSet<>(index.findSimilarTokens("tam", 1)));
+        assertEquals(2, index.countCandidatesWith("alice"));
+    }
+
+    @Test
+    public void countCandidatesWith_listModified_indexUpdated() {
+        ObservableList<Candidate> candidates = FXCollections.observableArrayList(aliceTan);
+        NameTokenIndex index = new NameTokenIndex(candidates);
+        int tokenCountBeforeAdding = index.getTokenCount();
+
+        candidates.add(alicePauline);
+        assertEquals(2, index.countCandidatesWith("alice"));
+        assertTrue(index.wasIndexedBefore("alice", tokenCountBeforeAdding));
+        assertFalse(index.wasIndexedBefore("pauline", tokenCountBeforeAdding));
+
+        candidates.remove(aliceTan);
+        assertEquals(1, index.countCandidatesWith("alice"));
+        assertEquals(0, index.countCandidatesWith("tan"));
+    }
+}
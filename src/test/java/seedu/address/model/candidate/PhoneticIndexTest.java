@@ -0,0 +1,57 @@
+package seedu.address.model.candidate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.CandidateBuilder;
+
+public class PhoneticIndexTest {
+
+    private final Candidate muhammadAli = new CandidateBuilder().withStudentId("A0000001B")
+            .withName("Muhammad Ali").build();
+    private final Candidate mohamedLee = new CandidateBuilder().withStudentId("A0000002B")
+            .withName("Mohamed Lee").build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PhoneticIndex(null));
+    }
+
+    @Test
+    public void hasCandidateWith_indexedNames_candidatesFoundByCode() {
+        PhoneticIndex index = new PhoneticIndex(FXCollections.observableArrayList(muhammadAli, mohamedLee));
+
+        assertTrue(index.hasCandidateWith("M530", muhammadAli));
+        assertTrue(index.hasCandidateWith("M530", mohamedLee));
+        assertTrue(index.hasCandidateWith("L000", mohamedLee));
+        assertFalse(index.hasCandidateWith("L000", muhammadAli));
+        assertFalse(index.hasCandidateWith("Z000", muhammadAli));
+        assertEquals(2, index.countCandidatesWith("M530"));
+        assertEquals(0, index.countCandidatesWith("Z000"));
+    }
+
+    @Test
+    public void hasCandidateWith_listModified_indexUpdated() {
+        ObservableList<Candidate> candidates = FXCollections.observableArrayList(muhammadAli);
+        PhoneticIndex index = new PhoneticIndex(candidates);
+
+        candidates.add(mohamedLee);
+        assertEquals(2, index.countCandidatesWith("M530"));
+
+        Candidate editedCandidate = new CandidateBuilder(muhammadAli).withName("Ali Tan").build();
+        candidates.set(0, editedCandidate);
+        assertFalse(index.hasCandidateWith("M530", muhammadAli));
+        assertTrue(index.hasCandidateWith("T500", editedCandidate));
+        assertEquals(1, index.countCandidatesWith("M530"));
+
+        candidates.remove(mohamedLee);
+        assertEquals(0, index.countCandidatesWith("M530"));
+        assertEquals(0, index.countCandidatesWith("L000"));
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model.candidate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.candidate.RelevanceScorer.EXACT_MATCH;
+import static seedu.address.model.candidate.RelevanceScorer.NO_MATCH;
+import static seedu.address.model.candidate.RelevanceScorer.PREFIX_MATCH;
+import static seedu.address.model.candidate.RelevanceScorer.SUBSTRING_MATCH;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.CandidateBuilder;
+
+public class RelevanceScorerTest {
+
+    private static final List<RelevanceScorer.Field> ALL_FIELDS = Arrays.asList(RelevanceScorer.Field.values());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RelevanceScorer(null, Collections.emptyList()));
+        assertThrows(NullPointerException.class, () -> new RelevanceScorer(ALL_FIELDS, null));
+    }
+
+    @Test
+    public void getMatchQuality() {
+        assertEquals(EXACT_MATCH, RelevanceScorer.getMatchQuality("alice", "alice"));
+        assertEquals(PREFIX_MATCH, RelevanceScorer.getMatchQuality("alice pauline", "alice"));
+        assertEquals(PREFIX_MATCH, RelevanceScorer.getMatchQuality("alice pauline", "paul"));
+        assertEquals(SUBSTRING_MATCH, RelevanceScorer.getMatchQuality("alice pauline", "lice"));
+        assertEquals(NO_MATCH, RelevanceScorer.getMatchQuality("alice pauline", "bob"));
+
+        // a later occurrence at the start of a word is preferred
+        assertEquals(PREFIX_MATCH, RelevanceScorer.getMatchQuality("anna nan", "nan"));
+    }
+
+    @Test
+    public void applyAsInt() {
+        Candidate candidate = new CandidateBuilder().withStudentId("A0123456B").withName("Alice Pauline")
+                .withEmail("E0123456@u.nus.edu").build();
+
+        // best match of each keyword is weighted by its field
+        RelevanceScorer scorer = new RelevanceScorer(ALL_FIELDS, Arrays.asList("a0123456b"));
+        assertEquals(RelevanceScorer.Field.STUDENT_ID.getWeight() * EXACT_MATCH, scorer.applyAsInt(candidate));
+        scorer = new RelevanceScorer(ALL_FIELDS, Arrays.asList("Alice"));
+        assertEquals(RelevanceScorer.Field.NAME.getWeight() * PREFIX_MATCH, scorer.applyAsInt(candidate));
+
+        // scores of all keywords are added
+        scorer = new RelevanceScorer(ALL_FIELDS, Arrays.asList("Alice", " ", "0123456"));
+        assertEquals(RelevanceScorer.Field.NAME.getWeight() * PREFIX_MATCH
+                + RelevanceScorer.Field.STUDENT_ID.getWeight() * SUBSTRING_MATCH, scorer.applyAsInt(candidate));
+
+        // only the given fields are scored
+        scorer = new RelevanceScorer(Arrays.asList(RelevanceScorer.Field.EMAIL), Arrays.asList("alice"));
+        assertEquals(0, scorer.applyAsInt(candidate));
+
+        // exact student ID match ranks above a name substring match
+        Candidate nameMatch = new CandidateBuilder().withStudentId("A0999999B").withName("Ben A0123456b").build();
+        scorer = new RelevanceScorer(ALL_FIELDS, Arrays.asList("A0123456B"));
+        assertTrue(scorer.applyAsInt(candidate) > scorer.applyAsInt(nameMatch));
+    }
+
+    @Test
+    public void equals() {
+        RelevanceScorer scorer = new RelevanceScorer(ALL_FIELDS, Arrays.asList("alice"));
+
+        assertTrue(scorer.equals(scorer));
+        assertTrue(scorer.equals(new RelevanceScorer(ALL_FIELDS, Arrays.asList("alice"))));
+
+        assertFalse(scorer.equals(null));
+        assertFalse(scorer.equals(1));
+        assertFalse(scorer.equals(new RelevanceScorer(ALL_FIELDS, Arrays.asList("bob"))));
+        assertFalse(scorer.equals(new RelevanceScorer(Arrays.asList(RelevanceScorer.Field.NAME),
+                Arrays.asList("alice"))));
+    }
+}
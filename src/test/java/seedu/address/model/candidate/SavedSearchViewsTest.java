@@ -0,0 +1,60 @@
+package seedu.address.model.candidate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.candidate.predicate.NameContainsKeywordsPredicate;
+import seedu.address.testutil.CandidateBuilder;
+
+public class SavedSearchViewsTest {
+
+    private final Candidate alice = new CandidateBuilder().withStudentId("A0000001B").withName("Alice Tan").build();
+    private final Candidate bob = new CandidateBuilder().withStudentId("A0000002B").withName("Bob Lee").build();
+    private final Candidate carl = new CandidateBuilder().withStudentId("A0000003B").withName("Carl Tan").build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SavedSearchViews(null));
+    }
+
+    @Test
+    public void add_existingCandidates_matchingCandidatesMaterialized() {
+        SavedSearchViews views = new SavedSearchViews(FXCollections.observableArrayList(alice, bob, carl));
+        views.add("tan", new NameContainsKeywordsPredicate(Arrays.asList("tan")));
+
+        assertTrue(views.contains("tan"));
+        assertFalse(views.contains("lee"));
+        assertEquals(Set.of(alice, carl), views.getCandidates("tan"));
+
+        views.remove("tan");
+        assertFalse(views.contains("tan"));
+    }
+
+    @Test
+    public void getCandidates_listModified_viewUpdated() {
+        ObservableList<Candidate> candidates = FXCollections.observableArrayList(alice, bob);
+        SavedSearchViews views = new SavedSearchViews(candidates);
+        views.add("tan", new NameContainsKeywordsPredicate(Arrays.asList("tan")));
+        Set<Candidate> members = views.getCandidates("tan");
+        assertEquals(Set.of(alice), members);
+
+        candidates.add(carl);
+        assertEquals(Set.of(alice, carl), members);
+
+        Candidate editedBob = new CandidateBuilder(bob).withName("Bob Tan").build();
+        candidates.set(1, editedBob);
+        assertEquals(Set.of(alice, editedBob, carl), members);
+
+        candidates.remove(alice);
+        assertEquals(Set.of(editedBob, carl), members);
+    }
+}
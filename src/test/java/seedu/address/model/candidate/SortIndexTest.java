@@ -0,0 +1,62 @@
+package seedu.address.model.candidate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.candidate.CandidateSortOrder.Field;
+import seedu.address.model.candidate.CandidateSortOrder.SortKey;
+import seedu.address.testutil.CandidateBuilder;
+
+public class SortIndexTest {
+
+    private final Candidate bob = new CandidateBuilder().withStudentId("A0000002B").withName("Bob")
+            .withSeniority("2").build();
+    private final Candidate alice = new CandidateBuilder().withStudentId("A0000003B").withName("alice")
+            .withSeniority("3").build();
+    private final Candidate carl = new CandidateBuilder().withStudentId("A0000001B").withName("Carl")
+            .withSeniority("2").build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SortIndex(null));
+    }
+
+    @Test
+    public void getOrderedCandidates_eachField_sameOrderAsSortOrder() {
+        SortIndex index = new SortIndex(FXCollections.observableArrayList(bob, alice, carl));
+
+        assertEquals(3, index.size());
+        assertEquals(Arrays.asList(alice, bob, carl), index.getOrderedCandidates(new SortKey(Field.NAME, true)));
+        assertEquals(Arrays.asList(carl, bob, alice), index.getOrderedCandidates(new SortKey(Field.NAME, false)));
+        assertEquals(Arrays.asList(carl, bob, alice),
+                index.getOrderedCandidates(new SortKey(Field.STUDENT_ID, true)));
+
+        // candidates with equal values are in ascending order of student ID in either direction
+        assertEquals(Arrays.asList(carl, bob, alice),
+                index.getOrderedCandidates(new SortKey(Field.SENIORITY, true)));
+        assertEquals(Arrays.asList(alice, carl, bob),
+                index.getOrderedCandidates(new SortKey(Field.SENIORITY, false)));
+    }
+
+    @Test
+    public void getOrderedCandidates_listModified_indexUpdated() {
+        ObservableList<Candidate> candidates = FXCollections.observableArrayList(bob, alice);
+        SortIndex index = new SortIndex(candidates);
+
+        candidates.add(carl);
+        Candidate editedAlice = new CandidateBuilder(alice).withName("Dave").build();
+        candidates.set(1, editedAlice);
+        assertEquals(Arrays.asList(bob, carl, editedAlice), index.getOrderedCandidates(new SortKey(Field.NAME, true)));
+
+        candidates.remove(bob);
+        assertEquals(2, index.size());
+        assertEquals(List.of(carl, editedAlice), index.getOrderedCandidates(new SortKey(Field.NAME, true)));
+    }
+}
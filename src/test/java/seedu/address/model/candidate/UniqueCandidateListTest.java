@@ -110,6 +110,36 @@ public class UniqueCandidateListTest {
         assertThrows(DuplicateCandidateException.class, () -> uniqueCandidateList.setCandidate(ALICE, BOB));
     }
 
+    @Test
+    public void setCandidatesBatch_editedCandidates_allReplacedInPlace() throws CommandException {
+        uniqueCandidateList.add(ALICE);
+        uniqueCandidateList.add(BOB);
+        Candidate editedAlice = ALICE.triggerInterviewStatusScheduled();
+        Candidate editedBob = new CandidateBuilder(BOB).withCourse(VALID_COURSE_BOB).build();
+        uniqueCandidateList.setCandidates(Arrays.asList(BOB, ALICE), Arrays.asList(editedBob, editedAlice));
+        UniqueCandidateList expectedUniqueCandidateList = new UniqueCandidateList();
+        expectedUniqueCandidateList.add(editedAlice);
+        expectedUniqueCandidateList.add(editedBob);
+        assertEquals(expectedUniqueCandidateList, uniqueCandidateList);
+    }
+
+    @Test
+    public void setCandidatesBatch_invalidTargets_noneReplaced() {
+        uniqueCandidateList.add(ALICE);
+        assertThrows(CandidateNotFoundException.class, () ->
+                uniqueCandidateList.setCandidates(Arrays.asList(ALICE, BOB), Arrays.asList(ALICE, BOB)));
+        assertThrows(IllegalArgumentException.class, () ->
+                uniqueCandidateList.setCandidates(List.of(ALICE), Arrays.asList(ALICE, BOB)));
+
+        uniqueCandidateList.add(BOB);
+        assertThrows(CommandException.class, () ->
+                uniqueCandidateList.setCandidates(List.of(ALICE), List.of(BOB)));
+        UniqueCandidateList expectedUniqueCandidateList = new UniqueCandidateList();
+        expectedUniqueCandidateList.add(ALICE);
+        expectedUniqueCandidateList.add(BOB);
+        assertEquals(expectedUniqueCandidateList, uniqueCandidateList);
+    }
+
     @Test
     public void remove_nullCandidate_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCandidateList.remove(null));
@@ -0,0 +1,111 @@
+package seedu.address.model.candidate.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.SearchIndex;
+import seedu.address.model.candidate.predicate.CourseContainsKeywordsPredicate;
+import seedu.address.model.candidate.predicate.NameContainsKeywordsPredicate;
+import seedu.address.testutil.CandidateBuilder;
+
+public class CompositeQueryTest {
+
+    private static final Candidate ALICE = new CandidateBuilder().withStudentId("A0000001B").withName("Alice")
+            .withCourse("Computer Science").withSeniority("2").build();
+    private static final Candidate BOB = new CandidateBuilder().withStudentId("A0000002B").withName("Bob")
+            .withCourse("Computer Engineering").withSeniority("2").build();
+    private static final Candidate CARL = new CandidateBuilder().withStudentId("A0000003B").withName("Carl")
+            .withCourse("Business Analytics").withSeniority("3").build();
+    private static final Candidate DAVE = new CandidateBuilder().withStudentId("A0000004B").withName("Dave")
+            .withCourse("Information Systems").withSeniority("4").build();
+
+    /** Matches about one in ten candidates. */
+    private static final Query NAME_ALICE =
+            new FieldQuery(new NameContainsKeywordsPredicate(Collections.singletonList("alice")));
+    /** Matches two of the four candidates. */
+    private static final Query COURSE_COMPUTER =
+            new FieldQuery(new CourseContainsKeywordsPredicate(Collections.singletonList("computer")));
+    /** Matches three of the four candidates. */
+    private static final Query SENIORITY_TWO_TO_THREE = new SeniorityRangeQuery(2, 3);
+
+    private final SearchIndex index = new SearchIndex(FXCollections.observableArrayList(ALICE, BOB, CARL, DAVE));
+
+    @Test
+    public void test_andQuery_matchesAllClauses() {
+        Query query = new AndQuery(Arrays.asList(COURSE_COMPUTER, SENIORITY_TWO_TO_THREE));
+        assertTrue(query.test(ALICE));
+        assertTrue(query.test(BOB));
+        assertFalse(query.test(CARL));
+        assertFalse(query.test(DAVE));
+    }
+
+    @Test
+    public void test_orQuery_matchesAnyClause() {
+        Query query = new OrQuery(Arrays.asList(NAME_ALICE, new NotQuery(SENIORITY_TWO_TO_THREE)));
+        assertTrue(query.test(ALICE));
+        assertFalse(query.test(BOB));
+        assertFalse(query.test(CARL));
+        assertTrue(query.test(DAVE));
+    }
+
+    @Test
+    public void findMatches_indexedClauses_readFromIndex() {
+        Query phoneticAlice = new PhoneticNameQuery(Collections.singletonList("Alyce"));
+        Query phoneticBob = new PhoneticNameQuery(Collections.singletonList("Bobb"));
+
+        // an and query filters the matches of its indexed clause by the other clauses
+        assertEquals(Set.of(ALICE), new AndQuery(Arrays.asList(COURSE_COMPUTER, phoneticAlice)).plan(index)
+                .findMatches().get());
+        assertEquals(Set.of(), new AndQuery(Arrays.asList(new NotQuery(COURSE_COMPUTER), phoneticBob))
+                .plan(index).findMatches().get());
+
+        // an or query only reads an index if every clause does
+        assertEquals(Set.of(ALICE, BOB), new OrQuery(Arrays.asList(phoneticAlice, phoneticBob)).plan(index)
+                .findMatches().get());
+        assertEquals(Optional.empty(), new OrQuery(Arrays.asList(phoneticAlice, COURSE_COMPUTER)).plan(index)
+                .findMatches());
+    }
+
+    @Test
+    public void estimateSelectivity_categoricalClauses_countedFromIndex() {
+        assertEquals(0.5, COURSE_COMPUTER.estimateSelectivity(index));
+        assertEquals(0.75, SENIORITY_TWO_TO_THREE.estimateSelectivity(index));
+        assertEquals(0.25, new NotQuery(SENIORITY_TWO_TO_THREE).estimateSelectivity(index));
+        assertEquals(0.375, new AndQuery(Arrays.asList(COURSE_COMPUTER, SENIORITY_TWO_TO_THREE))
+                .estimateSelectivity(index));
+    }
+
+    @Test
+    public void plan_andQuery_mostSelectiveClauseFirst() {
+        Query query = new AndQuery(Arrays.asList(SENIORITY_TWO_TO_THREE,
+                new AndQuery(Arrays.asList(COURSE_COMPUTER, NAME_ALICE))));
+        Query plannedQuery = query.plan(index);
+
+        // nested clauses are merged and ordered by increasing selectivity
+        assertEquals(new AndQuery(Arrays.asList(NAME_ALICE, COURSE_COMPUTER, SENIORITY_TWO_TO_THREE)), plannedQuery);
+        for (Candidate candidate : Arrays.asList(ALICE, BOB, CARL, DAVE)) {
+            assertEquals(query.test(candidate), plannedQuery.test(candidate));
+        }
+    }
+
+    @Test
+    public void plan_orQuery_leastSelectiveClauseFirst() {
+        Query query = new OrQuery(Arrays.asList(NAME_ALICE, COURSE_COMPUTER, SENIORITY_TWO_TO_THREE));
+        Query plannedQuery = query.plan(index);
+
+        assertEquals(new OrQuery(Arrays.asList(SENIORITY_TWO_TO_THREE, COURSE_COMPUTER, NAME_ALICE)), plannedQuery);
+        for (Candidate candidate : Arrays.asList(ALICE, BOB, CARL, DAVE)) {
+            assertEquals(query.test(candidate), plannedQuery.test(candidate));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.candidate.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.SearchIndex;
+import seedu.address.testutil.CandidateBuilder;
+
+public class FuzzyNameQueryTest {
+
+    private static final Candidate MUHAMMAD = new CandidateBuilder().withStudentId("A0000001B")
+            .withName("Muhammad Ali").build();
+    private static final Candidate ALICE = new CandidateBuilder().withStudentId("A0000002B")
+            .withName("Alice Pauline").build();
+    private static final Candidate BOB = new CandidateBuilder().withStudentId("A0000003B")
+            .withName("Bob Choo").build();
+
+    @Test
+    public void getMaxEdits_longerWords_moreEditsAllowed() {
+        assertEquals(0, FuzzyNameQuery.getMaxEdits("al"));
+        assertEquals(1, FuzzyNameQuery.getMaxEdits("alice"));
+        assertEquals(2, FuzzyNameQuery.getMaxEdits("mohamad"));
+    }
+
+    @Test
+    public void equals() {
+        FuzzyNameQuery firstQuery = new FuzzyNameQuery(Collections.singletonList("first"));
+
+        // same values -> returns true
+        assertTrue(firstQuery.equals(new FuzzyNameQuery(Collections.singletonList("first"))));
+
+        // planned query -> returns true
+        assertTrue(firstQuery.equals(firstQuery.plan(new SearchIndex(FXCollections.observableArrayList()))));
+
+        // different keywords -> returns false
+        assertFalse(firstQuery.equals(new FuzzyNameQuery(Collections.singletonList("second"))));
+
+        // null -> returns false
+        assertFalse(firstQuery.equals(null));
+    }
+
+    @Test
+    public void test_misspelledKeywords_matchesSimilarNames() {
+        ObservableList<Candidate> candidates = FXCollections.observableArrayList(MUHAMMAD, ALICE, BOB);
+        FuzzyNameQuery query = new FuzzyNameQuery(Arrays.asList("Mohamad", "alise paulin"));
+        Query plannedQuery = query.plan(new SearchIndex(candidates));
+
+        for (Query testedQuery : Arrays.asList(query, plannedQuery)) {
+            assertTrue(testedQuery.test(MUHAMMAD));
+            assertTrue(testedQuery.test(ALICE));
+            assertFalse(testedQuery.test(BOB));
+        }
+    }
+
+    @Test
+    public void test_wordNotSimilarEnough_noMatch() {
+        Query query = new FuzzyNameQuery(Arrays.asList("Mahmud", "al", "alice bobby"))
+                .plan(new SearchIndex(FXCollections.observableArrayList(MUHAMMAD, ALICE, BOB)));
+
+        // every word of a keyword must be similar to some word of the name
+        assertFalse(query.test(MUHAMMAD));
+        assertFalse(query.test(ALICE));
+        assertFalse(query.test(BOB));
+    }
+
+    @Test
+    public void test_candidateAddedAfterPlanning_matchesSimilarNames() {
+        ObservableList<Candidate> candidates = FXCollections.observableArrayList(ALICE, BOB);
+        SearchIndex index = new SearchIndex(candidates);
+        Query plannedQuery = new FuzzyNameQuery(Collections.singletonList("Mohamad")).plan(index);
+
+        candidates.add(MUHAMMAD);
+        assertTrue(plannedQuery.test(MUHAMMAD));
+    }
+
+    @Test
+    public void estimateSelectivity_countedFromIndex() {
+        SearchIndex index = new SearchIndex(FXCollections.observableArrayList(MUHAMMAD, ALICE, BOB));
+        assertEquals(1.0 / 3, new FuzzyNameQuery(Collections.singletonList("Mohamad")).estimateSelectivity(index));
+        assertEquals(0, new FuzzyNameQuery(Collections.singletonList("Zed")).estimateSelectivity(index));
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.candidate.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.candidate.Candidate;
+import seedu.address.model.candidate.SearchIndex;
+import seedu.address.testutil.CandidateBuilder;
+
+public class PhoneticNameQueryTest {
+
+    private static final Candidate MUHAMMAD = new CandidateBuilder().withStudentId("A0000001B")
+            .withName("Muhammad Ali").build();
+    private static final Candidate ALICE = new CandidateBuilder().withStudentId("A0000002B")
+            .withName("Alice Pauline").build();
+    private static final Candidate BOB = new CandidateBuilder().withStudentId("A0000003B")
+            .withName("Bob Choo").build();
+
+    @Test
+    public void equals() {
+        PhoneticNameQuery firstQuery = new PhoneticNameQuery(Collections.singletonList("first"));
+
+        // same values -> returns true
+        assertTrue(firstQuery.equals(new PhoneticNameQuery(Collections.singletonList("first"))));
+
+        // planned query -> returns true
+        assertTrue(firstQuery.equals(firstQuery.plan(new SearchIndex(FXCollections.observableArrayList()))));
+
+        // different keywords -> returns false
+        assertFalse(firstQuery.equals(new PhoneticNameQuery(Collections.singletonList("second"))));
+
+        // null -> returns false
+        assertFalse(firstQuery.equals(null));
+    }
+
+    @Test
+    public void test_keywordsSoundingAlike_matchesNames() {
+        ObservableList<Candidate> candidates = FXCollections.observableArrayList(MUHAMMAD, ALICE, BOB);
+        PhoneticNameQuery query = new PhoneticNameQuery(Arrays.asList("Mohamed", "Alyce Paulin"));
+        Query plannedQuery = query.plan(new SearchIndex(candidates));
+
+        for (Query testedQuery : Arrays.asList(query, plannedQuery)) {
+            assertTrue(testedQuery.test(MUHAMMAD));
+            assertTrue(testedQuery.test(ALICE));
+            assertFalse(testedQuery.test(BOB));
+        }
+    }
+
+    @Test
+    public void test_notEveryWordSoundsAlike_noMatch() {
+        Query query = new PhoneticNameQuery(Arrays.asList("Mohamed Tan", "Smith", "123"))
+                .plan(new SearchIndex(FXCollections.observableArrayList(MUHAMMAD, ALICE, BOB)));
+
+        assertFalse(query.test(MUHAMMAD));
+        assertFalse(query.test(ALICE));
+        assertFalse(query.test(BOB));
+    }
+
+    @Test
+    public void test_candidateAddedAfterPlanning_matchesNames() {
+        ObservableList<Candidate> candidates = FXCollections.observableArrayList(ALICE, BOB);
+        Query plannedQuery = new PhoneticNameQuery(Collections.singletonList("Mohamed"))
+                .plan(new SearchIndex(candidates));
+
+        candidates.add(MUHAMMAD);
+        assertTrue(plannedQuery.test(MUHAMMAD));
+    }
+
+    @Test
+    public void findMatches_plannedQuery_readFromIndex() {
+        ObservableList<Candidate> candidates = FXCollections.observableArrayList(MUHAMMAD, ALICE, BOB);
+        PhoneticNameQuery query = new PhoneticNameQuery(Arrays.asList("Mohamed", "Alyce Paulin", "Bob Smith"));
+
+        assertEquals(Optional.empty(), query.findMatches());
+        assertEquals(Set.of(MUHAMMAD, ALICE), query.plan(new SearchIndex(candidates)).findMatches().get());
+    }
+
+    @Test
+    public void estimateSelectivity_countedFromIndex() {
+        SearchIndex index = new SearchIndex(FXCollections.observableArrayList(MUHAMMAD, ALICE, BOB));
+        assertEquals(1.0 / 3, new PhoneticNameQuery(Collections.singletonList("Mohamed")).estimateSelectivity(index));
+        assertEquals(0, new PhoneticNameQuery(Collections.singletonList("Zed")).estimateSelectivity(index));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.interview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.candidate.Candidate;
+import seedu.address.testutil.CandidateBuilder;
+import seedu.address.testutil.InterviewBuilder;
+
+public class InterviewExpiryQueueTest {
+
+    private static final LocalDateTime TUESDAY = LocalDateTime.of(2080, Month.APRIL, 23, 0, 0);
+
+    private final Candidate alice = new CandidateBuilder().withStudentId("A0000001B").build();
+    private final Candidate bob = new CandidateBuilder().withStudentId("A0000002B").build();
+    private final Interview aliceAtEight = new InterviewBuilder().withCandidate(alice)
+            .withInterviewDateTime(TUESDAY.withHour(8)).build();
+    private final Interview bobAtNineForAnHour = new InterviewBuilder().withCandidate(bob)
+            .withInterviewDateTime(TUESDAY.withHour(9)).withDuration(60).build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InterviewExpiryQueue(null));
+    }
+
+    @Test
+    public void nextExpiry_interviewsQueued_firstEnd() {
+        assertEquals(Optional.empty(), new InterviewExpiryQueue(FXCollections.observableArrayList()).nextExpiry());
+
+        InterviewExpiryQueue queue = new InterviewExpiryQueue(
+                FXCollections.observableArrayList(bobAtNineForAnHour, aliceAtEight));
+        assertEquals(Optional.of(TUESDAY.withHour(8).withMinute(30)), queue.nextExpiry());
+    }
+
+    @Test
+    public void pollExpired_interviewsEnded_takenInOrderOfEnds() {
+        InterviewExpiryQueue queue = new InterviewExpiryQueue(
+                FXCollections.observableArrayList(bobAtNineForAnHour, aliceAtEight));
+
+        assertEquals(List.of(), queue.pollExpired(TUESDAY.withHour(8).withMinute(29)));
+
+        // an interview expires exactly when it ends
+        assertEquals(List.of(aliceAtEight), queue.pollExpired(TUESDAY.withHour(8).withMinute(30)));
+        assertEquals(Optional.of(TUESDAY.withHour(10)), queue.nextExpiry());
+
+        // taken interviews are not taken again
+        assertEquals(List.of(bobAtNineForAnHour), queue.pollExpired(TUESDAY.plusDays(1)));
+        assertEquals(List.of(), queue.pollExpired(TUESDAY.plusDays(1)));
+        assertEquals(Optional.empty(), queue.nextExpiry());
+    }
+
+    @Test
+    public void pollExpired_listModified_queueUpdated() {
+        ObservableList<Interview> interviews = FXCollections.observableArrayList(aliceAtEight);
+        InterviewExpiryQueue queue = new InterviewExpiryQueue(interviews);
+
+        interviews.add(bobAtNineForAnHour);
+        Interview aliceAtEleven = new InterviewBuilder(aliceAtEight)
+                .withInterviewDateTime(TUESDAY.withHour(11)).build();
+        interviews.set(0, aliceAtEleven);
+        assertEquals(Optional.of(TUESDAY.withHour(10)), queue.nextExpiry());
+
+        // interviews replaced by themselves are queued once
+        interviews.setAll(Arrays.asList(bobAtNineForAnHour, aliceAtEleven));
+        interviews.setAll(Arrays.asList(bobAtNineForAnHour, aliceAtEleven));
+        assertEquals(Arrays.asList(bobAtNineForAnHour, aliceAtEleven), queue.pollExpired(TUESDAY.plusDays(1)));
+
+        interviews.setAll(Arrays.asList(bobAtNineForAnHour, aliceAtEleven));
+        interviews.remove(bobAtNineForAnHour);
+        assertEquals(Optional.of(TUESDAY.withHour(11).withMinute(30)), queue.nextExpiry());
+
+        interviews.clear();
+        assertEquals(List.of(), queue.pollExpired(TUESDAY.plusDays(1)));
+    }
+}
@@ -0,0 +1,180 @@
+package seedu.address.model.interview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.candidate.Availability;
+import seedu.address.model.candidate.Candidate;
+import seedu.address.testutil.CandidateBuilder;
+import seedu.address.testutil.InterviewBuilder;
+
+public class InterviewSlotCalendarTest {
+
+    private static final LocalDateTime FRIDAY_NOON = LocalDateTime.of(2080, Month.APRIL, 19, 12, 0);
+    private static final LocalDateTime TUESDAY = LocalDateTime.of(2080, Month.APRIL, 23, 0, 0);
+    private static final Availability TUESDAY_ONLY = new Availability("2");
+    private static final List<Track> DEFAULT_TRACK = List.of(Track.DEFAULT);
+    private static final Track ROOM_ONE = new Track("Room 1");
+    private static final Track ROOM_TWO = new Track("Room 2");
+
+    private final Candidate alice = new CandidateBuilder().withStudentId("A0000001B").build();
+    private final Candidate bob = new CandidateBuilder().withStudentId("A0000002B").build();
+    private final Interview aliceAtEight = new InterviewBuilder().withCandidate(alice)
+            .withInterviewDateTime(TUESDAY.withHour(8)).build();
+    private final Interview bobAtEightForty = new InterviewBuilder().withCandidate(bob)
+            .withInterviewDateTime(TUESDAY.withHour(8).withMinute(40)).build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InterviewSlotCalendar(null));
+    }
+
+    @Test
+    public void findFreeSlots_invalidArguments_throwsIllegalArgumentException() {
+        InterviewSlotCalendar calendar = new InterviewSlotCalendar(FXCollections.observableArrayList());
+        assertThrows(IllegalArgumentException.class, () ->
+                calendar.findFreeSlots(TUESDAY_ONLY, DEFAULT_TRACK, FRIDAY_NOON, 0));
+        assertThrows(IllegalArgumentException.class, () ->
+                calendar.findFreeSlots(TUESDAY_ONLY, List.of(), FRIDAY_NOON, 1));
+    }
+
+    @Test
+    public void findFreeSlots_takenSlots_skipped() {
+        InterviewSlotCalendar calendar = new InterviewSlotCalendar(
+                FXCollections.observableArrayList(aliceAtEight, bobAtEightForty));
+
+        // an interview not starting on a slot takes both slots it overlaps
+        assertEquals(onDefaultTrack(TUESDAY.withHour(9).withMinute(30), TUESDAY.withHour(10)),
+                calendar.findFreeSlots(TUESDAY_ONLY, DEFAULT_TRACK, FRIDAY_NOON, 2));
+    }
+
+    @Test
+    public void findFreeSlots_earliestStartDuringDay_laterSlotsAndAvailableDaysOnly() {
+        InterviewSlotCalendar calendar = new InterviewSlotCalendar(FXCollections.observableArrayList());
+
+        assertEquals(onDefaultTrack(TUESDAY.withHour(17).withMinute(30), TUESDAY.plusWeeks(1).withHour(8)),
+                calendar.findFreeSlots(TUESDAY_ONLY, DEFAULT_TRACK, TUESDAY.withHour(17).withMinute(10), 2));
+
+        // weekends are skipped
+        LocalDateTime saturday = TUESDAY.minusDays(3).withHour(9);
+        assertEquals(onDefaultTrack(TUESDAY.minusDays(1).withHour(8)),
+                calendar.findFreeSlots(new Availability("1,2,3,4,5"), DEFAULT_TRACK, saturday, 1));
+    }
+
+    @Test
+    public void findFreeSlots_severalTracks_slotsFreeOnAnyTrack() {
+        Interview aliceInRoomOne = new InterviewBuilder(aliceAtEight).withTrack("Room 1").build();
+        Interview bobInRoomTwo = new InterviewBuilder(bobAtEightForty).withTrack("Room 2").build();
+        InterviewSlotCalendar calendar = new InterviewSlotCalendar(
+                FXCollections.observableArrayList(aliceInRoomOne, bobInRoomTwo));
+
+        // 8:00 is free in Room 2 only, and 8:30 and 9:00 in Room 1 only
+        assertEquals(Arrays.asList(new InterviewSlot(TUESDAY.withHour(8), ROOM_TWO),
+                new InterviewSlot(TUESDAY.withHour(8).withMinute(30), ROOM_ONE),
+                new InterviewSlot(TUESDAY.withHour(9), ROOM_ONE)),
+                calendar.findFreeSlots(TUESDAY_ONLY, List.of(ROOM_ONE, ROOM_TWO), TUESDAY, 3));
+
+        // interviews on other tracks take no slots
+        assertEquals(onDefaultTrack(TUESDAY.withHour(8)), calendar.findFreeSlots(TUESDAY_ONLY, DEFAULT_TRACK,
+                TUESDAY, 1));
+    }
+
+    @Test
+    public void findFreeSlots_longInterview_consecutiveFreeSlotsWithinOfficeHours() {
+        Interview bobAtNineThirty = new InterviewBuilder(bobAtEightForty)
+                .withInterviewDateTime(TUESDAY.withHour(9).withMinute(30)).build();
+        InterviewSlotCalendar calendar = new InterviewSlotCalendar(
+                FXCollections.observableArrayList(aliceAtEight, bobAtNineThirty));
+        assertThrows(IllegalArgumentException.class, () ->
+                calendar.findFreeSlots(TUESDAY_ONLY, DEFAULT_TRACK, TUESDAY, 1, 0));
+
+        // 9:00 is free, but the interview would run into the one at 9:30
+        assertEquals(onDefaultTrack(TUESDAY.withHour(8).withMinute(30), TUESDAY.withHour(10)),
+                calendar.findFreeSlots(TUESDAY_ONLY, DEFAULT_TRACK, TUESDAY, 2, 60));
+
+        // an interview ending exactly at 6pm fits, one ending after it does not
+        assertEquals(onDefaultTrack(TUESDAY.withHour(16).withMinute(30)),
+                calendar.findFreeSlots(TUESDAY_ONLY, DEFAULT_TRACK, TUESDAY.withHour(16).withMinute(30), 1, 90));
+        assertEquals(onDefaultTrack(TUESDAY.plusWeeks(1).withHour(8)),
+                calendar.findFreeSlots(TUESDAY_ONLY, DEFAULT_TRACK, TUESDAY.withHour(17), 1, 90));
+    }
+
+    @Test
+    public void assignSlots_longInterviews_noOverlapOnTrack() {
+        InterviewSlotCalendar calendar = new InterviewSlotCalendar(FXCollections.observableArrayList());
+        List<Availability> availabilities = Arrays.asList(TUESDAY_ONLY, TUESDAY_ONLY, TUESDAY_ONLY);
+
+        assertEquals(Arrays.asList(Optional.of(new InterviewSlot(TUESDAY.withHour(8), Track.DEFAULT)),
+                Optional.of(new InterviewSlot(TUESDAY.withHour(9), Track.DEFAULT)), Optional.empty()),
+                calendar.assignSlots(availabilities, DEFAULT_TRACK, TUESDAY.withHour(8), TUESDAY.withHour(9), 45));
+
+        // interviews may start until the end of the range, but must still end by 6pm
+        assertEquals(Arrays.asList(Optional.of(new InterviewSlot(TUESDAY.withHour(17), Track.DEFAULT)),
+                Optional.empty(), Optional.empty()),
+                calendar.assignSlots(availabilities, DEFAULT_TRACK, TUESDAY.withHour(17), TUESDAY.withHour(17)
+                        .withMinute(30), 60));
+    }
+
+    @Test
+    public void assignSlots_moreCandidatesThanSlots_leastAvailableAssignedFirst() {
+        InterviewSlotCalendar calendar = new InterviewSlotCalendar(FXCollections.observableArrayList(aliceAtEight));
+        LocalDateTime mondayFivePm = TUESDAY.minusDays(1).withHour(17);
+        List<Availability> availabilities = Arrays.asList(new Availability("1,2"), TUESDAY_ONLY, TUESDAY_ONLY);
+
+        // only Monday 17:00, Monday 17:30 and Tuesday 8:30 are free in the range
+        assertEquals(Arrays.asList(Optional.of(new InterviewSlot(mondayFivePm, Track.DEFAULT)),
+                Optional.of(new InterviewSlot(TUESDAY.withHour(8).withMinute(30), Track.DEFAULT)), Optional.empty()),
+                calendar.assignSlots(availabilities, DEFAULT_TRACK, mondayFivePm, TUESDAY.withHour(8).withMinute(30)));
+
+        // the calendar is not changed
+        assertEquals(onDefaultTrack(mondayFivePm),
+                calendar.findFreeSlots(new Availability("1"), DEFAULT_TRACK, mondayFivePm, 1));
+    }
+
+    @Test
+    public void assignSlots_severalTracks_sameSlotOnEachTrack() {
+        InterviewSlotCalendar calendar = new InterviewSlotCalendar(FXCollections.observableArrayList());
+        LocalDateTime tuesdayEight = TUESDAY.withHour(8);
+        List<Availability> availabilities = Arrays.asList(TUESDAY_ONLY, TUESDAY_ONLY, TUESDAY_ONLY);
+
+        assertEquals(Arrays.asList(Optional.of(new InterviewSlot(tuesdayEight, ROOM_ONE)),
+                Optional.of(new InterviewSlot(tuesdayEight, ROOM_TWO)), Optional.empty()),
+                calendar.assignSlots(availabilities, List.of(ROOM_ONE, ROOM_TWO), tuesdayEight, tuesdayEight));
+    }
+
+    @Test
+    public void findFreeSlots_listModified_calendarUpdated() {
+        ObservableList<Interview> interviews = FXCollections.observableArrayList(aliceAtEight);
+        InterviewSlotCalendar calendar = new InterviewSlotCalendar(interviews);
+        assertEquals(onDefaultTrack(TUESDAY.withHour(8).withMinute(30)),
+                calendar.findFreeSlots(TUESDAY_ONLY, DEFAULT_TRACK, TUESDAY, 1));
+
+        interviews.add(bobAtEightForty);
+        assertEquals(onDefaultTrack(TUESDAY.withHour(9).withMinute(30)),
+                calendar.findFreeSlots(TUESDAY_ONLY, DEFAULT_TRACK, TUESDAY, 1));
+
+        interviews.set(0, new InterviewBuilder(aliceAtEight).withInterviewDateTime(TUESDAY.withHour(10)).build());
+        assertEquals(onDefaultTrack(TUESDAY.withHour(8)), calendar.findFreeSlots(TUESDAY_ONLY, DEFAULT_TRACK,
+                TUESDAY, 1));
+
+        interviews.clear();
+        assertEquals(onDefaultTrack(TUESDAY.withHour(8), TUESDAY.withHour(8).withMinute(30)),
+                calendar.findFreeSlots(TUESDAY_ONLY, DEFAULT_TRACK, TUESDAY, 2));
+    }
+
+    private static List<InterviewSlot> onDefaultTrack(LocalDateTime... starts) {
+        return Arrays.stream(starts).map(start -> new InterviewSlot(start, Track.DEFAULT))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.interview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCandidates.ALICE;
+import static seedu.address.testutil.TypicalCandidates.BENSON;
+import static seedu.address.testutil.TypicalInterviews.TUESDAY_INTERVIEW_DATE_TIME;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.InterviewBuilder;
+
+public class InterviewTest {
+
+    private final Interview aliceInterview = new Interview(ALICE, TUESDAY_INTERVIEW_DATE_TIME);
+
+    @Test
+    public void constructor_invalidDuration_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new Interview(ALICE, TUESDAY_INTERVIEW_DATE_TIME, Track.DEFAULT, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Interview(ALICE, TUESDAY_INTERVIEW_DATE_TIME,
+                Track.DEFAULT, Interview.MAX_DURATION_IN_MINUTES + 1));
+    }
+
+    @Test
+    public void getInterviewEndDateTime_withDuration_endsAfterDuration() {
+        assertEquals(TUESDAY_INTERVIEW_DATE_TIME.plusMinutes(Interview.DEFAULT_DURATION_IN_MINUTES),
+                aliceInterview.getInterviewEndDateTime());
+        assertEquals(TUESDAY_INTERVIEW_DATE_TIME.plusMinutes(90),
+                new Interview(ALICE, TUESDAY_INTERVIEW_DATE_TIME, Track.DEFAULT, 90).getInterviewEndDateTime());
+    }
+
+    @Test
+    public void isConflictingInterview() {
+        Interview longBensonInterview = new InterviewBuilder().withCandidate(BENSON)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME.minusMinutes(60)).withDuration(90).build();
+
+        // null -> returns false
+        assertFalse(aliceInterview.isConflictingInterview(null));
+
+        // interview ending after the other starts -> returns true
+        assertTrue(aliceInterview.isConflictingInterview(longBensonInterview));
+        assertTrue(longBensonInterview.isConflictingInterview(aliceInterview));
+
+        // interview within the other -> returns true
+        Interview shortBensonInterview = new InterviewBuilder(longBensonInterview)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME.plusMinutes(10)).withDuration(10).build();
+        assertTrue(aliceInterview.isConflictingInterview(shortBensonInterview));
+        assertTrue(shortBensonInterview.isConflictingInterview(aliceInterview));
+
+        // interview ending as the other starts -> returns false
+        Interview earlierBensonInterview = new InterviewBuilder(longBensonInterview).withDuration(60).build();
+        assertFalse(aliceInterview.isConflictingInterview(earlierBensonInterview));
+        assertFalse(earlierBensonInterview.isConflictingInterview(aliceInterview));
+
+        // overlapping interview on another track -> returns false
+        assertFalse(aliceInterview.isConflictingInterview(new InterviewBuilder(longBensonInterview)
+                .withTrack("Room 2").build()));
+    }
+
+    @Test
+    public void isDuringOfficeHour() {
+        // starts and ends within office hours -> returns true
+        assertTrue(aliceInterview.isDuringOfficeHour());
+
+        // long interview starting at the latest start -> returns false
+        assertFalse(new Interview(ALICE, TUESDAY_INTERVIEW_DATE_TIME.withHour(17).withMinute(30), Track.DEFAULT,
+                Interview.MAX_DURATION_IN_MINUTES).isDuringOfficeHour());
+        assertFalse(new Interview(ALICE, TUESDAY_INTERVIEW_DATE_TIME.withHour(17), Track.DEFAULT, 90)
+                .isDuringOfficeHour());
+
+        // ends exactly at the end of office hours -> returns true
+        assertTrue(new Interview(ALICE, TUESDAY_INTERVIEW_DATE_TIME.withHour(16).withMinute(30), Track.DEFAULT, 90)
+                .isDuringOfficeHour());
+        assertTrue(new Interview(ALICE, TUESDAY_INTERVIEW_DATE_TIME.withHour(17).withMinute(30))
+                .isDuringOfficeHour());
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertTrue(aliceInterview.equals(new Interview(ALICE, TUESDAY_INTERVIEW_DATE_TIME)));
+
+        // different types -> returns false
+        assertFalse(aliceInterview.equals(1));
+
+        // different duration -> returns false
+        assertFalse(aliceInterview.equals(new InterviewBuilder(aliceInterview).withDuration(60).build()));
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.interview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.candidate.Candidate;
+import seedu.address.testutil.CandidateBuilder;
+import seedu.address.testutil.InterviewBuilder;
+
+public class InterviewTimeIndexTest {
+
+    private static final LocalDateTime TUESDAY = LocalDateTime.of(2080, Month.APRIL, 23, 0, 0);
+
+    private final Candidate alice = new CandidateBuilder().withStudentId("A0000001B").build();
+    private final Candidate bob = new CandidateBuilder().withStudentId("A0000002B").build();
+    private final Candidate carl = new CandidateBuilder().withStudentId("A0000003B").build();
+    private final Interview aliceAtEight = new InterviewBuilder().withCandidate(alice)
+            .withInterviewDateTime(TUESDAY.withHour(8)).build();
+    private final Interview bobAtNine = new InterviewBuilder().withCandidate(bob)
+            .withInterviewDateTime(TUESDAY.withHour(9)).build();
+    private final Interview carlAtEightInRoomOne = new InterviewBuilder().withCandidate(carl)
+            .withInterviewDateTime(TUESDAY.withHour(8)).withTrack("Room 1").build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InterviewTimeIndex(null));
+    }
+
+    @Test
+    public void interviewsBetween_null_throwsNullPointerException() {
+        InterviewTimeIndex index = new InterviewTimeIndex(FXCollections.observableArrayList());
+        assertThrows(NullPointerException.class, () -> index.interviewsBetween(null, TUESDAY));
+        assertThrows(NullPointerException.class, () -> index.interviewsBetween(TUESDAY, null));
+    }
+
+    @Test
+    public void interviewsBetween_range_startsFromInclusiveToExclusive() {
+        InterviewTimeIndex index = new InterviewTimeIndex(FXCollections.observableArrayList(bobAtNine, aliceAtEight));
+
+        assertEquals(Arrays.asList(aliceAtEight, bobAtNine),
+                index.interviewsBetween(TUESDAY, TUESDAY.plusDays(1)));
+        assertEquals(List.of(aliceAtEight), index.interviewsBetween(TUESDAY.withHour(8), TUESDAY.withHour(9)));
+
+        // range ending before or when it starts
+        assertEquals(List.of(), index.interviewsBetween(TUESDAY.withHour(9), TUESDAY.withHour(9)));
+        assertEquals(List.of(), index.interviewsBetween(TUESDAY.withHour(10), TUESDAY.withHour(8)));
+    }
+
+    @Test
+    public void interviewsBetween_sameStartOnDifferentTracks_allFound() {
+        InterviewTimeIndex index = new InterviewTimeIndex(
+                FXCollections.observableArrayList(aliceAtEight, carlAtEightInRoomOne));
+
+        assertEquals(Arrays.asList(aliceAtEight, carlAtEightInRoomOne),
+                index.interviewsBetween(TUESDAY.withHour(8), TUESDAY.withHour(8).plusMinutes(1)));
+    }
+
+    @Test
+    public void interviewsBetween_listModified_indexUpdated() {
+        ObservableList<Interview> interviews = FXCollections.observableArrayList(aliceAtEight);
+        InterviewTimeIndex index = new InterviewTimeIndex(interviews);
+
+        interviews.addAll(bobAtNine, carlAtEightInRoomOne);
+        assertEquals(Arrays.asList(aliceAtEight, carlAtEightInRoomOne, bobAtNine),
+                index.interviewsBetween(TUESDAY, TUESDAY.plusDays(1)));
+
+        Interview aliceAtTen = new InterviewBuilder(aliceAtEight).withInterviewDateTime(TUESDAY.withHour(10)).build();
+        interviews.set(0, aliceAtTen);
+        assertEquals(Arrays.asList(carlAtEightInRoomOne, bobAtNine, aliceAtTen),
+                index.interviewsBetween(TUESDAY, TUESDAY.plusDays(1)));
+
+        interviews.sort((first, second) -> second.getInterviewDateTime().compareTo(first.getInterviewDateTime()));
+        interviews.remove(carlAtEightInRoomOne);
+        assertEquals(Arrays.asList(bobAtNine, aliceAtTen), index.interviewsBetween(TUESDAY, TUESDAY.plusDays(1)));
+
+        interviews.clear();
+        assertEquals(List.of(), index.interviewsBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+}
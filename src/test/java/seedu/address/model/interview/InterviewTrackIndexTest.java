@@ -0,0 +1,92 @@
+package seedu.address.model.interview;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.candidate.Candidate;
+import seedu.address.testutil.CandidateBuilder;
+import seedu.address.testutil.InterviewBuilder;
+
+public class InterviewTrackIndexTest {
+
+    private static final LocalDateTime TUESDAY_TEN = LocalDateTime.of(2080, Month.APRIL, 23, 10, 0);
+
+    private final Candidate alice = new CandidateBuilder().withStudentId("A0000001B").build();
+    private final Candidate bob = new CandidateBuilder().withStudentId("A0000002B").build();
+    private final Interview aliceInRoomOne = new InterviewBuilder().withCandidate(alice)
+            .withInterviewDateTime(TUESDAY_TEN).withTrack("Room 1").build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InterviewTrackIndex(null));
+    }
+
+    @Test
+    public void hasConflict_null_throwsNullPointerException() {
+        InterviewTrackIndex index = new InterviewTrackIndex(FXCollections.observableArrayList());
+        assertThrows(NullPointerException.class, () -> index.hasConflict(null));
+    }
+
+    @Test
+    public void hasConflict_overlappingInterviews() {
+        InterviewTrackIndex index = new InterviewTrackIndex(FXCollections.observableArrayList(aliceInRoomOne));
+
+        // overlapping interview on the same track -> returns true
+        assertTrue(index.hasConflict(new InterviewBuilder(aliceInRoomOne).withCandidate(bob)
+                .withInterviewDateTime(TUESDAY_TEN.plusMinutes(20)).build()));
+        assertTrue(index.hasConflict(new InterviewBuilder(aliceInRoomOne).withCandidate(bob)
+                .withInterviewDateTime(TUESDAY_TEN.minusMinutes(20)).build()));
+
+        // overlapping interview on another track -> returns false
+        assertFalse(index.hasConflict(new InterviewBuilder(aliceInRoomOne).withCandidate(bob)
+                .withTrack("Room 2").build()));
+
+        // back-to-back interview on the same track -> returns false
+        assertFalse(index.hasConflict(new InterviewBuilder(aliceInRoomOne).withCandidate(bob)
+                .withInterviewDateTime(aliceInRoomOne.getInterviewEndDateTime()).build()));
+
+        // ignored interview -> returns false
+        assertFalse(index.hasConflict(aliceInRoomOne, aliceInRoomOne));
+    }
+
+    @Test
+    public void hasConflict_ignoredInterviews_onlyOthersConflict() {
+        Interview bobLaterInRoomOne = new InterviewBuilder(aliceInRoomOne).withCandidate(bob)
+                .withInterviewDateTime(TUESDAY_TEN.plusMinutes(30)).build();
+        InterviewTrackIndex index = new InterviewTrackIndex(FXCollections.observableArrayList(aliceInRoomOne,
+                bobLaterInRoomOne));
+        Interview longInterview = new InterviewBuilder(aliceInRoomOne)
+                .withCandidate(new CandidateBuilder().withStudentId("A0000003B").build()).withDuration(60).build();
+
+        assertTrue(index.hasConflict(longInterview, Set.of(aliceInRoomOne)));
+        assertTrue(index.hasConflict(longInterview, Set.of(bobLaterInRoomOne)));
+        assertFalse(index.hasConflict(longInterview, Set.of(aliceInRoomOne, bobLaterInRoomOne)));
+    }
+
+    @Test
+    public void hasConflict_listModified_indexUpdated() {
+        ObservableList<Interview> interviews = FXCollections.observableArrayList();
+        InterviewTrackIndex index = new InterviewTrackIndex(interviews);
+        Interview bobInRoomOne = new InterviewBuilder(aliceInRoomOne).withCandidate(bob).build();
+        assertFalse(index.hasConflict(bobInRoomOne));
+
+        interviews.add(aliceInRoomOne);
+        assertTrue(index.hasConflict(bobInRoomOne));
+
+        interviews.set(0, new InterviewBuilder(aliceInRoomOne).withTrack("Room 2").build());
+        assertFalse(index.hasConflict(bobInRoomOne));
+
+        interviews.set(0, aliceInRoomOne);
+        interviews.clear();
+        assertFalse(index.hasConflict(bobInRoomOne));
+    }
+}
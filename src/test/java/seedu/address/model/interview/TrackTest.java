@@ -0,0 +1,64 @@
+package seedu.address.model.interview;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class TrackTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Track(null));
+    }
+
+    @Test
+    public void constructor_invalidTrack_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Track(""));
+    }
+
+    @Test
+    public void isValidTrack() {
+        // null track
+        assertThrows(NullPointerException.class, () -> Track.isValidTrack(null));
+
+        // invalid track
+        assertFalse(Track.isValidTrack("")); // empty string
+        assertFalse(Track.isValidTrack(" ")); // spaces only
+        assertFalse(Track.isValidTrack(" Room 1")); // leading space
+        assertFalse(Track.isValidTrack("Room #1")); // non-alphanumeric characters
+
+        // valid track
+        assertTrue(Track.isValidTrack("COM1")); // alphanumeric characters
+        assertTrue(Track.isValidTrack("Room 1")); // with spaces
+        assertTrue(Track.isValidTrack("Professor Tan Ah Kow")); // long track
+    }
+
+    @Test
+    public void isDefault() {
+        assertTrue(Track.DEFAULT.isDefault());
+        assertFalse(new Track("Room 1").isDefault());
+    }
+
+    @Test
+    public void equals() {
+        Track track = new Track("Room 1");
+
+        // same object -> returns true
+        assertTrue(track.equals(track));
+
+        // same values -> returns true
+        assertTrue(track.equals(new Track("Room 1")));
+
+        // different types -> returns false
+        assertFalse(track.equals(1));
+
+        // null -> returns false
+        assertFalse(track.equals(null));
+
+        // different track -> returns false
+        assertFalse(track.equals(new Track("Room 2")));
+        assertFalse(track.equals(Track.DEFAULT));
+    }
+}
@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalInterviews.INTERVIEW_AMY_TYPICAL;
 import static seedu.address.testutil.TypicalInterviews.INTERVIEW_BENSON;
 import static seedu.address.testutil.TypicalInterviews.INTERVIEW_BOB_TYPICAL;
 import static seedu.address.testutil.TypicalInterviews.INTERVIEW_CARL;
+import static seedu.address.testutil.TypicalInterviews.TUESDAY_INTERVIEW_DATE_TIME;
 import static seedu.address.testutil.TypicalInterviews.VALID_AMY_INTERVIEW_DATE_TIME;
 
 import java.util.Arrays;
@@ -76,6 +77,13 @@ public class UniqueInterviewListTest {
         assertTrue(uniqueInterviewList.containsConflictingInterview(INTERVIEW_BOB_TYPICAL));
     }
 
+    @Test
+    public void containsConflictingInterview_interviewWithSameDateTimeOnOtherTrack_returnsFalse() {
+        uniqueInterviewList.add(INTERVIEW_AMY_TYPICAL);
+        Interview bobInRoomTwo = new InterviewBuilder(INTERVIEW_BOB_TYPICAL).withTrack("Room 2").build();
+        assertFalse(uniqueInterviewList.containsConflictingInterview(bobInRoomTwo));
+    }
+
     @Test
     public void add_nullInterview_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueInterviewList.add(null));
@@ -93,6 +101,24 @@ public class UniqueInterviewListTest {
         assertThrows(ConflictingInterviewException.class, () -> uniqueInterviewList.add(INTERVIEW_CARL));
     }
 
+    @Test
+    public void addAll_validInterviews_allAdded() {
+        uniqueInterviewList.add(INTERVIEW_ALICE);
+        uniqueInterviewList.addAll(Arrays.asList(INTERVIEW_BENSON, INTERVIEW_AMY_TYPICAL));
+        assertEquals(Arrays.asList(INTERVIEW_ALICE, INTERVIEW_BENSON, INTERVIEW_AMY_TYPICAL),
+                uniqueInterviewList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_invalidInterviews_noneAdded() {
+        uniqueInterviewList.add(INTERVIEW_ALICE);
+        assertThrows(ConflictingInterviewException.class, () -> uniqueInterviewList.addAll(
+                Arrays.asList(INTERVIEW_BENSON, INTERVIEW_CARL)));
+        assertThrows(DuplicateCandidateException.class, () -> uniqueInterviewList.addAll(
+                Arrays.asList(INTERVIEW_BENSON, INTERVIEW_BENSON)));
+        assertEquals(List.of(INTERVIEW_ALICE), uniqueInterviewList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setInterview_nullTargetInterview_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueInterviewList.setInterview(null, INTERVIEW_ALICE));
@@ -153,6 +179,88 @@ public class UniqueInterviewListTest {
                 uniqueInterviewList.setInterviews(listWithDuplicateCandidates));
     }
 
+    @Test
+    public void setInterviews_listWithConflictingInterviewsApart_throwsConflictingInterviewException() {
+        // the long interview conflicts with an interview which is neither next to it in the list nor first to start
+        Interview longInterview = new InterviewBuilder(INTERVIEW_ALICE)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME).withDuration(120).build();
+        Interview laterInterview = new InterviewBuilder(INTERVIEW_BENSON)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME.plusHours(3)).build();
+        Interview overlappedInterview = new InterviewBuilder(INTERVIEW_CARL)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME.plusHours(1)).build();
+        List<Interview> listWithConflictingInterviews = Arrays.asList(longInterview, laterInterview,
+                overlappedInterview);
+        assertThrows(ConflictingInterviewException.class, () ->
+                uniqueInterviewList.setInterviews(listWithConflictingInterviews));
+    }
+
+    @Test
+    public void setInterviews_listWithBackToBackAndOtherTrackInterviews_replacesOwnList() {
+        Interview firstInterview = new InterviewBuilder(INTERVIEW_ALICE)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME).build();
+        Interview nextInterview = new InterviewBuilder(INTERVIEW_BENSON)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME.plusMinutes(30)).build();
+        Interview otherTrackInterview = new InterviewBuilder(INTERVIEW_CARL)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME).withTrack("Room 1").build();
+        List<Interview> interviews = Arrays.asList(nextInterview, otherTrackInterview, firstInterview);
+        uniqueInterviewList.setInterviews(interviews);
+        assertEquals(interviews, uniqueInterviewList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setInterviewsOfTargets_interviewsMovedPastEachOther_replacesAll() throws CommandException {
+        Interview firstInterview = new InterviewBuilder(INTERVIEW_ALICE)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME).build();
+        Interview nextInterview = new InterviewBuilder(INTERVIEW_BENSON)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME.plusMinutes(30)).build();
+        Interview otherInterview = new InterviewBuilder(INTERVIEW_CARL)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME.plusHours(2)).build();
+        uniqueInterviewList.setInterviews(Arrays.asList(firstInterview, nextInterview, otherInterview));
+
+        // the interviews swap slots, which only conflicts with the interviews being moved
+        Interview movedFirstInterview = new InterviewBuilder(firstInterview)
+                .withInterviewDateTime(nextInterview.getInterviewDateTime()).build();
+        Interview movedNextInterview = new InterviewBuilder(nextInterview)
+                .withInterviewDateTime(firstInterview.getInterviewDateTime()).build();
+        uniqueInterviewList.setInterviews(Arrays.asList(firstInterview, nextInterview),
+                Arrays.asList(movedFirstInterview, movedNextInterview));
+
+        assertEquals(Arrays.asList(movedFirstInterview, movedNextInterview, otherInterview),
+                uniqueInterviewList.asUnmodifiableObservableList());
+        assertTrue(uniqueInterviewList.containsConflictingInterview(new InterviewBuilder(INTERVIEW_AMY_TYPICAL)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME).build()));
+    }
+
+    @Test
+    public void setInterviewsOfTargets_conflictingInterview_nothingReplaced() {
+        Interview firstInterview = new InterviewBuilder(INTERVIEW_ALICE)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME).build();
+        Interview otherInterview = new InterviewBuilder(INTERVIEW_BENSON)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME.plusHours(1)).build();
+        List<Interview> interviews = Arrays.asList(firstInterview, otherInterview);
+        uniqueInterviewList.setInterviews(interviews);
+
+        // conflicts with an interview not moved
+        assertThrows(CommandException.class, () -> uniqueInterviewList.setInterviews(List.of(firstInterview),
+                List.of(new InterviewBuilder(firstInterview)
+                        .withInterviewDateTime(otherInterview.getInterviewDateTime()).build())));
+
+        // the moved interviews conflict with each other
+        assertThrows(CommandException.class, () -> uniqueInterviewList.setInterviews(interviews, Arrays.asList(
+                new InterviewBuilder(firstInterview).withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME.plusHours(2))
+                        .build(),
+                new InterviewBuilder(otherInterview).withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME.plusHours(2))
+                        .build())));
+
+        assertEquals(interviews, uniqueInterviewList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setInterviewsOfTargets_targetNotInList_throwsInterviewNotFoundException() {
+        assertThrows(InterviewNotFoundException.class, () -> uniqueInterviewList.setInterviews(
+                List.of(INTERVIEW_ALICE), List.of(INTERVIEW_ALICE)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -1,5 +1,6 @@
 package seedu.address.model.interview.predicate;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalCandidates.ALICE;
@@ -67,4 +68,13 @@ public class TodayWithinTimePeriodPredicateTest {
         TodayWithinTimePeriodPredicate predicate = new TodayWithinTimePeriodPredicate(firstPredicateDateTime);
         assertFalse(predicate.test(new Interview(ALICE, secondPredicateDateTime)));
     }
+
+    @Test
+    public void getRange_duringDay_wholeDay() {
+        TodayWithinTimePeriodPredicate predicate =
+                new TodayWithinTimePeriodPredicate(LocalDateTime.of(2022, 3, 26, 14, 40));
+
+        assertEquals(LocalDateTime.of(2022, 3, 26, 0, 0), predicate.getRangeStart());
+        assertEquals(LocalDateTime.of(2022, 3, 27, 0, 0), predicate.getRangeEnd());
+    }
 }
@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCandidates.ALICE;
+import static seedu.address.testutil.TypicalCandidates.BENSON;
+import static seedu.address.testutil.TypicalCandidates.CARL;
+import static seedu.address.testutil.TypicalInterviews.TUESDAY_INTERVIEW_DATE_TIME;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.interview.Interview;
+import seedu.address.testutil.CandidateBuilder;
+import seedu.address.testutil.InterviewBuilder;
+
+public class IcsInterviewScheduleExporterTest {
+
+    private static final Clock FIRST_EXPORT = Clock.fixed(Instant.parse("2080-04-01T09:00:00Z"), ZoneOffset.UTC);
+    private static final Clock SECOND_EXPORT = Clock.fixed(Instant.parse("2080-04-02T09:00:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    public Path testFolder;
+
+    private final Interview aliceInterview = new InterviewBuilder().withCandidate(ALICE)
+            .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME).build();
+    private final Interview bensonInterview = new InterviewBuilder().withCandidate(BENSON)
+            .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME.plusHours(1)).withTrack("Room 1").build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new IcsInterviewScheduleExporter(null));
+    }
+
+    @Test
+    public void export_interviews_oneEventPerInterview() throws Exception {
+        Path filePath = testFolder.resolve("calendar").resolve("interviews.ics");
+        new IcsInterviewScheduleExporter(filePath, FIRST_EXPORT).export(Arrays.asList(aliceInterview,
+                bensonInterview));
+
+        String calendar = Files.readString(filePath, UTF_8);
+        assertTrue(calendar.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        assertTrue(calendar.endsWith("END:VEVENT\r\nEND:VCALENDAR\r\n"));
+        assertEquals(2, calendar.split("BEGIN:VEVENT", -1).length - 1);
+
+        List<String> lines = readLines(filePath);
+        assertTrue(lines.contains("UID:" + ALICE.getStudentId() + "@talentassistant"));
+        assertTrue(lines.contains("DTSTART:20800423T100000"));
+        assertTrue(lines.contains("DTEND:20800423T103000"));
+        assertTrue(lines.contains("SUMMARY:Interview with " + ALICE.getName() + " (" + ALICE.getStudentId() + ")"));
+        assertTrue(lines.contains("LOCATION:Room 1"));
+        assertTrue(lines.contains("DTSTAMP:20800401T090000Z"));
+        assertTrue(lines.contains("SEQUENCE:0"));
+    }
+
+    @Test
+    public void export_longLine_foldedIntoShortLines() throws Exception {
+        String longName = "Alexandra Bartholomew Christophersen Dimitrova Evangelista Fitzgerald Gallagher";
+        Interview interview = new InterviewBuilder(aliceInterview)
+                .withCandidate(new CandidateBuilder(ALICE).withName(longName).build()).build();
+        Path filePath = testFolder.resolve("interviews.ics");
+        new IcsInterviewScheduleExporter(filePath, FIRST_EXPORT).export(List.of(interview));
+
+        String calendar = Files.readString(filePath, UTF_8);
+        for (String line : calendar.split("\r\n")) {
+            assertTrue(line.getBytes(UTF_8).length <= 75);
+        }
+        assertTrue(calendar.replace("\r\n ", "").contains("SUMMARY:Interview with " + longName));
+    }
+
+    @Test
+    public void exportChanges_changedInterviews_onlyChangedEventsRewritten() throws Exception {
+        Path filePath = testFolder.resolve("interviews.ics");
+        new IcsInterviewScheduleExporter(filePath, FIRST_EXPORT).export(Arrays.asList(aliceInterview,
+                bensonInterview));
+        String aliceEvent = readEvent(filePath, 0);
+
+        Interview movedBensonInterview = new InterviewBuilder(bensonInterview)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME.plusHours(2)).build();
+        Interview carlInterview = new InterviewBuilder().withCandidate(CARL)
+                .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME.plusHours(3)).build();
+        assertEquals(2, new IcsInterviewScheduleExporter(filePath, SECOND_EXPORT).exportChanges(Arrays.asList(
+                aliceInterview, movedBensonInterview, carlInterview)));
+
+        // the unchanged event is written exactly as before
+        assertEquals(aliceEvent, readEvent(filePath, 0));
+        String bensonEvent = readEvent(filePath, 1);
+        assertTrue(bensonEvent.contains("DTSTART:20800423T120000\r\n"));
+        assertTrue(bensonEvent.contains("DTSTAMP:20800402T090000Z\r\nSEQUENCE:1\r\n"));
+        assertTrue(readEvent(filePath, 2).contains("DTSTAMP:20800402T090000Z\r\nSEQUENCE:0\r\n"));
+    }
+
+    @Test
+    public void exportChanges_removedInterviews_eventsCancelled() throws Exception {
+        Path filePath = testFolder.resolve("interviews.ics");
+        new IcsInterviewScheduleExporter(filePath, FIRST_EXPORT).export(Arrays.asList(aliceInterview,
+                bensonInterview));
+
+        // removed interviews are kept after the others, cancelled with a later sequence number
+        assertEquals(1, new IcsInterviewScheduleExporter(filePath, SECOND_EXPORT).exportChanges(
+                List.of(bensonInterview)));
+        assertEquals(2, readLines(filePath).stream().filter(line -> line.equals("BEGIN:VEVENT")).count());
+        String cancelledEvent = readEvent(filePath, 1);
+        assertTrue(cancelledEvent.contains("UID:" + ALICE.getStudentId() + "@talentassistant\r\n"));
+        assertTrue(cancelledEvent.contains("STATUS:CANCELLED\r\nDTSTAMP:20800402T090000Z\r\nSEQUENCE:1\r\n"));
+
+        // events already cancelled are written exactly as before
+        assertEquals(0, new IcsInterviewScheduleExporter(filePath, FIRST_EXPORT).exportChanges(
+                List.of(bensonInterview)));
+        assertEquals(cancelledEvent, readEvent(filePath, 1));
+
+        // an interview scheduled again is no longer cancelled
+        assertEquals(1, new IcsInterviewScheduleExporter(filePath, SECOND_EXPORT).exportChanges(Arrays.asList(
+                aliceInterview, bensonInterview)));
+        assertTrue(readEvent(filePath, 0).contains("SEQUENCE:2\r\n"));
+        assertFalse(readLines(filePath).contains("STATUS:CANCELLED"));
+    }
+
+    @Test
+    public void exportChanges_missingFile_allEventsWritten() throws Exception {
+        Path filePath = testFolder.resolve("interviews.ics");
+        assertEquals(2, new IcsInterviewScheduleExporter(filePath, FIRST_EXPORT).exportChanges(Arrays.asList(
+                aliceInterview, bensonInterview)));
+        assertTrue(readLines(filePath).contains("SEQUENCE:0"));
+    }
+
+    private static List<String> readLines(Path filePath) throws IOException {
+        return Arrays.asList(Files.readString(filePath, UTF_8).replace("\r\n ", "").split("\r\n"));
+    }
+
+    private static String readEvent(Path filePath, int index) throws IOException {
+        String calendar = Files.readString(filePath, UTF_8);
+        int start = -1;
+        for (int i = 0; i <= index; i++) {
+            start = calendar.indexOf("BEGIN:VEVENT", start + 1);
+        }
+        return calendar.substring(start, calendar.indexOf("END:VEVENT", start));
+    }
+}
@@ -19,6 +19,7 @@ import seedu.address.model.candidate.Phone;
 import seedu.address.model.candidate.Seniority;
 import seedu.address.model.candidate.StudentId;
 import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Track;
 
 
 public class JsonAdaptedInterviewTest {
@@ -29,6 +30,8 @@ public class JsonAdaptedInterviewTest {
     private static final String INVALID_COURSE = "computer Science";
     private static final String INVALID_SENIORITY = "0.0";
     private static final String INVALID_AVAILABILITY = "9";
+    private static final String INVALID_TRACK = "#1";
+    private static final Integer INVALID_DURATION = 0;
 
     private static final String VALID_STUDENT_ID = BENSON.getStudentId().toString();
     private static final String VALID_NAME = BENSON.getName().toString();
@@ -41,6 +44,8 @@ public class JsonAdaptedInterviewTest {
     private static final String VALID_AVAILABILITY = BENSON.getAvailability().toString();
     private static final String VALID_REMARK = BENSON.getRemark().toString();
     private static final String VALID_DATE_STRING = "26/03/2022 14:40";
+    private static final String VALID_TRACK = "Room 1";
+    private static final Integer VALID_DURATION = 90;
 
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
@@ -54,12 +59,60 @@ public class JsonAdaptedInterviewTest {
         assertEquals(interview, candidate.toModelType());
     }
 
+    @Test
+    public void toModelType_interviewWithTrack_returnsInterviewWithTrack() throws Exception {
+        Interview interview = new Interview(BENSON, VALID_DATE_TIME, new Track(VALID_TRACK));
+        JsonAdaptedInterview adaptedInterview = new JsonAdaptedInterview(interview);
+        assertEquals(interview, adaptedInterview.toModelType());
+    }
+
+    @Test
+    public void toModelType_nullTrack_returnsInterviewOnDefaultTrack() throws Exception {
+        JsonAdaptedInterview interview = new JsonAdaptedInterview(VALID_STUDENT_ID, VALID_NAME, VALID_PHONE,
+                VALID_EMAIL, VALID_COURSE, VALID_SENIORITY, VALID_APPLICATION_STATUS,
+                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_TIME.toString(), VALID_REMARK, null, null);
+        assertEquals(Track.DEFAULT, interview.toModelType().getTrack());
+    }
+
+    @Test
+    public void toModelType_interviewWithDuration_returnsInterviewWithDuration() throws Exception {
+        Interview interview = new Interview(BENSON, VALID_DATE_TIME, Track.DEFAULT, VALID_DURATION);
+        JsonAdaptedInterview adaptedInterview = new JsonAdaptedInterview(interview);
+        assertEquals(interview, adaptedInterview.toModelType());
+    }
+
+    @Test
+    public void toModelType_nullDuration_returnsInterviewWithDefaultDuration() throws Exception {
+        JsonAdaptedInterview interview = new JsonAdaptedInterview(VALID_STUDENT_ID, VALID_NAME, VALID_PHONE,
+                VALID_EMAIL, VALID_COURSE, VALID_SENIORITY, VALID_APPLICATION_STATUS,
+                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_TIME.toString(), VALID_REMARK, null, null);
+        assertEquals(Interview.DEFAULT_DURATION_IN_MINUTES, interview.toModelType().getDurationInMinutes());
+    }
+
+    @Test
+    public void toModelType_invalidDuration_throwsIllegalValueException() {
+        JsonAdaptedInterview interview = new JsonAdaptedInterview(VALID_STUDENT_ID, VALID_NAME, VALID_PHONE,
+                VALID_EMAIL, VALID_COURSE, VALID_SENIORITY, VALID_APPLICATION_STATUS,
+                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_TIME.toString(), VALID_REMARK, null,
+                INVALID_DURATION);
+        assertThrows(IllegalValueException.class, Interview.MESSAGE_DURATION_CONSTRAINTS, interview::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidTrack_throwsIllegalValueException() {
+        JsonAdaptedInterview interview = new JsonAdaptedInterview(VALID_STUDENT_ID, VALID_NAME, VALID_PHONE,
+                VALID_EMAIL, VALID_COURSE, VALID_SENIORITY, VALID_APPLICATION_STATUS,
+                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_TIME.toString(), VALID_REMARK, INVALID_TRACK,
+                VALID_DURATION);
+        assertThrows(IllegalValueException.class, Track.MESSAGE_CONSTRAINTS, interview::toModelType);
+    }
+
     @Test
     public void toModelType_invalidStudentId_throwsIllegalValueException() {
         JsonAdaptedInterview interview = new JsonAdaptedInterview(INVALID_STUDENT_ID, VALID_NAME,
                 VALID_PHONE, VALID_EMAIL, VALID_COURSE, VALID_SENIORITY,
                 VALID_APPLICATION_STATUS, VALID_INTERVIEW_STATUS,
-                VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK);
+                VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK, VALID_TRACK, VALID_DURATION);
 
         String expectedMessage = StudentId.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
@@ -71,7 +124,7 @@ public class JsonAdaptedInterviewTest {
         JsonAdaptedInterview interview = new JsonAdaptedInterview(null, VALID_NAME,
                 VALID_PHONE, VALID_EMAIL, VALID_COURSE, VALID_SENIORITY,
                 VALID_APPLICATION_STATUS, VALID_INTERVIEW_STATUS,
-                VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK);
+                VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK, VALID_TRACK, VALID_DURATION);
 
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, StudentId.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
@@ -81,7 +134,8 @@ public class JsonAdaptedInterviewTest {
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedInterview interview = new JsonAdaptedInterview(VALID_STUDENT_ID, INVALID_NAME, VALID_PHONE,
                         VALID_EMAIL, VALID_COURSE, VALID_SENIORITY, VALID_APPLICATION_STATUS,
-                        VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK);
+                        VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK, VALID_TRACK,
+                VALID_DURATION);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -90,7 +144,8 @@ public class JsonAdaptedInterviewTest {
     public void toModelType_nullName_throwsIllegalValueException() {
         JsonAdaptedInterview interview = new JsonAdaptedInterview(VALID_STUDENT_ID, null, VALID_PHONE,
                 VALID_EMAIL, VALID_COURSE, VALID_SENIORITY, VALID_APPLICATION_STATUS,
-                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK);
+                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK, VALID_TRACK,
+                VALID_DURATION);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -99,7 +154,8 @@ public class JsonAdaptedInterviewTest {
     public void toModelType_invalidPhone_throwsIllegalValueException() {
         JsonAdaptedInterview interview = new JsonAdaptedInterview(VALID_STUDENT_ID, VALID_NAME, INVALID_PHONE,
                 VALID_EMAIL, VALID_COURSE, VALID_SENIORITY, VALID_APPLICATION_STATUS,
-                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK);
+                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK, VALID_TRACK,
+                VALID_DURATION);
         String expectedMessage = Phone.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -108,7 +164,8 @@ public class JsonAdaptedInterviewTest {
     public void toModelType_nullPhone_throwsIllegalValueException() {
         JsonAdaptedInterview interview = new JsonAdaptedInterview(VALID_STUDENT_ID, VALID_NAME, null,
                 VALID_EMAIL, VALID_COURSE, VALID_SENIORITY, VALID_APPLICATION_STATUS,
-                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK);
+                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK, VALID_TRACK,
+                VALID_DURATION);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -117,7 +174,8 @@ public class JsonAdaptedInterviewTest {
     public void toModelType_invalidEmail_throwsIllegalValueException() {
         JsonAdaptedInterview interview = new JsonAdaptedInterview(VALID_STUDENT_ID, VALID_NAME, VALID_PHONE,
                 INVALID_EMAIL, VALID_COURSE, VALID_SENIORITY, VALID_APPLICATION_STATUS,
-                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK);
+                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK, VALID_TRACK,
+                VALID_DURATION);
         String expectedMessage = Email.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -126,7 +184,8 @@ public class JsonAdaptedInterviewTest {
     public void toModelType_nullEmail_throwsIllegalValueException() {
         JsonAdaptedInterview interview = new JsonAdaptedInterview(VALID_STUDENT_ID, VALID_NAME, VALID_PHONE,
                 null, VALID_COURSE, VALID_SENIORITY, VALID_APPLICATION_STATUS,
-                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK);
+                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK, VALID_TRACK,
+                VALID_DURATION);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -135,7 +194,8 @@ public class JsonAdaptedInterviewTest {
     public void toModelType_invalidCourse_throwsIllegalValueException() {
         JsonAdaptedInterview interview = new JsonAdaptedInterview(VALID_STUDENT_ID, VALID_NAME, VALID_PHONE,
                 VALID_EMAIL, INVALID_COURSE, VALID_SENIORITY, VALID_APPLICATION_STATUS,
-                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK);
+                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK, VALID_TRACK,
+                VALID_DURATION);
         String expectedMessage = Course.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -144,7 +204,8 @@ public class JsonAdaptedInterviewTest {
     public void toModelType_nullCourse_throwsIllegalValueException() {
         JsonAdaptedInterview interview = new JsonAdaptedInterview(VALID_STUDENT_ID, VALID_NAME, VALID_PHONE,
                 VALID_EMAIL, null, VALID_SENIORITY, VALID_APPLICATION_STATUS,
-                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK);
+                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK, VALID_TRACK,
+                VALID_DURATION);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Course.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -153,7 +214,8 @@ public class JsonAdaptedInterviewTest {
     public void toModelType_invalidSeniority_throwsIllegalValueException() {
         JsonAdaptedInterview interview = new JsonAdaptedInterview(VALID_STUDENT_ID, VALID_NAME, VALID_PHONE,
                 VALID_EMAIL, VALID_COURSE, INVALID_SENIORITY, VALID_APPLICATION_STATUS,
-                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK);
+                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK, VALID_TRACK,
+                VALID_DURATION);
         String expectedMessage = Seniority.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -162,7 +224,8 @@ public class JsonAdaptedInterviewTest {
     public void toModelType_nullSeniority_throwsIllegalValueException() {
         JsonAdaptedInterview interview = new JsonAdaptedInterview(VALID_STUDENT_ID, VALID_NAME, VALID_PHONE,
                 VALID_EMAIL, VALID_COURSE, null, VALID_APPLICATION_STATUS,
-                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK);
+                VALID_INTERVIEW_STATUS, VALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK, VALID_TRACK,
+                VALID_DURATION);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Seniority.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -171,7 +234,8 @@ public class JsonAdaptedInterviewTest {
     public void toModelType_invalidAvailability_throwsIllegalValueException() {
         JsonAdaptedInterview interview = new JsonAdaptedInterview(VALID_STUDENT_ID, VALID_NAME, VALID_PHONE,
                 VALID_EMAIL, VALID_COURSE, VALID_SENIORITY, VALID_APPLICATION_STATUS,
-                VALID_INTERVIEW_STATUS, INVALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK);
+                VALID_INTERVIEW_STATUS, INVALID_AVAILABILITY, VALID_DATE_STRING, VALID_REMARK, VALID_TRACK,
+                VALID_DURATION);
         String expectedMessage = Availability.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -180,7 +244,7 @@ public class JsonAdaptedInterviewTest {
     public void toModelType_nullAvailability_throwsIllegalValueException() {
         JsonAdaptedInterview interview = new JsonAdaptedInterview(VALID_STUDENT_ID, VALID_NAME, VALID_PHONE,
                 VALID_EMAIL, VALID_COURSE, VALID_SENIORITY, VALID_APPLICATION_STATUS,
-                VALID_INTERVIEW_STATUS, null, VALID_DATE_STRING, VALID_REMARK);
+                VALID_INTERVIEW_STATUS, null, VALID_DATE_STRING, VALID_REMARK, VALID_TRACK, VALID_DURATION);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Availability.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
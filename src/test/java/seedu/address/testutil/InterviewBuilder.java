@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 import seedu.address.model.candidate.Candidate;
 import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Track;
 
 /**
  * A utility class to help with building Candidate objects.
@@ -12,6 +13,8 @@ public class InterviewBuilder {
 
     private Candidate candidate;
     private LocalDateTime interviewDateTime;
+    private Track track;
+    private int durationInMinutes;
 
     /**
      * Creates a {@code CandidateBuilder} with the default details.
@@ -19,6 +22,8 @@ public class InterviewBuilder {
     public InterviewBuilder() {
         candidate = new CandidateBuilder().build();
         interviewDateTime = LocalDateTime.now();
+        track = Track.DEFAULT;
+        durationInMinutes = Interview.DEFAULT_DURATION_IN_MINUTES;
     }
 
     /**
@@ -27,6 +32,8 @@ public class InterviewBuilder {
     public InterviewBuilder(Interview interviewToCopy) {
         candidate = interviewToCopy.getCandidate();
         interviewDateTime = interviewToCopy.getInterviewDateTime();
+        track = interviewToCopy.getTrack();
+        durationInMinutes = interviewToCopy.getDurationInMinutes();
     }
 
     /**
@@ -45,8 +52,24 @@ public class InterviewBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Track} of the {@code Interview} that we are building.
+     */
+    public InterviewBuilder withTrack(String track) {
+        this.track = new Track(track);
+        return this;
+    }
+
+    /**
+     * Sets the duration of the {@code Interview} that we are building.
+     */
+    public InterviewBuilder withDuration(int durationInMinutes) {
+        this.durationInMinutes = durationInMinutes;
+        return this;
+    }
+
     public Interview build() {
-        return new Interview(candidate, interviewDateTime);
+        return new Interview(candidate, interviewDateTime, track, durationInMinutes);
     }
 
 }
@@ -0,0 +1,97 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalCandidates.ALICE;
+import static seedu.address.testutil.TypicalCandidates.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalInterviews.INTERVIEW_ALICE;
+import static seedu.address.testutil.TypicalInterviews.TUESDAY_INTERVIEW_DATE_TIME;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.simulation.CommitSimulationCommand;
+import seedu.address.logic.commands.simulation.StartSimulationCommand;
+import seedu.address.model.InterviewSchedule;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.interview.Interview;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonInterviewScheduleStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.InterviewBuilder;
+
+public class InterviewExpirySweeperTest {
+
+    private static final LocalDateTime NOW = TUESDAY_INTERVIEW_DATE_TIME.plusHours(2);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Interview expiredInterview = new InterviewBuilder().withCandidate(ALICE)
+            .withInterviewDateTime(TUESDAY_INTERVIEW_DATE_TIME).build();
+    private final CountDownLatch sweeps = new CountDownLatch(1);
+    private final Executor countingExecutor = runnable -> {
+        runnable.run();
+        sweeps.countDown();
+    };
+
+    private Model model;
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new InterviewSchedule(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("talentAssistant.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonInterviewScheduleStorage(temporaryFolder.resolve("interviewSchedule.json")));
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void start_expiredInterview_sweptAndCandidateCompleted() throws Exception {
+        model.addInterview(expiredInterview);
+        new InterviewExpirySweeper(logic, countingExecutor, () -> NOW).start();
+
+        assertTrue(sweeps.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(), model.getInterviewSchedule().getInterviewList());
+        assertTrue(model.getAddressBook().getCandidateList().contains(ALICE.triggerInterviewStatusCompleted()));
+    }
+
+    @Test
+    public void start_duringSimulation_sweptOnceSimulationEnds() throws Exception {
+        model.addInterview(INTERVIEW_ALICE);
+        logic.execute(StartSimulationCommand.COMMAND_WORD);
+        new InterviewExpirySweeper(logic, countingExecutor, () -> NOW).start();
+
+        assertTrue(sweeps.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(INTERVIEW_ALICE), model.getInterviewSchedule().getInterviewList());
+
+        // the interview has ended by now, so it is swept as soon as the simulation ends
+
+        logic.execute(CommitSimulationCommand.COMMAND_WORD);
+        assertEquals(List.of(), model.getInterviewSchedule().getInterviewList());
+    }
+
+    @Test
+    public void start_interviewAddedLater_swept() throws Exception {
+        new InterviewExpirySweeper(logic, countingExecutor, () -> NOW).start();
+        model.addInterview(expiredInterview);
+
+        assertTrue(sweeps.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(), model.getInterviewSchedule().getInterviewList());
+    }
+}